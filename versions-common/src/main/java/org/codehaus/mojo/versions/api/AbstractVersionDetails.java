@@ -19,9 +19,10 @@ package org.codehaus.mojo.versions.api;
  * under the License.
  */
 
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.TreeSet;
@@ -35,10 +36,12 @@ import org.apache.maven.artifact.versioning.Restriction;
 import org.apache.maven.artifact.versioning.VersionRange;
 import org.codehaus.mojo.versions.ordering.BoundArtifactVersion;
 import org.codehaus.mojo.versions.ordering.InvalidSegmentException;
+import org.codehaus.mojo.versions.ordering.MavenVersionComparator;
 import org.codehaus.mojo.versions.ordering.VersionComparator;
 import org.codehaus.mojo.versions.utils.DefaultArtifactVersionCache;
 
 import static java.util.Collections.reverseOrder;
+import static java.util.Comparator.naturalOrder;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static org.codehaus.mojo.versions.api.Segment.MAJOR;
@@ -67,6 +70,12 @@ public abstract class AbstractVersionDetails implements VersionDetails {
 
     protected boolean verboseDetail = true;
 
+    /**
+     * Update summaries of the current version, without and with snapshots; only memoized
+     * for instances providing a {@linkplain #getVersionIndex(boolean) version index}
+     */
+    private final UpdateSummary[] updateSummaries = new UpdateSummary[2];
+
     protected AbstractVersionDetails() {}
 
     /**
@@ -162,6 +171,7 @@ public abstract class AbstractVersionDetails implements VersionDetails {
     @Override
     public final void setCurrentVersion(ArtifactVersion currentVersion) {
         this.currentVersion = currentVersion;
+        clearUpdateSummaries();
     }
 
     @Override
@@ -172,6 +182,139 @@ public abstract class AbstractVersionDetails implements VersionDetails {
     @Override
     public final void setCurrentVersionRange(VersionRange versionRange) {
         currentVersionRange = versionRange;
+        clearUpdateSummaries();
+    }
+
+    private void clearUpdateSummaries() {
+        synchronized (updateSummaries) {
+            Arrays.fill(updateSummaries, null);
+        }
+    }
+
+    /**
+     * Returns the versions sorted according to {@link #getVersionComparator()}, without duplicates.
+     * If available, restriction queries are answered using binary searches over the index
+     * instead of filtering all versions.
+     *
+     * @param includeSnapshots whether snapshots should be included
+     * @return sorted versions, which must not be modified, or {@code null} if no index is available
+     * @since 2.19.0
+     */
+    protected ArtifactVersion[] getVersionIndex(boolean includeSnapshots) {
+        return null;
+    }
+
+    /**
+     * Returns the index of the first element of the sorted index not below the restriction
+     */
+    private int lowerIndex(ArtifactVersion[] index, Restriction restriction) {
+        if (restriction == null || restriction.getLowerBound() == null) {
+            return 0;
+        }
+        VersionComparator versionComparator = getVersionComparator();
+        int low = 0;
+        int high = index.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int lower = versionComparator.compare(restriction.getLowerBound(), index[mid]);
+            if (lower > 0 || lower == 0 && !restriction.isLowerBoundInclusive()) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first element of the sorted index above the restriction
+     */
+    private int upperIndex(ArtifactVersion[] index, Restriction restriction) {
+        if (restriction == null || restriction.getUpperBound() == null) {
+            return index.length;
+        }
+        VersionComparator versionComparator = getVersionComparator();
+        int low = 0;
+        int high = index.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int upper = versionComparator.compare(restriction.getUpperBound(), index[mid]);
+            if (upper < 0 || upper == 0 && !restriction.isUpperBoundInclusive()) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the versions within the given restriction; if a version index is available,
+     * the versions are sorted according to {@link #getVersionComparator()}.
+     */
+    private Stream<ArtifactVersion> getCandidates(Restriction restriction, boolean includeSnapshots) {
+        ArtifactVersion[] index = getVersionIndex(includeSnapshots);
+        if (index == null) {
+            return Arrays.stream(getVersions(includeSnapshots))
+                    .filter(candidate -> restriction == null || isVersionInRestriction(restriction, candidate))
+                    .filter(candidate -> includeSnapshots || !ArtifactUtils.isSnapshot(candidate.toString()));
+        }
+        int from = lowerIndex(index, restriction);
+        return Arrays.stream(index, from, Math.max(from, upperIndex(index, restriction)));
+    }
+
+    /**
+     * Returns the newest version within the given restriction
+     */
+    private Optional<ArtifactVersion> getNewestCandidate(Restriction restriction, boolean includeSnapshots) {
+        ArtifactVersion[] index = getVersionIndex(includeSnapshots);
+        if (index == null) {
+            return getCandidates(restriction, includeSnapshots).max(getVersionComparator());
+        }
+        int to = upperIndex(index, restriction);
+        return to > lowerIndex(index, restriction) ? of(index[to - 1]) : empty();
+    }
+
+    /**
+     * Returns the summary of the newest updates of the current version within all update scopes.
+     * If the instance provides a {@linkplain #getVersionIndex(boolean) version index}, the summary
+     * is computed only once per current version.
+     *
+     * @param includeSnapshots whether snapshots should be included
+     * @return summary of the newest updates; holding no updates if there is no current version
+     * @since 2.19.0
+     */
+    public final UpdateSummary getUpdateSummary(boolean includeSnapshots) {
+        boolean indexed = getVersionIndex(includeSnapshots) != null;
+        int slot = includeSnapshots ? 1 : 0;
+        if (indexed) {
+            synchronized (updateSummaries) {
+                if (updateSummaries[slot] != null) {
+                    return updateSummaries[slot];
+                }
+            }
+        }
+        ArtifactVersion[] newestUpdates = new ArtifactVersion[UpdateSummary.size()];
+        ArtifactVersion current = getCurrentVersion();
+        if (current != null) {
+            List<Optional<Segment>> updateScopes = new ArrayList<>();
+            updateScopes.add(empty());
+            Arrays.stream(Segment.values()).map(Optional::of).forEach(updateScopes::add);
+            for (Optional<Segment> updateScope : updateScopes) {
+                newestUpdates[UpdateSummary.index(updateScope)] = getNewestCandidate(
+                                restrictionForSelectedSegment(current, updateScope), includeSnapshots)
+                        .orElse(null);
+            }
+        }
+        UpdateSummary summary = new UpdateSummary(newestUpdates);
+        if (indexed) {
+            synchronized (updateSummaries) {
+                if (getCurrentVersion() == current) {
+                    updateSummaries[slot] = summary;
+                }
+            }
+        }
+        return summary;
     }
 
     @Override
@@ -193,6 +336,31 @@ public abstract class AbstractVersionDetails implements VersionDetails {
     @Override
     public final ArtifactVersion getNewestVersion(
             VersionRange versionRange, Restriction restriction, boolean includeSnapshots, boolean allowDowngrade) {
+        ArtifactVersion[] index = getVersionIndex(includeSnapshots);
+        if (index != null) {
+            int from = lowerIndex(index, restriction);
+            int to = upperIndex(index, restriction);
+            if (getVersionComparator() instanceof MavenVersionComparator) {
+                // the index is sorted from oldest to latest in the natural order of the versions,
+                // so we only need to find the last candidate within the restriction fulfilling the criteria
+                for (int i = to - 1; i >= from; i--) {
+                    if (allowDowngrade
+                            || versionRange == null
+                            || ArtifactVersions.isVersionInRange(index[i], versionRange)) {
+                        return index[i];
+                    }
+                }
+                return null;
+            }
+            // other comparators may order the versions differently, but the newest version is the latest one
+            // in their natural order, as for instances without an index
+            return Arrays.stream(index, from, to)
+                    .filter(candidate -> allowDowngrade
+                            || versionRange == null
+                            || ArtifactVersions.isVersionInRange(candidate, versionRange))
+                    .max(naturalOrder())
+                    .orElse(null);
+        }
         // reverseOrder( getVersions( ... ) ) will contain versions sorted from latest to oldest,
         // so we only need to find the first candidate fulfilling the criteria
         return Arrays.stream(getVersions(includeSnapshots))
@@ -260,10 +428,7 @@ public abstract class AbstractVersionDetails implements VersionDetails {
         } else {
             lookupRestriction = segmentRestriction;
         }
-        return Arrays.stream(getVersions(includeSnapshots))
-                .filter(candidate -> isVersionInRestriction(lookupRestriction, candidate))
-                .filter(candidate -> includeSnapshots || !ArtifactUtils.isSnapshot(candidate.toString()))
-                .max(getVersionComparator());
+        return getNewestCandidate(lookupRestriction, includeSnapshots);
     }
 
     @Override
@@ -274,6 +439,12 @@ public abstract class AbstractVersionDetails implements VersionDetails {
     @Override
     public final ArtifactVersion[] getVersions(
             VersionRange versionRange, Restriction restriction, boolean includeSnapshots) {
+        if (getVersionIndex(includeSnapshots) != null) {
+            return getCandidates(restriction, includeSnapshots)
+                    .filter(candidate ->
+                            versionRange == null || ArtifactVersions.isVersionInRange(candidate, versionRange))
+                    .toArray(ArtifactVersion[]::new);
+        }
         return Arrays.stream(getVersions(includeSnapshots))
                 .filter(candidate -> versionRange == null || ArtifactVersions.isVersionInRange(candidate, versionRange))
                 .filter(candidate -> restriction == null || isVersionInRestriction(restriction, candidate))
@@ -297,10 +468,7 @@ public abstract class AbstractVersionDetails implements VersionDetails {
 
     @Override
     public final ArtifactVersion getNewestUpdateWithinSegment(Optional<Segment> updateScope, boolean includeSnapshots) {
-        if (getCurrentVersion() != null) {
-            return getNewestUpdateWithinSegment(getCurrentVersion(), updateScope, includeSnapshots);
-        }
-        return null;
+        return getUpdateSummary(includeSnapshots).getNewestUpdate(updateScope);
     }
 
     @Override
@@ -394,9 +562,7 @@ public abstract class AbstractVersionDetails implements VersionDetails {
      *         or <code>null</code> if no version is available.
      */
     public final ArtifactVersion getReportNewestUpdate(Optional<Segment> updateScope, boolean includeSnapshots) {
-        return getArtifactVersionStream(updateScope, includeSnapshots)
-                .min(Collections.reverseOrder(getVersionComparator()))
-                .orElse(null);
+        return getUpdateSummary(includeSnapshots).getNewestUpdate(updateScope);
     }
 
     /**
@@ -448,8 +614,7 @@ public abstract class AbstractVersionDetails implements VersionDetails {
         if (getCurrentVersion() != null) {
             Restriction restriction = restrictionForSelectedSegment(getCurrentVersion(), updateScope);
 
-            return Arrays.stream(getVersions(includeSnapshots))
-                    .filter(candidate -> isVersionInRestriction(restriction, candidate));
+            return getCandidates(restriction, includeSnapshots);
         }
         return Stream.empty();
     }
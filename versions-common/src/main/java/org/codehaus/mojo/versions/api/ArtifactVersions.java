@@ -49,11 +49,18 @@ public class ArtifactVersions extends AbstractVersionDetails implements Comparab
     private final Artifact artifact;
 
     /**
-     * The available versions.
+     * The available versions, sorted according to {@link #versionComparator}, without duplicates.
      *
      * @since 1.0-alpha-3
      */
-    private final SortedSet<ArtifactVersion> versions;
+    private final ArtifactVersion[] versions;
+
+    /**
+     * The available non-snapshot versions, sorted according to {@link #versionComparator}, without duplicates.
+     *
+     * @since 2.19.0
+     */
+    private final ArtifactVersion[] releases;
 
     /**
      * The version comparison rule that is used for this artifact.
@@ -73,8 +80,12 @@ public class ArtifactVersions extends AbstractVersionDetails implements Comparab
     public ArtifactVersions(Artifact artifact, List<ArtifactVersion> versions, VersionComparator versionComparator) {
         this.artifact = artifact;
         this.versionComparator = versionComparator;
-        this.versions = new TreeSet<>(versionComparator);
-        this.versions.addAll(versions);
+        SortedSet<ArtifactVersion> sortedVersions = new TreeSet<>(versionComparator);
+        sortedVersions.addAll(versions);
+        this.versions = sortedVersions.toArray(new ArtifactVersion[0]);
+        this.releases = sortedVersions.stream()
+                .filter(v -> !ArtifactUtils.isSnapshot(v.toString()))
+                .toArray(ArtifactVersion[]::new);
         setCurrentVersion(artifact.getVersion());
         setCurrentVersionRange(artifact.getVersionRange());
     }
@@ -89,6 +100,7 @@ public class ArtifactVersions extends AbstractVersionDetails implements Comparab
         artifact = other.artifact;
         versionComparator = other.versionComparator;
         versions = other.versions;
+        releases = other.releases;
         setCurrentVersion(other.getCurrentVersion());
         setCurrentVersionRange(other.getCurrentVersionRange());
     }
@@ -205,11 +217,12 @@ public class ArtifactVersions extends AbstractVersionDetails implements Comparab
     }
 
     public ArtifactVersion[] getVersions(boolean includeSnapshots) {
-        return includeSnapshots
-                ? versions.toArray(new ArtifactVersion[0])
-                : versions.stream()
-                        .filter(v -> !ArtifactUtils.isSnapshot(v.toString()))
-                        .toArray(ArtifactVersion[]::new);
+        return getVersionIndex(includeSnapshots).clone();
+    }
+
+    @Override
+    protected ArtifactVersion[] getVersionIndex(boolean includeSnapshots) {
+        return includeSnapshots ? versions : releases;
     }
 
     /**
@@ -223,11 +236,7 @@ public class ArtifactVersions extends AbstractVersionDetails implements Comparab
      *         if {@code includeSnapshots} is {@code false}, returns {@code true} if there are no releases.
      */
     public boolean isEmpty(boolean includeSnapshots) {
-        return includeSnapshots
-                ? versions.isEmpty()
-                // the below means: the only versions that could be present in the collection
-                // are snapshots
-                : versions.stream().map(Object::toString).allMatch(ArtifactUtils::isSnapshot);
+        return getVersionIndex(includeSnapshots).length == 0;
     }
 
     public VersionComparator getVersionComparator() {
@@ -238,7 +247,7 @@ public class ArtifactVersions extends AbstractVersionDetails implements Comparab
      * {@inheritDoc}
      */
     public String toString() {
-        return "ArtifactVersions" + "{artifact=" + artifact + ", versions=" + versions + ", versionComparator="
-                + versionComparator + '}';
+        return "ArtifactVersions" + "{artifact=" + artifact + ", versions=" + Arrays.toString(versions)
+                + ", versionComparator=" + versionComparator + '}';
     }
 }
@@ -29,6 +29,7 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -43,11 +44,9 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -75,6 +74,9 @@ import org.apache.maven.wagon.Wagon;
 import org.apache.maven.wagon.authentication.AuthenticationInfo;
 import org.apache.maven.wagon.observers.Debug;
 import org.apache.maven.wagon.proxy.ProxyInfo;
+import org.codehaus.mojo.versions.cache.PersistentVersionMetadataCache;
+import org.codehaus.mojo.versions.cache.SingleFlightVersionCache;
+import org.codehaus.mojo.versions.cache.VersionMetadataCache;
 import org.codehaus.mojo.versions.model.IgnoreVersion;
 import org.codehaus.mojo.versions.model.Rule;
 import org.codehaus.mojo.versions.model.RuleSet;
@@ -89,6 +91,7 @@ import org.codehaus.mojo.versions.utils.VersionsExpressionEvaluator;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluationException;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
 import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.repository.AuthenticationContext;
 import org.eclipse.aether.repository.RemoteRepository;
 import org.eclipse.aether.repository.RepositoryPolicy;
@@ -114,7 +117,10 @@ import static org.apache.maven.RepositoryUtils.toArtifact;
 public class DefaultVersionsHelper implements VersionsHelper {
     private static final String CLASSPATH_PROTOCOL = "classpath";
 
-    private static final int LOOKUP_PARALLEL_THREADS = 5;
+    /**
+     * Default location of the persistent version metadata cache, relative to the local repository
+     */
+    public static final String DEFAULT_METADATA_CACHE_DIRECTORY = ".cache/versions-maven-plugin";
 
     // for testing purpose
     RuleSet getRuleSet() {
@@ -156,12 +162,46 @@ public class DefaultVersionsHelper implements VersionsHelper {
      */
     private final Map<String, Rule> artifactBestFitRule = new ConcurrentHashMap<>();
 
+    /**
+     * Key of {@link #ignoreVersionFilters} for artifacts without a fitting rule.
+     */
+    private static final Rule NO_RULE = new Rule();
+
+    /**
+     * The compiled ignored versions, keyed by the best fitting rule of the artifacts they apply to.
+     *
+     * @since 2.19.0
+     */
+    private final Map<Rule, IgnoreVersionFilter> ignoreVersionFilters = new ConcurrentHashMap<>();
+
+    /**
+     * The rules of {@link #ruleSet}, compiled on first use.
+     *
+     * @since 2.19.0
+     */
+    private volatile RuleIndex ruleIndex;
+
     private final List<RemoteRepository> remoteProjectRepositories;
 
     private final List<RemoteRepository> remotePluginRepositories;
 
     private final List<RemoteRepository> remoteRepositories;
 
+    /**
+     * Cache of resolved version lists; {@code null} if caching is disabled
+     */
+    private VersionMetadataCache metadataCache;
+
+    /**
+     * Session-wide executor for parallel lookups
+     */
+    private LookupExecutor lookupExecutor;
+
+    /**
+     * Session-wide memo of resolved version lists
+     */
+    private SingleFlightVersionCache singleFlightCache;
+
     /**
      * Private constructor used by the builder
      */
@@ -263,9 +303,10 @@ public class DefaultVersionsHelper implements VersionsHelper {
             Artifact artifact, VersionRange versionRange, boolean usePluginRepositories, boolean useProjectRepositories)
             throws VersionRetrievalException {
         try {
-            Collection<IgnoreVersion> ignoredVersions = getIgnoredVersions(artifact);
-            if (!ignoredVersions.isEmpty() && getLog().isDebugEnabled()) {
-                getLog().debug("Found ignored versions: " + ignoredVersions + " for artifact" + artifact);
+            IgnoreVersionFilter ignoreVersionFilter = getIgnoreVersionFilter(artifact);
+            if (!ignoreVersionFilter.getIgnoreVersions().isEmpty() && getLog().isDebugEnabled()) {
+                getLog().debug("Found ignored versions: " + ignoreVersionFilter.getIgnoreVersions() + " for artifact"
+                        + artifact);
             }
 
             final List<RemoteRepository> repositories;
@@ -280,37 +321,26 @@ public class DefaultVersionsHelper implements VersionsHelper {
                 repositories = emptyList();
             }
 
+            List<String> versions = resolveVersions(
+                    artifact,
+                    ofNullable(versionRange)
+                            .map(VersionRange::getRestrictions)
+                            .flatMap(list -> list.stream().findFirst().map(Restriction::toString))
+                            .orElse("(,)"),
+                    repositories);
             return new ArtifactVersions(
                     artifact,
-                    repositorySystem
-                            .resolveVersionRange(
-                                    mavenSession.getRepositorySession(),
-                                    new VersionRangeRequest(
-                                            toArtifact(artifact)
-                                                    .setVersion(ofNullable(versionRange)
-                                                            .map(VersionRange::getRestrictions)
-                                                            .flatMap(list -> list.stream()
-                                                                    .findFirst()
-                                                                    .map(Restriction::toString))
-                                                            .orElse("(,)")),
-                                            repositories,
-                                            "lookupArtifactVersions"))
-                            .getVersions()
-                            .stream()
-                            .filter(v -> ignoredVersions.stream().noneMatch(i -> {
-                                if (IgnoreVersionHelper.isVersionIgnored(v, i)) {
-                                    if (getLog().isDebugEnabled()) {
-                                        getLog().debug("Version " + v + " for artifact "
-                                                + ArtifactUtils.versionlessKey(artifact)
-                                                + " found on ignore list: "
-                                                + i);
-                                    }
-                                    return true;
+                    ignoreVersionFilter
+                            .filter(versions, (v, i) -> {
+                                if (getLog().isDebugEnabled()) {
+                                    getLog().debug("Version " + v + " for artifact "
+                                            + ArtifactUtils.versionlessKey(artifact)
+                                            + " found on ignore list: "
+                                            + i);
                                 }
-
-                                return false;
-                            }))
-                            .map(v -> DefaultArtifactVersionCache.of(v.toString()))
+                            })
+                            .stream()
+                            .map(DefaultArtifactVersionCache::of)
                             .collect(Collectors.toList()),
                     getVersionComparator(artifact));
         } catch (VersionRangeResolutionException e) {
@@ -318,6 +348,68 @@ public class DefaultVersionsHelper implements VersionsHelper {
         }
     }
 
+    /**
+     * Resolves the versions of the given artifact within the given version range. Concurrent and repeated
+     * requests of the same artifact, version range and repositories within the Maven session are served by
+     * a single resolution; the {@linkplain VersionMetadataCache} is consulted first, if one is configured.
+     *
+     * @param artifact artifact to resolve the versions of
+     * @param versionRange version range specification
+     * @param repositories repositories to query
+     * @return list of versions, in the order returned by the repository system
+     * @throws VersionRangeResolutionException thrown if the resolution fails
+     */
+    private List<String> resolveVersions(Artifact artifact, String versionRange, List<RemoteRepository> repositories)
+            throws VersionRangeResolutionException {
+        VersionMetadataCache.Key key = new VersionMetadataCache.Key(
+                artifact.getGroupId(), artifact.getArtifactId(), versionRange, repositories);
+        return singleFlightCache.get(key, () -> {
+            if (metadataCache != null) {
+                Optional<List<String>> cached = metadataCache.get(key);
+                if (getLog().isDebugEnabled()) {
+                    getLog().debug("Version metadata cache " + (cached.isPresent() ? "hit" : "miss") + " for " + key
+                            + " (" + metadataCache.getStatistics() + ")");
+                }
+                if (cached.isPresent()) {
+                    return cached.get();
+                }
+            }
+            List<String> versions = repositorySystem
+                    .resolveVersionRange(
+                            mavenSession.getRepositorySession(),
+                            new VersionRangeRequest(
+                                    toArtifact(artifact).setVersion(versionRange),
+                                    repositories,
+                                    "lookupArtifactVersions"))
+                    .getVersions()
+                    .stream()
+                    .map(Object::toString)
+                    .collect(Collectors.toList());
+            if (metadataCache != null) {
+                metadataCache.put(key, versions);
+            }
+            return versions;
+        });
+    }
+
+    /**
+     * Logs the statistics of the {@linkplain LookupExecutor} and of the
+     * {@linkplain VersionMetadataCache}, if one is configured, unless called from within a lookup.
+     */
+    private void logLookupStatistics() {
+        if (LookupExecutor.isInLookup()) {
+            return;
+        }
+        if (getLog().isDebugEnabled()) {
+            getLog().debug("Lookup executor: " + lookupExecutor);
+            getLog().debug("Version lookups: " + singleFlightCache);
+            getLog().debug("Artifact version cache: " + DefaultArtifactVersionCache.getStatistics());
+            if (metadataCache != null) {
+                getLog().debug("Version metadata cache: " + metadataCache.getStatistics());
+            }
+        }
+    }
+
     @Override
     public ArtifactVersions lookupArtifactVersions(Artifact artifact, boolean usePluginRepositories)
             throws VersionRetrievalException {
@@ -325,12 +417,25 @@ public class DefaultVersionsHelper implements VersionsHelper {
     }
 
     /**
-     * Returns a list of versions which should not be considered when looking for updates.
+     * Returns the compiled filter of the versions which should not be considered when looking for updates.
+     * The filters are cached per best fitting rule.
      *
      * @param artifact The artifact
+     * @return filter of the ignored versions
+     */
+    private IgnoreVersionFilter getIgnoreVersionFilter(Artifact artifact) {
+        Rule rule = getBestFitRule(artifact.getGroupId(), artifact.getArtifactId());
+        return ignoreVersionFilters.computeIfAbsent(
+                rule == null ? NO_RULE : rule, r -> new IgnoreVersionFilter(getIgnoredVersions(r)));
+    }
+
+    /**
+     * Returns a list of versions which should not be considered when looking for updates.
+     *
+     * @param rule The rule which best fits the artifact, or {@link #NO_RULE}
      * @return List of ignored version
      */
-    private List<IgnoreVersion> getIgnoredVersions(Artifact artifact) {
+    private List<IgnoreVersion> getIgnoredVersions(Rule rule) {
         final List<IgnoreVersion> ret = new ArrayList<>();
 
         for (final IgnoreVersion ignoreVersion : ruleSet.getIgnoreVersions()) {
@@ -343,16 +448,12 @@ public class DefaultVersionsHelper implements VersionsHelper {
             }
         }
 
-        final Rule rule = getBestFitRule(artifact.getGroupId(), artifact.getArtifactId());
-
-        if (rule != null) {
-            for (IgnoreVersion ignoreVersion : rule.getIgnoreVersions()) {
-                if (IgnoreVersionHelper.isValidType(ignoreVersion)) {
-                    ret.add(ignoreVersion);
-                } else {
-                    getLog().warn("The type attribute '" + ignoreVersion.getType() + "' for " + rule + " is not valid."
-                            + " Please use one of '" + IgnoreVersionHelper.VALID_TYPES + "'.");
-                }
+        for (IgnoreVersion ignoreVersion : rule.getIgnoreVersions()) {
+            if (IgnoreVersionHelper.isValidType(ignoreVersion)) {
+                ret.add(ignoreVersion);
+            } else {
+                getLog().warn("The type attribute '" + ignoreVersion.getType() + "' for " + rule + " is not valid."
+                        + " Please use one of '" + IgnoreVersionHelper.VALID_TYPES + "'.");
             }
         }
 
@@ -403,54 +504,23 @@ public class DefaultVersionsHelper implements VersionsHelper {
             return artifactBestFitRule.get(groupArtifactId);
         }
 
-        Rule bestFit = null;
-        final List<Rule> rules = ruleSet.getRules();
-        int bestGroupIdScore = Integer.MAX_VALUE;
-        int bestArtifactIdScore = Integer.MAX_VALUE;
-        boolean exactGroupId = false;
-        boolean exactArtifactId = false;
-        for (Rule rule : rules) {
-            int groupIdScore = RegexUtils.getWildcardScore(rule.getGroupId());
-            if (groupIdScore > bestGroupIdScore) {
-                continue;
-            }
-            boolean exactMatch = exactMatch(rule.getGroupId(), groupId);
-            boolean match = exactMatch || match(rule.getGroupId(), groupId);
-            if (!match || (exactGroupId && !exactMatch)) {
-                continue;
-            }
-            if (bestGroupIdScore > groupIdScore) {
-                bestArtifactIdScore = Integer.MAX_VALUE;
-                exactArtifactId = false;
-            }
-            bestGroupIdScore = groupIdScore;
-            if (exactMatch && !exactGroupId) {
-                exactGroupId = true;
-                bestArtifactIdScore = Integer.MAX_VALUE;
-                exactArtifactId = false;
-            }
-            int artifactIdScore = RegexUtils.getWildcardScore(rule.getArtifactId());
-            if (artifactIdScore > bestArtifactIdScore) {
-                continue;
-            }
-            exactMatch = exactMatch(rule.getArtifactId(), artifactId);
-            match = exactMatch || match(rule.getArtifactId(), artifactId);
-            if (!match || (exactArtifactId && !exactMatch)) {
-                continue;
-            }
-            bestArtifactIdScore = artifactIdScore;
-            if (exactMatch && !exactArtifactId) {
-                exactArtifactId = true;
-            }
-            bestFit = rule;
-        }
-
+        Rule bestFit = getRuleIndex().getBestFitRule(groupId, artifactId);
         if (bestFit != null) {
             artifactBestFitRule.put(groupArtifactId, bestFit);
         }
         return bestFit;
     }
 
+    private RuleIndex getRuleIndex() {
+        RuleIndex index = ruleIndex;
+        if (index == null) {
+            // compiling twice in a race is harmless
+            index = new RuleIndex(ruleSet.getRules());
+            ruleIndex = index;
+        }
+        return index;
+    }
+
     @Override
     public Artifact createPluginArtifact(String groupId, String artifactId, String version) {
         return createDependencyArtifact(groupId, artifactId, version, "maven-plugin", null, "runtime", false);
@@ -519,26 +589,23 @@ public class DefaultVersionsHelper implements VersionsHelper {
             boolean useProjectRepositories,
             boolean allowSnapshots)
             throws VersionRetrievalException {
-        ExecutorService executor = Executors.newFixedThreadPool(LOOKUP_PARALLEL_THREADS);
         try {
             Map<Dependency, ArtifactVersions> dependencyUpdates = new TreeMap<>(DependencyComparator.INSTANCE);
-            List<Future<? extends Pair<Dependency, ArtifactVersions>>> futures = dependencies
-                    .map(dependency -> executor.submit(() -> new ImmutablePair<>(
+            List<Callable<Pair<Dependency, ArtifactVersions>>> tasks = dependencies
+                    .map(dependency -> (Callable<Pair<Dependency, ArtifactVersions>>) () -> new ImmutablePair<>(
                             dependency,
                             lookupDependencyUpdates(
-                                    dependency, usePluginRepositories, useProjectRepositories, allowSnapshots))))
+                                    dependency, usePluginRepositories, useProjectRepositories, allowSnapshots)))
                     .collect(Collectors.toList());
-            for (Future<? extends Pair<Dependency, ArtifactVersions>> details : futures) {
-                Pair<Dependency, ArtifactVersions> pair = details.get();
+            for (Pair<Dependency, ArtifactVersions> pair : lookupExecutor.invokeAll(tasks)) {
                 dependencyUpdates.put(pair.getKey(), pair.getValue());
             }
+            logLookupStatistics();
 
             return dependencyUpdates;
         } catch (ExecutionException | InterruptedException ie) {
             throw new VersionRetrievalException(
                     "Unable to acquire metadata for dependencies " + dependencies + ": " + ie.getMessage(), ie);
-        } finally {
-            executor.shutdown();
         }
     }
 
@@ -567,23 +634,21 @@ public class DefaultVersionsHelper implements VersionsHelper {
     @Override
     public Map<Plugin, PluginUpdatesDetails> lookupPluginsUpdates(Stream<Plugin> plugins, boolean allowSnapshots)
             throws VersionRetrievalException {
-        ExecutorService executor = Executors.newFixedThreadPool(LOOKUP_PARALLEL_THREADS);
         try {
             Map<Plugin, PluginUpdatesDetails> pluginUpdates = new TreeMap<>(PluginComparator.INSTANCE);
-            List<Future<? extends Pair<Plugin, PluginUpdatesDetails>>> futures = plugins.map(
-                            p -> executor.submit(() -> new ImmutablePair<>(p, lookupPluginUpdates(p, allowSnapshots))))
+            List<Callable<Pair<Plugin, PluginUpdatesDetails>>> tasks = plugins.map(
+                            p -> (Callable<Pair<Plugin, PluginUpdatesDetails>>)
+                                    () -> new ImmutablePair<>(p, lookupPluginUpdates(p, allowSnapshots)))
                     .collect(Collectors.toList());
-            for (Future<? extends Pair<Plugin, PluginUpdatesDetails>> details : futures) {
-                Pair<Plugin, PluginUpdatesDetails> pair = details.get();
+            for (Pair<Plugin, PluginUpdatesDetails> pair : lookupExecutor.invokeAll(tasks)) {
                 pluginUpdates.put(pair.getKey(), pair.getValue());
             }
+            logLookupStatistics();
 
             return pluginUpdates;
         } catch (ExecutionException | InterruptedException ie) {
             throw new VersionRetrievalException(
                     "Unable to acquire metadata for plugins " + plugins + ": " + ie.getMessage(), ie);
-        } finally {
-            executor.shutdown();
         }
     }
 
@@ -616,6 +681,54 @@ public class DefaultVersionsHelper implements VersionsHelper {
     @Override
     public Map<Property, PropertyVersions> getVersionPropertiesMap(VersionPropertiesMapRequest request)
             throws MojoExecutionException {
+        return getVersionPropertiesMaps(Collections.singletonList(request)).get(0);
+    }
+
+    @Override
+    public List<Map<Property, PropertyVersions>> getVersionPropertiesMaps(List<VersionPropertiesMapRequest> requests)
+            throws MojoExecutionException {
+        List<List<Pair<Property, PropertyVersionsBuilder>>> requestBuilders = new ArrayList<>(requests.size());
+        for (VersionPropertiesMapRequest request : requests) {
+            requestBuilders.add(getPropertyBuilders(request));
+        }
+
+        List<Map<Property, PropertyVersions>> propertyVersionsMaps = new ArrayList<>(requests.size());
+        try {
+            Map<ArtifactAssociation, ArtifactVersions> associatedVersions = lookupAssociations(
+                    requestBuilders.stream().flatMap(List::stream).collect(Collectors.toList()));
+            for (List<Pair<Property, PropertyVersionsBuilder>> propertyBuilders : requestBuilders) {
+                List<Callable<PropertyVersions>> tasks = propertyBuilders.stream()
+                        .map(pair -> (Callable<PropertyVersions>)
+                                () -> pair.getValue().build(associatedVersions::get))
+                        .collect(Collectors.toList());
+                List<PropertyVersions> results = lookupExecutor.invokeAll(tasks);
+                Map<Property, PropertyVersions> propertyVersions = new LinkedHashMap<>(propertyBuilders.size());
+                for (int index = 0; index < results.size(); index++) {
+                    propertyVersions.put(propertyBuilders.get(index).getKey(), results.get(index));
+                }
+                propertyVersionsMaps.add(propertyVersions);
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new MojoExecutionException(e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            throw new MojoExecutionException("Unable to acquire metadata for properties: " + e.getMessage(), e);
+        }
+        logLookupStatistics();
+        return propertyVersionsMaps;
+    }
+
+    /**
+     * Finds the properties of the project of the given request, together with the builders of their versions.
+     *
+     * @param request the request
+     * @return the properties and the builders of their versions
+     * @throws MojoExecutionException thrown if the properties of the project cannot be found
+     */
+    private List<Pair<Property, PropertyVersionsBuilder>> getPropertyBuilders(VersionPropertiesMapRequest request)
+            throws MojoExecutionException {
         Map<String, Property> properties = new HashMap<>();
         if (request.getPropertyDefinitions() != null) {
             Arrays.stream(request.getPropertyDefinitions()).forEach(p -> properties.put(p.getName(), p));
@@ -666,7 +779,7 @@ public class DefaultVersionsHelper implements VersionsHelper {
             }
         }
         i = properties.values().iterator();
-        Map<Property, PropertyVersions> propertyVersions = new LinkedHashMap<>(properties.size());
+        List<Pair<Property, PropertyVersionsBuilder>> propertyBuilders = new ArrayList<>(properties.size());
         while (i.hasNext()) {
             Property property = i.next();
             getLog().debug("Property ${" + property.getName() + "}");
@@ -687,33 +800,56 @@ public class DefaultVersionsHelper implements VersionsHelper {
                     builder.withAssociation(this.createDependencyArtifact(dependency), false);
                 }
             }
+            if (property.isAutoLinkDependencies()
+                    && StringUtils.isEmpty(property.getVersion())
+                    && !StringUtils.isEmpty(builder.getVersionRange())) {
+                getLog().debug("Property ${" + property.getName() + "}: Adding inferred version range of "
+                        + builder.getVersionRange());
+                property.setVersion(builder.getVersionRange());
+            }
+            final String currentVersion =
+                    request.getMavenProject().getProperties().getProperty(property.getName());
+            property.setValue(currentVersion);
             try {
-                if (property.isAutoLinkDependencies()
-                        && StringUtils.isEmpty(property.getVersion())
-                        && !StringUtils.isEmpty(builder.getVersionRange())) {
-                    getLog().debug("Property ${" + property.getName() + "}: Adding inferred version range of "
-                            + builder.getVersionRange());
-                    property.setVersion(builder.getVersionRange());
+                if (currentVersion != null) {
+                    builder.withCurrentVersion(DefaultArtifactVersionCache.of(currentVersion))
+                            .withCurrentVersionRange(VersionRange.createFromVersionSpec(currentVersion));
                 }
-                final String currentVersion =
-                        request.getMavenProject().getProperties().getProperty(property.getName());
-                property.setValue(currentVersion);
-                final PropertyVersions versions;
-                try {
-                    if (currentVersion != null) {
-                        builder.withCurrentVersion(DefaultArtifactVersionCache.of(currentVersion))
-                                .withCurrentVersionRange(VersionRange.createFromVersionSpec(currentVersion));
-                    }
-                } catch (InvalidVersionSpecificationException e) {
-                    throw new RuntimeException(e);
-                }
-                versions = builder.build();
-                propertyVersions.put(property, versions);
-            } catch (VersionRetrievalException e) {
-                throw new MojoExecutionException(e.getMessage(), e);
+            } catch (InvalidVersionSpecificationException e) {
+                throw new RuntimeException(e);
             }
+            propertyBuilders.add(new ImmutablePair<>(property, builder));
         }
-        return propertyVersions;
+        return propertyBuilders;
+    }
+
+    /**
+     * Looks up the versions of all artifacts associated with the given properties concurrently, each distinct
+     * association only once.
+     *
+     * @param propertyBuilders builders of the properties
+     * @return versions of the associated artifacts
+     * @throws ExecutionException thrown if a lookup fails
+     * @throws InterruptedException thrown if the calling thread is interrupted while waiting
+     */
+    private Map<ArtifactAssociation, ArtifactVersions> lookupAssociations(
+            List<Pair<Property, PropertyVersionsBuilder>> propertyBuilders)
+            throws ExecutionException, InterruptedException {
+        Map<ArtifactAssociation, Callable<ArtifactVersions>> lookups = new LinkedHashMap<>();
+        for (Pair<Property, PropertyVersionsBuilder> pair : propertyBuilders) {
+            for (ArtifactAssociation association : pair.getValue().getAssociations()) {
+                lookups.putIfAbsent(
+                        association,
+                        () -> lookupArtifactVersions(association.getArtifact(), association.isUsePluginRepositories()));
+            }
+        }
+        List<ArtifactAssociation> associations = new ArrayList<>(lookups.keySet());
+        List<ArtifactVersions> results = lookupExecutor.invokeAll(lookups.values());
+        Map<ArtifactAssociation, ArtifactVersions> associatedVersions = new HashMap<>();
+        for (int index = 0; index < results.size(); index++) {
+            associatedVersions.put(associations.get(index), results.get(index));
+        }
+        return associatedVersions;
     }
 
     /**
@@ -732,6 +868,16 @@ public class DefaultVersionsHelper implements VersionsHelper {
 
         private Map<String, Wagon> wagonMap;
 
+        private VersionMetadataCache metadataCache;
+
+        private Duration metadataCacheTtl;
+
+        private Path metadataCacheDirectory;
+
+        private int lookupThreads;
+
+        private boolean lookupVirtualThreads;
+
         public Builder() {}
 
         private static RuleSet getRulesFromClasspath(String uri, Log logger) throws MojoExecutionException {
@@ -979,6 +1125,83 @@ public class DefaultVersionsHelper implements VersionsHelper {
             return this;
         }
 
+        /**
+         * Sets the {@linkplain VersionMetadataCache} instance to use; overrides
+         * {@link #withMetadataCacheTtl(Duration)} and {@link #withMetadataCacheDirectory(Path)}
+         *
+         * @param metadataCache cache instance
+         * @return {@link Builder} instance
+         */
+        public Builder withMetadataCache(VersionMetadataCache metadataCache) {
+            this.metadataCache = metadataCache;
+            return this;
+        }
+
+        /**
+         * Sets the time-to-live of the persistent version metadata cache; the cache is disabled
+         * if the argument is {@code null}, zero or negative
+         *
+         * @param metadataCacheTtl time-to-live of the cache entries
+         * @return {@link Builder} instance
+         */
+        public Builder withMetadataCacheTtl(Duration metadataCacheTtl) {
+            this.metadataCacheTtl = metadataCacheTtl;
+            return this;
+        }
+
+        /**
+         * Sets the directory of the persistent version metadata cache; if not set,
+         * {@value #DEFAULT_METADATA_CACHE_DIRECTORY} under the local repository is used
+         *
+         * @param metadataCacheDirectory directory of the cache
+         * @return {@link Builder} instance
+         */
+        public Builder withMetadataCacheDirectory(Path metadataCacheDirectory) {
+            this.metadataCacheDirectory = metadataCacheDirectory;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of concurrent artifact metadata lookups; if not positive,
+         * {@link LookupExecutor#getDefaultThreads()} is used. Only the first helper created
+         * in a Maven session determines the configuration of the session-wide executor.
+         *
+         * @param lookupThreads maximum number of concurrent lookups
+         * @return {@link Builder} instance
+         */
+        public Builder withLookupThreads(int lookupThreads) {
+            this.lookupThreads = lookupThreads;
+            return this;
+        }
+
+        /**
+         * Sets whether lookups should be executed in virtual threads, if supported by the Java runtime
+         *
+         * @param lookupVirtualThreads {@code true} if virtual threads should be used
+         * @return {@link Builder} instance
+         */
+        public Builder withLookupVirtualThreads(boolean lookupVirtualThreads) {
+            this.lookupVirtualThreads = lookupVirtualThreads;
+            return this;
+        }
+
+        private VersionMetadataCache createMetadataCache() {
+            if (metadataCache != null) {
+                return metadataCache;
+            }
+            if (metadataCacheTtl == null || metadataCacheTtl.isZero() || metadataCacheTtl.isNegative()) {
+                return null;
+            }
+            Path directory = ofNullable(metadataCacheDirectory).orElseGet(() -> mavenSession
+                    .getRepositorySession()
+                    .getLocalRepository()
+                    .getBasedir()
+                    .toPath()
+                    .resolve(DEFAULT_METADATA_CACHE_DIRECTORY));
+            log.debug("Using version metadata cache in " + directory + " with time-to-live " + metadataCacheTtl);
+            return new PersistentVersionMetadataCache(directory, metadataCacheTtl, mavenSession.isOffline(), log);
+        }
+
         /**
          * Builds the constructed {@linkplain DefaultVersionsHelper} object
          * @return constructed {@linkplain DefaultVersionsHelper}
@@ -1000,6 +1223,13 @@ public class DefaultVersionsHelper implements VersionsHelper {
             if (ignoredVersions != null && !ignoredVersions.isEmpty()) {
                 instance.ruleSet = enrichRuleSet(ignoredVersions, instance.ruleSet);
             }
+            instance.metadataCache = createMetadataCache();
+            RepositorySystemSession repositorySession = ofNullable(mavenSession)
+                    .map(MavenSession::getRepositorySession)
+                    .orElse(null);
+            instance.lookupExecutor =
+                    LookupExecutor.forSession(repositorySession, lookupThreads, lookupVirtualThreads, log);
+            instance.singleFlightCache = SingleFlightVersionCache.forSession(repositorySession);
             return instance;
         }
 
@@ -0,0 +1,242 @@
+package org.codehaus.mojo.versions.api;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
+
+import org.apache.maven.artifact.versioning.ArtifactVersion;
+import org.apache.maven.artifact.versioning.InvalidVersionSpecificationException;
+import org.apache.maven.artifact.versioning.Restriction;
+import org.apache.maven.artifact.versioning.VersionRange;
+import org.codehaus.mojo.versions.model.IgnoreVersion;
+import org.codehaus.mojo.versions.utils.DefaultArtifactVersionCache;
+
+/**
+ * <p>Compiled form of a list of {@link IgnoreVersion}s, matching versions with the semantics of
+ * {@link IgnoreVersionHelper#isVersionIgnored(String, IgnoreVersion)}.</p>
+ *
+ * <p>Exact versions are looked up in a hash map, the regular expressions are compiled once and, if possible,
+ * combined into a single alternation, and the version ranges are parsed once. The ranges are applied to the sorted
+ * list of versions to filter: the versions within each restriction are found by binary search.</p>
+ *
+ * @since 2.19.0
+ */
+final class IgnoreVersionFilter {
+    /**
+     * Constructs which would change their meaning in an alternation, or clash with those of the other expressions:
+     * back references, named groups, quotes and comments.
+     */
+    private static final Pattern NOT_COMBINABLE = Pattern.compile("\\\\[1-9]|\\\\k<|\\(\\?<[a-zA-Z]|\\\\Q|#");
+
+    private final List<IgnoreVersion> ignoreVersions;
+
+    private final Map<String, IgnoreVersion> exactVersions = new HashMap<>();
+
+    private final List<Map.Entry<Pattern, IgnoreVersion>> patterns = new ArrayList<>();
+
+    private final Pattern combinedPattern;
+
+    private final List<Map.Entry<List<Restriction>, IgnoreVersion>> ranges = new ArrayList<>();
+
+    /**
+     * Compiles the given ignored versions.
+     *
+     * @param ignoreVersions ignored versions, all of a {@linkplain IgnoreVersionHelper#isValidType(IgnoreVersion)
+     *                       valid type}
+     * @throws java.util.regex.PatternSyntaxException thrown if a regular expression is invalid
+     * @throws IgnoreVersionHelper.IgnoreVersionException thrown if a version range is invalid
+     */
+    IgnoreVersionFilter(List<IgnoreVersion> ignoreVersions) {
+        this.ignoreVersions = Collections.unmodifiableList(new ArrayList<>(ignoreVersions));
+        boolean combinable = true;
+        for (IgnoreVersion ignoreVersion : ignoreVersions) {
+            switch (ignoreVersion.getType()) {
+                case IgnoreVersion.TYPE_EXACT:
+                    exactVersions.putIfAbsent(ignoreVersion.getVersion(), ignoreVersion);
+                    break;
+                case IgnoreVersion.TYPE_REGEX:
+                    patterns.add(entry(Pattern.compile(ignoreVersion.getVersion()), ignoreVersion));
+                    combinable &=
+                            !NOT_COMBINABLE.matcher(ignoreVersion.getVersion()).find();
+                    break;
+                default:
+                    ranges.add(entry(restrictions(ignoreVersion), ignoreVersion));
+            }
+        }
+        combinedPattern = patterns.size() > 1 && combinable ? combine(patterns) : null;
+    }
+
+    /**
+     * Combines the given patterns into a single alternation.
+     *
+     * @param patterns patterns to combine
+     * @return the combined pattern, or {@code null} if the patterns cannot be combined, in which case
+     * they are matched one by one
+     */
+    private static Pattern combine(List<Map.Entry<Pattern, IgnoreVersion>> patterns) {
+        try {
+            return Pattern.compile(patterns.stream()
+                    .map(p -> "(?:" + p.getKey().pattern() + ")")
+                    .collect(Collectors.joining("|")));
+        } catch (PatternSyntaxException e) {
+            return null;
+        }
+    }
+
+    private static <K> Map.Entry<K, IgnoreVersion> entry(K key, IgnoreVersion ignoreVersion) {
+        return new AbstractMap.SimpleImmutableEntry<>(key, ignoreVersion);
+    }
+
+    private static List<Restriction> restrictions(IgnoreVersion ignoreVersion) {
+        try {
+            VersionRange versionRange = VersionRange.createFromVersionSpec(ignoreVersion.getVersion());
+            if (versionRange.hasRestrictions()) {
+                return versionRange.getRestrictions();
+            }
+            ArtifactVersion version = versionRange.getRecommendedVersion();
+            return Collections.singletonList(new Restriction(version, true, version, true));
+        } catch (InvalidVersionSpecificationException e) {
+            throw new IgnoreVersionHelper.IgnoreVersionException(e);
+        }
+    }
+
+    /**
+     * @return the compiled ignored versions
+     */
+    List<IgnoreVersion> getIgnoreVersions() {
+        return ignoreVersions;
+    }
+
+    /**
+     * Removes the ignored versions from the given versions.
+     *
+     * @param versions versions to filter
+     * @param listener receives each removed version together with the ignored version matching it
+     * @return the versions which are not ignored, in their original order
+     */
+    List<String> filter(List<String> versions, BiConsumer<String, IgnoreVersion> listener) {
+        if (ignoreVersions.isEmpty()) {
+            return versions;
+        }
+        IgnoreVersion[] rangeMatches = matchRanges(versions);
+        List<String> result = new ArrayList<>(versions.size());
+        for (int i = 0; i < versions.size(); i++) {
+            String version = versions.get(i);
+            IgnoreVersion match = exactVersions.get(version);
+            if (match == null) {
+                match = matchPatterns(version);
+            }
+            if (match == null) {
+                match = rangeMatches[i];
+            }
+            if (match == null) {
+                result.add(version);
+            } else {
+                listener.accept(version, match);
+            }
+        }
+        return result;
+    }
+
+    private IgnoreVersion matchPatterns(String version) {
+        if (combinedPattern != null && !combinedPattern.matcher(version).matches()) {
+            return null;
+        }
+        for (Map.Entry<Pattern, IgnoreVersion> pattern : patterns) {
+            if (pattern.getKey().matcher(version).matches()) {
+                return pattern.getValue();
+            }
+        }
+        return null;
+    }
+
+    private IgnoreVersion[] matchRanges(List<String> versions) {
+        IgnoreVersion[] matches = new IgnoreVersion[versions.size()];
+        if (ranges.isEmpty()) {
+            return matches;
+        }
+        ArtifactVersion[] parsed =
+                versions.stream().map(DefaultArtifactVersionCache::of).toArray(ArtifactVersion[]::new);
+        List<Integer> sorted = new ArrayList<>(versions.size());
+        for (int i = 0; i < versions.size(); i++) {
+            sorted.add(i);
+        }
+        sorted.sort(Comparator.comparing(i -> parsed[i]));
+
+        for (Map.Entry<List<Restriction>, IgnoreVersion> range : ranges) {
+            for (Restriction restriction : range.getKey()) {
+                ArtifactVersion lower = restriction.getLowerBound();
+                ArtifactVersion upper = restriction.getUpperBound();
+                int from = lower == null
+                        ? 0
+                        : partitionPoint(
+                                sorted,
+                                parsed,
+                                v -> restriction.isLowerBoundInclusive()
+                                        ? lower.compareTo(v) <= 0
+                                        : lower.compareTo(v) < 0);
+                int to = upper == null
+                        ? sorted.size()
+                        : partitionPoint(
+                                sorted,
+                                parsed,
+                                v -> restriction.isUpperBoundInclusive()
+                                        ? upper.compareTo(v) < 0
+                                        : upper.compareTo(v) <= 0);
+                for (int k = from; k < to; k++) {
+                    int index = sorted.get(k);
+                    if (matches[index] == null) {
+                        matches[index] = range.getValue();
+                    }
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * @return the position of the first sorted version satisfying the given predicate, which must be
+     * {@code false} for all versions before that position and {@code true} for all versions after it
+     */
+    private static int partitionPoint(List<Integer> sorted, ArtifactVersion[] parsed, Predicate<ArtifactVersion> p) {
+        int low = 0;
+        int high = sorted.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (p.test(parsed[sorted.get(mid)])) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+}
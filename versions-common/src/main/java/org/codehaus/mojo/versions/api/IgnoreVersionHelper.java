@@ -44,7 +44,7 @@ public class IgnoreVersionHelper {
     public static final List<String> VALID_TYPES = Collections.unmodifiableList(
             Arrays.asList(IgnoreVersion.TYPE_EXACT, IgnoreVersion.TYPE_REGEX, IgnoreVersion.TYPE_RANGE));
 
-    private static final Map<String, BiFunction<Version, IgnoreVersion, Boolean>> VERSION_MATCHERS;
+    private static final Map<String, BiFunction<String, IgnoreVersion, Boolean>> VERSION_MATCHERS;
 
     static {
         VERSION_MATCHERS = new HashMap<>();
@@ -66,22 +66,31 @@ public class IgnoreVersionHelper {
     }
 
     public static boolean isVersionIgnored(Version version, IgnoreVersion ignoreVersion) {
+        return isVersionIgnored(version.toString(), ignoreVersion);
+    }
+
+    /**
+     * Check if the given version is matched by the given ignored version.
+     *
+     * @param version version to check
+     * @param ignoreVersion an ignored version
+     * @return true if the version should be ignored
+     */
+    public static boolean isVersionIgnored(String version, IgnoreVersion ignoreVersion) {
         return VERSION_MATCHERS.get(ignoreVersion.getType()).apply(version, ignoreVersion);
     }
 
-    private static boolean isVersionIgnoredExact(Version version, IgnoreVersion ignoreVersion) {
-        return ignoreVersion.getVersion().equals(version.toString());
+    private static boolean isVersionIgnoredExact(String version, IgnoreVersion ignoreVersion) {
+        return ignoreVersion.getVersion().equals(version);
     }
 
-    private static boolean isVersionIgnoredRegex(Version version, IgnoreVersion ignoreVersion) {
-        return Pattern.compile(ignoreVersion.getVersion())
-                .matcher(version.toString())
-                .matches();
+    private static boolean isVersionIgnoredRegex(String version, IgnoreVersion ignoreVersion) {
+        return Pattern.compile(ignoreVersion.getVersion()).matcher(version).matches();
     }
 
-    private static boolean isVersionIgnoredRange(Version version, IgnoreVersion ignoreVersion) {
+    private static boolean isVersionIgnoredRange(String version, IgnoreVersion ignoreVersion) {
         try {
-            ArtifactVersion aVersion = DefaultArtifactVersionCache.of(version.toString());
+            ArtifactVersion aVersion = DefaultArtifactVersionCache.of(version);
             VersionRange versionRange = VersionRange.createFromVersionSpec(ignoreVersion.getVersion());
             if (versionRange.hasRestrictions()) {
                 return versionRange.containsVersion(aVersion);
@@ -0,0 +1,255 @@
+package org.codehaus.mojo.versions.api;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.maven.plugin.logging.Log;
+import org.eclipse.aether.RepositorySystemSession;
+
+/**
+ * <p>Executor running artifact metadata lookups in parallel.</p>
+ *
+ * <p>The underlying thread pool is created once per Maven session and stored in the session data
+ * of the {@link RepositorySystemSession}, so that it is reused by all goals, reports and enforcer rules
+ * executed in the build, and the number of concurrent lookups is limited for the whole session.
+ * Lookups submitted from within a lookup (e.g. plugin dependencies of a plugin)
+ * are executed inline, so that the bounded pool may never deadlock on nested tasks.</p>
+ *
+ * @since 2.19.0
+ */
+public class LookupExecutor {
+    private static final String SESSION_KEY = LookupExecutor.class.getName();
+
+    private static final int QUEUE_CAPACITY_PER_THREAD = 64;
+
+    private static final ThreadLocal<Boolean> IN_LOOKUP = new ThreadLocal<>();
+
+    /**
+     * Pools of the callers without a session, by configuration: their idle threads time out,
+     * so they are reused rather than shut down
+     */
+    private static final ConcurrentMap<String, Pool> UNSCOPED_POOLS = new ConcurrentHashMap<>();
+
+    private final ExecutorService executor;
+
+    private final Semaphore permits;
+
+    private final AtomicLong lookups = new AtomicLong();
+
+    private final AtomicLong totalLatency = new AtomicLong();
+
+    private final AtomicLong maxLatency = new AtomicLong();
+
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+
+    private LookupExecutor(Pool pool) {
+        this.executor = pool.executor;
+        this.permits = pool.permits;
+    }
+
+    /**
+     * An executor service, together with the permits limiting the number of concurrent lookups if the executor
+     * service does not limit them itself, i.e. if it uses virtual threads
+     */
+    private static final class Pool {
+        private final ExecutorService executor;
+
+        private final Semaphore permits;
+
+        private Pool(ExecutorService executor, int threads) {
+            this.executor = executor;
+            this.permits = executor instanceof ThreadPoolExecutor ? null : new Semaphore(threads);
+        }
+    }
+
+    /**
+     * @return the default number of lookup threads: lookups are I/O-bound,
+     * so the pool is sized at a multiple of the available processors
+     */
+    public static int getDefaultThreads() {
+        return Math.min(64, Math.max(5, 4 * Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Returns the lookup executor of the given session, creating it if it doesn't exist yet. The
+     * configuration of the executor is determined by the first caller in the session.
+     *
+     * @param session repository session to store the executor in; if {@code null}, the executor shares
+     *                a pool with the other callers without a session using the same configuration
+     * @param threads maximum number of concurrent lookups; if not positive, {@link #getDefaultThreads()} is used
+     * @param virtualThreads whether to use virtual threads, if supported by the runtime
+     * @param log log to report configuration problems to
+     * @return lookup executor instance
+     */
+    public static LookupExecutor forSession(
+            RepositorySystemSession session, int threads, boolean virtualThreads, Log log) {
+        int size = threads > 0 ? threads : getDefaultThreads();
+        if (session == null || session.getData() == null) {
+            return new LookupExecutor(UNSCOPED_POOLS.computeIfAbsent(
+                    size + (virtualThreads ? "v" : ""),
+                    k -> new Pool(createExecutorService(size, virtualThreads, log), size)));
+        }
+        Object existing = session.getData().get(SESSION_KEY);
+        if (!(existing instanceof Pool)) {
+            Pool pool = new Pool(createExecutorService(size, virtualThreads, log), size);
+            if (session.getData().set(SESSION_KEY, existing, pool)) {
+                log.debug("Created lookup executor with " + size + (virtualThreads ? " virtual" : "") + " threads");
+                existing = pool;
+            } else {
+                pool.executor.shutdown();
+                existing = session.getData().get(SESSION_KEY);
+            }
+        }
+        return new LookupExecutor((Pool) existing);
+    }
+
+    private static ExecutorService createExecutorService(int threads, boolean virtualThreads, Log log) {
+        if (virtualThreads) {
+            try {
+                return (ExecutorService) Executors.class
+                        .getMethod("newVirtualThreadPerTaskExecutor")
+                        .invoke(null);
+            } catch (ReflectiveOperationException e) {
+                log.warn("Virtual threads are not supported by the Java runtime, using platform threads instead");
+            }
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory threadFactory = r -> {
+            Thread thread = new Thread(r, "versions-lookup-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                threads,
+                threads,
+                30L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(threads * QUEUE_CAPACITY_PER_THREAD),
+                threadFactory,
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * @return {@code true} if the calling thread is executing a lookup task
+     */
+    public static boolean isInLookup() {
+        return Boolean.TRUE.equals(IN_LOOKUP.get());
+    }
+
+    /**
+     * Executes the given tasks and waits for their results. If called from within a lookup task,
+     * the tasks are executed sequentially in the calling thread.
+     *
+     * @param <T> result type
+     * @param tasks tasks to execute
+     * @return results of the tasks, in the order of the tasks
+     * @throws ExecutionException thrown if any of the tasks fails
+     * @throws InterruptedException thrown if the calling thread is interrupted while waiting
+     */
+    public <T> List<T> invokeAll(Collection<? extends Callable<T>> tasks)
+            throws ExecutionException, InterruptedException {
+        List<T> results = new ArrayList<>(tasks.size());
+        if (isInLookup()) {
+            for (Callable<T> task : tasks) {
+                try {
+                    results.add(measure(task));
+                } catch (Exception e) {
+                    throw new ExecutionException(e);
+                }
+            }
+            return results;
+        }
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        try {
+            for (Callable<T> task : tasks) {
+                futures.add(executor.submit(() -> run(task)));
+                if (executor instanceof ThreadPoolExecutor) {
+                    int depth = ((ThreadPoolExecutor) executor).getQueue().size();
+                    maxQueueDepth.accumulateAndGet(depth, Math::max);
+                }
+            }
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            futures.forEach(f -> f.cancel(true));
+        }
+    }
+
+    private <T> T run(Callable<T> task) throws Exception {
+        Boolean previous = IN_LOOKUP.get();
+        IN_LOOKUP.set(true);
+        try {
+            if (permits != null) {
+                permits.acquire();
+            }
+            try {
+                return measure(task);
+            } finally {
+                if (permits != null) {
+                    permits.release();
+                }
+            }
+        } finally {
+            IN_LOOKUP.set(previous);
+        }
+    }
+
+    private <T> T measure(Callable<T> task) throws Exception {
+        long start = System.nanoTime();
+        try {
+            return task.call();
+        } finally {
+            long latency = System.nanoTime() - start;
+            lookups.incrementAndGet();
+            totalLatency.addAndGet(latency);
+            maxLatency.accumulateAndGet(latency, Math::max);
+        }
+    }
+
+    @Override
+    public String toString() {
+        long count = lookups.get();
+        return count + " lookup(s), average latency "
+                + (count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalLatency.get() / count)) + " ms, "
+                + "max latency " + TimeUnit.NANOSECONDS.toMillis(maxLatency.get()) + " ms, "
+                + "max queue depth " + maxQueueDepth.get();
+    }
+}
@@ -0,0 +1,532 @@
+package org.codehaus.mojo.versions.api;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import javax.xml.stream.XMLStreamException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.maven.artifact.versioning.InvalidVersionSpecificationException;
+import org.apache.maven.model.Model;
+import org.apache.maven.plugin.logging.Log;
+import org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader;
+
+import static org.codehaus.mojo.versions.api.PomHelper.APACHE_MAVEN_PLUGINS_GROUPID;
+
+/**
+ * <p>Plan of edits of a pom, applied with a single pass over the document.</p>
+ *
+ * <p>Callers register all intended edits first and then call {@link #apply()}. The document is parsed once,
+ * marking every location which may be the target of a registered edit. The edits are then resolved in the order
+ * of their registration against the marked locations, so that the result is the same as if the respective
+ * {@link PomHelper} setters were called one after another: an edit sees the values written by the edits
+ * registered before it. The replacements are made using the marks of {@link MutableXMLStreamReader},
+ * which keep track of the offsets, so formatting outside the replaced values is preserved.</p>
+ *
+ * @since 2.19.0
+ */
+public final class PomEditPlan {
+    private final MutableXMLStreamReader pom;
+
+    private final List<Edit> edits = new ArrayList<>();
+
+    private boolean applied;
+
+    /**
+     * Creates a new, empty plan
+     *
+     * @param pom the pom to edit
+     */
+    public PomEditPlan(MutableXMLStreamReader pom) {
+        this.pom = pom;
+    }
+
+    private enum Kind {
+        PROJECT_VERSION,
+        PARENT_VERSION,
+        PROPERTY,
+        DEPENDENCY,
+        PLUGIN
+    }
+
+    /**
+     * Outcome of an edit
+     */
+    public abstract static class Edit {
+        private final Kind kind;
+
+        private boolean madeReplacement;
+
+        private Edit(Kind kind) {
+            this.kind = kind;
+        }
+
+        /**
+         * @return {@code true} if the edit found its target and a replacement was made;
+         * only meaningful after {@link PomEditPlan#apply()}
+         */
+        public boolean isApplied() {
+            return madeReplacement;
+        }
+
+        abstract boolean resolve(PomEditPlan plan, Locations locations);
+    }
+
+    /**
+     * Registers setting the project version, see {@link PomHelper#setProjectVersion(MutableXMLStreamReader, String)}
+     *
+     * @param value the new project version
+     * @return outcome of the edit
+     */
+    public Edit setProjectVersion(String value) {
+        return add(new Edit(Kind.PROJECT_VERSION) {
+            @Override
+            boolean resolve(PomEditPlan plan, Locations locations) {
+                if (locations.projectVersion == null) {
+                    return false;
+                }
+                Range range = locations.projectVersion;
+                if (!plan.pom.getBetween(range.start, range.end).isEmpty()) {
+                    plan.pom.replaceBetween(range.start, range.end, value);
+                } else {
+                    plan.pom.replaceMark(range.end, String.format("<%1$s>%2$s</%1$s>", "version", value));
+                }
+                range.text = value.trim();
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Registers setting the parent version,
+     * see {@link PomHelper#setProjectParentVersion(MutableXMLStreamReader, String)}
+     *
+     * @param value the new parent version
+     * @return outcome of the edit
+     */
+    public Edit setProjectParentVersion(String value) {
+        return add(new Edit(Kind.PARENT_VERSION) {
+            @Override
+            boolean resolve(PomEditPlan plan, Locations locations) {
+                for (Range range : locations.parentVersions) {
+                    plan.pom.replaceBetween(range.start, range.end, value);
+                    range.text = value.trim();
+                }
+                return !locations.parentVersions.isEmpty();
+            }
+        });
+    }
+
+    /**
+     * Registers setting a property,
+     * see {@link PomHelper#setPropertyVersion(MutableXMLStreamReader, String, String, String)}
+     *
+     * @param profileId the profile in which to modify the property, {@code null} for the project properties
+     * @param property  the property to modify
+     * @param value     the new value of the property
+     * @return outcome of the edit
+     */
+    public Edit setPropertyVersion(String profileId, String property, String value) {
+        return add(new Edit(Kind.PROPERTY) {
+            @Override
+            boolean resolve(PomEditPlan plan, Locations locations) {
+                boolean madeReplacement = false;
+                for (PropertyScope scope : locations.propertyScopes) {
+                    boolean inMatchScope = profileId == null
+                            ? !scope.profile
+                            : scope.profile
+                                    && scope.profileId != null
+                                    && profileId.trim().equals(scope.profileId.trim());
+                    Range range = scope.properties.get(property);
+                    if (inMatchScope && range != null) {
+                        plan.pom.replaceBetween(range.start, range.end, value);
+                        madeReplacement = true;
+                    }
+                }
+                return madeReplacement;
+            }
+        });
+    }
+
+    /**
+     * Registers setting the version of a dependency,
+     * see {@link PomHelper#setDependencyVersion(MutableXMLStreamReader, String, String, String, String, Model, Log)}
+     *
+     * @param groupId    the groupId of the dependency
+     * @param artifactId the artifactId of the dependency
+     * @param oldVersion the old version of the dependency
+     * @param newVersion the new version of the dependency
+     * @param model      the model to get the project properties from
+     * @param logger     the logger to use
+     * @return outcome of the edit
+     */
+    public Edit setDependencyVersion(
+            String groupId, String artifactId, String oldVersion, String newVersion, Model model, Log logger) {
+        return add(new Edit(Kind.DEPENDENCY) {
+            @Override
+            boolean resolve(PomEditPlan plan, Locations locations) {
+                Map<String, String> implicitProperties = locations.getImplicitProperties(model);
+                boolean madeReplacement = false;
+                for (ArtifactScope scope : locations.dependencies) {
+                    if (scope.version != null
+                            && scope.version.end != null
+                            && scope.groupId != null
+                            && groupId.equals(PomHelper.evaluate(scope.groupId, implicitProperties, logger))
+                            && scope.artifactId != null
+                            && artifactId.equals(PomHelper.evaluate(scope.artifactId, implicitProperties, logger))
+                            && isOldVersion(plan, scope.version)) {
+                        plan.pom.replaceBetween(scope.version.start, scope.version.end, newVersion);
+                        madeReplacement = true;
+                    }
+                }
+                return madeReplacement;
+            }
+
+            private boolean isOldVersion(PomEditPlan plan, Range version) {
+                String compressedPomVersion = StringUtils.deleteWhitespace(
+                        plan.pom.getBetween(version.start, version.end).trim());
+                String compressedOldVersion = StringUtils.deleteWhitespace(oldVersion);
+                try {
+                    return PomHelper.isVersionOverlap(compressedOldVersion, compressedPomVersion);
+                } catch (InvalidVersionSpecificationException e) {
+                    // fall back to string comparison
+                    return compressedOldVersion.equals(compressedPomVersion);
+                }
+            }
+        });
+    }
+
+    /**
+     * Registers setting the version of a plugin,
+     * see {@link PomHelper#setPluginVersion(MutableXMLStreamReader, String, String, String, String)}
+     *
+     * @param groupId    the groupId of the plugin
+     * @param artifactId the artifactId of the plugin
+     * @param oldVersion the old version of the plugin
+     * @param newVersion the new version of the plugin
+     * @return outcome of the edit
+     */
+    public Edit setPluginVersion(String groupId, String artifactId, String oldVersion, String newVersion) {
+        boolean needGroupId = groupId != null && !APACHE_MAVEN_PLUGINS_GROUPID.equals(groupId);
+        return add(new Edit(Kind.PLUGIN) {
+            @Override
+            boolean resolve(PomEditPlan plan, Locations locations) {
+                boolean madeReplacement = false;
+                for (ArtifactScope scope : locations.plugins) {
+                    if (scope.version != null
+                            && scope.version.end != null
+                            && (!needGroupId || groupId.equals(scope.groupId))
+                            && artifactId.equals(scope.artifactId)
+                            && isOldVersion(plan, scope.version)) {
+                        plan.pom.replaceBetween(scope.version.start, scope.version.end, newVersion);
+                        madeReplacement = true;
+                    }
+                }
+                return madeReplacement;
+            }
+
+            private boolean isOldVersion(PomEditPlan plan, Range version) {
+                String pomVersion =
+                        plan.pom.getBetween(version.start, version.end).trim();
+                try {
+                    return PomHelper.isVersionOverlap(oldVersion, pomVersion);
+                } catch (InvalidVersionSpecificationException e) {
+                    // fall back to string comparison
+                    return oldVersion.equals(pomVersion);
+                }
+            }
+        });
+    }
+
+    private Edit add(Edit edit) {
+        if (applied) {
+            throw new IllegalStateException("The plan has already been applied");
+        }
+        edits.add(edit);
+        return edit;
+    }
+
+    /**
+     * Applies all registered edits. A plan may only be applied once.
+     *
+     * @return {@code true} if any of the edits made a replacement
+     * @throws XMLStreamException thrown if the document cannot be parsed
+     */
+    public boolean apply() throws XMLStreamException {
+        if (applied) {
+            throw new IllegalStateException("The plan has already been applied");
+        }
+        applied = true;
+        if (edits.isEmpty()) {
+            return false;
+        }
+
+        Locations locations = new Locations();
+        locations.scan();
+
+        boolean madeReplacement = false;
+        for (Edit edit : edits) {
+            edit.madeReplacement = edit.resolve(this, locations);
+            madeReplacement |= edit.madeReplacement;
+        }
+        locations.marks.forEach(pom::clearMark);
+        return madeReplacement;
+    }
+
+    private boolean has(Kind kind) {
+        return edits.stream().anyMatch(edit -> edit.kind == kind);
+    }
+
+    /**
+     * Locations of the text between a start and an end element
+     */
+    private static final class Range {
+        private final Object start;
+
+        private Object end;
+
+        private String text;
+
+        Range(Object start) {
+            this.start = start;
+        }
+    }
+
+    /**
+     * Either the {@code /project/properties} element or a {@code /project/profiles/profile} element
+     */
+    private static final class PropertyScope {
+        private final boolean profile;
+
+        private String profileId;
+
+        private final Map<String, Range> properties = new HashMap<>();
+
+        PropertyScope(boolean profile) {
+            this.profile = profile;
+        }
+    }
+
+    /**
+     * A dependency or a plugin element
+     */
+    private static final class ArtifactScope {
+        private String groupId;
+
+        private String artifactId;
+
+        private Range version;
+    }
+
+    /**
+     * Locations of all possible targets of the registered edits in the document
+     */
+    final class Locations {
+        private final List<Object> marks = new ArrayList<>();
+
+        private final Map<String, Range> implicitValues = new LinkedHashMap<>();
+
+        private final List<Range> parentVersions = new ArrayList<>();
+
+        private final List<PropertyScope> propertyScopes = new ArrayList<>();
+
+        private final List<ArtifactScope> dependencies = new ArrayList<>();
+
+        private final List<ArtifactScope> plugins = new ArrayList<>();
+
+        private Range projectVersion;
+
+        private Map<String, String> getImplicitProperties(Model model) {
+            Map<String, String> implicitProperties = new HashMap<>();
+            for (Map.Entry<Object, Object> entry : model.getProperties().entrySet()) {
+                implicitProperties.put((String) entry.getKey(), (String) entry.getValue());
+            }
+            implicitValues.forEach((property, range) -> {
+                if (range.text != null) {
+                    implicitProperties.put(property, range.text);
+                }
+            });
+            for (boolean modified = true; modified; ) {
+                modified = false;
+                for (Map.Entry<String, String> entry : implicitProperties.entrySet()) {
+                    if (entry.getKey().contains(".parent")) {
+                        String child = entry.getKey().replace(".parent", "");
+                        if (!implicitProperties.containsKey(child)) {
+                            implicitProperties.put(child, entry.getValue());
+                            modified = true;
+                            break;
+                        }
+                    }
+                }
+            }
+            return implicitProperties;
+        }
+
+        private Object mark() {
+            Object mark = new Object();
+            pom.mark(mark);
+            marks.add(mark);
+            return mark;
+        }
+
+        private void scan() throws XMLStreamException {
+            final boolean withProjectVersion = has(Kind.PROJECT_VERSION);
+            final boolean withParentVersion = has(Kind.PARENT_VERSION);
+            final boolean withProperties = has(Kind.PROPERTY);
+            final boolean withDependencies = has(Kind.DEPENDENCY);
+            final boolean withPlugins = has(Kind.PLUGIN);
+
+            PomPath.Cursor cursor = PomPath.cursor();
+            Range currentProjectVersion = null;
+            Range currentParentVersion = null;
+            Range currentProperty = null;
+            int currentPropertyDepth = -1;
+            PropertyScope propertyScope = null;
+            ArtifactScope dependency = null;
+            ArtifactScope plugin = null;
+
+            pom.rewind();
+            while (pom.hasNext()) {
+                pom.next();
+                if (pom.isStartElement()) {
+                    cursor.enter(pom.getLocalName());
+
+                    if (withProjectVersion && projectVersion == null && cursor.at(PomPath.PROJECT_VERSION)) {
+                        currentProjectVersion = new Range(mark());
+                    } else if (withParentVersion && cursor.at(PomPath.PROJECT_PARENT_VERSION)) {
+                        currentParentVersion = new Range(mark());
+                    }
+                    if (withProperties) {
+                        if (cursor.at(PomPath.PROJECT_PROPERTIES)) {
+                            propertyScope = new PropertyScope(false);
+                            propertyScopes.add(propertyScope);
+                        } else if (cursor.at(PomPath.PROJECT_PROFILE)) {
+                            propertyScope = new PropertyScope(true);
+                            propertyScopes.add(propertyScope);
+                        } else if (propertyScope != null
+                                && propertyScope.profile
+                                && cursor.at(PomPath.PROJECT_PROFILE_ID)) {
+                            propertyScope.profileId = pom.getElementText();
+                        } else if (propertyScope != null
+                                && cursor.parentAt(
+                                        propertyScope.profile
+                                                ? PomPath.PROJECT_PROFILE_PROPERTIES
+                                                : PomPath.PROJECT_PROPERTIES)) {
+                            currentProperty = new Range(mark());
+                            currentPropertyDepth = cursor.getDepth();
+                        }
+                    }
+                    if (withDependencies) {
+                        if (cursor.at(PomPath.PROJECT_DEPENDENCY)) {
+                            dependency = new ArtifactScope();
+                            dependencies.add(dependency);
+                        } else if (dependency != null && cursor.at(PomPath.PROJECT_DEPENDENCY_VERSION)) {
+                            if ("groupId".equals(pom.getLocalName())) {
+                                dependency.groupId = pom.getElementText().trim();
+                            } else if ("artifactId".equals(pom.getLocalName())) {
+                                dependency.artifactId = pom.getElementText().trim();
+                            } else if ("version".equals(pom.getLocalName())) {
+                                dependency.version = new Range(mark());
+                            }
+                        } else if (cursor.at(PomPath.PROJECT_IMPLICIT_PROPERTY)) {
+                            String property = (cursor.parentAt(PomPath.PROJECT_PARENT) ? "project.parent." : "project.")
+                                    + pom.getLocalName();
+                            // the version ranges are shared, so that edits of the versions are visible;
+                            // their text is read at the end element, as getElementText() would skip past it
+                            if (cursor.at(PomPath.PROJECT_VERSION) && currentProjectVersion != null) {
+                                implicitValues.put(property, currentProjectVersion);
+                            } else if (cursor.at(PomPath.PROJECT_PARENT_VERSION) && currentParentVersion != null) {
+                                implicitValues.put(property, currentParentVersion);
+                            } else {
+                                Range implicitValue = new Range(null);
+                                implicitValue.text = pom.getElementText().trim();
+                                implicitValues.put(property, implicitValue);
+                            }
+                        }
+                    }
+                    if (withPlugins) {
+                        if (cursor.at(PomPath.PROJECT_PLUGIN)) {
+                            plugin = new ArtifactScope();
+                            plugins.add(plugin);
+                        } else if (plugin != null && cursor.at(PomPath.PROJECT_PLUGIN_VERSION)) {
+                            if ("groupId".equals(pom.getLocalName())) {
+                                plugin.groupId = pom.getElementText().trim();
+                            } else if ("artifactId".equals(pom.getLocalName())) {
+                                plugin.artifactId = pom.getElementText().trim();
+                            } else if ("version".equals(pom.getLocalName())) {
+                                plugin.version = new Range(mark());
+                            }
+                        }
+                    }
+                }
+                // for empty elements, pom can be both start- and end element
+                if (pom.isEndElement()) {
+                    if (currentProjectVersion != null && cursor.at(PomPath.PROJECT_VERSION)) {
+                        currentProjectVersion.end = mark();
+                        currentProjectVersion.text = pom.getBetween(
+                                        currentProjectVersion.start, currentProjectVersion.end)
+                                .trim();
+                        projectVersion = currentProjectVersion;
+                        currentProjectVersion = null;
+                    } else if (currentParentVersion != null && cursor.at(PomPath.PROJECT_PARENT_VERSION)) {
+                        currentParentVersion.end = mark();
+                        currentParentVersion.text = pom.getBetween(currentParentVersion.start, currentParentVersion.end)
+                                .trim();
+                        parentVersions.add(currentParentVersion);
+                        currentParentVersion = null;
+                    }
+                    if (currentProperty != null && cursor.getDepth() == currentPropertyDepth) {
+                        currentProperty.end = mark();
+                        propertyScope.properties.put(pom.getLocalName(), currentProperty);
+                        currentProperty = null;
+                    } else if (propertyScope != null
+                            && cursor.at(
+                                    propertyScope.profile ? PomPath.PROJECT_PROFILE : PomPath.PROJECT_PROPERTIES)) {
+                        propertyScope = null;
+                    }
+                    if (dependency != null
+                            && dependency.version != null
+                            && dependency.version.end == null
+                            && "version".equals(pom.getLocalName())
+                            && cursor.at(PomPath.PROJECT_DEPENDENCY_VERSION)) {
+                        dependency.version.end = mark();
+                    } else if (dependency != null && cursor.at(PomPath.PROJECT_DEPENDENCY)) {
+                        dependency = null;
+                    }
+                    if (plugin != null
+                            && plugin.version != null
+                            && plugin.version.end == null
+                            && "version".equals(pom.getLocalName())
+                            && cursor.at(PomPath.PROJECT_PLUGIN_VERSION)) {
+                        plugin.version.end = mark();
+                    } else if (plugin != null && cursor.at(PomPath.PROJECT_PLUGIN)) {
+                        plugin = null;
+                    }
+                    cursor.exit();
+                }
+            }
+        }
+    }
+}
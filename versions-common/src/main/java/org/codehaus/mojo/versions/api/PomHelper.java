@@ -34,12 +34,8 @@ import java.io.StringReader;
 import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
-import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -47,13 +43,11 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
-import java.util.Stack;
 import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
@@ -200,61 +194,10 @@ public final class PomHelper {
     public static boolean setPropertyVersion(
             final MutableXMLStreamReader pom, final String profileId, final String property, final String value)
             throws XMLStreamException {
-        Stack<String> stack = new Stack<>();
-        String path = "";
-        final Pattern propertyRegex;
-        final Pattern matchScopeRegex;
-        final Pattern projectProfileId;
-        boolean inMatchScope = false;
-        boolean madeReplacement = false;
-        if (profileId == null) {
-            propertyRegex = Pattern.compile("/project/properties/" + RegexUtils.quote(property));
-            matchScopeRegex = PATTERN_PROJECT_PROPERTIES;
-            projectProfileId = null;
-        } else {
-            propertyRegex = Pattern.compile("/project/profiles/profile/properties/" + RegexUtils.quote(property));
-            matchScopeRegex = PATTERN_PROJECT_PROFILE;
-            projectProfileId = PATTERN_PROJECT_PROFILE_ID;
-        }
-
-        pom.rewind();
-        while (pom.hasNext()) {
-            pom.next();
-            if (pom.isStartElement()) {
-                stack.push(path);
-                path = path + "/" + pom.getLocalName();
-
-                if (propertyRegex.matcher(path).matches()) {
-                    pom.mark(0);
-                } else if (matchScopeRegex.matcher(path).matches()) {
-                    // we're in a new match scope
-                    // reset any previous partial matches
-                    inMatchScope = profileId == null;
-                    pom.clearMark(0);
-                    pom.clearMark(1);
-                } else if (profileId != null && projectProfileId.matcher(path).matches()) {
-                    String candidateId = pom.getElementText();
-
-                    inMatchScope = profileId.trim().equals(candidateId.trim());
-                }
-            }
-            // for empty elements, pom can be both start- and end element
-            if (pom.isEndElement()) {
-                if (propertyRegex.matcher(path).matches()) {
-                    pom.mark(1);
-                } else if (matchScopeRegex.matcher(path).matches()) {
-                    if (inMatchScope && pom.hasMark(0) && pom.hasMark(1)) {
-                        pom.replaceBetween(0, 1, value);
-                        madeReplacement = true;
-                    }
-                    pom.clearMark(0);
-                    pom.clearMark(1);
-                    inMatchScope = false;
-                }
-                path = stack.pop();
-            }
-        }
-        return madeReplacement;
+        PomEditPlan plan = new PomEditPlan(pom);
+        PomEditPlan.Edit edit = plan.setPropertyVersion(profileId, property, value);
+        plan.apply();
+        return edit.isApplied();
     }
 
     /**
@@ -267,7 +210,10 @@ public final class PomHelper {
      */
     public static boolean setProjectVersion(final MutableXMLStreamReader pom, final String value)
             throws XMLStreamException {
-        return setElementValue(pom, "/project", "version", value, false);
+        PomEditPlan plan = new PomEditPlan(pom);
+        PomEditPlan.Edit edit = plan.setProjectVersion(value);
+        plan.apply();
+        return edit.isApplied();
     }
 
     /**
@@ -284,7 +230,6 @@ public final class PomHelper {
      */
     public static boolean setElementValue(
             MutableXMLStreamReader pom, String parentPath, String elementName, String value) throws XMLStreamException {
-        pom.rewind();
         return setElementValue(pom, parentPath, elementName, value, true);
     }
 
@@ -390,23 +335,21 @@ public final class PomHelper {
      * @throws XMLStreamException if something went wrong.
      */
     public static String getProjectVersion(final MutableXMLStreamReader pom) throws XMLStreamException {
-        Stack<String> stack = new Stack<>();
-        String path = "";
+        PomPath.Cursor cursor = PomPath.cursor();
 
         pom.rewind();
         while (pom.hasNext()) {
             pom.next();
             if (pom.isStartElement()) {
-                stack.push(path);
-                path = path + "/" + pom.getLocalName();
+                cursor.enter(pom.getLocalName());
 
-                if (PATTERN_PROJECT_VERSION.matcher(path).matches()) {
+                if (cursor.at(PomPath.PROJECT_VERSION)) {
                     pom.mark(0);
                 }
             }
             // for empty elements, pom can be both start- and end element
             if (pom.isEndElement()) {
-                if (PATTERN_PROJECT_VERSION.matcher(path).matches()) {
+                if (cursor.at(PomPath.PROJECT_VERSION)) {
                     pom.mark(1);
                     if (pom.hasMark(0) && pom.hasMark(1)) {
                         return pom.getBetween(0, 1).trim();
@@ -414,7 +357,7 @@ public final class PomHelper {
                     pom.clearMark(0);
                     pom.clearMark(1);
                 }
-                path = stack.pop();
+                cursor.exit();
             }
         }
         return null;
@@ -430,36 +373,10 @@ public final class PomHelper {
      */
     public static boolean setProjectParentVersion(final MutableXMLStreamReader pom, final String value)
             throws XMLStreamException {
-        Stack<String> stack = new Stack<>();
-        String path = "";
-        boolean madeReplacement = false;
-
-        pom.rewind();
-        while (pom.hasNext()) {
-            pom.next();
-            if (pom.isStartElement()) {
-                stack.push(path);
-                path = path + "/" + pom.getLocalName();
-
-                if (PATTERN_PROJECT_PARENT_VERSION.matcher(path).matches()) {
-                    pom.mark(0);
-                }
-            }
-            // for empty elements, pom can be both start- and end element
-            if (pom.isEndElement()) {
-                if (PATTERN_PROJECT_PARENT_VERSION.matcher(path).matches()) {
-                    pom.mark(1);
-                    if (pom.hasMark(0) && pom.hasMark(1)) {
-                        pom.replaceBetween(0, 1, value);
-                        madeReplacement = true;
-                    }
-                    pom.clearMark(0);
-                    pom.clearMark(1);
-                }
-                path = stack.pop();
-            }
-        }
-        return madeReplacement;
+        PomEditPlan plan = new PomEditPlan(pom);
+        PomEditPlan.Edit edit = plan.setProjectParentVersion(value);
+        plan.apply();
+        return edit.isApplied();
     }
 
     /**
@@ -475,7 +392,6 @@ public final class PomHelper {
      * @return <code>true</code> if a replacement was made.
      * @throws XMLStreamException if something went wrong.
      */
-    @SuppressWarnings("checkstyle:MethodLength")
     public static boolean setDependencyVersion(
             final MutableXMLStreamReader pom,
             final String groupId,
@@ -485,124 +401,10 @@ public final class PomHelper {
             final Model model,
             final Log logger)
             throws XMLStreamException {
-        Stack<String> stack = new Stack<>();
-        String path = "";
-
-        Set<String> implicitPaths = new HashSet<>(Arrays.asList(
-                "/project/parent/groupId", "/project/parent/artifactId",
-                "/project/parent/version", "/project/groupId",
-                "/project/artifactId", "/project/version"));
-        Map<String, String> implicitProperties = new HashMap<>();
-
-        for (Map.Entry<Object, Object> entry : model.getProperties().entrySet()) {
-            implicitProperties.put((String) entry.getKey(), (String) entry.getValue());
-        }
-
-        pom.rewind();
-        while (pom.hasNext()) {
-            pom.next();
-            if (pom.isStartElement()) {
-                stack.push(path);
-                path = path + "/" + pom.getLocalName();
-
-                if (implicitPaths.contains(path)) {
-                    final String elementText = pom.getElementText().trim();
-                    implicitProperties.put(path.substring(1).replace('/', '.'), elementText);
-                }
-            }
-            if (pom.isEndElement()) {
-                path = stack.pop();
-            }
-        }
-
-        for (boolean modified = true; modified; ) {
-            modified = false;
-            for (Map.Entry<String, String> entry : implicitProperties.entrySet()) {
-                if (entry.getKey().contains(".parent")) {
-                    String child = entry.getKey().replace(".parent", "");
-                    if (!implicitProperties.containsKey(child)) {
-                        implicitProperties.put(child, entry.getValue());
-                        modified = true;
-                        break;
-                    }
-                }
-            }
-        }
-
-        stack = new Stack<>();
-        path = "";
-        boolean inMatchScope = false;
-        boolean madeReplacement = false;
-        boolean haveGroupId = false;
-        boolean haveArtifactId = false;
-        boolean haveOldVersion = false;
-
-        pom.rewind();
-        while (pom.hasNext()) {
-            pom.next();
-            if (pom.isStartElement()) {
-                stack.push(path);
-                path = path + "/" + pom.getLocalName();
-
-                if (PATTERN_PROJECT_DEPENDENCY.matcher(path).matches()) {
-                    // we're in a new match scope
-                    // reset any previous partial matches
-                    inMatchScope = true;
-                    pom.clearMark(0);
-                    pom.clearMark(1);
-
-                    haveGroupId = false;
-                    haveArtifactId = false;
-                    haveOldVersion = false;
-                } else if (inMatchScope
-                        && PATTERN_PROJECT_DEPENDENCY_VERSION.matcher(path).matches()) {
-                    if ("groupId".equals(pom.getLocalName())) {
-                        haveGroupId =
-                                groupId.equals(evaluate(pom.getElementText().trim(), implicitProperties, logger));
-                    } else if ("artifactId".equals(pom.getLocalName())) {
-                        haveArtifactId =
-                                artifactId.equals(evaluate(pom.getElementText().trim(), implicitProperties, logger));
-                    } else if ("version".equals(pom.getLocalName())) {
-                        pom.mark(0);
-                    }
-                }
-            }
-            // for empty elements, pom can be both start- and end element
-            if (pom.isEndElement()) {
-                if (PATTERN_PROJECT_DEPENDENCY_VERSION.matcher(path).matches()
-                        && "version".equals(pom.getLocalName())) {
-                    pom.mark(1);
-                    String compressedPomVersion =
-                            StringUtils.deleteWhitespace(pom.getBetween(0, 1).trim());
-                    String compressedOldVersion = StringUtils.deleteWhitespace(oldVersion);
-
-                    try {
-                        haveOldVersion = isVersionOverlap(compressedOldVersion, compressedPomVersion);
-                    } catch (InvalidVersionSpecificationException e) {
-                        // fall back to string comparison
-                        haveOldVersion = compressedOldVersion.equals(compressedPomVersion);
-                    }
-                } else if (PATTERN_PROJECT_DEPENDENCY.matcher(path).matches()) {
-                    if (inMatchScope
-                            && pom.hasMark(0)
-                            && pom.hasMark(1)
-                            && haveGroupId
-                            && haveArtifactId
-                            && haveOldVersion) {
-                        pom.replaceBetween(0, 1, newVersion);
-                        madeReplacement = true;
-                    }
-                    pom.clearMark(0);
-                    pom.clearMark(1);
-                    haveArtifactId = false;
-                    haveGroupId = false;
-                    haveOldVersion = false;
-                    inMatchScope = false;
-                }
-                path = stack.pop();
-            }
-        }
-        return madeReplacement;
+        PomEditPlan plan = new PomEditPlan(pom);
+        PomEditPlan.Edit edit = plan.setDependencyVersion(groupId, artifactId, oldVersion, newVersion, model, logger);
+        plan.apply();
+        return edit.isApplied();
     }
 
     /**
@@ -731,77 +533,10 @@ public final class PomHelper {
             final String oldVersion,
             final String newVersion)
             throws XMLStreamException {
-        Stack<String> stack = new Stack<>();
-        String path = "";
-        boolean inMatchScope = false;
-        boolean madeReplacement = false;
-        boolean haveGroupId = false;
-        boolean needGroupId = groupId != null && !APACHE_MAVEN_PLUGINS_GROUPID.equals(groupId);
-        boolean haveArtifactId = false;
-        boolean haveOldVersion = false;
-
-        pom.rewind();
-        while (pom.hasNext()) {
-            pom.next();
-            if (pom.isStartElement()) {
-                stack.push(path);
-                final String elementName = pom.getLocalName();
-                path = path + "/" + elementName;
-
-                if (PATTERN_PROJECT_PLUGIN.matcher(path).matches()) {
-                    // we're in a new match scope
-                    // reset any previous partial matches
-                    inMatchScope = true;
-                    pom.clearMark(0);
-                    pom.clearMark(1);
-
-                    haveGroupId = false;
-                    haveArtifactId = false;
-                    haveOldVersion = false;
-                } else if (inMatchScope
-                        && PATTERN_PROJECT_PLUGIN_VERSION.matcher(path).matches()) {
-                    if ("groupId".equals(elementName)) {
-                        haveGroupId = pom.getElementText().trim().equals(groupId);
-                    } else if ("artifactId".equals(elementName)) {
-                        haveArtifactId = artifactId.equals(pom.getElementText().trim());
-                    } else if ("version".equals(elementName)) {
-                        pom.mark(0);
-                    }
-                }
-            }
-            // for empty elements, pom can be both start- and end element
-            if (pom.isEndElement()) {
-                if (PATTERN_PROJECT_PLUGIN_VERSION.matcher(path).matches() && "version".equals(pom.getLocalName())) {
-                    pom.mark(1);
-
-                    try {
-                        haveOldVersion = isVersionOverlap(
-                                oldVersion, pom.getBetween(0, 1).trim());
-                    } catch (InvalidVersionSpecificationException e) {
-                        // fall back to string comparison
-                        haveOldVersion = oldVersion.equals(pom.getBetween(0, 1).trim());
-                    }
-                } else if (PATTERN_PROJECT_PLUGIN.matcher(path).matches()) {
-                    if (inMatchScope
-                            && pom.hasMark(0)
-                            && pom.hasMark(1)
-                            && (haveGroupId || !needGroupId)
-                            && haveArtifactId
-                            && haveOldVersion) {
-                        pom.replaceBetween(0, 1, newVersion);
-                        madeReplacement = true;
-                        pom.clearMark(0);
-                        pom.clearMark(1);
-                        haveArtifactId = false;
-                        haveGroupId = false;
-                        haveOldVersion = false;
-                    }
-                    inMatchScope = false;
-                }
-                path = stack.pop();
-            }
-        }
-        return madeReplacement;
+        PomEditPlan plan = new PomEditPlan(pom);
+        PomEditPlan.Edit edit = plan.setPluginVersion(groupId, artifactId, oldVersion, newVersion);
+        plan.apply();
+        return edit.isApplied();
     }
 
     /**
@@ -1350,25 +1085,7 @@ public final class PomHelper {
      * @return the root node of the {@link ModelNode} of raw models relative to the project's basedir.
      */
     public static List<ModelNode> getRawModelTree(ModelNode rootNode, Log logger) throws UncheckedIOException {
-        Path baseDir = rootNode.getModel().getPomFile().getParentFile().toPath();
-        List<ModelNode> result = new ArrayList<>();
-        result.add(rootNode);
-        result.addAll(getAllChildModules(rootNode.getModel(), logger).stream()
-                .map(baseDir::resolve)
-                .map(path -> Files.isDirectory(path) ? path.resolve("pom.xml") : path)
-                .map(pomFile -> {
-                    try {
-                        MutableXMLStreamReader pom = new MutableXMLStreamReader(pomFile);
-                        return new ModelNode(rootNode, getRawModel(pom.getSource(), pomFile.toFile()), pom);
-                    } catch (IOException e) {
-                        throw new UncheckedIOException("Could not open " + pomFile, e);
-                    } catch (XMLStreamException | TransformerException e) {
-                        throw new RuntimeException("Could not parse " + pomFile, e);
-                    }
-                })
-                .flatMap(node -> getRawModelTree(node, logger).stream())
-                .collect(Collectors.toList()));
-        return result;
+        return ReactorLoader.loadModelTree(rootNode, logger);
     }
 
     /**
@@ -1412,29 +1129,7 @@ public final class PomHelper {
      * @return A map of raw models keyed by path relative to the project's basedir.
      */
     private static Map<File, Model> getChildModels(Model model, Log logger) {
-        Map<File, Model> result = new LinkedHashMap<>();
-        Map<File, Model> childResults = new LinkedHashMap<>();
-
-        File baseDir = model.getPomFile().getParentFile();
-
-        getAllChildModules(model, logger).stream()
-                .map(moduleName -> new File(baseDir, moduleName))
-                .map(file -> file.isFile() ? file : new File(file, "pom.xml"))
-                .filter(File::exists)
-                .forEach(pomFile -> {
-                    try {
-                        // the aim of this goal is to fix problems when the project cannot be parsed by Maven,
-                        // so we have to work with the raw model and not the interpolated parsed model from maven
-                        Model moduleModel = getRawModel(pomFile);
-                        result.put(pomFile, moduleModel);
-                        childResults.putAll(getChildModels(moduleModel, logger));
-                    } catch (IOException e) {
-                        throw new UncheckedIOException(e);
-                    }
-                });
-
-        result.putAll(childResults); // more efficient update order if all children are added after siblings
-        return result;
+        return ReactorLoader.loadChildModels(model, logger);
     }
 
     /**
@@ -1444,6 +1139,7 @@ public final class PomHelper {
      * @param groupId    The groupId of the parent.
      * @param artifactId The artifactId of the parent.
      * @return a map of models that have a specified groupId and artifactId as parent keyed by path.
+     * @see org.codehaus.mojo.versions.utils.ReactorIndex
      */
     public static Map<File, Model> getChildModels(Map<File, Model> reactor, String groupId, String artifactId) {
         final Map<File, Model> result = new LinkedHashMap<>();
@@ -1465,6 +1161,7 @@ public final class PomHelper {
      * @param groupId    The groupId to match.
      * @param artifactId The artifactId to match.
      * @return The model or <code>null</code> if the model was not in the reactor.
+     * @see org.codehaus.mojo.versions.utils.ReactorIndex
      */
     public static Model getModel(Map<File, Model> reactor, String groupId, String artifactId) {
         return reactor.values().stream()
@@ -1482,6 +1179,7 @@ public final class PomHelper {
      * @param groupId    The groupId to match.
      * @param artifactId The artifactId to match.
      * @return The model entry or <code>null</code> if the model was not in the reactor.
+     * @see org.codehaus.mojo.versions.utils.ReactorIndex
      */
     public static Map.Entry<File, Model> getModelEntry(Map<File, Model> reactor, String groupId, String artifactId) {
         return reactor.entrySet().stream()
@@ -1497,6 +1195,7 @@ public final class PomHelper {
      * @param reactor The map of models keyed by path.
      * @param model   The model.
      * @return The number of parents of this model in the reactor.
+     * @see org.codehaus.mojo.versions.utils.ReactorIndex
      */
     public static int getReactorParentCount(Map<File, Model> reactor, Model model) {
         if (model.getParent() == null) {
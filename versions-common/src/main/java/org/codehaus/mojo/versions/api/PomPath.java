@@ -0,0 +1,237 @@
+package org.codehaus.mojo.versions.api;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>Element paths of a POM document which are of interest when reading or editing it, compiled into a single
+ * trie of element names.</p>
+ *
+ * <p>A {@link Cursor} follows the start and end elements of a document and answers whether the current element
+ * is at one of the paths, without building path strings or running regular expressions: every step is a lookup
+ * of the (interned) element name in the children of the current state. Elements outside any of the paths lead to
+ * a dead state, which is never left until the cursor climbs back up.</p>
+ *
+ * <p>Each path is defined by a sequence of parts, where every part is a {@code |}-separated list of alternative
+ * sub-paths; an empty alternative makes a part optional. The paths correspond to the {@code PATTERN_*}
+ * expressions of {@link PomHelper}.</p>
+ *
+ * @since 2.19.0
+ */
+public enum PomPath {
+    /**
+     * {@code /project/version}, see {@link PomHelper#PATTERN_PROJECT_VERSION}
+     */
+    PROJECT_VERSION("/project/version"),
+
+    /**
+     * {@code /project/parent}
+     */
+    PROJECT_PARENT("/project/parent"),
+
+    /**
+     * {@code /project/parent/version}, see {@link PomHelper#PATTERN_PROJECT_PARENT_VERSION}
+     */
+    PROJECT_PARENT_VERSION("/project/parent/version"),
+
+    /**
+     * {@code /project/properties}, see {@link PomHelper#PATTERN_PROJECT_PROPERTIES}
+     */
+    PROJECT_PROPERTIES("/project/properties"),
+
+    /**
+     * {@code /project/prerequisites/maven}
+     */
+    PROJECT_PREREQUISITES_MAVEN("/project/prerequisites/maven"),
+
+    /**
+     * {@code /project/profiles/profile}, see {@link PomHelper#PATTERN_PROJECT_PROFILE}
+     */
+    PROJECT_PROFILE("/project/profiles/profile"),
+
+    /**
+     * {@code /project/profiles/profile/id}, see {@link PomHelper#PATTERN_PROJECT_PROFILE_ID}
+     */
+    PROJECT_PROFILE_ID("/project/profiles/profile/id"),
+
+    /**
+     * {@code /project/profiles/profile/properties}
+     */
+    PROJECT_PROFILE_PROPERTIES("/project/profiles/profile/properties"),
+
+    /**
+     * The coordinates of the project and of its parent, which are available as implicit properties
+     */
+    PROJECT_IMPLICIT_PROPERTY("/project", "|/parent", Parts.COORDINATES),
+
+    /**
+     * A dependency element, see {@link PomHelper#PATTERN_PROJECT_DEPENDENCY}
+     */
+    PROJECT_DEPENDENCY("/project", Parts.PROFILE, Parts.DEPENDENCY_CONTAINERS, "/dependencies/dependency"),
+
+    /**
+     * The coordinates of a dependency element, see {@link PomHelper#PATTERN_PROJECT_DEPENDENCY_VERSION}
+     */
+    PROJECT_DEPENDENCY_VERSION(
+            "/project", Parts.PROFILE, Parts.DEPENDENCY_CONTAINERS, "/dependencies/dependency", Parts.COORDINATES),
+
+    /**
+     * A plugin element, see {@link PomHelper#PATTERN_PROJECT_PLUGIN}
+     */
+    PROJECT_PLUGIN("/project", Parts.PROFILE, Parts.PLUGIN_CONTAINERS, "/plugins/plugin"),
+
+    /**
+     * The coordinates of a plugin element, see {@link PomHelper#PATTERN_PROJECT_PLUGIN_VERSION}
+     */
+    PROJECT_PLUGIN_VERSION("/project", Parts.PROFILE, Parts.PLUGIN_CONTAINERS, "/plugins/plugin", Parts.COORDINATES);
+
+    private static final class Parts {
+        private static final String PROFILE = "|/profiles/profile";
+
+        private static final String DEPENDENCY_CONTAINERS =
+                "|/dependencyManagement|/build/plugins/plugin|/build/pluginManagement/plugins/plugin";
+
+        private static final String PLUGIN_CONTAINERS = "/build|/build/pluginManagement|/reporting";
+
+        private static final String COORDINATES = "/groupId|/artifactId|/version";
+    }
+
+    private static final State ROOT = new State();
+
+    private static final State DEAD = new State();
+
+    static {
+        for (PomPath pomPath : values()) {
+            for (String path : pomPath.paths) {
+                State state = ROOT;
+                for (String name : path.substring(1).split("/")) {
+                    state = state.children.computeIfAbsent(name.intern(), k -> new State());
+                }
+                state.matches |= pomPath.mask();
+            }
+        }
+    }
+
+    private final List<String> paths;
+
+    PomPath(String... parts) {
+        List<String> expanded = Collections.singletonList("");
+        for (String part : parts) {
+            List<String> next = new ArrayList<>();
+            for (String prefix : expanded) {
+                for (String alternative : part.split("\\|", -1)) {
+                    next.add(prefix + alternative);
+                }
+            }
+            expanded = next;
+        }
+        this.paths = Collections.unmodifiableList(expanded);
+    }
+
+    private long mask() {
+        return 1L << ordinal();
+    }
+
+    /**
+     * @return all literal element paths matched by this path, e.g. {@code /project/profiles/profile/properties}
+     */
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    /**
+     * @return a new cursor positioned before the root element of a document
+     */
+    public static Cursor cursor() {
+        return new Cursor();
+    }
+
+    private static final class State {
+        private final Map<String, State> children = new HashMap<>();
+
+        private long matches;
+
+        State next(String name) {
+            State next = children.get(name);
+            return next != null ? next : DEAD;
+        }
+    }
+
+    /**
+     * Follows the element nesting of a document. Not thread-safe.
+     */
+    public static final class Cursor {
+        private State[] states = new State[16];
+
+        private int depth;
+
+        private Cursor() {
+            states[0] = ROOT;
+        }
+
+        /**
+         * Moves the cursor into a child element, to be called on a start element.
+         *
+         * @param localName the local name of the element
+         */
+        public void enter(String localName) {
+            if (++depth == states.length) {
+                states = Arrays.copyOf(states, depth * 2);
+            }
+            states[depth] = states[depth - 1].next(localName);
+        }
+
+        /**
+         * Moves the cursor back to the parent element, to be called on an end element.
+         */
+        public void exit() {
+            states[depth--] = null;
+        }
+
+        /**
+         * @return nesting depth of the current element, {@code 0} before the root element
+         */
+        public int getDepth() {
+            return depth;
+        }
+
+        /**
+         * @param path the path to match
+         * @return {@code true} if the current element is at the given path
+         */
+        public boolean at(PomPath path) {
+            return (states[depth].matches & path.mask()) != 0;
+        }
+
+        /**
+         * @param path the path to match
+         * @return {@code true} if the parent of the current element is at the given path
+         */
+        public boolean parentAt(PomPath path) {
+            return depth > 0 && (states[depth - 1].matches & path.mask()) != 0;
+        }
+    }
+}
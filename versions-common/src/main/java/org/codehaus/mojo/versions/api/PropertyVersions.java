@@ -70,41 +70,58 @@ public class PropertyVersions extends AbstractVersionDetails {
 
     private final PropertyVersions.PropertyVersionComparator comparator;
 
+    /**
+     * Sorted available versions, without and with snapshots, computed on first use
+     */
+    private final ArtifactVersion[][] versionIndex = new ArtifactVersion[2][];
+
     PropertyVersions(String profileId, String name, VersionsHelper helper, Set<ArtifactAssociation> associations)
             throws VersionRetrievalException {
+        this(
+                profileId,
+                name,
+                helper,
+                associations,
+                association -> helper.lookupArtifactVersions(
+                        association.getArtifact(), association.isUsePluginRepositories()));
+    }
+
+    PropertyVersions(
+            String profileId,
+            String name,
+            VersionsHelper helper,
+            Set<ArtifactAssociation> associations,
+            AssociationLookup lookup)
+            throws VersionRetrievalException {
         this.profileId = profileId;
         this.name = name;
         this.helper = helper;
         this.associations = new TreeSet<>(associations);
         this.comparator = new PropertyVersionComparator();
-        this.versions = resolveAssociatedVersions(helper, associations, comparator);
+        this.versions = resolveAssociatedVersions(lookup, associations, comparator);
+    }
+
+    /**
+     * Looks up the available versions of an associated artifact.
+     *
+     * @since 2.19.0
+     */
+    @FunctionalInterface
+    interface AssociationLookup {
+        ArtifactVersions lookup(ArtifactAssociation association) throws VersionRetrievalException;
     }
 
     private static SortedSet<ArtifactVersion> resolveAssociatedVersions(
-            VersionsHelper helper, Set<ArtifactAssociation> associations, VersionComparator versionComparator)
+            AssociationLookup lookup, Set<ArtifactAssociation> associations, VersionComparator versionComparator)
             throws VersionRetrievalException {
         SortedSet<ArtifactVersion> versions = null;
         for (ArtifactAssociation association : associations) {
-            final ArtifactVersions associatedVersions =
-                    helper.lookupArtifactVersions(association.getArtifact(), association.isUsePluginRepositories());
+            final ArtifactVersions associatedVersions = lookup.lookup(association);
             if (versions != null) {
-                final ArtifactVersion[] artifactVersions = associatedVersions.getVersions(true);
-                // since ArtifactVersion does not override equals, we have to do this the hard way
-                // result.retainAll( Arrays.asList( artifactVersions ) );
-                Iterator<ArtifactVersion> j = versions.iterator();
-                while (j.hasNext()) {
-                    boolean contains = false;
-                    ArtifactVersion version = j.next();
-                    for (ArtifactVersion artifactVersion : artifactVersions) {
-                        if (version.compareTo(artifactVersion) == 0) {
-                            contains = true;
-                            break;
-                        }
-                    }
-                    if (!contains) {
-                        j.remove();
-                    }
-                }
+                // since ArtifactVersion does not override equals, the versions are matched by their natural order
+                final Set<ArtifactVersion> artifactVersions =
+                        new TreeSet<>(Arrays.asList(associatedVersions.getVersions(true)));
+                versions.removeIf(version -> !artifactVersions.contains(version));
             } else {
                 versions = new TreeSet<>(versionComparator);
                 versions.addAll(Arrays.asList(associatedVersions.getVersions(true)));
@@ -202,7 +219,20 @@ public class PropertyVersions extends AbstractVersionDetails {
      * @param includeSnapshots Whether to include snapshot versions in our search.
      * @return The (possibly empty) array of versions.
      */
-    public synchronized ArtifactVersion[] getVersions(boolean includeSnapshots) {
+    public ArtifactVersion[] getVersions(boolean includeSnapshots) {
+        return getVersionIndex(includeSnapshots).clone();
+    }
+
+    @Override
+    protected synchronized ArtifactVersion[] getVersionIndex(boolean includeSnapshots) {
+        int slot = includeSnapshots ? 1 : 0;
+        if (versionIndex[slot] == null) {
+            versionIndex[slot] = resolveVersions(includeSnapshots);
+        }
+        return versionIndex[slot];
+    }
+
+    private ArtifactVersion[] resolveVersions(boolean includeSnapshots) {
         Set<ArtifactVersion> result;
         if (includeSnapshots) {
             result = versions;
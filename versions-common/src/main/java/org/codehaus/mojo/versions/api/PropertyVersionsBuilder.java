@@ -85,7 +85,22 @@ public class PropertyVersionsBuilder {
     }
 
     public PropertyVersions build() throws VersionRetrievalException {
-        PropertyVersions instance = new PropertyVersions(profileId, name, helper, associations);
+        return initialize(new PropertyVersions(profileId, name, helper, associations));
+    }
+
+    /**
+     * Builds the {@link PropertyVersions} using the given lookup for the versions of the associated artifacts.
+     *
+     * @param lookup lookup of the versions of the associated artifacts
+     * @return the property versions
+     * @throws VersionRetrievalException thrown if the lookup fails
+     * @since 2.19.0
+     */
+    PropertyVersions build(PropertyVersions.AssociationLookup lookup) throws VersionRetrievalException {
+        return initialize(new PropertyVersions(profileId, name, helper, associations, lookup));
+    }
+
+    private PropertyVersions initialize(PropertyVersions instance) {
         instance.setCurrentVersion(currentVersion);
         instance.setCurrentVersionRange(currentVersionRange);
         return instance;
@@ -0,0 +1,231 @@
+package org.codehaus.mojo.versions.api;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.maven.model.Model;
+import org.apache.maven.plugin.logging.Log;
+import org.codehaus.mojo.versions.utils.ModelNode;
+
+/**
+ * <p>Loads the raw models of a reactor, walking the {@code <modules>} of the models (including those defined
+ * in profiles) concurrently in a fork-join pool.</p>
+ *
+ * <p>The order of the results is the same as in a sequential walk: sibling modules are visited in the sorted order
+ * of {@link PomHelper#getAllChildModules(Model, Log)}. The worker threads inherit the context class loader of the
+ * caller so that XML parser factories are looked up in the plugin realm.</p>
+ *
+ * @since 2.19.0
+ */
+final class ReactorLoader {
+    private ReactorLoader() {}
+
+    /**
+     * Loads the models of all modules of the given model, recursively.
+     *
+     * @param model  the root model
+     * @param logger the logger for logging
+     * @return a map of raw models keyed by module path: the direct modules first, followed by their
+     * respective sub-modules
+     * @throws UncheckedIOException thrown if a module cannot be read
+     */
+    static Map<File, Model> loadChildModels(Model model, Log logger) {
+        if (!hasModules(model)) {
+            return new LinkedHashMap<>();
+        }
+        return invoke(new ChildModelsTask(model, logger));
+    }
+
+    /**
+     * Loads the {@link ModelNode} tree of the given root node.
+     *
+     * @param rootNode the root node of the reactor
+     * @param logger   the logger for logging
+     * @return all nodes of the tree in depth-first visiting order, starting with the root node
+     * @throws UncheckedIOException thrown if a module cannot be read
+     */
+    static List<ModelNode> loadModelTree(ModelNode rootNode, Log logger) {
+        if (!hasModules(rootNode.getModel())) {
+            List<ModelNode> result = new ArrayList<>();
+            result.add(rootNode);
+            return result;
+        }
+        return invoke(new ModelTreeTask(rootNode, logger));
+    }
+
+    private static boolean hasModules(Model model) {
+        return !model.getModules().isEmpty()
+                || model.getProfiles().stream()
+                        .anyMatch(profile -> !profile.getModules().isEmpty());
+    }
+
+    private static <T> T invoke(ForkJoinTask<T> task) {
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        ForkJoinPool pool = new ForkJoinPool(
+                Runtime.getRuntime().availableProcessors(),
+                p -> {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+                    thread.setName("versions-reactor-loader-" + thread.getPoolIndex());
+                    thread.setContextClassLoader(contextClassLoader);
+                    return thread;
+                },
+                null,
+                false);
+        try {
+            return pool.invoke(task);
+        } catch (RuntimeException e) {
+            // the pool may wrap exceptions thrown by a worker in a new instance of the same type
+            if (e.getCause() != null && e.getCause().getClass() == e.getClass()) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static <T> List<T> forkAll(List<? extends ForkJoinTask<T>> tasks) {
+        ForkJoinTask.invokeAll(tasks);
+        return tasks.stream().map(ForkJoinTask::join).collect(Collectors.toList());
+    }
+
+    private static <T> List<T> mapModules(Model model, Log logger, Function<Path, T> mapper) {
+        Path baseDir = model.getPomFile().getParentFile().toPath();
+        return PomHelper.getAllChildModules(model, logger).stream()
+                .map(baseDir::resolve)
+                .map(path -> Files.isDirectory(path) ? path.resolve("pom.xml") : path)
+                .map(mapper)
+                .collect(Collectors.toList());
+    }
+
+    private static class ChildModelsTask extends RecursiveTask<Map<File, Model>> {
+        private final Model model;
+
+        private final Log logger;
+
+        ChildModelsTask(Model model, Log logger) {
+            this.model = model;
+            this.logger = logger;
+        }
+
+        @Override
+        protected Map<File, Model> compute() {
+            List<ModuleTask> modules = mapModules(model, logger, Path::toFile).stream()
+                    .filter(File::exists)
+                    .map(pomFile -> new ModuleTask(pomFile, logger))
+                    .collect(Collectors.toList());
+
+            Map<File, Model> result = new LinkedHashMap<>();
+            Map<File, Model> childResults = new LinkedHashMap<>();
+            for (Map.Entry<Model, Map<File, Model>> module : forkAll(modules)) {
+                result.put(module.getKey().getPomFile(), module.getKey());
+                childResults.putAll(module.getValue());
+            }
+            result.putAll(childResults); // more efficient update order if all children are added after siblings
+            return result;
+        }
+    }
+
+    private static class ModuleTask extends RecursiveTask<Map.Entry<Model, Map<File, Model>>> {
+        private final File pomFile;
+
+        private final Log logger;
+
+        ModuleTask(File pomFile, Log logger) {
+            this.pomFile = pomFile;
+            this.logger = logger;
+        }
+
+        @Override
+        protected Map.Entry<Model, Map<File, Model>> compute() {
+            try {
+                // the aim of this goal is to fix problems when the project cannot be parsed by Maven,
+                // so we have to work with the raw model and not the interpolated parsed model from maven
+                Model moduleModel = PomHelper.getRawModel(pomFile);
+                Map<File, Model> children = hasModules(moduleModel)
+                        ? new ChildModelsTask(moduleModel, logger).compute()
+                        : new LinkedHashMap<>();
+                return new AbstractMap.SimpleImmutableEntry<>(moduleModel, children);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static class ModelTreeTask extends RecursiveTask<List<ModelNode>> {
+        private final ModelNode parent;
+
+        private final Path pomFile;
+
+        private final Log logger;
+
+        private ModelNode node;
+
+        ModelTreeTask(ModelNode node, Log logger) {
+            this(null, null, logger);
+            this.node = node;
+        }
+
+        private ModelTreeTask(ModelNode parent, Path pomFile, Log logger) {
+            this.parent = parent;
+            this.pomFile = pomFile;
+            this.logger = logger;
+        }
+
+        @Override
+        protected List<ModelNode> compute() {
+            if (node == null) {
+                node = load(parent, pomFile);
+            }
+            List<ModelNode> result = new ArrayList<>();
+            result.add(node);
+            if (hasModules(node.getModel())) {
+                forkAll(mapModules(node.getModel(), logger, path -> new ModelTreeTask(node, path, logger)))
+                        .forEach(result::addAll);
+            }
+            return result;
+        }
+
+        private static ModelNode load(ModelNode parent, Path pomFile) {
+            try {
+                // only the model is parsed here, the document is opened once the node is processed
+                return new ModelNode(parent, PomHelper.getRawModel(pomFile.toFile()));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not open " + pomFile, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package org.codehaus.mojo.versions.api;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.codehaus.mojo.versions.model.Rule;
+import org.codehaus.mojo.versions.utils.RegexUtils;
+
+/**
+ * <p>Compiled form of the rules of a {@link org.codehaus.mojo.versions.model.RuleSet}, selecting the best fitting
+ * rule of an artifact without evaluating every rule of the set.</p>
+ *
+ * <p>The wildcard scores and match patterns of the rules are computed once. Rules with a literal groupId and
+ * artifactId are kept in a hash map, since such a rule always wins for its artifact. All rules are also kept in
+ * a trie keyed by the literal prefix of their groupId (the part before the first wildcard): only the rules found on
+ * the path of the groupId of an artifact can match it, and these candidates are then scored exactly like
+ * {@link DefaultVersionsHelper#getBestFitRule(String, String)} always did, in the order of the rule set.</p>
+ *
+ * @since 2.19.0
+ */
+final class RuleIndex {
+    private final Map<String, Rule> exactRules = new HashMap<>();
+
+    private final Node root = new Node();
+
+    private final boolean empty;
+
+    /**
+     * Compiles the given rules.
+     *
+     * @param rules the rules, in the order of the rule set
+     */
+    RuleIndex(List<Rule> rules) {
+        empty = rules.isEmpty();
+        for (int i = 0; i < rules.size(); i++) {
+            CompiledRule compiled = new CompiledRule(i, rules.get(i));
+            if (compiled.isLiteral()) {
+                // the last literal rule wins, as the scoring gives precedence to later rules with the same score
+                exactRules.put(key(compiled.rule.getGroupId(), compiled.rule.getArtifactId()), compiled.rule);
+            }
+            Node node = root;
+            for (char c : compiled.groupId.prefix.toCharArray()) {
+                node = node.children.computeIfAbsent(c, k -> new Node());
+            }
+            node.rules.add(compiled);
+        }
+    }
+
+    private static String key(String groupId, String artifactId) {
+        return groupId + ':' + artifactId;
+    }
+
+    /**
+     * Finds the rule, if any, which best fits the artifact details given.
+     *
+     * @param groupId    group id of the artifact
+     * @param artifactId artifact id of the artifact
+     * @return rule which best describes the given artifact, or {@code null} if no rule matches
+     */
+    Rule getBestFitRule(String groupId, String artifactId) {
+        if (empty) {
+            return null;
+        }
+        Rule exactRule = exactRules.get(key(groupId, artifactId));
+        if (exactRule != null) {
+            return exactRule;
+        }
+
+        List<CompiledRule> candidates = new ArrayList<>(root.rules);
+        Node node = root;
+        for (int i = 0; i < groupId.length() && node != null; i++) {
+            node = node.children.get(groupId.charAt(i));
+            if (node != null) {
+                candidates.addAll(node.rules);
+            }
+        }
+        candidates.sort(Comparator.comparingInt(c -> c.index));
+
+        Rule bestFit = null;
+        int bestGroupIdScore = Integer.MAX_VALUE;
+        int bestArtifactIdScore = Integer.MAX_VALUE;
+        boolean exactGroupId = false;
+        boolean exactArtifactId = false;
+        for (CompiledRule candidate : candidates) {
+            if (candidate.groupIdScore > bestGroupIdScore) {
+                continue;
+            }
+            boolean exactMatch = candidate.groupId.exactMatch(groupId);
+            boolean match = exactMatch || candidate.groupId.match(groupId);
+            if (!match || (exactGroupId && !exactMatch)) {
+                continue;
+            }
+            if (bestGroupIdScore > candidate.groupIdScore) {
+                bestArtifactIdScore = Integer.MAX_VALUE;
+                exactArtifactId = false;
+            }
+            bestGroupIdScore = candidate.groupIdScore;
+            if (exactMatch && !exactGroupId) {
+                exactGroupId = true;
+                bestArtifactIdScore = Integer.MAX_VALUE;
+                exactArtifactId = false;
+            }
+            if (candidate.artifactIdScore > bestArtifactIdScore) {
+                continue;
+            }
+            exactMatch = candidate.artifactId.exactMatch(artifactId);
+            match = exactMatch || candidate.artifactId.match(artifactId);
+            if (!match || (exactArtifactId && !exactMatch)) {
+                continue;
+            }
+            bestArtifactIdScore = candidate.artifactIdScore;
+            if (exactMatch && !exactArtifactId) {
+                exactArtifactId = true;
+            }
+            bestFit = candidate.rule;
+        }
+        return bestFit;
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+
+        private final List<CompiledRule> rules = new ArrayList<>();
+    }
+
+    private static class CompiledRule {
+        private final int index;
+
+        private final Rule rule;
+
+        private final int groupIdScore;
+
+        private final int artifactIdScore;
+
+        private final WildcardPattern groupId;
+
+        private final WildcardPattern artifactId;
+
+        CompiledRule(int index, Rule rule) {
+            this.index = index;
+            this.rule = rule;
+            this.groupIdScore = RegexUtils.getWildcardScore(rule.getGroupId());
+            this.artifactIdScore = RegexUtils.getWildcardScore(rule.getArtifactId());
+            this.groupId = new WildcardPattern(rule.getGroupId());
+            this.artifactId = new WildcardPattern(rule.getArtifactId());
+        }
+
+        boolean isLiteral() {
+            return rule.getGroupId() != null
+                    && rule.getArtifactId() != null
+                    && groupId.isLiteral()
+                    && artifactId.isLiteral();
+        }
+    }
+
+    /**
+     * Wildcard rule with the semantics of {@link DefaultVersionsHelper#exactMatch(String, String)} and
+     * {@link DefaultVersionsHelper#match(String, String)}, compiled once.
+     */
+    private static class WildcardPattern {
+        private final String prefix;
+
+        private final boolean literal;
+
+        private final Pattern exactPattern;
+
+        private final Pattern pattern;
+
+        WildcardPattern(String wildcardRule) {
+            String rule = wildcardRule == null ? "" : wildcardRule;
+            int wildcard = 0;
+            while (wildcard < rule.length() && rule.charAt(wildcard) != '?' && rule.charAt(wildcard) != '*') {
+                wildcard++;
+            }
+            prefix = rule.substring(0, wildcard);
+            literal = wildcard == rule.length();
+            exactPattern = literal ? null : Pattern.compile(RegexUtils.convertWildcardsToRegex(rule, true));
+            pattern = Pattern.compile(RegexUtils.convertWildcardsToRegex(rule, false));
+        }
+
+        boolean isLiteral() {
+            return literal;
+        }
+
+        boolean exactMatch(String value) {
+            return literal ? prefix.equals(value) : exactPattern.matcher(value).matches();
+        }
+
+        boolean match(String value) {
+            return pattern.matcher(value).matches();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package org.codehaus.mojo.versions.api;
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Optional;
+
+import org.apache.maven.artifact.versioning.ArtifactVersion;
+
+/**
+ * Immutable summary of the newest updates of the current version within each of the update scopes,
+ * computed at once by {@link AbstractVersionDetails#getUpdateSummary(boolean)}.
+ *
+ * @since 2.19.0
+ */
+public final class UpdateSummary {
+    /**
+     * Newest updates: the first element holds the newest update of any scope, the following elements
+     * the newest updates within the respective {@link Segment}
+     */
+    private final ArtifactVersion[] newestUpdates;
+
+    UpdateSummary(ArtifactVersion[] newestUpdates) {
+        this.newestUpdates = newestUpdates;
+    }
+
+    /**
+     * Returns the newest update within the given update scope.
+     *
+     * @param updateScope update scope; {@link Optional#empty()} means any update
+     * @return the newest update within the given scope or {@code null} if no update is available
+     */
+    public ArtifactVersion getNewestUpdate(Optional<Segment> updateScope) {
+        return newestUpdates[index(updateScope)];
+    }
+
+    /**
+     * Returns the newest update within the given update scope.
+     *
+     * @param updateScope update scope
+     * @return the newest update within the given scope or {@code null} if no update is available
+     */
+    public ArtifactVersion getNewestUpdate(Segment updateScope) {
+        return getNewestUpdate(Optional.of(updateScope));
+    }
+
+    static int index(Optional<Segment> updateScope) {
+        return updateScope.map(s -> s.value() + 1).orElse(0);
+    }
+
+    static int size() {
+        return Segment.values().length + 1;
+    }
+}
@@ -275,6 +275,20 @@ public interface VersionsHelper {
     Map<Property, PropertyVersions> getVersionPropertiesMap(VersionPropertiesMapRequest request)
             throws MojoExecutionException;
 
+    /**
+     * Returns the maps of {@link #getVersionPropertiesMap(VersionPropertiesMapRequest)} for several requests,
+     * e.g. for all projects of a reactor, looking up each artifact associated with the properties of any
+     * of the requests only once, in a single concurrent batch.
+     *
+     * @param requests the requests
+     * @return the maps of {@link org.codehaus.mojo.versions.api.PropertyVersions} values keyed by
+     *         {@link Property} instances, in the order of the requests
+     * @throws MojoExecutionException if something goes wrong.
+     * @since 2.19.0
+     */
+    List<Map<Property, PropertyVersions>> getVersionPropertiesMaps(List<VersionPropertiesMapRequest> requests)
+            throws MojoExecutionException;
+
     /**
      * Argument builder class for
      * {@link VersionsHelper#getVersionPropertiesMap(VersionPropertiesMapRequest)}.
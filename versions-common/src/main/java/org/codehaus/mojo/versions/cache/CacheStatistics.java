@@ -0,0 +1,74 @@
+package org.codehaus.mojo.versions.cache;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe hit/miss/stale counters of a cache. The counters are updated on every lookup, possibly by many
+ * threads at once, and only read for reporting, so they are {@link LongAdder}s.
+ *
+ * @since 2.19.0
+ */
+public class CacheStatistics {
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder stale = new LongAdder();
+
+    /**
+     * Records a lookup answered from the cache
+     */
+    public void hit() {
+        hits.increment();
+    }
+
+    /**
+     * Records a lookup for which the cache held no entry
+     */
+    public void miss() {
+        misses.increment();
+    }
+
+    /**
+     * Records a lookup for which the cache held an expired entry
+     */
+    public void stale() {
+        stale.increment();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getStale() {
+        return stale.sum();
+    }
+
+    @Override
+    public String toString() {
+        return getHits() + " hit(s), " + getMisses() + " miss(es), " + getStale() + " stale";
+    }
+}
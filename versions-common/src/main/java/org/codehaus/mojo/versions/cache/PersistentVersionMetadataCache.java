@@ -0,0 +1,174 @@
+package org.codehaus.mojo.versions.cache;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+
+import org.apache.maven.plugin.logging.Log;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * <p>{@link VersionMetadataCache} persisting the resolved version lists to disk so that they can be
+ * reused by subsequent builds, as long as they are not older than the configured time-to-live.</p>
+ *
+ * <p>Entries are stored as one properties file per key, in a {@code groupId/artifactId} directory
+ * structure below the cache directory. In offline mode, expired entries are still served.</p>
+ *
+ * @since 2.19.0
+ */
+public class PersistentVersionMetadataCache implements VersionMetadataCache {
+    private static final String KEY = "key";
+
+    private static final String TIMESTAMP = "timestamp";
+
+    private static final String VERSIONS = "versions";
+
+    private static final String SEPARATOR = ",";
+
+    private final Path directory;
+
+    private final Duration timeToLive;
+
+    private final boolean offline;
+
+    private final Log log;
+
+    private final Clock clock;
+
+    private final CacheStatistics statistics = new CacheStatistics();
+
+    /**
+     * Creates a new instance
+     *
+     * @param directory directory holding the cache entries
+     * @param timeToLive maximum age of an entry which is still considered valid
+     * @param offline if {@code true}, expired entries are still served
+     * @param log log to report cache problems to
+     */
+    public PersistentVersionMetadataCache(Path directory, Duration timeToLive, boolean offline, Log log) {
+        this(directory, timeToLive, offline, log, Clock.systemUTC());
+    }
+
+    PersistentVersionMetadataCache(Path directory, Duration timeToLive, boolean offline, Log log, Clock clock) {
+        this.directory = directory;
+        this.timeToLive = timeToLive;
+        this.offline = offline;
+        this.log = log;
+        this.clock = clock;
+    }
+
+    @Override
+    public Optional<List<String>> get(Key key) {
+        Path file = getFile(key);
+        if (!Files.isRegularFile(file)) {
+            statistics.miss();
+            return Optional.empty();
+        }
+        Properties entry = new Properties();
+        try (InputStream is = Files.newInputStream(file)) {
+            entry.load(is);
+        } catch (IOException e) {
+            log.debug("Unable to read version metadata cache entry " + file + ": " + e.getMessage());
+            statistics.miss();
+            return Optional.empty();
+        }
+        if (!key.toString().equals(entry.getProperty(KEY)) || entry.getProperty(VERSIONS) == null) {
+            // hash collision or corrupted entry
+            statistics.miss();
+            return Optional.empty();
+        }
+        long timestamp;
+        try {
+            timestamp = Long.parseLong(entry.getProperty(TIMESTAMP, "0"));
+        } catch (NumberFormatException e) {
+            timestamp = 0L;
+        }
+        if (clock.millis() - timestamp > timeToLive.toMillis()) {
+            statistics.stale();
+            if (!offline) {
+                return Optional.empty();
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("Offline: using expired version metadata cache entry for " + key);
+            }
+        } else {
+            statistics.hit();
+        }
+        String versions = entry.getProperty(VERSIONS);
+        return Optional.of(
+                versions.isEmpty()
+                        ? Collections.emptyList()
+                        : Collections.unmodifiableList(Arrays.asList(versions.split(SEPARATOR))));
+    }
+
+    @Override
+    public void put(Key key, List<String> versions) {
+        Path file = getFile(key);
+        Properties entry = new Properties();
+        entry.setProperty(KEY, key.toString());
+        entry.setProperty(TIMESTAMP, String.valueOf(clock.millis()));
+        entry.setProperty(VERSIONS, String.join(SEPARATOR, versions));
+        try {
+            Files.createDirectories(file.getParent());
+            Path tempFile =
+                    Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try {
+                try (OutputStream os = Files.newOutputStream(tempFile)) {
+                    entry.store(os, null);
+                }
+                try {
+                    Files.move(tempFile, file, ATOMIC_MOVE, REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tempFile, file, REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException e) {
+            log.debug("Unable to write version metadata cache entry " + file + ": " + e.getMessage());
+        }
+    }
+
+    @Override
+    public CacheStatistics getStatistics() {
+        return statistics;
+    }
+
+    private Path getFile(Key key) {
+        return directory
+                .resolve(key.getGroupId())
+                .resolve(key.getArtifactId())
+                .resolve(String.format("%08x.properties", (key.getVersionRange() + key.getRepositories()).hashCode()));
+    }
+}
@@ -0,0 +1,179 @@
+package org.codehaus.mojo.versions.cache;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.maven.artifact.ArtifactUtils;
+import org.apache.maven.plugin.logging.Log;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * <p>Persistent index of the Maven version prerequisites ({@code <prerequisites><maven>}) of plugin releases,
+ * sparing the resolution and building of the plugin POMs to read them.</p>
+ *
+ * <p>The POM of a released version never changes, so the entries never expire; snapshot versions are not cached.
+ * Entries are stored as one properties file per plugin, mapping its versions to their prerequisite, in the
+ * {@code groupId/artifactId} directory structure shared with {@link PersistentVersionMetadataCache}. The file of
+ * a plugin is read once; new entries are kept in memory until the plugin is {@linkplain #flush(String, String)
+ * flushed}, and then merged with the entries written by concurrent builds in the meantime.</p>
+ *
+ * @since 2.19.0
+ */
+public class PluginPrerequisitesCache {
+    private static final String FILE_NAME = "prerequisites.properties";
+
+    private final Path directory;
+
+    private final Log log;
+
+    private final Map<String, Properties> plugins = new ConcurrentHashMap<>();
+
+    private final Set<String> modified = ConcurrentHashMap.newKeySet();
+
+    private final CacheStatistics statistics = new CacheStatistics();
+
+    /**
+     * Creates a new instance
+     *
+     * @param directory directory holding the cache entries
+     * @param log log to report cache problems to
+     */
+    public PluginPrerequisitesCache(Path directory, Log log) {
+        this.directory = directory;
+        this.log = log;
+    }
+
+    /**
+     * Returns the cached Maven version prerequisite of the given plugin version.
+     *
+     * @param groupId groupId of the plugin
+     * @param artifactId artifactId of the plugin
+     * @param version version of the plugin
+     * @return the required Maven version, an empty string if the plugin has no Maven prerequisite,
+     * or {@link Optional#empty()} if the version is not in the cache
+     */
+    public Optional<String> get(String groupId, String artifactId, String version) {
+        if (ArtifactUtils.isSnapshot(version)) {
+            return Optional.empty();
+        }
+        Optional<String> prerequisite =
+                Optional.ofNullable(getEntries(groupId, artifactId).getProperty(version));
+        if (prerequisite.isPresent()) {
+            statistics.hit();
+        } else {
+            statistics.miss();
+        }
+        return prerequisite;
+    }
+
+    /**
+     * Stores the Maven version prerequisite of the given plugin version. The entry is only written to disk once
+     * the plugin is {@linkplain #flush(String, String) flushed}.
+     *
+     * @param groupId groupId of the plugin
+     * @param artifactId artifactId of the plugin
+     * @param version version of the plugin
+     * @param mavenVersion the required Maven version, or {@code null} if the plugin has no Maven prerequisite
+     */
+    public void put(String groupId, String artifactId, String version, String mavenVersion) {
+        if (ArtifactUtils.isSnapshot(version)) {
+            return;
+        }
+        getEntries(groupId, artifactId).setProperty(version, mavenVersion == null ? "" : mavenVersion);
+        modified.add(ArtifactUtils.versionlessKey(groupId, artifactId));
+    }
+
+    /**
+     * Writes the entries stored for the given plugin since it was last flushed, if any.
+     *
+     * @param groupId groupId of the plugin
+     * @param artifactId artifactId of the plugin
+     */
+    public void flush(String groupId, String artifactId) {
+        if (!modified.remove(ArtifactUtils.versionlessKey(groupId, artifactId))) {
+            return;
+        }
+        Properties entries = getEntries(groupId, artifactId);
+        Path file = getFile(groupId, artifactId);
+        synchronized (entries) {
+            try {
+                Files.createDirectories(file.getParent());
+                Properties merged = read(file);
+                merged.putAll(entries);
+                Path tempFile = Files.createTempFile(file.getParent(), FILE_NAME, ".tmp");
+                try {
+                    try (OutputStream os = Files.newOutputStream(tempFile)) {
+                        merged.store(os, null);
+                    }
+                    try {
+                        Files.move(tempFile, file, ATOMIC_MOVE, REPLACE_EXISTING);
+                    } catch (AtomicMoveNotSupportedException e) {
+                        Files.move(tempFile, file, REPLACE_EXISTING);
+                    }
+                } finally {
+                    Files.deleteIfExists(tempFile);
+                }
+            } catch (IOException e) {
+                log.debug("Unable to write plugin prerequisites cache entry " + file + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * @return statistics of the lookups of this instance
+     */
+    public CacheStatistics getStatistics() {
+        return statistics;
+    }
+
+    private Properties getEntries(String groupId, String artifactId) {
+        return plugins.computeIfAbsent(
+                ArtifactUtils.versionlessKey(groupId, artifactId), k -> read(getFile(groupId, artifactId)));
+    }
+
+    private Properties read(Path file) {
+        Properties entries = new Properties();
+        if (Files.isRegularFile(file)) {
+            try (InputStream is = Files.newInputStream(file)) {
+                entries.load(is);
+            } catch (IOException e) {
+                log.debug("Unable to read plugin prerequisites cache entry " + file + ": " + e.getMessage());
+            }
+        }
+        return entries;
+    }
+
+    private Path getFile(String groupId, String artifactId) {
+        return directory.resolve(groupId).resolve(artifactId).resolve(FILE_NAME);
+    }
+}
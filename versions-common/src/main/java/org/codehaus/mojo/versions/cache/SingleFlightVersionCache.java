@@ -0,0 +1,148 @@
+package org.codehaus.mojo.versions.cache;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.aether.RepositorySystemSession;
+
+/**
+ * <p>In-memory, session-scoped memo of resolved version lists.</p>
+ *
+ * <p>Concurrent requests for the same {@link VersionMetadataCache.Key} share a single in-flight
+ * resolution, and completed results are kept for the rest of the Maven session. Failed resolutions
+ * are not memoized. The memo is stored in the session data of the {@link RepositorySystemSession}
+ * using JDK types only, so that it may be shared by all goals, reports and enforcer rules.</p>
+ *
+ * @since 2.19.0
+ */
+public class SingleFlightVersionCache {
+    private static final String SESSION_KEY = SingleFlightVersionCache.class.getName();
+
+    private final ConcurrentMap<String, CompletableFuture<List<String>>> entries;
+
+    private final AtomicLong requests = new AtomicLong();
+
+    private final AtomicLong resolutions = new AtomicLong();
+
+    /**
+     * Function resolving the version list of a key
+     *
+     * @param <E> exception type thrown by the function
+     */
+    @FunctionalInterface
+    public interface Resolver<E extends Exception> {
+        List<String> resolve() throws E;
+    }
+
+    private SingleFlightVersionCache(ConcurrentMap<String, CompletableFuture<List<String>>> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Returns the memo of the given session, creating it if it doesn't exist yet.
+     *
+     * @param session repository session to store the memo in; if {@code null}, a memo private to
+     *                the caller is created
+     * @return memo instance
+     */
+    @SuppressWarnings("unchecked")
+    public static SingleFlightVersionCache forSession(RepositorySystemSession session) {
+        if (session == null || session.getData() == null) {
+            return new SingleFlightVersionCache(new ConcurrentHashMap<>());
+        }
+        Object existing = session.getData().get(SESSION_KEY);
+        while (!(existing instanceof ConcurrentMap)) {
+            session.getData().set(SESSION_KEY, existing, new ConcurrentHashMap<>());
+            existing = session.getData().get(SESSION_KEY);
+        }
+        return new SingleFlightVersionCache((ConcurrentMap<String, CompletableFuture<List<String>>>) existing);
+    }
+
+    /**
+     * Returns the version list for the given key: memoized, awaited from a concurrent resolution of
+     * the same key, or resolved using the given resolver.
+     *
+     * @param <E> exception type thrown by the resolver
+     * @param key key of the version list
+     * @param resolver function resolving the version list
+     * @return version list
+     * @throws E thrown by the resolver, also if thrown in a concurrent resolution of the same key
+     */
+    @SuppressWarnings("unchecked")
+    public <E extends Exception> List<String> get(VersionMetadataCache.Key key, Resolver<E> resolver) throws E {
+        requests.incrementAndGet();
+        String id = key.toString();
+        CompletableFuture<List<String>> future = new CompletableFuture<>();
+        CompletableFuture<List<String>> existing = entries.putIfAbsent(id, future);
+        if (existing == null) {
+            resolutions.incrementAndGet();
+            try {
+                List<String> result = resolver.resolve();
+                future.complete(result);
+                return result;
+            } catch (Exception | Error e) {
+                entries.remove(id, future);
+                future.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return existing.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the versions of " + key, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw (E) e.getCause();
+        }
+    }
+
+    /**
+     * @return number of requests served by this instance
+     */
+    public long getRequests() {
+        return requests.get();
+    }
+
+    /**
+     * @return number of requests of this instance which required a resolution
+     */
+    public long getResolutions() {
+        return resolutions.get();
+    }
+
+    @Override
+    public String toString() {
+        long requestCount = getRequests();
+        return requestCount + " request(s), " + getResolutions() + " resolution(s), dedup ratio "
+                + (requestCount == 0 ? 0 : (100 * (requestCount - getResolutions()) / requestCount)) + "%";
+    }
+}
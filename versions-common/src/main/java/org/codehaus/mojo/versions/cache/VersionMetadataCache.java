@@ -0,0 +1,136 @@
+package org.codehaus.mojo.versions.cache;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.eclipse.aether.repository.RemoteRepository;
+
+/**
+ * Cache of resolved version lists, used by {@link org.codehaus.mojo.versions.api.DefaultVersionsHelper}
+ * to avoid repeated version range resolution of the same artifact.
+ *
+ * @since 2.19.0
+ */
+public interface VersionMetadataCache {
+
+    /**
+     * Returns the cached version list for the given key, if the cache holds a usable entry for it.
+     *
+     * @param key cache key
+     * @return cached versions, in the order returned by the resolver, or {@link Optional#empty()}
+     */
+    Optional<List<String>> get(Key key);
+
+    /**
+     * Stores the version list resolved for the given key.
+     *
+     * @param key cache key
+     * @param versions resolved versions, in the order returned by the resolver
+     */
+    void put(Key key, List<String> versions);
+
+    /**
+     * @return statistics of the cache usage so far
+     */
+    CacheStatistics getStatistics();
+
+    /**
+     * Key of a cache entry: the artifact coordinates, the requested version range
+     * and the set of repositories the versions were resolved from.
+     */
+    final class Key {
+        private final String groupId;
+
+        private final String artifactId;
+
+        private final String versionRange;
+
+        private final List<String> repositories;
+
+        private final int hashCode;
+
+        /**
+         * Creates a new key
+         *
+         * @param groupId groupId of the artifact
+         * @param artifactId artifactId of the artifact
+         * @param versionRange version range specification of the request
+         * @param repositories repositories the versions are resolved from
+         */
+        public Key(String groupId, String artifactId, String versionRange, List<RemoteRepository> repositories) {
+            this.groupId = groupId;
+            this.artifactId = artifactId;
+            this.versionRange = versionRange;
+            this.repositories = Collections.unmodifiableList(
+                    repositories.stream().map(r -> r.getId() + "=" + r.getUrl()).collect(Collectors.toList()));
+            this.hashCode = Objects.hash(groupId, artifactId, versionRange, this.repositories);
+        }
+
+        public String getGroupId() {
+            return groupId;
+        }
+
+        public String getArtifactId() {
+            return artifactId;
+        }
+
+        public String getVersionRange() {
+            return versionRange;
+        }
+
+        /**
+         * @return list of {@code id=url} descriptors of the repositories
+         */
+        public List<String> getRepositories() {
+            return repositories;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) o;
+            return hashCode == that.hashCode
+                    && groupId.equals(that.groupId)
+                    && artifactId.equals(that.artifactId)
+                    && versionRange.equals(that.versionRange)
+                    && repositories.equals(that.repositories);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            return groupId + ":" + artifactId + ":" + versionRange + " @ " + repositories;
+        }
+    }
+}
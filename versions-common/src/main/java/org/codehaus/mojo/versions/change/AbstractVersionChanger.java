@@ -19,8 +19,17 @@ package org.codehaus.mojo.versions.change;
  * under the License.
  */
 
+import javax.xml.stream.XMLStreamException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
 import org.apache.maven.model.Model;
 import org.apache.maven.plugin.logging.Log;
+import org.codehaus.mojo.versions.api.PomEditPlan;
+import org.codehaus.mojo.versions.api.change.DependencyVersionChange;
 import org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader;
 
 /**
@@ -53,4 +62,44 @@ public abstract class AbstractVersionChanger implements VersionChanger {
     public void info(CharSequence charSequence) {
         log.info(charSequence);
     }
+
+    /**
+     * Registers the edits needed for the given change in the given plan.
+     *
+     * @param plan          plan of the edits of {@link #getPom()}
+     * @param versionChange change to apply
+     * @return reports the outcome of the edits once the plan has been applied
+     * @since 2.19.0
+     */
+    protected abstract Runnable plan(PomEditPlan plan, DependencyVersionChange versionChange);
+
+    @Override
+    public void apply(DependencyVersionChange versionChange) throws XMLStreamException {
+        apply(Collections.singletonList(versionChange));
+    }
+
+    @Override
+    public void apply(Collection<? extends DependencyVersionChange> versionChanges) throws XMLStreamException {
+        applyAll(pom, Collections.singletonList(this), versionChanges);
+    }
+
+    /**
+     * Applies the given changes with all given changers in a single pass over the document. The edits are
+     * resolved in the same order as if each change was applied by each changer in turn.
+     */
+    static void applyAll(
+            MutableXMLStreamReader pom,
+            List<AbstractVersionChanger> changers,
+            Collection<? extends DependencyVersionChange> versionChanges)
+            throws XMLStreamException {
+        PomEditPlan plan = new PomEditPlan(pom);
+        List<Runnable> reports = new ArrayList<>();
+        for (DependencyVersionChange versionChange : versionChanges) {
+            for (AbstractVersionChanger changer : changers) {
+                reports.add(changer.plan(plan, versionChange));
+            }
+        }
+        plan.apply();
+        reports.forEach(Runnable::run);
+    }
 }
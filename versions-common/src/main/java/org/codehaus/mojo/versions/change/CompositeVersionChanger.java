@@ -19,7 +19,9 @@ import javax.xml.stream.XMLStreamException;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.codehaus.mojo.versions.api.change.DependencyVersionChange;
 
@@ -45,4 +47,23 @@ public class CompositeVersionChanger implements VersionChanger {
             delegate.apply(versionChange);
         }
     }
+
+    @Override
+    public void apply(Collection<? extends DependencyVersionChange> versionChanges) throws XMLStreamException {
+        if (!composites.isEmpty()
+                && composites.stream()
+                        .allMatch(delegate -> delegate instanceof AbstractVersionChanger
+                                && ((AbstractVersionChanger) delegate).getPom()
+                                        == ((AbstractVersionChanger) composites.get(0)).getPom())) {
+            // all delegates edit the same document, which can be done in a single pass
+            AbstractVersionChanger.applyAll(
+                    ((AbstractVersionChanger) composites.get(0)).getPom(),
+                    composites.stream().map(AbstractVersionChanger.class::cast).collect(Collectors.toList()),
+                    versionChanges);
+        } else {
+            for (DependencyVersionChange versionChange : versionChanges) {
+                apply(versionChange);
+            }
+        }
+    }
 }
@@ -15,11 +15,9 @@ package org.codehaus.mojo.versions.change;
  *  limitations under the License.
  */
 
-import javax.xml.stream.XMLStreamException;
-
 import org.apache.maven.model.Model;
 import org.apache.maven.plugin.logging.Log;
-import org.codehaus.mojo.versions.api.PomHelper;
+import org.codehaus.mojo.versions.api.PomEditPlan;
 import org.codehaus.mojo.versions.api.change.DependencyVersionChange;
 import org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader;
 
@@ -35,17 +33,20 @@ public class DependencyVersionChanger extends AbstractVersionChanger {
         super(model, pom, reporter);
     }
 
-    public void apply(DependencyVersionChange versionChange) throws XMLStreamException {
-        if (PomHelper.setDependencyVersion(
-                getPom(),
+    @Override
+    protected Runnable plan(PomEditPlan plan, DependencyVersionChange versionChange) {
+        PomEditPlan.Edit edit = plan.setDependencyVersion(
                 versionChange.getGroupId(),
                 versionChange.getArtifactId(),
                 versionChange.getOldVersion(),
                 versionChange.getNewVersion(),
                 getModel(),
-                log)) {
-            info("    Updating dependency " + versionChange.getGroupId() + ":" + versionChange.getArtifactId());
-            info("        from version " + versionChange.getOldVersion() + " to " + versionChange.getNewVersion());
-        }
+                log);
+        return () -> {
+            if (edit.isApplied()) {
+                info("    Updating dependency " + versionChange.getGroupId() + ":" + versionChange.getArtifactId());
+                info("        from version " + versionChange.getOldVersion() + " to " + versionChange.getNewVersion());
+            }
+        };
     }
 }
@@ -15,11 +15,9 @@ package org.codehaus.mojo.versions.change;
  *  limitations under the License.
  */
 
-import javax.xml.stream.XMLStreamException;
-
 import org.apache.maven.model.Model;
 import org.apache.maven.plugin.logging.Log;
-import org.codehaus.mojo.versions.api.PomHelper;
+import org.codehaus.mojo.versions.api.PomEditPlan;
 import org.codehaus.mojo.versions.api.change.DependencyVersionChange;
 import org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader;
 
@@ -32,14 +30,19 @@ public class ParentVersionChanger extends AbstractVersionChanger {
         super(model, pom, reporter);
     }
 
-    public void apply(DependencyVersionChange versionChange) throws XMLStreamException {
-        if (getModel().getParent() != null
-                && versionChange.getGroupId().equals(getModel().getParent().getGroupId())
-                && versionChange.getArtifactId().equals(getModel().getParent().getArtifactId())) {
-            if (PomHelper.setProjectParentVersion(getPom(), versionChange.getNewVersion())) {
+    @Override
+    protected Runnable plan(PomEditPlan plan, DependencyVersionChange versionChange) {
+        if (getModel().getParent() == null
+                || !versionChange.getGroupId().equals(getModel().getParent().getGroupId())
+                || !versionChange.getArtifactId().equals(getModel().getParent().getArtifactId())) {
+            return () -> {};
+        }
+        PomEditPlan.Edit edit = plan.setProjectParentVersion(versionChange.getNewVersion());
+        return () -> {
+            if (edit.isApplied()) {
                 info("    Updating parent " + versionChange.getGroupId() + ":" + versionChange.getArtifactId());
                 info("        from version " + versionChange.getOldVersion() + " to " + versionChange.getNewVersion());
             }
-        }
+        };
     }
 }
@@ -15,10 +15,9 @@ package org.codehaus.mojo.versions.change;
  *  limitations under the License.
  */
 
-import javax.xml.stream.XMLStreamException;
-
 import org.apache.maven.model.Model;
 import org.apache.maven.plugin.logging.Log;
+import org.codehaus.mojo.versions.api.PomEditPlan;
 import org.codehaus.mojo.versions.api.PomHelper;
 import org.codehaus.mojo.versions.api.change.DependencyVersionChange;
 import org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader;
@@ -35,13 +34,18 @@ public class ProjectVersionChanger extends AbstractVersionChanger {
         super(model, pom, reporter);
     }
 
-    public void apply(DependencyVersionChange versionChange) throws XMLStreamException {
-        if (versionChange.getGroupId().equals(PomHelper.getGroupId(getModel()))
-                && versionChange.getArtifactId().equals(PomHelper.getArtifactId(getModel()))) {
-            if (PomHelper.setProjectVersion(getPom(), versionChange.getNewVersion())) {
+    @Override
+    protected Runnable plan(PomEditPlan plan, DependencyVersionChange versionChange) {
+        if (!versionChange.getGroupId().equals(PomHelper.getGroupId(getModel()))
+                || !versionChange.getArtifactId().equals(PomHelper.getArtifactId(getModel()))) {
+            return () -> {};
+        }
+        PomEditPlan.Edit edit = plan.setProjectVersion(versionChange.getNewVersion());
+        return () -> {
+            if (edit.isApplied()) {
                 info("    Updating project " + versionChange.getGroupId() + ":" + versionChange.getArtifactId());
                 info("        from version " + versionChange.getOldVersion() + " to " + versionChange.getNewVersion());
             }
-        }
+        };
     }
 }
@@ -17,6 +17,8 @@ package org.codehaus.mojo.versions.change;
 
 import javax.xml.stream.XMLStreamException;
 
+import java.util.Collection;
+
 import org.codehaus.mojo.versions.api.change.DependencyVersionChange;
 
 /**
@@ -27,4 +29,18 @@ import org.codehaus.mojo.versions.api.change.DependencyVersionChange;
  */
 public interface VersionChanger {
     void apply(DependencyVersionChange versionChange) throws XMLStreamException;
+
+    /**
+     * Applies the given changes, in order. Implementations may apply all changes in a single pass
+     * over the document.
+     *
+     * @param versionChanges changes to apply
+     * @throws XMLStreamException thrown if the document cannot be updated
+     * @since 2.19.0
+     */
+    default void apply(Collection<? extends DependencyVersionChange> versionChanges) throws XMLStreamException {
+        for (DependencyVersionChange versionChange : versionChanges) {
+            apply(versionChange);
+        }
+    }
 }
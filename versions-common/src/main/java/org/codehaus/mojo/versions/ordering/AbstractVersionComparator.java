@@ -21,6 +21,8 @@ package org.codehaus.mojo.versions.ordering;
 
 import org.apache.maven.artifact.ArtifactUtils;
 import org.apache.maven.artifact.versioning.ArtifactVersion;
+import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
+import org.codehaus.mojo.versions.utils.DefaultArtifactVersionCache;
 
 /**
  * Base class for version comparators.
@@ -44,6 +46,20 @@ public abstract class AbstractVersionComparator implements VersionComparator {
 
     protected abstract int innerGetSegmentCount(ArtifactVersion v);
 
+    /**
+     * Returns the given version as a {@link DefaultArtifactVersion}, which holds the version pre-parsed
+     * according to the Maven rules. Parsed versions are interned, so repeated comparisons of the same
+     * version don't need to parse it again.
+     *
+     * @param v version to convert
+     * @return parsed version
+     */
+    protected static DefaultArtifactVersion parse(ArtifactVersion v) {
+        return v instanceof DefaultArtifactVersion
+                ? (DefaultArtifactVersion) v
+                : DefaultArtifactVersionCache.of(v.toString());
+    }
+
     /**
      * Returns a hash code value for the comparator class.
      *
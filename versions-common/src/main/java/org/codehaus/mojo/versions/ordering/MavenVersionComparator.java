@@ -21,7 +21,6 @@ package org.codehaus.mojo.versions.ordering;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.maven.artifact.versioning.ArtifactVersion;
-import org.apache.maven.artifact.versioning.ComparableVersion;
 import org.codehaus.mojo.versions.api.Segment;
 import org.codehaus.mojo.versions.utils.DefaultArtifactVersionCache;
 
@@ -40,7 +39,7 @@ public class MavenVersionComparator extends AbstractVersionComparator {
         if (o1 instanceof BoundArtifactVersion) {
             return o1.compareTo(o2);
         }
-        return new ComparableVersion(o1.toString()).compareTo(new ComparableVersion(o2.toString()));
+        return parse(o1).compareTo(parse(o2));
     }
 
     /**
@@ -23,7 +23,6 @@ import java.math.BigInteger;
 import java.util.StringTokenizer;
 
 import org.apache.maven.artifact.versioning.ArtifactVersion;
-import org.apache.maven.artifact.versioning.ComparableVersion;
 import org.codehaus.mojo.versions.api.Segment;
 import org.codehaus.mojo.versions.utils.DefaultArtifactVersionCache;
 
@@ -41,7 +40,7 @@ public class MercuryVersionComparator extends AbstractVersionComparator {
      * {@inheritDoc}
      */
     public int compare(ArtifactVersion o1, ArtifactVersion o2) {
-        return new ComparableVersion(o1.toString()).compareTo(new ComparableVersion(o2.toString()));
+        return parse(o1).compareTo(parse(o2));
     }
 
     protected int innerGetSegmentCount(ArtifactVersion v) {
@@ -0,0 +1,158 @@
+package org.codehaus.mojo.versions.ordering;
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.math.BigInteger;
+import java.util.StringTokenizer;
+
+/**
+ * <p>Pre-parsed form of a version compared by the {@link NumericVersionComparator}.</p>
+ *
+ * <p>The version is split on {@code .} once, and each segment is held as a number (a {@code long}, or a
+ * {@link BigInteger} if it doesn't fit), a textual part and an optional qualifier, so that two parsed
+ * versions may be compared without any allocation.</p>
+ *
+ * @since 2.19.0
+ */
+final class NumericVersion implements Comparable<NumericVersion> {
+    private static final byte LONG = 0;
+
+    private static final byte BIG_INTEGER = 1;
+
+    private static final byte TEXT = 2;
+
+    /**
+     * Sign of a segment that cannot be parsed as a whole as a number
+     */
+    private static final byte NOT_A_NUMBER = 2;
+
+    private final byte[] kinds;
+
+    private final long[] numbers;
+
+    private final BigInteger[] bigNumbers;
+
+    private final String[] parts;
+
+    private final String[] qualifiers;
+
+    private final byte[] signs;
+
+    NumericVersion(String version) {
+        StringTokenizer tok = new StringTokenizer(version, ".");
+        int count = tok.countTokens();
+        kinds = new byte[count];
+        numbers = new long[count];
+        bigNumbers = new BigInteger[count];
+        parts = new String[count];
+        qualifiers = new String[count];
+        signs = new byte[count];
+        for (int i = 0; i < count; i++) {
+            String token = tok.nextToken();
+            String part = token;
+            int index = token.indexOf('-');
+            if (index >= 0) {
+                qualifiers[i] = token.substring(index);
+                part = token.substring(0, index);
+            }
+            parts[i] = part;
+            try {
+                numbers[i] = Long.parseLong(part);
+                kinds[i] = LONG;
+            } catch (NumberFormatException e) {
+                try {
+                    bigNumbers[i] = new BigInteger(part);
+                    kinds[i] = BIG_INTEGER;
+                } catch (NumberFormatException e1) {
+                    kinds[i] = TEXT;
+                }
+            }
+            signs[i] = qualifiers[i] == null ? kinds[i] == TEXT ? NOT_A_NUMBER : (byte) signum(i) : wholeSign(token);
+        }
+    }
+
+    private static byte wholeSign(String token) {
+        try {
+            return (byte) new BigInteger(token).signum();
+        } catch (NumberFormatException e) {
+            return NOT_A_NUMBER;
+        }
+    }
+
+    private int signum(int i) {
+        return kinds[i] == LONG ? Long.signum(numbers[i]) : bigNumbers[i].signum();
+    }
+
+    private BigInteger bigNumber(int i) {
+        return kinds[i] == LONG ? BigInteger.valueOf(numbers[i]) : bigNumbers[i];
+    }
+
+    @Override
+    public int compareTo(NumericVersion other) {
+        int common = Math.min(parts.length, other.parts.length);
+        for (int i = 0; i < common; i++) {
+            int result;
+            if (kinds[i] == LONG && other.kinds[i] == LONG) {
+                result = Long.compare(numbers[i], other.numbers[i]);
+            } else if (kinds[i] != TEXT && other.kinds[i] != TEXT) {
+                result = bigNumber(i).compareTo(other.bigNumber(i));
+            } else {
+                result = parts[i].compareTo(other.parts[i]);
+            }
+            if (result != 0) {
+                return result;
+            }
+            if (qualifiers[i] != null && other.qualifiers[i] != null) {
+                result = qualifiers[i].compareTo(other.qualifiers[i]);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            if (qualifiers[i] != null) {
+                return -1;
+            }
+            if (other.qualifiers[i] != null) {
+                return +1;
+            }
+        }
+        if (parts.length > common) {
+            return compareTail(common);
+        }
+        if (other.parts.length > common) {
+            return -other.compareTail(common);
+        }
+        return 0;
+    }
+
+    /**
+     * Compares the segments starting at the given index to zero
+     */
+    private int compareTail(int from) {
+        for (int i = from; i < parts.length; i++) {
+            if (signs[i] == NOT_A_NUMBER) {
+                // any token is better than zero
+                return +1;
+            }
+            if (signs[i] != 0) {
+                return signs[i];
+            }
+        }
+        return -1;
+    }
+}
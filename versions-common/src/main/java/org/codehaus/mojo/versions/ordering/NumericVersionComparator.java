@@ -25,6 +25,7 @@ import java.util.StringTokenizer;
 import org.apache.maven.artifact.versioning.ArtifactVersion;
 import org.codehaus.mojo.versions.api.Segment;
 import org.codehaus.mojo.versions.utils.DefaultArtifactVersionCache;
+import org.codehaus.mojo.versions.utils.GenerationalCache;
 
 /**
  * A comparator which will compare all segments of a dot separated version string as numbers if possible, i.e. 1.3.34
@@ -35,92 +36,21 @@ import org.codehaus.mojo.versions.utils.DefaultArtifactVersionCache;
  * @deprecated
  */
 public class NumericVersionComparator extends AbstractVersionComparator {
-    private static final BigInteger BIG_INTEGER_ZERO = new BigInteger("0");
-
     private static final BigInteger BIG_INTEGER_ONE = new BigInteger("1");
 
+    private static final GenerationalCache<String, NumericVersion> PARSED_VERSIONS =
+            new GenerationalCache<>(Integer.getInteger(
+                    DefaultArtifactVersionCache.MAX_SIZE_PROPERTY, DefaultArtifactVersionCache.DEFAULT_MAX_SIZE));
+
     /**
      * {@inheritDoc}
      */
     public int compare(ArtifactVersion o1, ArtifactVersion o2) {
-        String v1 = o1.toString();
-        String v2 = o2.toString();
-        StringTokenizer tok1 = new StringTokenizer(v1, ".");
-        StringTokenizer tok2 = new StringTokenizer(v2, ".");
-        while (tok1.hasMoreTokens() && tok2.hasMoreTokens()) {
-            String p1 = tok1.nextToken();
-            String p2 = tok2.nextToken();
-            String q1 = null;
-            String q2 = null;
-            if (p1.indexOf('-') >= 0) {
-                int index = p1.indexOf('-');
-                q1 = p1.substring(index);
-                p1 = p1.substring(0, index);
-            }
-            if (p2.indexOf('-') >= 0) {
-                int index = p2.indexOf('-');
-                q2 = p2.substring(index);
-                p2 = p2.substring(0, index);
-            }
-            try {
-                BigInteger n1 = new BigInteger(p1);
-                BigInteger n2 = new BigInteger(p2);
-                int result = n1.compareTo(n2);
-                if (result != 0) {
-                    return result;
-                }
-            } catch (NumberFormatException e) {
-                int result = p1.compareTo(p2);
-                if (result != 0) {
-                    return result;
-                }
-            }
-            if (q1 != null && q2 != null) {
-                final int result = q1.compareTo(q2);
-                if (result != 0) {
-                    return result;
-                }
-            }
-            if (q1 != null) {
-                return -1;
-            }
-            if (q2 != null) {
-                return +1;
-            }
-        }
-        if (tok1.hasMoreTokens()) {
-            BigInteger n2 = BIG_INTEGER_ZERO;
-            while (tok1.hasMoreTokens()) {
-                try {
-                    BigInteger n1 = new BigInteger(tok1.nextToken());
-                    int result = n1.compareTo(n2);
-                    if (result != 0) {
-                        return result;
-                    }
-                } catch (NumberFormatException e) {
-                    // any token is better than zero
-                    return +1;
-                }
-            }
-            return -1;
-        }
-        if (tok2.hasMoreTokens()) {
-            BigInteger n1 = BIG_INTEGER_ZERO;
-            while (tok2.hasMoreTokens()) {
-                try {
-                    BigInteger n2 = new BigInteger(tok2.nextToken());
-                    int result = n1.compareTo(n2);
-                    if (result != 0) {
-                        return result;
-                    }
-                } catch (NumberFormatException e) {
-                    // any token is better than zero
-                    return -1;
-                }
-            }
-            return +1;
-        }
-        return 0;
+        return parseNumeric(o1).compareTo(parseNumeric(o2));
+    }
+
+    private static NumericVersion parseNumeric(ArtifactVersion v) {
+        return PARSED_VERSIONS.get(v.toString(), NumericVersion::new);
     }
 
     /**
@@ -25,6 +25,7 @@ import java.util.Map;
 
 import org.apache.maven.model.Model;
 import org.codehaus.mojo.versions.api.PomHelper;
+import org.codehaus.mojo.versions.utils.ReactorIndex;
 
 /**
  * Compares project paths relative to the base directory based on their depth in a reactor
@@ -33,17 +34,27 @@ import org.codehaus.mojo.versions.api.PomHelper;
  * @since 15-Sep-2010 14:54:42
  */
 public class ReactorDepthComparator implements Comparator<File> {
-    private final Map<File, Model> reactor;
+    private final ReactorIndex reactor;
 
     public ReactorDepthComparator(Map<File, Model> reactor) {
+        this(new ReactorIndex(reactor));
+    }
+
+    /**
+     * Creates a comparator using the memoized depths of the given index.
+     *
+     * @param reactor index of the reactor
+     * @since 2.19.0
+     */
+    public ReactorDepthComparator(ReactorIndex reactor) {
         this.reactor = reactor;
     }
 
     public int compare(File o1, File o2) {
-        final Model m1 = reactor.get(o1);
-        final Model m2 = reactor.get(o2);
-        final int d1 = PomHelper.getReactorParentCount(reactor, m1);
-        final int d2 = PomHelper.getReactorParentCount(reactor, m2);
+        final Model m1 = reactor.getModels().get(o1);
+        final Model m2 = reactor.getModels().get(o2);
+        final int d1 = reactor.getReactorParentCount(m1);
+        final int d2 = reactor.getReactorParentCount(m2);
         if (d1 < d2) {
             return -1;
         } else if (d1 > d2) {
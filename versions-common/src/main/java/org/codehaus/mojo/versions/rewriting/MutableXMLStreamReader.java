@@ -20,14 +20,19 @@ import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.TransformerException;
 
-import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
-import java.nio.file.Files;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -46,19 +51,34 @@ import static java.util.Optional.ofNullable;
 public class MutableXMLStreamReader extends StreamReader2Delegate implements AutoCloseable {
     private static final XMLInputFactory FACTORY = XMLInputFactory2.newInstance();
 
-    private StringBuilder source;
+    /**
+     * Size (in bytes) from which files are read using memory-mapped I/O rather than being copied into the heap
+     * first, set with the {@code versions.mappedReadThreshold} system property. Disabled by default, since
+     * a mapped file stays locked on some platforms until the mapping is garbage-collected, which prevents
+     * the file from being replaced.
+     */
+    private static final long MAPPED_READ_THRESHOLD = Long.getLong("versions.mappedReadThreshold", Long.MAX_VALUE);
+
+    /**
+     * Number of bytes used to detect the encoding of the document
+     */
+    private static final int ENCODING_DETECTION_SIZE = 0x4000;
+
+    /**
+     * The document; its original text is the state of the document at the last {@link #rewind()}, which is
+     * what the delegate parses
+     */
+    private PieceTable source;
 
     private final Path fileName;
 
     private boolean modified;
 
-    private final Map<Object, MarkInfo> marks = new HashMap<>();
-
     /**
-     * Current (start and end) offset (caused by mutations) against the {@link #getLocationInfo()} as reported by
-     * the delegate
+     * Marks, holding the offsets reported by the delegate; being offsets in the original text of {@link #source},
+     * they need no adjustment when the document is modified
      */
-    private final int[] delta = new int[2];
+    private final Map<Object, MarkInfo> marks = new HashMap<>();
 
     static {
         FACTORY.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
@@ -74,7 +94,23 @@ public class MutableXMLStreamReader extends StreamReader2Delegate implements Aut
      * @throws XMLStreamException thrown if the file cannot be parsed
      */
     public MutableXMLStreamReader(Path path) throws IOException, XMLStreamException, TransformerException {
-        this(Files.newInputStream(path), path);
+        super(null);
+        this.fileName = path;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer content;
+            if (size >= MAPPED_READ_THRESHOLD) {
+                content = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            } else {
+                content = ByteBuffer.allocate((int) size);
+                while (content.hasRemaining() && channel.read(content) >= 0) {
+                    // read fully
+                }
+                content.flip();
+            }
+            init(content);
+        }
+        rewind();
     }
 
     /**
@@ -89,7 +125,9 @@ public class MutableXMLStreamReader extends StreamReader2Delegate implements Aut
             throws IOException, XMLStreamException, TransformerException {
         super(null);
         this.fileName = fileName;
-        init(inputStream);
+        try (InputStream in = inputStream) {
+            init(ByteBuffer.wrap(IOUtil.toByteArray(in)));
+        }
         rewind();
     }
 
@@ -111,6 +149,16 @@ public class MutableXMLStreamReader extends StreamReader2Delegate implements Aut
         return source.toString();
     }
 
+    /**
+     * Returns the encoding of the document, as detected when the document was read
+     *
+     * @return encoding of the document
+     */
+    @Override
+    public String getEncoding() {
+        return sourceEncoding.name();
+    }
+
     /**
      * Whether the document has been modified
      *
@@ -121,22 +169,30 @@ public class MutableXMLStreamReader extends StreamReader2Delegate implements Aut
     }
 
     /**
-     * Returns current (adjusted by {@link #delta} starting char offset
+     * Returns current (adjusted by the modifications of the document) starting char offset
      *
-     * @return current (adjusted by {@link #delta} starting char offset
+     * @return current (adjusted by the modifications of the document) starting char offset
      */
     public int getCurrentStartingCharOffset() {
-        return delta[0] + (int) getLocationInfo().getStartingCharOffset();
+        return source.toCurrentOffset(getOriginalStartingCharOffset());
     }
 
     /**
-     * Returns current (adjusted by {@link #delta} ending char offset
+     * Returns current (adjusted by the modifications of the document) ending char offset
      *
-     * @return current (adjusted by {@link #delta} ending char offset
+     * @return current (adjusted by the modifications of the document) ending char offset
      */
     public int getCurrentEndingCharOffset() {
+        return source.toCurrentOffset(getOriginalEndingCharOffset());
+    }
+
+    private int getOriginalStartingCharOffset() {
+        return (int) getLocationInfo().getStartingCharOffset();
+    }
+
+    private int getOriginalEndingCharOffset() {
         try {
-            return delta[1] + (int) getLocationInfo().getEndingCharOffset();
+            return (int) getLocationInfo().getEndingCharOffset();
         } catch (XMLStreamException e) {
             throw new IllegalStateException(e);
         }
@@ -158,13 +214,6 @@ public class MutableXMLStreamReader extends StreamReader2Delegate implements Aut
         }
 
         source.replace(start, end, replacement);
-        int delta = replacement.length() - (end - start);
-
-        // marks can only be added as the cursor traverses the document onwards,
-        // so the only marks affected by the replacement are marks set on the current element
-        marks.values().stream().filter(mi -> mi.getEnd() == end).forEach(mi -> mi.setEnd(mi.getEnd() + delta));
-
-        this.delta[1] += delta;
         modified = true;
     }
 
@@ -179,11 +228,19 @@ public class MutableXMLStreamReader extends StreamReader2Delegate implements Aut
     private void validateMarkOffsets(Object mark1, Object mark2) {
         if (marks.get(mark1).getStart() > marks.get(mark2).getStart()) {
             throw new IllegalStateException("Start offset of " + mark1 + "("
-                    + marks.get(mark1).getEnd() + ") > start offset of " + mark2
-                    + "(" + marks.get(mark2).getStart() + ")");
+                    + getEnd(mark1) + ") > start offset of " + mark2
+                    + "(" + getStart(mark2) + ")");
         }
     }
 
+    private int getStart(Object mark) {
+        return source.toCurrentOffset(marks.get(mark).getStart());
+    }
+
+    private int getEnd(Object mark) {
+        return source.toCurrentOffset(marks.get(mark).getEnd());
+    }
+
     /**
      * Returns the substring of the document between the end of the first mark and the start of the second marked element
      *
@@ -197,7 +254,7 @@ public class MutableXMLStreamReader extends StreamReader2Delegate implements Aut
 
         return Objects.equals(marks.get(mark1), marks.get(mark2))
                 ? ""
-                : source.substring(marks.get(mark1).getEnd(), marks.get(mark2).getStart());
+                : source.substring(getEnd(mark1), getStart(mark2));
     }
 
     /**
@@ -211,18 +268,12 @@ public class MutableXMLStreamReader extends StreamReader2Delegate implements Aut
         validateMarks(mark1, mark2);
         validateMarkOffsets(mark1, mark2);
 
-        int start = marks.get(mark1).getEnd(), end = marks.get(mark2).getStart();
+        int start = getEnd(mark1), end = getStart(mark2);
         if (source.substring(start, end).equals(replacement)) {
             return;
         }
 
         source.replace(start, end, replacement);
-        int delta = replacement.length() - (end - start);
-
-        marks.values().stream().filter(mi -> mi.getStart() >= end).forEach(mi -> mi.setStart(mi.getStart() + delta));
-        marks.values().stream().filter(mi -> mi.getEnd() >= end).forEach(mi -> mi.setEnd(mi.getEnd() + delta));
-
-        this.delta[1] += delta;
         modified = true;
     }
 
@@ -235,21 +286,12 @@ public class MutableXMLStreamReader extends StreamReader2Delegate implements Aut
     public void replaceMark(Object mark, String replacement) {
         validateMarks(mark);
 
-        int start = marks.get(mark).getStart(), end = marks.get(mark).getEnd();
+        int start = getStart(mark), end = getEnd(mark);
         if (source.substring(start, end).equals(replacement)) {
             return;
         }
 
         source.replace(start, end, replacement);
-        int delta = replacement.length() - (end - start);
-
-        marks.values().stream().filter(mi -> mi.getStart() >= end).forEach(mi -> mi.setStart(mi.getStart() + delta));
-        marks.values().stream().filter(mi -> mi.getEnd() >= end).forEach(mi -> mi.setEnd(mi.getEnd() + delta));
-
-        if (start < getCurrentStartingCharOffset()) {
-            this.delta[0] += delta;
-        }
-        this.delta[1] += delta;
         modified = true;
     }
 
@@ -264,20 +306,17 @@ public class MutableXMLStreamReader extends StreamReader2Delegate implements Aut
         }
 
         marks.clear();
-        delta[0] = 0;
-        delta[1] = 0;
+        if (source.isModified()) {
+            // the modifications are only serialized here, becoming the original text parsed from now on
+            source = new PieceTable(source.toString());
+        }
 
-        XMLStreamReader2 reader = (XMLStreamReader2) FACTORY.createXMLStreamReader(
-                new ByteArrayInputStream(source.toString().getBytes(sourceEncoding)), sourceEncoding.toString());
+        // the document is parsed directly from the original text, without copying or re-encoding it
+        XMLStreamReader2 reader =
+                (XMLStreamReader2) FACTORY.createXMLStreamReader(new StringReader(source.getOriginal()));
         setParent(reader);
     }
 
-    @Override
-    public int next() throws XMLStreamException {
-        delta[0] = delta[1];
-        return super.next();
-    }
-
     /**
      * If the mark with the given {@code markNr} has been recorded
      *
@@ -289,12 +328,12 @@ public class MutableXMLStreamReader extends StreamReader2Delegate implements Aut
     }
 
     /**
-     * Records the current {@link LocationInfo} and delta under the given {@code markNr}
+     * Records the current {@link LocationInfo} under the given {@code markNr}
      *
      * @param markNr number of the mark to record to
      */
     public void mark(Object markNr) {
-        marks.put(markNr, new MarkInfo(getCurrentStartingCharOffset(), getCurrentEndingCharOffset()));
+        marks.put(markNr, new MarkInfo(getOriginalStartingCharOffset(), getOriginalEndingCharOffset()));
     }
 
     /**
@@ -306,30 +345,42 @@ public class MutableXMLStreamReader extends StreamReader2Delegate implements Aut
         marks.remove(markNr);
     }
 
-    private void init(InputStream inputStream) throws IOException, XMLStreamException, TransformerException {
-        try (BufferedInputStream buf = new BufferedInputStream(inputStream)) {
-            buf.mark(0x4000);
-
-            // detect the encoding
-            XMLStreamReader reader = FACTORY.createXMLStreamReader(buf);
-            sourceEncoding =
-                    ofNullable(reader.getEncoding()).map(Charset::forName).orElse(Charset.defaultCharset());
-            reader.close();
-
-            // offload the entire contents to this.source
-            buf.reset();
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            IOUtil.copy(buf, baos);
-            source = new StringBuilder(baos.toString(sourceEncoding.toString()));
-        }
+    private void init(ByteBuffer content) throws XMLStreamException {
+        // detect the encoding
+        byte[] head = new byte[Math.min(content.remaining(), ENCODING_DETECTION_SIZE)];
+        content.duplicate().get(head);
+        XMLStreamReader reader = FACTORY.createXMLStreamReader(new ByteArrayInputStream(head));
+        sourceEncoding = ofNullable(reader.getEncoding()).map(Charset::forName).orElse(Charset.defaultCharset());
+        reader.close();
+
+        // decode the entire contents
+        CharsetDecoder decoder = sourceEncoding
+                .newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        StringBuilder text =
+                new StringBuilder((int) (content.remaining() * (double) decoder.averageCharsPerByte()) + 16);
+        CharBuffer chunk = CharBuffer.allocate(8192);
+        CoderResult result;
+        do {
+            result = decoder.decode(content, chunk, true);
+            text.append((CharBuffer) chunk.flip());
+            chunk.clear();
+        } while (result.isOverflow());
+        do {
+            result = decoder.flush(chunk);
+            text.append((CharBuffer) chunk.flip());
+            chunk.clear();
+        } while (result.isOverflow());
+        source = new PieceTable(text.toString());
     }
 
     /**
      * Contains startingCharOffset and endingCharOffset information for a mark
      */
     private static class MarkInfo {
-        private int start;
-        private int end;
+        private final int start;
+        private final int end;
 
         MarkInfo(int start, int end) {
             this.start = start;
@@ -340,18 +391,10 @@ public class MutableXMLStreamReader extends StreamReader2Delegate implements Aut
             return start;
         }
 
-        void setStart(int value) {
-            start = value;
-        }
-
         int getEnd() {
             return end;
         }
 
-        void setEnd(int value) {
-            end = value;
-        }
-
         @Override
         public int hashCode() {
             return Objects.hash(start, end);
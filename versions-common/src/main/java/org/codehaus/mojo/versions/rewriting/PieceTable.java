@@ -0,0 +1,275 @@
+package org.codehaus.mojo.versions.rewriting;
+
+/*
+ * Copyright MojoHaus and Contributors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <p>A piece table holding a text document: an immutable original text and an append-only buffer of inserted text,
+ * with the document described by a sequence of pieces of either of them.</p>
+ *
+ * <p>The pieces are kept in a randomized balanced tree (a treap) keyed by their position in the document, so that
+ * replacing a range of the document takes O(log n) time in the number of pieces, independent of the length of the
+ * document. The document is only serialized when it is requested as a whole, see {@link #toString()}.</p>
+ *
+ * <p>Offsets in the original text are stable anchors: {@link #toCurrentOffset(int)} maps them to the offset
+ * of the same character in the current document, so that they need not be adjusted on every edit.</p>
+ *
+ * @since 2.19.0
+ */
+public final class PieceTable {
+    private final String original;
+
+    private final StringBuilder added = new StringBuilder();
+
+    private Node root;
+
+    private String serialized;
+
+    /**
+     * Creates a new piece table with the given original text
+     *
+     * @param original original text of the document
+     */
+    public PieceTable(String original) {
+        this.original = original;
+        this.root = original.isEmpty() ? null : new Node(true, 0, original.length());
+        this.serialized = original;
+    }
+
+    /**
+     * @return the original text of the document
+     */
+    public String getOriginal() {
+        return original;
+    }
+
+    /**
+     * @return {@code true} if the document differs from the original text in any way
+     */
+    public boolean isModified() {
+        return serialized != original;
+    }
+
+    /**
+     * @return length of the current document
+     */
+    public int length() {
+        return size(root);
+    }
+
+    /**
+     * Returns a part of the current document
+     *
+     * @param start start offset, inclusive
+     * @param end   end offset, exclusive
+     * @return text of the document between the given offsets
+     */
+    public String substring(int start, int end) {
+        checkRange(start, end);
+        if (serialized != null) {
+            return serialized.substring(start, end);
+        }
+        StringBuilder result = new StringBuilder(end - start);
+        append(root, 0, start, end, result);
+        return result.toString();
+    }
+
+    /**
+     * Replaces a part of the current document
+     *
+     * @param start       start offset, inclusive
+     * @param end         end offset, exclusive
+     * @param replacement replacement text
+     */
+    public void replace(int start, int end, String replacement) {
+        checkRange(start, end);
+        if (start == end && replacement.isEmpty()) {
+            return;
+        }
+        Node[] head = split(root, start);
+        Node[] tail = split(head[1], end - start);
+        Node inserted = null;
+        if (!replacement.isEmpty()) {
+            inserted = new Node(false, added.length(), replacement.length());
+            added.append(replacement);
+        }
+        root = merge(merge(head[0], inserted), tail[1]);
+        serialized = null;
+    }
+
+    /**
+     * <p>Maps an offset in the original text to the offset of the same character in the current document.</p>
+     *
+     * <p>If the character has been removed, the offset at which the removed text was (i.e. the start of
+     * its replacement) is returned. The length of the original text maps to the length of the current document.</p>
+     *
+     * @param originalOffset offset in the original text
+     * @return offset in the current document
+     */
+    public int toCurrentOffset(int originalOffset) {
+        if (originalOffset >= original.length()) {
+            return length();
+        }
+        // finds the last piece of the original text starting at or before the offset
+        Node node = root;
+        int base = 0;
+        while (node != null) {
+            int nodeStart = base + size(node.left);
+            if (node.right != null && node.right.originalMin <= originalOffset) {
+                base = nodeStart + node.length;
+                node = node.right;
+            } else if (node.original && node.start <= originalOffset) {
+                return originalOffset < node.start + node.length
+                        ? nodeStart + originalOffset - node.start
+                        : nodeStart + node.length;
+            } else {
+                node = node.left;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @return the current document
+     */
+    @Override
+    public String toString() {
+        if (serialized == null) {
+            StringBuilder result = new StringBuilder(length());
+            append(root, 0, 0, length(), result);
+            serialized = result.toString();
+        }
+        return serialized;
+    }
+
+    private void checkRange(int start, int end) {
+        if (start < 0 || start > end || end > length()) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length());
+        }
+    }
+
+    private void append(Node node, int base, int start, int end, StringBuilder result) {
+        if (node == null || base >= end || base + node.size <= start) {
+            return;
+        }
+        append(node.left, base, start, end, result);
+        int nodeStart = base + size(node.left);
+        int from = Math.max(start, nodeStart), to = Math.min(end, nodeStart + node.length);
+        if (from < to) {
+            int offset = node.start + from - nodeStart;
+            if (node.original) {
+                result.append(original, offset, offset + to - from);
+            } else {
+                result.append(added, offset, offset + to - from);
+            }
+        }
+        append(node.right, nodeStart + node.length, start, end, result);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * Splits the tree into the first {@code position} characters and the rest, splitting a piece if needed
+     */
+    private static Node[] split(Node node, int position) {
+        if (node == null) {
+            return new Node[2];
+        }
+        int leftSize = size(node.left);
+        if (position <= leftSize) {
+            Node[] parts = split(node.left, position);
+            node.left = parts[1];
+            node.update();
+            return new Node[] {parts[0], node};
+        }
+        if (position >= leftSize + node.length) {
+            Node[] parts = split(node.right, position - leftSize - node.length);
+            node.right = parts[0];
+            node.update();
+            return new Node[] {node, parts[1]};
+        }
+        // the position falls inside the piece of this node
+        int offset = position - leftSize;
+        Node rest = new Node(node.original, node.start + offset, node.length - offset);
+        Node right = node.right;
+        node.length = offset;
+        node.right = null;
+        node.update();
+        return new Node[] {node, merge(rest, right)};
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static final class Node {
+        private final boolean original;
+
+        private final int start;
+
+        private final int priority = ThreadLocalRandom.current().nextInt();
+
+        private int length;
+
+        private Node left;
+
+        private Node right;
+
+        /**
+         * Length of the text of this subtree
+         */
+        private int size;
+
+        /**
+         * Lowest offset in the original text of the pieces of this subtree
+         */
+        private int originalMin;
+
+        Node(boolean original, int start, int length) {
+            this.original = original;
+            this.start = start;
+            this.length = length;
+            update();
+        }
+
+        void update() {
+            size = size(left) + length + size(right);
+            originalMin = original ? start : Integer.MAX_VALUE;
+            if (left != null) {
+                originalMin = Math.min(originalMin, left.originalMin);
+            }
+            if (right != null) {
+                originalMin = Math.min(originalMin, right.originalMin);
+            }
+        }
+    }
+}
@@ -18,38 +18,40 @@ package org.codehaus.mojo.versions.utils;
  * under the License.
  */
 
-import java.util.Map;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-
-import org.apache.commons.collections4.map.LRUMap;
 import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
+import org.codehaus.mojo.versions.cache.CacheStatistics;
 
 /**
- * Simple cache for {@link org.apache.maven.artifact.versioning.ArtifactVersion}
+ * <p>Simple cache for {@link org.apache.maven.artifact.versioning.ArtifactVersion}</p>
+ *
+ * <p>Versions are held in a {@link GenerationalCache}, so lookups never block. The maximum size can
+ * be configured using the {@value #MAX_SIZE_PROPERTY} system property.</p>
  */
 public class DefaultArtifactVersionCache {
-    private static final int MAX_CACHE_SIZE = 512;
-    private static final Map<String, DefaultArtifactVersion> CACHE = new LRUMap<>(MAX_CACHE_SIZE);
-    private static final ReentrantReadWriteLock CACHE_LOCK = new ReentrantReadWriteLock();
+    /**
+     * System property holding the maximum number of cached versions
+     */
+    public static final String MAX_SIZE_PROPERTY = "versions.artifactVersionCacheSize";
+
+    /**
+     * Default maximum number of cached versions
+     */
+    public static final int DEFAULT_MAX_SIZE = 16384;
+
+    private static final GenerationalCache<String, DefaultArtifactVersion> CACHE =
+            new GenerationalCache<>(Integer.getInteger(MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE));
 
     /**
      * Get a ComparableVersion representing the version in a string.
      */
     public static DefaultArtifactVersion of(String version) {
-        try {
-            CACHE_LOCK.readLock().lock();
-            DefaultArtifactVersion result = CACHE.get(version);
-            if (result != null) {
-                return result;
-            }
-        } finally {
-            CACHE_LOCK.readLock().unlock();
-        }
-        try {
-            CACHE_LOCK.writeLock().lock();
-            return CACHE.computeIfAbsent(version, DefaultArtifactVersion::new);
-        } finally {
-            CACHE_LOCK.writeLock().unlock();
-        }
+        return CACHE.get(version, DefaultArtifactVersion::new);
+    }
+
+    /**
+     * @return hit/miss statistics of the cache
+     */
+    public static CacheStatistics getStatistics() {
+        return CACHE.getStatistics();
     }
 }
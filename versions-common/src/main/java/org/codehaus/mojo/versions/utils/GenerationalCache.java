@@ -0,0 +1,102 @@
+package org.codehaus.mojo.versions.utils;
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.codehaus.mojo.versions.cache.CacheStatistics;
+
+/**
+ * <p>Bounded, concurrent cache of immutable values.</p>
+ *
+ * <p>The cache consists of two concurrent generations: lookups never block, and entries found only
+ * in the older generation are promoted to the current one. Once the current generation reaches half of
+ * the maximum size, it becomes the older generation, evicting the entries not used since the previous
+ * rotation (approximate LRU).</p>
+ *
+ * @param <K> key type
+ * @param <V> value type
+ * @since 2.19.0
+ */
+public class GenerationalCache<K, V> {
+    private final int generationSize;
+
+    private final CacheStatistics statistics = new CacheStatistics();
+
+    private volatile ConcurrentHashMap<K, V> current = new ConcurrentHashMap<>();
+
+    private volatile ConcurrentHashMap<K, V> previous = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new cache
+     *
+     * @param maxSize maximum number of entries held by the cache
+     */
+    public GenerationalCache(int maxSize) {
+        this.generationSize = Math.max(1, maxSize / 2);
+    }
+
+    /**
+     * Returns the value cached for the given key, computing it using the given function if absent.
+     * The function may be called concurrently for the same key, in which case only one of the results
+     * is retained.
+     *
+     * @param key key of the value
+     * @param function function computing the value of a key
+     * @return cached value
+     */
+    public V get(K key, Function<? super K, ? extends V> function) {
+        ConcurrentHashMap<K, V> generation = current;
+        V result = generation.get(key);
+        if (result != null) {
+            statistics.hit();
+            return result;
+        }
+        result = previous.get(key);
+        if (result != null) {
+            statistics.hit();
+        } else {
+            statistics.miss();
+            result = function.apply(key);
+        }
+        V existing = generation.putIfAbsent(key, result);
+        if (existing != null) {
+            return existing;
+        }
+        if (generation.size() >= generationSize) {
+            rotate(generation);
+        }
+        return result;
+    }
+
+    private synchronized void rotate(ConcurrentHashMap<K, V> generation) {
+        if (current == generation) {
+            previous = generation;
+            current = new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * @return hit/miss statistics of the cache
+     */
+    public CacheStatistics getStatistics() {
+        return statistics;
+    }
+}
@@ -18,6 +18,11 @@ package org.codehaus.mojo.versions.utils;
  * under the License.
  */
 
+import javax.xml.stream.XMLStreamException;
+import javax.xml.transform.TransformerException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Optional;
 
 import org.apache.maven.model.Model;
@@ -54,6 +59,18 @@ public class ModelNode {
         this.pom = pom;
     }
 
+    /**
+     * Creates a new instance with a parent node, whose {@link MutableXMLStreamReader} is only opened from the
+     * POM file of the model once it is requested.
+     *
+     * @param parent parent node
+     * @param model {@link Model} instance, with its POM file set
+     * @since 2.19.0
+     */
+    public ModelNode(ModelNode parent, Model model) {
+        this(parent, model, null);
+    }
+
     /**
      * Returns the {@link Model} instance associated with the given node.
      *
@@ -73,25 +90,36 @@ public class ModelNode {
     }
 
     /**
-     * Gets the {@link MutableXMLStreamReader} instance
+     * Gets the {@link MutableXMLStreamReader} instance, opening it from the POM file of the model if needed
      *
      * @return the {@link MutableXMLStreamReader} instance
+     * @throws UncheckedIOException thrown if the POM file cannot be read
      */
-    public MutableXMLStreamReader getMutableXMLStreamReader() {
+    public synchronized MutableXMLStreamReader getMutableXMLStreamReader() {
+        if (pom == null) {
+            try {
+                pom = new MutableXMLStreamReader(item.getPomFile().toPath());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not open " + item.getPomFile(), e);
+            } catch (XMLStreamException | TransformerException e) {
+                throw new RuntimeException("Could not parse " + item.getPomFile(), e);
+            }
+        }
         return pom;
     }
 
+    // the document of a node follows from its model, and may not have been opened yet
     @Override
     public boolean equals(Object o) {
         if (o instanceof ModelNode) {
             ModelNode other = (ModelNode) o;
-            return item.equals(other.item) && (parent == null || parent.equals(other.parent)) && pom.equals(other.pom);
+            return item.equals(other.item) && (parent == null || parent.equals(other.parent));
         }
         return false;
     }
 
     @Override
     public int hashCode() {
-        return 13 * item.hashCode() + (parent == null ? 0 : 23 * parent.hashCode()) + 7 * pom.hashCode();
+        return 13 * item.hashCode() + (parent == null ? 0 : 23 * parent.hashCode());
     }
 }
@@ -0,0 +1,177 @@
+package org.codehaus.mojo.versions.utils;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Parent;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.mojo.versions.api.PomHelper;
+
+/**
+ * <p>Index of the models of a reactor, answering the lookups of {@link PomHelper#getModelEntry(Map, String, String)},
+ * {@link PomHelper#getChildModels(Map, String, String)} and {@link PomHelper#getReactorParentCount(Map, Model)}
+ * without scanning the whole reactor.</p>
+ *
+ * <p>The index is built once from the reactor map and keyed by the coordinates of the models at that time.
+ * Changing the versions of the models afterwards is allowed, changing their groupId, artifactId or parent
+ * coordinates is not.</p>
+ *
+ * @since 2.19.0
+ */
+public class ReactorIndex {
+    private final Map<File, Model> reactor;
+
+    private final Map<String, Map.Entry<File, Model>> modelsByKey = new HashMap<>();
+
+    private final Map<String, Map.Entry<File, Model>> modelsByArtifactId = new HashMap<>();
+
+    private final Map<String, Map<File, Model>> childModels = new HashMap<>();
+
+    private final Map<Model, Integer> depths = new IdentityHashMap<>();
+
+    /**
+     * Creates a new index of the given reactor.
+     *
+     * @param reactor map of models keyed by path, e.g. as returned by
+     *                {@link PomHelper#getChildModels(MavenProject, org.apache.maven.plugin.logging.Log)}
+     */
+    public ReactorIndex(Map<File, Model> reactor) {
+        this.reactor = Collections.unmodifiableMap(new LinkedHashMap<>(reactor));
+        for (Map.Entry<File, Model> entry : this.reactor.entrySet()) {
+            Model model = entry.getValue();
+            String groupId = PomHelper.getGroupId(model);
+            String artifactId = PomHelper.getArtifactId(model);
+            if (artifactId != null) {
+                Map.Entry<File, Model> indexEntry = new AbstractMap.SimpleImmutableEntry<>(entry);
+                modelsByArtifactId.putIfAbsent(artifactId, indexEntry);
+                if (groupId != null) {
+                    modelsByKey.putIfAbsent(key(groupId, artifactId), indexEntry);
+                }
+            }
+            Parent parent = model.getParent();
+            if (parent != null && parent.getGroupId() != null && parent.getArtifactId() != null) {
+                childModels
+                        .computeIfAbsent(key(parent.getGroupId(), parent.getArtifactId()), k -> new LinkedHashMap<>())
+                        .put(entry.getKey(), model);
+            }
+        }
+        this.reactor.values().forEach(this::computeDepth);
+    }
+
+    /**
+     * Creates a new index of the models of the given projects.
+     *
+     * @param projects projects, e.g. the reactor projects of the session
+     * @return index of the (effective) models of the projects, keyed by the project files
+     */
+    public static ReactorIndex of(Collection<MavenProject> projects) {
+        Map<File, Model> reactor = new LinkedHashMap<>();
+        projects.stream()
+                .filter(project -> project.getModel() != null)
+                .forEach(project -> reactor.putIfAbsent(project.getFile(), project.getModel()));
+        return new ReactorIndex(reactor);
+    }
+
+    private static String key(String groupId, String artifactId) {
+        return groupId + ':' + artifactId;
+    }
+
+    /**
+     * @return the indexed models keyed by path, in the order of the original reactor map
+     */
+    public Map<File, Model> getModels() {
+        return reactor;
+    }
+
+    /**
+     * Returns the entry of the model that has the specified groupId (if specified) and artifactId.
+     *
+     * @param groupId    the groupId to match, or {@code null} to match any groupId
+     * @param artifactId the artifactId to match
+     * @return the model entry or {@code null} if the model is not in the reactor
+     */
+    public Map.Entry<File, Model> getModelEntry(String groupId, String artifactId) {
+        return groupId == null ? modelsByArtifactId.get(artifactId) : modelsByKey.get(key(groupId, artifactId));
+    }
+
+    /**
+     * Returns the model that has the specified groupId (if specified) and artifactId.
+     *
+     * @param groupId    the groupId to match, or {@code null} to match any groupId
+     * @param artifactId the artifactId to match
+     * @return the model or {@code null} if the model is not in the reactor
+     */
+    public Model getModel(String groupId, String artifactId) {
+        Map.Entry<File, Model> entry = getModelEntry(groupId, artifactId);
+        return entry == null ? null : entry.getValue();
+    }
+
+    /**
+     * Returns all the models that have the specified groupId and artifactId as parent.
+     *
+     * @param groupId    the groupId of the parent
+     * @param artifactId the artifactId of the parent
+     * @return unmodifiable map of the child models keyed by path, never {@code null}
+     */
+    public Map<File, Model> getChildModels(String groupId, String artifactId) {
+        Map<File, Model> children = childModels.get(key(groupId, artifactId));
+        return children == null ? Collections.emptyMap() : Collections.unmodifiableMap(children);
+    }
+
+    /**
+     * Returns a count of how many parents a model has in the reactor.
+     *
+     * @param model the model
+     * @return the number of parents of this model in the reactor
+     */
+    public int getReactorParentCount(Model model) {
+        Integer depth = depths.get(model);
+        return depth != null ? depth : parentCount(model);
+    }
+
+    private int computeDepth(Model model) {
+        Integer depth = depths.get(model);
+        if (depth == null) {
+            // guards against a parent cycle, which Maven would reject anyway
+            depths.put(model, 0);
+            depth = parentCount(model);
+            depths.put(model, depth);
+        }
+        return depth;
+    }
+
+    private int parentCount(Model model) {
+        Parent parent = model.getParent();
+        if (parent == null) {
+            return 0;
+        }
+        Model parentModel = getModel(parent.getGroupId(), parent.getArtifactId());
+        return parentModel == null ? 0 : computeDepth(parentModel) + 1;
+    }
+}
@@ -31,6 +31,7 @@ import org.apache.maven.artifact.versioning.VersionRange;
 import org.codehaus.mojo.versions.ordering.InvalidSegmentException;
 import org.codehaus.mojo.versions.ordering.MavenVersionComparator;
 import org.codehaus.mojo.versions.ordering.MercuryVersionComparator;
+import org.codehaus.mojo.versions.ordering.NumericVersionComparator;
 import org.codehaus.mojo.versions.ordering.VersionComparator;
 import org.junit.jupiter.api.Test;
 
@@ -127,6 +128,30 @@ class ArtifactVersionsTest {
         assertThat(instance.isEmpty(true), is(false));
     }
 
+    @Test
+    void testNewestVersionFollowsTheNaturalOrderForOtherComparators() throws Exception {
+        ArtifactVersions instance = new ArtifactVersions(
+                new DefaultArtifact(
+                        "group",
+                        "artifact",
+                        VersionRange.createFromVersionSpec("[1.0,3.0]"),
+                        "foo",
+                        "bar",
+                        "jar",
+                        new DefaultArtifactHandler()),
+                Arrays.asList(versions("1.0", "1.0a", "1.0.1")),
+                new NumericVersionComparator());
+        // the numeric comparator sorts 1.0a after 1.0.1, but the newest version is still chosen by the natural order
+        assertThat(instance.getNewestVersion((VersionRange) null, null, false, false), hasToString("1.0.1"));
+        assertThat(
+                instance.getNewestVersion(VersionRange.createFromVersionSpec("[1.0,1.0.1)"), null, false, false),
+                hasToString("1.0a"));
+        assertThat(
+                instance.getNewestVersion(
+                        (VersionRange) null, new Restriction(version("1.0"), false, null, false), false, false),
+                hasToString("1.0.1"));
+    }
+
     @Test
     void testSmokes() throws Exception {
         ArtifactVersions instance = new ArtifactVersions(
@@ -271,6 +296,40 @@ class ArtifactVersionsTest {
         assertThat(instance.getReportNewestUpdate(of(SUBINCREMENTAL), true), nullValue());
     }
 
+    @Test
+    void testUpdateSummary() {
+        ArtifactVersions instance =
+                createInstance(versions("1.0.0", "1.0.0-1", "1.0.1", "1.1.0", "2.0.0", "3.0.0-SNAPSHOT"));
+        UpdateSummary summary = instance.getUpdateSummary(false);
+        assertThat(summary.getNewestUpdate(Optional.empty()), hasToString("2.0.0"));
+        assertThat(summary.getNewestUpdate(MAJOR), hasToString("2.0.0"));
+        assertThat(summary.getNewestUpdate(MINOR), hasToString("1.1.0"));
+        assertThat(summary.getNewestUpdate(INCREMENTAL), hasToString("1.0.1"));
+        assertThat(summary.getNewestUpdate(SUBINCREMENTAL), hasToString("1.0.0-1"));
+        assertThat(instance.getUpdateSummary(true).getNewestUpdate(MAJOR), hasToString("3.0.0-SNAPSHOT"));
+
+        instance.setCurrentVersion("1.1.0");
+        assertThat(instance.getUpdateSummary(false).getNewestUpdate(MINOR), nullValue());
+        assertThat(instance.getUpdateSummary(false).getNewestUpdate(MAJOR), hasToString("2.0.0"));
+    }
+
+    @Test
+    void testGetVersionsWithinRestrictionBounds() {
+        ArtifactVersions instance = createInstance(versions("1.0.0", "1.0.1", "1.1.0", "1.2.0", "2.0.0"));
+        assertThat(
+                instance.getVersions(new Restriction(version("1.0.1"), true, version("1.2.0"), false), false),
+                arrayContaining(versions("1.0.1", "1.1.0")));
+        assertThat(
+                instance.getVersions(new Restriction(version("1.0.1"), false, version("1.2.0"), true), false),
+                arrayContaining(versions("1.1.0", "1.2.0")));
+        assertThat(
+                instance.getVersions(new Restriction(version("1.2.0"), false, version("1.0.1"), false), false),
+                arrayWithSize(0));
+        assertThat(
+                instance.getNewestVersion(new Restriction(null, false, version("1.2.0"), false), false),
+                hasToString("1.1.0"));
+    }
+
     @Test
     void testGetNewestVersionWithLesserSegment() throws InvalidSegmentException {
         ArtifactVersions instance = createInstance(versions("1.0.0-1"));
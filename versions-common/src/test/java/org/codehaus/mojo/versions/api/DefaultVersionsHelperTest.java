@@ -28,12 +28,14 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Properties;
 import java.util.stream.Collectors;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.handler.DefaultArtifactHandler;
 import org.apache.maven.artifact.versioning.ArtifactVersion;
 import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Dependency;
 import org.apache.maven.plugin.MojoExecution;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.logging.Log;
@@ -51,6 +53,7 @@ import org.codehaus.mojo.versions.model.IgnoreVersion;
 import org.codehaus.mojo.versions.model.Rule;
 import org.codehaus.mojo.versions.model.RuleSet;
 import org.codehaus.mojo.versions.ordering.VersionComparators;
+import org.codehaus.mojo.versions.utils.DependencyBuilder;
 import org.eclipse.aether.DefaultRepositorySystemSession;
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.repository.RemoteRepository;
@@ -69,6 +72,7 @@ import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.codehaus.mojo.versions.utils.MockUtils.mockArtifactHandlerManager;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
@@ -83,6 +87,8 @@ import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -212,6 +218,112 @@ class DefaultVersionsHelperTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    void testPropertyVersionsAreTheIntersectionOfTheAssociatedVersions() throws Exception {
+        RepositorySystem repositorySystem = mock(RepositorySystem.class);
+        when(repositorySystem.resolveVersionRange(any(), any(VersionRangeRequest.class)))
+                .then(i -> {
+                    VersionRangeRequest request = i.getArgument(1);
+                    List<Version> versions =
+                            "artifact-a".equals(request.getArtifact().getArtifactId())
+                                    ? Arrays.asList(parseVersion("1.0"), parseVersion("1.1.0"), parseVersion("2.0"))
+                                    : Arrays.asList(parseVersion("1.1"), parseVersion("2.0"), parseVersion("3.0"));
+                    return new VersionRangeResult(request).setVersions(versions);
+                });
+        MavenSession mavenSession = mock(MavenSession.class);
+        when(mavenSession.getCurrentProject()).thenReturn(mock(MavenProject.class));
+        when(mavenSession.getRepositorySession()).thenReturn(new DefaultRepositorySystemSession());
+        VersionsHelper helper = new DefaultVersionsHelper.Builder()
+                .withArtifactHandlerManager(mockArtifactHandlerManager())
+                .withRepositorySystem(repositorySystem)
+                .withLog(mock(Log.class))
+                .withMavenSession(mavenSession)
+                .build();
+        MavenProject project = mock(MavenProject.class);
+        when(project.getProperties()).thenReturn(new Properties());
+
+        Property both = new Property("both.version");
+        both.setDependencies(new Dependency[] {
+            DependencyBuilder.newBuilder()
+                    .withGroupId("group")
+                    .withArtifactId("artifact-a")
+                    .withVersion("1.0")
+                    .build(),
+            DependencyBuilder.newBuilder()
+                    .withGroupId("group")
+                    .withArtifactId("artifact-b")
+                    .withVersion("1.1")
+                    .build()
+        });
+        Property single = new Property("single.version");
+        single.setDependencies(new Dependency[] {
+            DependencyBuilder.newBuilder()
+                    .withGroupId("group")
+                    .withArtifactId("artifact-a")
+                    .withVersion("1.0")
+                    .build()
+        });
+
+        Map<Property, PropertyVersions> result =
+                helper.getVersionPropertiesMap(VersionsHelper.VersionPropertiesMapRequest.builder()
+                        .withMavenProject(project)
+                        .withPropertyDefinitions(new Property[] {both, single})
+                        .withIncludeParent(false)
+                        .withAutoLinkItems(false)
+                        .build());
+
+        assertThat(
+                Arrays.stream(result.get(both).getVersions(true))
+                        .map(ArtifactVersion::toString)
+                        .collect(Collectors.toList()),
+                contains("1.1.0", "2.0"));
+        assertThat(result.get(single).getVersions(true).length, is(3));
+    }
+
+    @Test
+    void testVersionPropertiesMapsLookUpSharedAssociationsOnce() throws Exception {
+        RepositorySystem repositorySystem = mock(RepositorySystem.class);
+        when(repositorySystem.resolveVersionRange(any(), any(VersionRangeRequest.class)))
+                .then(i -> new VersionRangeResult(i.getArgument(1))
+                        .setVersions(Arrays.asList(parseVersion("1.0"), parseVersion("2.0"))));
+        MavenSession mavenSession = mock(MavenSession.class);
+        when(mavenSession.getCurrentProject()).thenReturn(mock(MavenProject.class));
+        when(mavenSession.getRepositorySession()).thenReturn(new DefaultRepositorySystemSession());
+        VersionsHelper helper = new DefaultVersionsHelper.Builder()
+                .withArtifactHandlerManager(mockArtifactHandlerManager())
+                .withRepositorySystem(repositorySystem)
+                .withLog(mock(Log.class))
+                .withMavenSession(mavenSession)
+                .build();
+        List<VersionsHelper.VersionPropertiesMapRequest> requests = new ArrayList<>();
+        for (String name : Arrays.asList("first.version", "second.version")) {
+            MavenProject project = mock(MavenProject.class);
+            when(project.getProperties()).thenReturn(new Properties());
+            Property property = new Property(name);
+            property.setDependencies(new Dependency[] {
+                DependencyBuilder.newBuilder()
+                        .withGroupId("group")
+                        .withArtifactId("artifact")
+                        .withVersion("1.0")
+                        .build()
+            });
+            requests.add(VersionsHelper.VersionPropertiesMapRequest.builder()
+                    .withMavenProject(project)
+                    .withPropertyDefinitions(new Property[] {property})
+                    .withIncludeParent(false)
+                    .withAutoLinkItems(false)
+                    .build());
+        }
+
+        List<Map<Property, PropertyVersions>> result = helper.getVersionPropertiesMaps(requests);
+
+        assertThat(result, hasSize(2));
+        assertThat(result.get(0).keySet().iterator().next().getName(), is("first.version"));
+        assertThat(result.get(1).keySet().iterator().next().getName(), is("second.version"));
+        assertThat(result.get(1).values().iterator().next().getVersions(true).length, is(2));
+        verify(repositorySystem, times(1)).resolveVersionRange(any(), any(VersionRangeRequest.class));
+    }
+
     @Test
     void testIsClasspathUriDetectsClassPathProtocol() throws Exception {
         String uri = "classpath:/p/a/c/k/a/g/e/resource.res";
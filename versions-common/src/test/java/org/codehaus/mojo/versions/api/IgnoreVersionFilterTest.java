@@ -0,0 +1,148 @@
+package org.codehaus.mojo.versions.api;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.codehaus.mojo.versions.model.IgnoreVersion;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link IgnoreVersionFilter}
+ */
+class IgnoreVersionFilterTest {
+    private static final String[] IGNORES = {
+        "exact:1.0.0",
+        "exact:2.0",
+        "exact:1.0.0-SNAPSHOT",
+        "regex:.*-SNAPSHOT",
+        "regex:.*-(alpha|beta)\\d*",
+        "regex:(\\d)\\.\\1\\..*",
+        "regex:\\Q2.0.\\E.*",
+        "regex:(?i).*RC\\d+",
+        "range:[1.0,1.2)",
+        "range:(,0.9]",
+        "range:2.0.1",
+        "range:(1.5,1.7],[3.0,)",
+        "range:[2.1]"
+    };
+
+    private static IgnoreVersion ignoreVersion(String spec) {
+        IgnoreVersion ignoreVersion = new IgnoreVersion();
+        ignoreVersion.setType(spec.substring(0, spec.indexOf(':')));
+        ignoreVersion.setVersion(spec.substring(spec.indexOf(':') + 1));
+        return ignoreVersion;
+    }
+
+    private static List<IgnoreVersion> ignoreVersions(String... specs) {
+        return Arrays.stream(specs).map(IgnoreVersionFilterTest::ignoreVersion).collect(Collectors.toList());
+    }
+
+    private static String randomVersion(Random random) {
+        StringBuilder version = new StringBuilder().append(random.nextInt(4));
+        for (int i = random.nextInt(3); i >= 0; i--) {
+            version.append('.').append(random.nextInt(random.nextBoolean() ? 3 : 12));
+        }
+        switch (random.nextInt(8)) {
+            case 0:
+                return version.append("-SNAPSHOT").toString();
+            case 1:
+                return version.append("-beta").append(random.nextInt(3)).toString();
+            case 2:
+                return version.append("-rc").append(random.nextInt(3)).toString();
+            default:
+                return version.toString();
+        }
+    }
+
+    @Test
+    void testFilter() {
+        IgnoreVersionFilter filter =
+                new IgnoreVersionFilter(ignoreVersions("exact:1.0.0", "regex:.*-SNAPSHOT", "range:[2.0,3.0)"));
+        Map<String, String> ignored = new LinkedHashMap<>();
+        List<String> result = filter.filter(
+                Arrays.asList("2.5", "1.0.0", "1.1.0", "3.0", "1.2-SNAPSHOT", "2.0"),
+                (version, ignoreVersion) -> ignored.put(version, ignoreVersion.getType()));
+
+        assertThat(result, contains("1.1.0", "3.0"));
+        assertThat(ignored.keySet(), contains("2.5", "1.0.0", "1.2-SNAPSHOT", "2.0"));
+        assertThat(ignored.get("1.0.0"), is(IgnoreVersion.TYPE_EXACT));
+        assertThat(ignored.get("1.2-SNAPSHOT"), is(IgnoreVersion.TYPE_REGEX));
+        assertThat(ignored.get("2.5"), is(IgnoreVersion.TYPE_RANGE));
+    }
+
+    @Test
+    void testPatternsWithTheSameNamedGroup() {
+        IgnoreVersionFilter filter = new IgnoreVersionFilter(
+                ignoreVersions("regex:(?<v>\\d+)\\.0-alpha", "regex:(?<v>\\d+)\\.1-beta", "regex:(?<=x)y"));
+        List<String> result = filter.filter(
+                Arrays.asList("1.0-alpha", "1.0", "2.1-beta", "2.1-alpha"), (version, ignoreVersion) -> {});
+
+        assertThat(result, contains("1.0", "2.1-alpha"));
+    }
+
+    @Test
+    void testInvalidRange() {
+        assertThrows(
+                IgnoreVersionHelper.IgnoreVersionException.class,
+                () -> new IgnoreVersionFilter(ignoreVersions("range:[1,,")));
+    }
+
+    @Test
+    void testSameResultAsIgnoreVersionHelper() {
+        Random random = new Random(19);
+        for (int round = 0; round < 200; round++) {
+            List<IgnoreVersion> ignoreVersions = new ArrayList<>();
+            for (int i = random.nextInt(6); i >= 0; i--) {
+                ignoreVersions.add(ignoreVersion(IGNORES[random.nextInt(IGNORES.length)]));
+            }
+            List<String> versions = new ArrayList<>();
+            for (int i = random.nextInt(40); i >= 0; i--) {
+                versions.add(randomVersion(random));
+            }
+
+            List<String> expected = versions.stream()
+                    .filter(v -> ignoreVersions.stream().noneMatch(i -> IgnoreVersionHelper.isVersionIgnored(v, i)))
+                    .collect(Collectors.toList());
+            List<String> actual = new IgnoreVersionFilter(ignoreVersions).filter(versions, (v, i) -> {
+                assertThat(v + " ignored by " + i, IgnoreVersionHelper.isVersionIgnored(v, i), is(true));
+            });
+            assertThat(ignoreVersions + " for " + versions, actual, is(expected));
+        }
+    }
+
+    @Test
+    void testNoIgnoredVersions() {
+        List<String> versions = singletonList("1.0.0");
+        assertThat(new IgnoreVersionFilter(new ArrayList<>()).filter(versions, (v, i) -> {}), is(versions));
+    }
+}
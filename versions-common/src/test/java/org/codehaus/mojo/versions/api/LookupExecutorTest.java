@@ -0,0 +1,127 @@
+package org.codehaus.mojo.versions.api;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.maven.plugin.logging.Log;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for {@link LookupExecutor}
+ */
+class LookupExecutorTest {
+
+    @Test
+    void testResultsAreInTaskOrder() throws Exception {
+        LookupExecutor executor = LookupExecutor.forSession(null, 4, false, mock(Log.class));
+        List<Callable<Integer>> tasks = IntStream.range(0, 100)
+                .mapToObj(i -> (Callable<Integer>) () -> i)
+                .collect(Collectors.toList());
+        assertThat(executor.invokeAll(tasks), is(IntStream.range(0, 100).boxed().collect(Collectors.toList())));
+    }
+
+    @Test
+    void testNestedLookupsDoNotDeadlock() throws Exception {
+        LookupExecutor executor = LookupExecutor.forSession(null, 1, false, mock(Log.class));
+        List<Callable<List<Boolean>>> tasks =
+                singletonList(() -> executor.invokeAll(singletonList(LookupExecutor::isInLookup)));
+        assertThat(executor.invokeAll(tasks).get(0), contains(true));
+        assertThat(LookupExecutor.isInLookup(), is(false));
+    }
+
+    @Test
+    void testFailuresArePropagated() {
+        LookupExecutor executor = LookupExecutor.forSession(null, 2, false, mock(Log.class));
+        assertThrows(
+                ExecutionException.class,
+                () -> executor.invokeAll(singletonList(() -> {
+                    throw new VersionRetrievalException("failed");
+                })));
+    }
+
+    @Test
+    void testExecutorIsSharedWithinSession() throws Exception {
+        DefaultRepositorySystemSession session = new DefaultRepositorySystemSession();
+        LookupExecutor.forSession(session, 2, false, mock(Log.class));
+        Object executorService = session.getData().get(LookupExecutor.class.getName());
+        LookupExecutor.forSession(session, 8, false, mock(Log.class));
+        assertThat(session.getData().get(LookupExecutor.class.getName()), sameInstance(executorService));
+    }
+
+    @Test
+    void testConcurrentLookupsAreLimitedForTheWholeSession() throws Exception {
+        DefaultRepositorySystemSession session = new DefaultRepositorySystemSession();
+        LookupExecutor first = LookupExecutor.forSession(session, 1, true, mock(Log.class));
+        LookupExecutor second = LookupExecutor.forSession(session, 8, true, mock(Log.class));
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Callable<Integer>> tasks = IntStream.range(0, 20)
+                .mapToObj(i -> (Callable<Integer>) () -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    Thread.sleep(1);
+                    running.decrementAndGet();
+                    return i;
+                })
+                .collect(Collectors.toList());
+        CompletableFuture<List<Integer>> other = CompletableFuture.supplyAsync(() -> {
+            try {
+                return second.invokeAll(tasks);
+            } catch (ExecutionException | InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        first.invokeAll(tasks);
+        other.join();
+        assertThat(maxRunning.get(), is(1));
+    }
+
+    @Test
+    void testExecutorsWithoutSessionShareTheirPool() throws Exception {
+        LookupExecutor first = LookupExecutor.forSession(null, 3, false, mock(Log.class));
+        LookupExecutor second = LookupExecutor.forSession(null, 3, false, mock(Log.class));
+        List<Callable<Thread>> tasks = singletonList(Thread::currentThread);
+        Set<Thread> threads = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            threads.addAll(first.invokeAll(tasks));
+            threads.addAll(second.invokeAll(tasks));
+        }
+        // both executors run their sequential tasks on the threads of a single pool
+        assertThat(threads.size(), lessThanOrEqualTo(3));
+    }
+}
@@ -0,0 +1,192 @@
+package org.codehaus.mojo.versions.api;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.nio.file.Paths;
+
+import org.apache.maven.model.Model;
+import org.apache.maven.plugin.logging.Log;
+import org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader;
+import org.junit.jupiter.api.Test;
+
+import static java.nio.charset.Charset.defaultCharset;
+import static org.apache.commons.io.IOUtils.toInputStream;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for {@link PomEditPlan}
+ */
+class PomEditPlanTest {
+    private static final String POM = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<project>\n"
+            + "  <parent>\n"
+            + "    <groupId>test</groupId>\n"
+            + "    <artifactId>parent</artifactId>\n"
+            + "    <version>1.0</version>\n"
+            + "  </parent>\n"
+            + "  <artifactId>child</artifactId>\n"
+            + "  <version>1.0</version>\n"
+            + "  <properties>\n"
+            + "    <a.version>1.0</a.version> <!-- keep -->\n"
+            + "  </properties>\n"
+            + "  <dependencyManagement>\n"
+            + "    <dependencies>\n"
+            + "      <dependency>\n"
+            + "        <groupId>test</groupId>\n"
+            + "        <artifactId>b</artifactId>\n"
+            + "        <version>[1.0,2.0)</version>\n"
+            + "      </dependency>\n"
+            + "    </dependencies>\n"
+            + "  </dependencyManagement>\n"
+            + "  <dependencies>\n"
+            + "    <dependency>\n"
+            + "      <groupId>${project.groupId}</groupId>\n"
+            + "      <artifactId>c</artifactId>\n"
+            + "      <version>1.0</version>\n"
+            + "    </dependency>\n"
+            + "  </dependencies>\n"
+            + "  <build>\n"
+            + "    <plugins>\n"
+            + "      <plugin>\n"
+            + "        <artifactId>maven-d-plugin</artifactId>\n"
+            + "        <version>1.0</version>\n"
+            + "      </plugin>\n"
+            + "    </plugins>\n"
+            + "  </build>\n"
+            + "</project>\n";
+
+    private static MutableXMLStreamReader read(String source) throws Exception {
+        return new MutableXMLStreamReader(toInputStream(source, defaultCharset()), Paths.get("pom.xml"));
+    }
+
+    @Test
+    void testBatchIsEquivalentToSequentialEdits() throws Exception {
+        Log log = mock(Log.class);
+        MutableXMLStreamReader sequential = read(POM);
+        Model model = PomHelper.getRawModel(sequential.getSource(), null);
+        PomHelper.setProjectParentVersion(sequential, "2.0");
+        PomHelper.setProjectVersion(sequential, "2.0-SNAPSHOT");
+        PomHelper.setPropertyVersion(sequential, null, "a.version", "1.1");
+        PomHelper.setDependencyVersion(sequential, "test", "b", "1.5", "1.6", model, log);
+        PomHelper.setDependencyVersion(sequential, "test", "c", "1.0", "1.1", model, log);
+        PomHelper.setPluginVersion(sequential, "org.apache.maven.plugins", "maven-d-plugin", "1.0", "1.2");
+
+        MutableXMLStreamReader batched = read(POM);
+        PomEditPlan plan = new PomEditPlan(batched);
+        PomEditPlan.Edit parent = plan.setProjectParentVersion("2.0");
+        PomEditPlan.Edit project = plan.setProjectVersion("2.0-SNAPSHOT");
+        PomEditPlan.Edit property = plan.setPropertyVersion(null, "a.version", "1.1");
+        PomEditPlan.Edit range = plan.setDependencyVersion("test", "b", "1.5", "1.6", model, log);
+        PomEditPlan.Edit implicit = plan.setDependencyVersion("test", "c", "1.0", "1.1", model, log);
+        PomEditPlan.Edit plugin = plan.setPluginVersion("org.apache.maven.plugins", "maven-d-plugin", "1.0", "1.2");
+        PomEditPlan.Edit missing = plan.setDependencyVersion("test", "e", "1.0", "1.1", model, log);
+        assertThat(plan.apply(), is(true));
+
+        assertThat(batched.getSource(), is(sequential.getSource()));
+        assertThat(parent.isApplied(), is(true));
+        assertThat(project.isApplied(), is(true));
+        assertThat(property.isApplied(), is(true));
+        assertThat(range.isApplied(), is(true));
+        assertThat(implicit.isApplied(), is(true));
+        assertThat(plugin.isApplied(), is(true));
+        assertThat(missing.isApplied(), is(false));
+        assertThat(
+                batched.getSource(),
+                is(POM.replace("<version>1.0</version>\n  </parent>", "<version>2.0</version>\n  </parent>")
+                        .replace(
+                                "<version>1.0</version>\n  <properties>",
+                                "<version>2.0-SNAPSHOT</version>\n" + "  <properties>")
+                        .replace("<a.version>1.0</a.version>", "<a.version>1.1</a.version>")
+                        .replace("<version>[1.0,2.0)</version>", "<version>1.6</version>")
+                        .replace(
+                                "<version>1.0</version>\n    </dependency>",
+                                "<version>1.1</version>\n" + "    </dependency>")
+                        .replace(
+                                "<version>1.0</version>\n      </plugin>",
+                                "<version>1.2</version>\n" + "      </plugin>")));
+    }
+
+    @Test
+    void testLaterEditsSeeEarlierEdits() throws Exception {
+        MutableXMLStreamReader pom = read(POM);
+        PomEditPlan plan = new PomEditPlan(pom);
+        PomEditPlan.Edit first = plan.setPropertyVersion(null, "a.version", "1.1");
+        PomEditPlan.Edit second = plan.setPropertyVersion(null, "a.version", "1.2");
+        plan.apply();
+
+        assertThat(first.isApplied(), is(true));
+        assertThat(second.isApplied(), is(true));
+        assertThat(pom.getSource(), is(POM.replace("<a.version>1.0</a.version>", "<a.version>1.2</a.version>")));
+    }
+
+    @Test
+    void testOnlyTheLastDefinitionOfAPropertyInAScopeIsReplaced() throws Exception {
+        // as with the sequential search of the baseline PomHelper.setPropertyVersion(), the effective,
+        // i.e. last definition of a property is replaced, in each matching scope
+        String source = "<project>\n"
+                + "  <properties>\n"
+                + "    <a.version>1.0</a.version>\n"
+                + "    <a.version>1.1</a.version>\n"
+                + "  </properties>\n"
+                + "  <properties>\n"
+                + "    <a.version>1.0</a.version>\n"
+                + "  </properties>\n"
+                + "  <profiles>\n"
+                + "    <profile>\n"
+                + "      <id>p</id>\n"
+                + "      <properties>\n"
+                + "        <a.version>1.0</a.version>\n"
+                + "        <a.version>1.1</a.version>\n"
+                + "      </properties>\n"
+                + "    </profile>\n"
+                + "  </profiles>\n"
+                + "</project>\n";
+        MutableXMLStreamReader pom = read(source);
+        PomEditPlan plan = new PomEditPlan(pom);
+        PomEditPlan.Edit edit = plan.setPropertyVersion(null, "a.version", "2.0");
+        plan.apply();
+
+        assertThat(edit.isApplied(), is(true));
+        assertThat(
+                pom.getSource(),
+                is(source.replace(
+                        "    <a.version>1.1</a.version>\n  </properties>\n  <properties>\n"
+                                + "    <a.version>1.0</a.version>",
+                        "    <a.version>2.0</a.version>\n  </properties>\n  <properties>\n"
+                                + "    <a.version>2.0</a.version>")));
+
+        pom = read(source);
+        assertThat(PomHelper.setPropertyVersion(pom, "p", "a.version", "2.0"), is(true));
+        assertThat(
+                pom.getSource(),
+                is(source.replace("        <a.version>1.1</a.version>", "        <a.version>2.0</a.version>")));
+    }
+
+    @Test
+    void testPlanCanOnlyBeAppliedOnce() throws Exception {
+        PomEditPlan plan = new PomEditPlan(read(POM));
+        plan.setProjectVersion("2.0");
+        plan.apply();
+        assertThrows(IllegalStateException.class, plan::apply);
+    }
+}
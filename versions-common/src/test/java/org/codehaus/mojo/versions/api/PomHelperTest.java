@@ -29,6 +29,7 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -266,6 +267,51 @@ class PomHelperTest {
         }
     }
 
+    @Test
+    void testReactorIsLoadedInDeterministicOrder() throws Exception {
+        Path tempDirectory = Files.createTempDirectory("testReactorIsLoadedInDeterministicOrder");
+        ModelWriter modelWriter = new DefaultModelWriter();
+        try {
+            Model rootProject = createSimpleModel("root");
+            modelWriter.write(tempDirectory.resolve("pom.xml").toFile(), Collections.emptyMap(), rootProject);
+            for (String levelOne : new String[] {"b", "a"}) {
+                Model levelOneProject = createSimpleModel(levelOne);
+                rootProject.addModule(levelOne);
+                for (String levelTwo : new String[] {"y", "x"}) {
+                    Model levelTwoProject = createSimpleModel(levelOne + "-" + levelTwo);
+                    levelOneProject.addModule(levelTwoProject.getArtifactId());
+                    Path directory = tempDirectory.resolve(levelOne).resolve(levelTwoProject.getArtifactId());
+                    Files.createDirectories(directory);
+                    modelWriter.write(directory.resolve("pom.xml").toFile(), Collections.emptyMap(), levelTwoProject);
+                }
+                modelWriter.write(
+                        tempDirectory.resolve(levelOne).resolve("pom.xml").toFile(),
+                        Collections.emptyMap(),
+                        levelOneProject);
+            }
+            File rootFile = tempDirectory.resolve("pom.xml").toFile();
+            modelWriter.write(rootFile, Collections.emptyMap(), rootProject);
+
+            MavenProject project = new MavenProject();
+            project.setFile(rootFile);
+            assertThat(
+                    PomHelper.getChildModels(project, new SystemStreamLog()).values().stream()
+                            .map(Model::getArtifactId)
+                            .collect(Collectors.toList()),
+                    is(Arrays.asList("root", "a", "b", "a-x", "a-y", "b-x", "b-y")));
+
+            MutableXMLStreamReader pom = new MutableXMLStreamReader(rootFile.toPath());
+            ModelNode rootNode = new ModelNode(PomHelper.getRawModel(pom.getSource(), rootFile), pom);
+            assertThat(
+                    PomHelper.getRawModelTree(rootNode, new SystemStreamLog()).stream()
+                            .map(node -> node.getModel().getArtifactId())
+                            .collect(Collectors.toList()),
+                    is(Arrays.asList("root", "a", "a-x", "a-y", "b", "b-x", "b-y")));
+        } finally {
+            FileUtils.deleteDirectory(tempDirectory.toFile());
+        }
+    }
+
     private Model createSimpleModel(String artifactId) {
         Model module = new Model();
         module.setGroupId("child.test");
@@ -289,6 +335,12 @@ class PomHelperTest {
                         .map(Model::getArtifactId)
                         .collect(Collectors.joining(" ")),
                 is("grandparent childA grandchild childB"));
+        // the documents of the modules are opened from their POM files once requested
+        ModelNode grandchild = rawModelTree.get(2);
+        assertThat(
+                grandchild.getMutableXMLStreamReader().getFileName(),
+                is(grandchild.getModel().getPomFile().toPath()));
+        assertThat(grandchild.getMutableXMLStreamReader().getSource(), containsString("<artifactId>grandchild"));
     }
 
     @Test
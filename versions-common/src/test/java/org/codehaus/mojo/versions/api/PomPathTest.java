@@ -0,0 +1,130 @@
+package org.codehaus.mojo.versions.api;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Unit tests for {@link PomPath}
+ */
+class PomPathTest {
+    private static final Map<PomPath, Pattern> PATTERNS = new EnumMap<>(PomPath.class);
+
+    static {
+        PATTERNS.put(PomPath.PROJECT_VERSION, PomHelper.PATTERN_PROJECT_VERSION);
+        PATTERNS.put(PomPath.PROJECT_PARENT_VERSION, PomHelper.PATTERN_PROJECT_PARENT_VERSION);
+        PATTERNS.put(PomPath.PROJECT_PROPERTIES, PomHelper.PATTERN_PROJECT_PROPERTIES);
+        PATTERNS.put(PomPath.PROJECT_PROFILE, PomHelper.PATTERN_PROJECT_PROFILE);
+        PATTERNS.put(PomPath.PROJECT_PROFILE_ID, PomHelper.PATTERN_PROJECT_PROFILE_ID);
+        PATTERNS.put(PomPath.PROJECT_DEPENDENCY, PomHelper.PATTERN_PROJECT_DEPENDENCY);
+        PATTERNS.put(PomPath.PROJECT_DEPENDENCY_VERSION, PomHelper.PATTERN_PROJECT_DEPENDENCY_VERSION);
+        PATTERNS.put(PomPath.PROJECT_PLUGIN, PomHelper.PATTERN_PROJECT_PLUGIN);
+        PATTERNS.put(PomPath.PROJECT_PLUGIN_VERSION, PomHelper.PATTERN_PROJECT_PLUGIN_VERSION);
+    }
+
+    private static final String[] ELEMENTS = {
+        "project",
+        "parent",
+        "version",
+        "groupId",
+        "artifactId",
+        "properties",
+        "profiles",
+        "profile",
+        "id",
+        "dependencyManagement",
+        "dependencies",
+        "dependency",
+        "build",
+        "pluginManagement",
+        "plugins",
+        "plugin",
+        "reporting"
+    };
+
+    @Test
+    void testPathsAreExpanded() {
+        assertThat(PomPath.PROJECT_DEPENDENCY.getPaths(), hasSize(8));
+        assertThat(PomPath.PROJECT_PLUGIN_VERSION.getPaths(), hasSize(18));
+        assertThat(PomPath.PROJECT_IMPLICIT_PROPERTY.getPaths(), hasSize(6));
+    }
+
+    @Test
+    void testCursorAgreesWithPatterns() {
+        // walks all element paths up to a depth of 8 built from the element names used by the patterns
+        Deque<String> path = new ArrayDeque<>();
+        PomPath.Cursor cursor = PomPath.cursor();
+        assertThat(walk(cursor, path, 8), is(true));
+        assertThat(cursor.getDepth(), is(0));
+    }
+
+    private static boolean walk(PomPath.Cursor cursor, Deque<String> path, int depth) {
+        if (depth == 0) {
+            return true;
+        }
+        for (String element : ELEMENTS) {
+            path.addLast("/" + element);
+            cursor.enter(element);
+            String pathString = String.join("", path);
+            for (Map.Entry<PomPath, Pattern> entry : PATTERNS.entrySet()) {
+                assertThat(
+                        entry.getKey() + " at " + pathString,
+                        cursor.at(entry.getKey()),
+                        is(entry.getValue().matcher(pathString).matches()));
+            }
+            // only the paths below a matching prefix need to be walked further
+            if (Arrays.stream(PomPath.values())
+                    .flatMap(p -> p.getPaths().stream())
+                    .anyMatch(p -> p.startsWith(pathString + "/"))) {
+                walk(cursor, path, depth - 1);
+            }
+            cursor.exit();
+            path.removeLast();
+        }
+        return true;
+    }
+
+    @Test
+    void testParentAt() {
+        PomPath.Cursor cursor = PomPath.cursor();
+        cursor.enter("project");
+        cursor.enter("parent");
+        cursor.enter("version");
+        assertThat(cursor.at(PomPath.PROJECT_PARENT_VERSION), is(true));
+        assertThat(cursor.at(PomPath.PROJECT_IMPLICIT_PROPERTY), is(true));
+        assertThat(cursor.parentAt(PomPath.PROJECT_PARENT), is(true));
+        cursor.exit();
+        cursor.enter("unknown");
+        cursor.enter("version");
+        assertThat(cursor.at(PomPath.PROJECT_IMPLICIT_PROPERTY), is(false));
+        assertThat(cursor.getDepth(), is(4));
+    }
+}
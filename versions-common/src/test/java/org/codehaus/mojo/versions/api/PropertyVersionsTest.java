@@ -0,0 +1,86 @@
+package org.codehaus.mojo.versions.api;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.artifact.versioning.ArtifactVersion;
+import org.apache.maven.artifact.versioning.VersionRange;
+import org.codehaus.mojo.versions.ordering.MavenVersionComparator;
+import org.junit.jupiter.api.Test;
+
+import static org.codehaus.mojo.versions.api.Segment.MAJOR;
+import static org.codehaus.mojo.versions.api.Segment.MINOR;
+import static org.codehaus.mojo.versions.utils.ArtifactVersionUtils.versions;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.hasToString;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PropertyVersionsTest {
+
+    private static PropertyVersions createInstance(ArtifactVersion[] versions) throws VersionRetrievalException {
+        Artifact artifact = new DefaultArtifact(
+                "default-group", "dummy-api", "1.0.0", "compile", "jar", null, new DefaultArtifactHandler("jar"));
+        VersionsHelper helper = mock(VersionsHelper.class);
+        when(helper.getVersionComparator(any(Artifact.class))).thenReturn(new MavenVersionComparator());
+        return new PropertyVersions(
+                null,
+                "dummy.version",
+                helper,
+                Collections.singleton(new DefaultArtifactAssociation(artifact, false)),
+                association -> new ArtifactVersions(
+                        association.getArtifact(), Arrays.asList(versions), new MavenVersionComparator()));
+    }
+
+    @Test
+    void testGetVersions() throws VersionRetrievalException {
+        PropertyVersions instance = createInstance(versions("1.1.0", "1.0.0", "2.0.0-SNAPSHOT", "1.0.1"));
+        assertThat(instance.getVersions(true), arrayContaining(versions("1.0.0", "1.0.1", "1.1.0", "2.0.0-SNAPSHOT")));
+        assertThat(instance.getVersions(false), arrayContaining(versions("1.0.0", "1.0.1", "1.1.0")));
+    }
+
+    @Test
+    void testUpdateSummaryIsMemoizedPerCurrentVersion() throws VersionRetrievalException {
+        PropertyVersions instance = createInstance(versions("1.0.0", "1.0.1", "1.1.0", "2.0.0", "3.0.0-SNAPSHOT"));
+        instance.setCurrentVersion("1.0.0");
+        instance.setCurrentVersionRange(VersionRange.createFromVersion("1.0.0"));
+        UpdateSummary summary = instance.getUpdateSummary(false);
+        assertThat(summary.getNewestUpdate(Optional.empty()), hasToString("2.0.0"));
+        assertThat(summary.getNewestUpdate(MINOR), hasToString("1.1.0"));
+        assertThat(instance.getUpdateSummary(false), sameInstance(summary));
+        assertThat(instance.getUpdateSummary(true).getNewestUpdate(MAJOR), hasToString("3.0.0-SNAPSHOT"));
+
+        instance.setCurrentVersion("1.1.0");
+        instance.setCurrentVersionRange(VersionRange.createFromVersion("1.1.0"));
+        assertThat(instance.getUpdateSummary(false), not(sameInstance(summary)));
+        assertThat(instance.getUpdateSummary(false).getNewestUpdate(MINOR), nullValue());
+    }
+}
@@ -0,0 +1,192 @@
+package org.codehaus.mojo.versions.api;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.codehaus.mojo.versions.model.Rule;
+import org.codehaus.mojo.versions.utils.RegexUtils;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Collections.emptyList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Unit tests for {@link RuleIndex}
+ */
+class RuleIndexTest {
+    private static final String[] GROUP_PARTS = {"org", "com", "apache", "maven", "mojo", "o", ""};
+
+    private static final String[] ARTIFACT_PARTS = {"core", "api", "maven", "plugin", "c", ""};
+
+    private static final String[] WILDCARDS = {"", "", "", "*", "?", ".*", "?*"};
+
+    private static Rule rule(String groupId, String artifactId) {
+        Rule rule = new Rule();
+        rule.setGroupId(groupId);
+        rule.setArtifactId(artifactId);
+        return rule;
+    }
+
+    private static String randomId(Random random, String[] parts) {
+        StringBuilder id = new StringBuilder(parts[random.nextInt(parts.length)]);
+        for (int i = random.nextInt(3); i > 0; i--) {
+            id.append(i % 2 == 0 ? '.' : '-').append(parts[random.nextInt(parts.length)]);
+        }
+        return id.toString();
+    }
+
+    private static String randomRule(Random random, String[] parts) {
+        if (random.nextInt(20) == 0) {
+            return null;
+        }
+        String id = randomId(random, parts);
+        int position = random.nextInt(id.length() + 1);
+        return id.substring(0, position) + WILDCARDS[random.nextInt(WILDCARDS.length)] + id.substring(position);
+    }
+
+    private static List<Rule> randomRules(Random random, int count) {
+        List<Rule> rules = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rules.add(rule(randomRule(random, GROUP_PARTS), randomRule(random, ARTIFACT_PARTS)));
+        }
+        return rules;
+    }
+
+    /**
+     * The selection of {@link DefaultVersionsHelper#getBestFitRule(String, String)} before the rules were compiled.
+     */
+    private static Rule linearBestFitRule(List<Rule> rules, String groupId, String artifactId) {
+        Rule bestFit = null;
+        int bestGroupIdScore = Integer.MAX_VALUE;
+        int bestArtifactIdScore = Integer.MAX_VALUE;
+        boolean exactGroupId = false;
+        boolean exactArtifactId = false;
+        for (Rule rule : rules) {
+            int groupIdScore = RegexUtils.getWildcardScore(rule.getGroupId());
+            if (groupIdScore > bestGroupIdScore) {
+                continue;
+            }
+            boolean exactMatch = DefaultVersionsHelper.exactMatch(rule.getGroupId(), groupId);
+            boolean match = exactMatch || DefaultVersionsHelper.match(rule.getGroupId(), groupId);
+            if (!match || (exactGroupId && !exactMatch)) {
+                continue;
+            }
+            if (bestGroupIdScore > groupIdScore) {
+                bestArtifactIdScore = Integer.MAX_VALUE;
+                exactArtifactId = false;
+            }
+            bestGroupIdScore = groupIdScore;
+            if (exactMatch && !exactGroupId) {
+                exactGroupId = true;
+                bestArtifactIdScore = Integer.MAX_VALUE;
+                exactArtifactId = false;
+            }
+            int artifactIdScore = RegexUtils.getWildcardScore(rule.getArtifactId());
+            if (artifactIdScore > bestArtifactIdScore) {
+                continue;
+            }
+            exactMatch = DefaultVersionsHelper.exactMatch(rule.getArtifactId(), artifactId);
+            match = exactMatch || DefaultVersionsHelper.match(rule.getArtifactId(), artifactId);
+            if (!match || (exactArtifactId && !exactMatch)) {
+                continue;
+            }
+            bestArtifactIdScore = artifactIdScore;
+            if (exactMatch && !exactArtifactId) {
+                exactArtifactId = true;
+            }
+            bestFit = rule;
+        }
+        return bestFit;
+    }
+
+    @Test
+    void testEmptyRules() {
+        assertThat(new RuleIndex(emptyList()).getBestFitRule("org.codehaus.mojo", "versions"), nullValue());
+    }
+
+    @Test
+    void testBestFitRule() {
+        Rule any = rule("*", null);
+        Rule group = rule("org.codehaus.mojo", null);
+        Rule groupPrefix = rule("org.codehaus", null);
+        Rule artifactWildcard = rule("org.codehaus.mojo", "versions-*");
+        Rule exact = rule("org.codehaus.mojo", "versions-maven-plugin");
+        Rule laterExact = rule("org.codehaus.mojo", "versions-maven-plugin");
+        RuleIndex index = new RuleIndex(Arrays.asList(any, groupPrefix, group, artifactWildcard, exact, laterExact));
+
+        assertThat(index.getBestFitRule("org.codehaus.mojo", "versions-maven-plugin"), sameInstance(laterExact));
+        // a rule without artifactId has no wildcards and is preferred over a wildcard artifactId
+        assertThat(index.getBestFitRule("org.codehaus.mojo", "versions-common"), sameInstance(group));
+        assertThat(
+                new RuleIndex(Arrays.asList(any, artifactWildcard))
+                        .getBestFitRule("org.codehaus.mojo", "versions-common"),
+                sameInstance(artifactWildcard));
+        assertThat(index.getBestFitRule("org.codehaus.mojo", "build-helper"), sameInstance(group));
+        // a wildcard matching the whole groupId is preferred over a groupId only matching its start
+        assertThat(index.getBestFitRule("org.codehaus.plexus", "plexus-utils"), sameInstance(any));
+        assertThat(
+                new RuleIndex(Arrays.asList(groupPrefix, group)).getBestFitRule("org.codehaus.plexus", "plexus-utils"),
+                sameInstance(groupPrefix));
+        assertThat(index.getBestFitRule("com.example", "example"), sameInstance(any));
+    }
+
+    @Test
+    void testSameSelectionAsLinearScan() {
+        Random random = new Random(18);
+        for (int round = 0; round < 100; round++) {
+            List<Rule> rules = randomRules(random, 1 + random.nextInt(30));
+            RuleIndex index = new RuleIndex(rules);
+            for (int i = 0; i < 50; i++) {
+                String groupId = randomId(random, GROUP_PARTS);
+                String artifactId = randomId(random, ARTIFACT_PARTS);
+                Rule expected = linearBestFitRule(rules, groupId, artifactId);
+                Rule actual = index.getBestFitRule(groupId, artifactId);
+                assertThat(rules + " for " + groupId + ":" + artifactId, actual, sameInstance(expected));
+            }
+        }
+    }
+
+    @Test
+    void testLargeRuleSet() {
+        // 10k rules x 10k artifacts, which used to take 400M regular expression compilations
+        Random random = new Random(10_000);
+        List<Rule> rules = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            String groupId = "org.example" + random.nextInt(1_000) + (random.nextInt(10) == 0 ? ".*" : "");
+            String artifactId = random.nextInt(10) == 0 ? "artifact-*" : "artifact-" + random.nextInt(10);
+            rules.add(rule(groupId, artifactId));
+        }
+        RuleIndex index = new RuleIndex(rules);
+        for (int i = 0; i < 10_000; i++) {
+            String groupId = "org.example" + random.nextInt(1_000) + (random.nextBoolean() ? ".sub" : "");
+            String artifactId = "artifact-" + random.nextInt(20);
+            Rule actual = index.getBestFitRule(groupId, artifactId);
+            if (i % 500 == 0) {
+                assertThat(actual, sameInstance(linearBestFitRule(rules, groupId, artifactId)));
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package org.codehaus.mojo.versions.cache;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.maven.plugin.logging.Log;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for {@link PersistentVersionMetadataCache}
+ */
+class PersistentVersionMetadataCacheTest {
+    private static final VersionMetadataCache.Key KEY = new VersionMetadataCache.Key(
+            "group",
+            "artifact",
+            "(,)",
+            Collections.singletonList(
+                    new RemoteRepository.Builder("central", "default", "https://repo.maven.apache.org/maven2")
+                            .build()));
+
+    @TempDir
+    Path tempDir;
+
+    private PersistentVersionMetadataCache createCache(Instant now, boolean offline) {
+        return new PersistentVersionMetadataCache(
+                tempDir, Duration.ofMinutes(60), offline, mock(Log.class), Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    @Test
+    void testMissAndHit() {
+        Instant now = Instant.now();
+        PersistentVersionMetadataCache cache = createCache(now, false);
+        assertThat(cache.get(KEY).isPresent(), is(false));
+        cache.put(KEY, Arrays.asList("1.0.0", "1.1.0", "2.0.0-SNAPSHOT"));
+
+        Optional<List<String>> versions =
+                createCache(now.plusSeconds(60), false).get(KEY);
+        assertThat(versions.isPresent(), is(true));
+        assertThat(versions.get(), contains("1.0.0", "1.1.0", "2.0.0-SNAPSHOT"));
+
+        assertThat(cache.getStatistics().getMisses(), is(1L));
+    }
+
+    @Test
+    void testEmptyVersionList() {
+        Instant now = Instant.now();
+        createCache(now, false).put(KEY, Collections.emptyList());
+        assertThat(createCache(now, false).get(KEY).orElse(null), empty());
+    }
+
+    @Test
+    void testStaleEntryNotUsedOnline() {
+        Instant now = Instant.now();
+        createCache(now, false).put(KEY, Collections.singletonList("1.0.0"));
+
+        PersistentVersionMetadataCache cache = createCache(now.plus(Duration.ofMinutes(61)), false);
+        assertThat(cache.get(KEY).isPresent(), is(false));
+        assertThat(cache.getStatistics().getStale(), is(1L));
+        assertThat(cache.getStatistics().getHits(), is(0L));
+    }
+
+    @Test
+    void testStaleEntryUsedOffline() {
+        Instant now = Instant.now();
+        createCache(now, false).put(KEY, Collections.singletonList("1.0.0"));
+
+        PersistentVersionMetadataCache cache = createCache(now.plus(Duration.ofDays(7)), true);
+        assertThat(cache.get(KEY).orElse(null), contains("1.0.0"));
+        assertThat(cache.getStatistics().getStale(), is(1L));
+    }
+
+    @Test
+    void testDifferentRepositoriesAreDifferentEntries() {
+        Instant now = Instant.now();
+        PersistentVersionMetadataCache cache = createCache(now, false);
+        cache.put(KEY, Collections.singletonList("1.0.0"));
+        assertThat(
+                cache.get(new VersionMetadataCache.Key("group", "artifact", "(,)", Collections.emptyList()))
+                        .isPresent(),
+                is(false));
+    }
+}
@@ -0,0 +1,105 @@
+package org.codehaus.mojo.versions.cache;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.apache.maven.plugin.logging.Log;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for {@link PluginPrerequisitesCache}
+ */
+class PluginPrerequisitesCacheTest {
+    @TempDir
+    Path tempDir;
+
+    private PluginPrerequisitesCache createCache() {
+        return new PluginPrerequisitesCache(tempDir, mock(Log.class));
+    }
+
+    @Test
+    void testMissAndHit() {
+        PluginPrerequisitesCache cache = createCache();
+        assertThat(cache.get("group", "plugin", "1.0.0"), is(Optional.empty()));
+        cache.put("group", "plugin", "1.0.0", "3.6.3");
+        cache.put("group", "plugin", "1.1.0", null);
+        cache.flush("group", "plugin");
+
+        PluginPrerequisitesCache other = createCache();
+        assertThat(other.get("group", "plugin", "1.0.0"), is(Optional.of("3.6.3")));
+        assertThat(other.get("group", "plugin", "1.1.0"), is(Optional.of("")));
+        assertThat(other.get("group", "plugin", "2.0.0"), is(Optional.empty()));
+        assertThat(other.getStatistics().getHits(), is(2L));
+        assertThat(other.getStatistics().getMisses(), is(1L));
+    }
+
+    @Test
+    void testConcurrentWritersAreMerged() {
+        PluginPrerequisitesCache first = createCache();
+        PluginPrerequisitesCache second = createCache();
+        assertThat(first.get("group", "plugin", "1.0.0"), is(Optional.empty()));
+        assertThat(second.get("group", "plugin", "1.0.0"), is(Optional.empty()));
+        first.put("group", "plugin", "1.0.0", "3.6.3");
+        second.put("group", "plugin", "2.0.0", "3.9.0");
+        second.flush("group", "plugin");
+        first.flush("group", "plugin");
+
+        PluginPrerequisitesCache cache = createCache();
+        assertThat(cache.get("group", "plugin", "1.0.0"), is(Optional.of("3.6.3")));
+        assertThat(cache.get("group", "plugin", "2.0.0"), is(Optional.of("3.9.0")));
+    }
+
+    @Test
+    void testSnapshotsAreNotCached() {
+        PluginPrerequisitesCache cache = createCache();
+        cache.put("group", "plugin", "1.0.0-SNAPSHOT", "3.6.3");
+        cache.flush("group", "plugin");
+        assertThat(createCache().get("group", "plugin", "1.0.0-SNAPSHOT"), is(Optional.empty()));
+    }
+
+    @Test
+    void testEntriesAreWrittenOnFlush() throws Exception {
+        PluginPrerequisitesCache cache = createCache();
+        cache.put("group", "plugin", "1.0.0", "3.6.3");
+        cache.put("group", "plugin", "1.1.0", "3.6.3");
+        Path file = tempDir.resolve("group").resolve("plugin").resolve("prerequisites.properties");
+        assertThat(Files.exists(file), is(false));
+
+        cache.flush("group", "other-plugin");
+        assertThat(Files.exists(file), is(false));
+
+        cache.flush("group", "plugin");
+        assertThat(createCache().get("group", "plugin", "1.0.0"), is(Optional.of("3.6.3")));
+        assertThat(createCache().get("group", "plugin", "1.1.0"), is(Optional.of("3.6.3")));
+
+        // nothing left to write
+        Files.delete(file);
+        cache.flush("group", "plugin");
+        assertThat(Files.exists(file), is(false));
+    }
+}
@@ -0,0 +1,101 @@
+package org.codehaus.mojo.versions.cache;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link SingleFlightVersionCache}
+ */
+class SingleFlightVersionCacheTest {
+    private static final VersionMetadataCache.Key KEY =
+            new VersionMetadataCache.Key("group", "artifact", "(,)", emptyList());
+
+    @Test
+    void testConcurrentRequestsShareOneResolution() throws Exception {
+        SingleFlightVersionCache cache = SingleFlightVersionCache.forSession(null);
+        AtomicInteger resolutions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<String>>> futures = new ArrayList<>();
+            futures.add(executor.submit(() -> cache.get(KEY, () -> {
+                resolutions.incrementAndGet();
+                started.countDown();
+                release.await();
+                return singletonList("1.0.0");
+            })));
+            started.await(10, TimeUnit.SECONDS);
+            for (int i = 0; i < 3; i++) {
+                futures.add(executor.submit(() -> cache.get(KEY, () -> {
+                    resolutions.incrementAndGet();
+                    return singletonList("2.0.0");
+                })));
+            }
+            release.countDown();
+            for (Future<List<String>> future : futures) {
+                assertThat(future.get(10, TimeUnit.SECONDS), contains("1.0.0"));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(resolutions.get(), is(1));
+        assertThat(cache.getRequests(), is(4L));
+        assertThat(cache.getResolutions(), is(1L));
+    }
+
+    @Test
+    void testFailuresAreNotMemoized() throws Exception {
+        SingleFlightVersionCache cache = SingleFlightVersionCache.forSession(null);
+        assertThrows(
+                IOException.class,
+                () -> cache.get(KEY, () -> {
+                    throw new IOException("failed");
+                }));
+        assertThat(cache.get(KEY, () -> singletonList("1.0.0")), contains("1.0.0"));
+    }
+
+    @Test
+    void testMemoIsSharedWithinSession() throws Exception {
+        DefaultRepositorySystemSession session = new DefaultRepositorySystemSession();
+        SingleFlightVersionCache.forSession(session).get(KEY, () -> singletonList("1.0.0"));
+        assertThat(
+                SingleFlightVersionCache.forSession(session).get(KEY, () -> singletonList("2.0.0")), contains("1.0.0"));
+    }
+}
@@ -50,6 +50,20 @@ class NumericVersionComparatorTest extends VersionComparatorTestBase {
         assertTrue(instanceCompare("1.100000000000000000000000.0", "1.100000000000000000000000.0") == 0);
     }
 
+    @Test
+    void testValuesAroundLongOverflow() {
+        assertTrue(instanceCompare("1.9223372036854775807", "1.9223372036854775808") < 0);
+        assertTrue(instanceCompare("1.9223372036854775808", "1.9223372036854775807") > 0);
+        assertTrue(instanceCompare("1.9223372036854775808.1", "1.9223372036854775808.1") == 0);
+    }
+
+    @Test
+    void testTrailingSegmentsWithQualifiers() {
+        assertTrue(instanceCompare("1.0", "1.0.5-beta") < 0);
+        assertTrue(instanceCompare("1.0.5-beta", "1.0") > 0);
+        assertTrue(instanceCompare("1.0", "1.0.-5") > 0);
+    }
+
     @Test
     void testStringValues() {
         assertTrue(instanceCompare("1.a20.0", "1.a3.0") < 0);
@@ -22,11 +22,14 @@ package org.codehaus.mojo.versions.rewriting;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.transform.TransformerException;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.codehaus.stax2.XMLStreamReader2;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -39,6 +42,7 @@ import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.containsStringIgnoringCase;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWithIgnoringCase;
 import static org.hamcrest.core.Is.is;
 
 /**
@@ -242,4 +246,45 @@ class MutableXMLStreamReaderTest {
         assertThat(reader.getBetween("<version>", "</version>"), is("2"));
         assertThat(reader.getBetween("<api>", "</api>"), is("2.0"));
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"iso-8859-2", "utf-8", "utf-16"})
+    void testEncodingIsKeptAfterRewind(String value) throws XMLStreamException, IOException, TransformerException {
+        MutableXMLStreamReader reader =
+                new MutableXMLStreamReader(getClass().getResourceAsStream(value + ".xml"), PATH);
+        assertThat(reader.getEncoding(), startsWithIgnoringCase(value));
+        reader.rewind();
+        assertThat(reader.getEncoding(), startsWithIgnoringCase(value));
+    }
+
+    @Test
+    void testReplaceDoesNotAffectParsingOfTheRestOfTheDocument()
+            throws XMLStreamException, IOException, TransformerException {
+        // the document is larger than the read-ahead buffer of the parser
+        StringBuilder document = new StringBuilder("<project><modelVersion>4.0.0</modelVersion><items>");
+        for (int i = 0; i < 2000; i++) {
+            document.append("<item>").append(i).append("</item>");
+        }
+        document.append("</items></project>");
+        MutableXMLStreamReader reader = new MutableXMLStreamReader(
+                new ByteArrayInputStream(document.toString().getBytes(StandardCharsets.UTF_8)), PATH);
+
+        assertThat(goToStartElement(reader, "modelVersion"), is(true));
+        reader.next();
+        reader.replace("5.0.0-with-a-longer-value");
+
+        int items = 0;
+        while (goToStartElement(reader, "item")) {
+            reader.next();
+            assertThat(
+                    reader.getSource()
+                            .substring(reader.getCurrentStartingCharOffset(), reader.getCurrentEndingCharOffset()),
+                    equalTo(String.valueOf(items++)));
+        }
+        assertThat(items, is(2000));
+
+        reader.rewind();
+        assertThat(goToStartElement(reader, "modelVersion"), is(true));
+        assertThat(reader.getElementText(), is("5.0.0-with-a-longer-value"));
+    }
 }
@@ -0,0 +1,114 @@
+package org.codehaus.mojo.versions.rewriting;
+
+/*
+ * Copyright MojoHaus and Contributors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link PieceTable}
+ */
+class PieceTableTest {
+    @Test
+    void testUnmodified() {
+        PieceTable table = new PieceTable("<a>1</a>");
+        assertThat(table.isModified(), is(false));
+        assertThat(table.toString(), is("<a>1</a>"));
+        assertThat(table.substring(3, 4), is("1"));
+        assertThat(table.toCurrentOffset(4), is(4));
+    }
+
+    @Test
+    void testReplace() {
+        PieceTable table = new PieceTable("<a>1</a><b>2</b>");
+        table.replace(3, 4, "1.0.0");
+        table.replace(15, 16, "");
+        assertThat(table.isModified(), is(true));
+        assertThat(table.toString(), is("<a>1.0.0</a><b></b>"));
+        assertThat(table.getOriginal(), is("<a>1</a><b>2</b>"));
+        assertThat(table.length(), is(19));
+    }
+
+    @Test
+    void testOriginalOffsetsAreStableAnchors() {
+        PieceTable table = new PieceTable("<a>1</a><b>2</b>");
+        table.replace(3, 4, "1.0.0");
+        // the character after the replacement moves
+        assertThat(table.toCurrentOffset(4), is(8));
+        // a removed character maps to the start of its replacement
+        assertThat(table.toCurrentOffset(3), is(3));
+        // characters before the replacement do not move
+        assertThat(table.toCurrentOffset(2), is(2));
+        // an insertion moves the character it is inserted before
+        table.replace(11, 11, "x");
+        assertThat(table.toCurrentOffset(7), is(12));
+        assertThat(table.toCurrentOffset(16), is(table.length()));
+    }
+
+    @Test
+    void testInvalidRange() {
+        PieceTable table = new PieceTable("abc");
+        assertThrows(IndexOutOfBoundsException.class, () -> table.replace(2, 1, ""));
+        assertThrows(IndexOutOfBoundsException.class, () -> table.substring(0, 4));
+    }
+
+    @Test
+    void testRandomEditsMatchStringBuilder() {
+        Random random = new Random(42);
+        StringBuilder original = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            original.append((char) ('a' + random.nextInt(26)));
+        }
+        PieceTable table = new PieceTable(original.toString());
+        StringBuilder expected = new StringBuilder(original);
+        // tracks where each original character currently is, or -1 once removed
+        int[] positions = new int[original.length()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = i;
+        }
+        for (int edit = 0; edit < 2_000; edit++) {
+            int start = random.nextInt(expected.length() + 1);
+            int end = Math.min(expected.length(), start + random.nextInt(5));
+            String replacement = random.nextInt(4) == 0 ? "" : "#" + edit;
+            table.replace(start, end, replacement);
+            expected.replace(start, end, replacement);
+            int delta = replacement.length() - (end - start);
+            for (int i = 0; i < positions.length; i++) {
+                if (positions[i] >= end) {
+                    positions[i] += delta;
+                } else if (positions[i] >= start) {
+                    positions[i] = -1;
+                }
+            }
+            if (edit % 100 == 0) {
+                int from = random.nextInt(expected.length());
+                int to = Math.min(expected.length(), from + random.nextInt(100));
+                assertThat(table.substring(from, to), is(expected.substring(from, to)));
+            }
+        }
+        assertThat(table.toString(), is(expected.toString()));
+        for (int i = 0; i < positions.length; i++) {
+            if (positions[i] >= 0) {
+                assertThat(table.toCurrentOffset(i), is(positions[i]));
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package org.codehaus.mojo.versions.utils;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Unit tests for {@link DefaultArtifactVersionCache}
+ */
+class DefaultArtifactVersionCacheTest {
+
+    @Test
+    void testVersionsAreInterned() {
+        long hits = DefaultArtifactVersionCache.getStatistics().getHits();
+        DefaultArtifactVersion version = DefaultArtifactVersionCache.of("1.2.3-interned");
+        assertThat(version.toString(), is("1.2.3-interned"));
+        assertThat(DefaultArtifactVersionCache.of("1.2.3-interned"), sameInstance(version));
+        assertThat(DefaultArtifactVersionCache.getStatistics().getHits(), greaterThan(hits));
+    }
+
+    @Test
+    void testConcurrentLookupsReturnEqualVersions() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Boolean>> tasks = IntStream.range(0, 8)
+                    .mapToObj(t -> (Callable<Boolean>)
+                            () -> IntStream.range(0, 50_000).allMatch(i -> DefaultArtifactVersionCache.of("1." + i)
+                                    .toString()
+                                    .equals("1." + i)))
+                    .collect(Collectors.toList());
+            for (Future<Boolean> future : executor.invokeAll(tasks)) {
+                assertThat(future.get(), is(true));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package org.codehaus.mojo.versions.utils;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Parent;
+import org.codehaus.mojo.versions.api.PomHelper;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Unit tests for {@link ReactorIndex}
+ */
+class ReactorIndexTest {
+    private final Map<File, Model> reactor = new LinkedHashMap<>();
+
+    private Model model(String path, String groupId, String artifactId, Model parent) {
+        Model model = new Model();
+        model.setGroupId(groupId);
+        model.setArtifactId(artifactId);
+        model.setVersion(parent == null ? "1.0" : null);
+        if (parent != null) {
+            Parent p = new Parent();
+            p.setGroupId(PomHelper.getGroupId(parent));
+            p.setArtifactId(parent.getArtifactId());
+            p.setVersion("1.0");
+            model.setParent(p);
+        }
+        reactor.put(new File(path), model);
+        return model;
+    }
+
+    @Test
+    void testLookupsMatchPomHelper() {
+        Model root = model("pom.xml", "group", "root", null);
+        Model child = model("child/pom.xml", null, "child", root);
+        Model grandChild = model("child/grand-child/pom.xml", "other", "grand-child", child);
+        Model sibling = model("sibling/pom.xml", null, "sibling", root);
+
+        ReactorIndex index = new ReactorIndex(reactor);
+
+        for (Model model : reactor.values()) {
+            String groupId = PomHelper.getGroupId(model);
+            String artifactId = PomHelper.getArtifactId(model);
+            assertThat(
+                    index.getModelEntry(groupId, artifactId),
+                    is(PomHelper.getModelEntry(reactor, groupId, artifactId)));
+            assertThat(index.getModel(null, artifactId), sameInstance(PomHelper.getModel(reactor, null, artifactId)));
+            assertThat(
+                    index.getChildModels(groupId, artifactId),
+                    is(PomHelper.getChildModels(reactor, groupId, artifactId)));
+            assertThat(index.getReactorParentCount(model), is(PomHelper.getReactorParentCount(reactor, model)));
+        }
+        assertThat(index.getChildModels("group", "root").values(), contains(child, sibling));
+        assertThat(index.getChildModels("group", "grand-child"), anEmptyMap());
+        assertThat(index.getReactorParentCount(grandChild), is(2));
+        assertThat(index.getModel("group", "grand-child"), nullValue());
+    }
+
+    @Test
+    void testDepthOfModelOutsideReactor() {
+        Model root = model("pom.xml", "group", "root", null);
+        Model child = model("child/pom.xml", null, "child", root);
+        ReactorIndex index = new ReactorIndex(reactor);
+        reactor.clear();
+
+        Model outside = model("outside/pom.xml", null, "outside", child);
+        assertThat(index.getReactorParentCount(outside), is(2));
+    }
+
+    @Test
+    void testVersionChangesDoNotAffectLookups() {
+        Model root = model("pom.xml", "group", "root", null);
+        model("child/pom.xml", null, "child", root);
+        ReactorIndex index = new ReactorIndex(reactor);
+
+        root.setVersion("2.0");
+        assertThat(index.getModel("group", "root"), sameInstance(root));
+        assertThat(index.getChildModels("group", "root").size(), is(1));
+    }
+}
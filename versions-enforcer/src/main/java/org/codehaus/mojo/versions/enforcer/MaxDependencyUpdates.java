@@ -21,6 +21,8 @@ package org.codehaus.mojo.versions.enforcer;
 import javax.inject.Inject;
 import javax.inject.Named;
 
+import java.io.File;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -255,6 +257,38 @@ public class MaxDependencyUpdates extends AbstractEnforcerRule {
      */
     protected boolean allowSnapshots;
 
+    /**
+     * Time-to-live, in minutes, of the persistent cache of resolved artifact version lists, shared with
+     * the goals and reports of the plugin using the same cache directory. {@code 0} disables the cache.
+     *
+     * @since 2.19.0
+     */
+    protected long metadataCacheTtl;
+
+    /**
+     * Directory of the persistent version metadata cache. If not set, {@code .cache/versions-maven-plugin}
+     * in the local repository is used.
+     *
+     * @since 2.19.0
+     */
+    protected File metadataCacheDirectory;
+
+    /**
+     * Maximum number of concurrent artifact metadata lookups. If not positive, a default based on
+     * the number of available processors is used.
+     *
+     * @since 2.19.0
+     */
+    protected int lookupThreads;
+
+    /**
+     * Whether artifact metadata lookups should be executed in virtual threads. Only effective
+     * on Java 21 or newer.
+     *
+     * @since 2.19.0
+     */
+    protected boolean lookupVirtualThreads;
+
     private final MavenProject project;
 
     private final ArtifactHandlerManager artifactHandlerManager;
@@ -301,6 +335,12 @@ public class MaxDependencyUpdates extends AbstractEnforcerRule {
                     .withLog(new PluginLogWrapper(getLog()))
                     .withMavenSession(mavenSession)
                     .withMojoExecution(mojoExecution)
+                    .withMetadataCacheTtl(Duration.ofMinutes(metadataCacheTtl))
+                    .withMetadataCacheDirectory(Optional.ofNullable(metadataCacheDirectory)
+                            .map(File::toPath)
+                            .orElse(null))
+                    .withLookupThreads(lookupThreads)
+                    .withLookupVirtualThreads(lookupVirtualThreads)
                     .build();
         } catch (MojoExecutionException e) {
             throw new EnforcerRuleError("Cannot resolve dependency", e);
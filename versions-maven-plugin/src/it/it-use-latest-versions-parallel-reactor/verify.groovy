@@ -0,0 +1,13 @@
+def root = new File( basedir, 'pom.xml' ).text
+def moduleA = new File( basedir, 'module-a/pom.xml' ).text
+def moduleB = new File( basedir, 'module-b/pom.xml' ).text
+def buildLog = new File( basedir, 'build.log' ).text
+
+assert root.contains( '<version>3.3.0</version>' )
+assert moduleA.contains( '<version>3.3.0</version>' )
+// module-b is processed with its own configuration
+assert moduleB.contains( '<version>2.2.1</version>' )
+
+// all projects are processed by the execution for the first reactor project, the others are skipped
+assert buildLog.contains( 'Processed 3 reactor project(s)' )
+assert buildLog.count( 'already processed with the first reactor project' ) == 2
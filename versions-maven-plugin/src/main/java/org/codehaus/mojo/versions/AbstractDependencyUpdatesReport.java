@@ -41,6 +41,7 @@ import org.codehaus.mojo.versions.api.ArtifactVersions;
 import org.codehaus.mojo.versions.api.VersionRetrievalException;
 import org.codehaus.mojo.versions.reporting.ReportRendererFactory;
 import org.codehaus.mojo.versions.reporting.model.DependencyUpdatesModel;
+import org.codehaus.mojo.versions.reporting.util.DependencyIndex;
 import org.codehaus.mojo.versions.utils.DependencyComparator;
 import org.codehaus.mojo.versions.utils.MavenProjectUtils;
 import org.codehaus.mojo.versions.xml.DependencyUpdatesXmlReportRenderer;
@@ -57,6 +58,9 @@ public abstract class AbstractDependencyUpdatesReport extends AbstractVersionsRe
 
     private static final DependencyComparator DEPENDENCY_COMPARATOR = DependencyComparator.INSTANCE;
 
+    private static final String REACTOR_PREFETCH_KEY =
+            AbstractDependencyUpdatesReport.class.getName() + ".reactorPrefetch";
+
     /**
      * Whether to process the <code>dependencyManagement</code> in pom or not.
      *
@@ -144,6 +148,7 @@ public abstract class AbstractDependencyUpdatesReport extends AbstractVersionsRe
      */
     @Override
     protected void doGenerateReport(Locale locale, Sink sink) throws MavenReportException {
+        prefetchReactorDependencies();
 
         Set<Dependency> dependencies = getDependencies();
 
@@ -214,10 +219,55 @@ public abstract class AbstractDependencyUpdatesReport extends AbstractVersionsRe
     private void handleOnlyProjectDependencies(Set<Dependency> dependencyManagement, Set<Dependency> dependencies) {
         if (!onlyProjectDependencies) {
             // Retains only dependencies not present in dependencyManagement
-            dependencies.removeIf(dep -> dependencyManagement.stream().anyMatch(dmDep -> match(dep, dmDep)));
+            DependencyIndex managed = new DependencyIndex(dependencyManagement);
+            dependencies.removeIf(managed::matches);
         } else {
             // Retain only dependencies in dependencyManagement that are also present in dependencies
-            dependencyManagement.removeIf(dep -> dependencies.stream().noneMatch(dmDep -> match(dep, dmDep)));
+            DependencyIndex used = new DependencyIndex(dependencies);
+            dependencyManagement.removeIf(dep -> !used.matches(dep));
+        }
+    }
+
+    /**
+     * Tells whether the versions of the dependencies of all projects of the session should be looked up
+     * before this report is generated. Reports covering the whole reactor themselves should return {@code false}.
+     *
+     * @return {@code true} by default
+     * @since 2.19.0
+     */
+    protected boolean isReactorPrefetch() {
+        return true;
+    }
+
+    /**
+     * Looks up the versions of the dependencies of all projects of the session at once, so that the reports
+     * of the individual modules only need to render the results memoized for the session. Only the first report
+     * of the session performs the lookup, failures are left to the lookups of the individual reports.
+     */
+    private void prefetchReactorDependencies() {
+        if (!isReactorPrefetch()
+                || session == null
+                || session.getProjects() == null
+                || session.getProjects().size() < 2
+                || session.getRepositorySession() == null
+                || session.getRepositorySession().getData() == null
+                || !session.getRepositorySession().getData().set(REACTOR_PREFETCH_KEY, null, Boolean.TRUE)) {
+            return;
+        }
+        Set<Dependency> reactorDependencies = new TreeSet<>(DEPENDENCY_COMPARATOR);
+        try {
+            for (MavenProject reactorProject : session.getProjects()) {
+                reactorDependencies.addAll(reactorProject.getDependencies());
+                if (processDependencyManagement) {
+                    reactorDependencies.addAll(MavenProjectUtils.extractDependenciesFromDependencyManagement(
+                            reactorProject, processDependencyManagementTransitive, getLog()));
+                }
+            }
+            getHelper()
+                    .lookupDependenciesUpdates(
+                            reactorDependencies.stream().filter(d -> d.getVersion() != null), false, allowSnapshots);
+        } catch (VersionRetrievalException | MavenReportException | RuntimeException e) {
+            getLog().debug("Could not look up the dependencies of the reactor: " + e.getMessage(), e);
         }
     }
 
@@ -293,21 +343,6 @@ public abstract class AbstractDependencyUpdatesReport extends AbstractVersionsRe
         }
     }
 
-    /**
-     * Compares two dependencies with each other
-     *
-     * @return true if the two dependencies match
-     */
-    private boolean match(Dependency dep, Dependency dmDep) {
-        return dmDep.getGroupId().equals(dep.getGroupId())
-                && dmDep.getArtifactId().equals(dep.getArtifactId())
-                && (dmDep.getScope() == null || dmDep.getScope().equals(dep.getScope()))
-                && (dmDep.getClassifier() == null || dmDep.getClassifier().equals(dep.getClassifier()))
-                && (dep.getVersion() == null
-                        || dmDep.getVersion() == null
-                        || dmDep.getVersion().equals(dep.getVersion()));
-    }
-
     protected boolean hasDependencyManagement(MavenProject project) {
         if (project == null) {
             return false;
@@ -217,14 +217,13 @@ public abstract class AbstractPluginUpdatesReport extends AbstractVersionsReport
 
     private void handleOnlyProjectPlugins(Set<Plugin> pluginManagement, Set<Plugin> plugins) {
 
+        // both sets are ordered by PLUGIN_COMPARATOR, so that membership is a lookup rather than a scan
         if (!onlyProjectPlugins) {
             // Retains only plugins not present in pluginManagement
-            plugins.removeIf(plugin ->
-                    pluginManagement.stream().anyMatch(pmPlugin -> PLUGIN_COMPARATOR.compare(plugin, pmPlugin) == 0));
+            plugins.removeIf(pluginManagement::contains);
         } else {
             // Retain only plugins in pluginManagement that are also present in plugins
-            pluginManagement.removeIf(
-                    pmPlugin -> plugins.stream().noneMatch(plugin -> PLUGIN_COMPARATOR.compare(plugin, pmPlugin) == 0));
+            pluginManagement.removeIf(pmPlugin -> !plugins.contains(pmPlugin));
         }
     }
 }
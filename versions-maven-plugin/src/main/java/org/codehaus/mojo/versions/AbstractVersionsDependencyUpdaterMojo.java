@@ -39,7 +39,7 @@ import org.apache.maven.shared.artifact.filter.PatternExcludesArtifactFilter;
 import org.apache.maven.shared.artifact.filter.PatternIncludesArtifactFilter;
 import org.apache.maven.shared.artifact.filter.ScopeArtifactFilter;
 import org.apache.maven.wagon.Wagon;
-import org.codehaus.mojo.versions.api.PomHelper;
+import org.codehaus.mojo.versions.api.PomEditPlan;
 import org.codehaus.mojo.versions.api.recording.ChangeRecorder;
 import org.codehaus.mojo.versions.api.recording.DependencyChangeRecord;
 import org.codehaus.mojo.versions.recording.DefaultDependencyChangeRecord;
@@ -459,20 +459,27 @@ public abstract class AbstractVersionsDependencyUpdaterMojo extends AbstractVers
     }
 
     /**
-     * Attempts to update the dependency {@code dep} to the given {@code newVersion}. The dependency can either
-     * be the parent project or any given dependency.
+     * Registers the update of the dependency {@code dep} to the given {@code newVersion} in the given plan.
+     * The dependency can either be the parent project or any given dependency.
      *
-     * @param pom {@link MutableXMLStreamReader} instance to update the POM XML document
+     * @param plan plan of the edits of the POM XML document
      * @param dep dependency to be updated (can also be a dependency made from the parent)
      * @param newVersion new version to update the dependency to
      * @param changeKind title for the {@link ChangeRecorder} log
-     * @return {@code true} if an update has been made, {@code false} otherwise
-     * @throws XMLStreamException thrown if updating the XML doesn't succeed
+     * @return reports the outcome of the update to the log and the {@link ChangeRecorder}
+     *         once the plan has been applied
+     * @throws MojoExecutionException thrown if the {@link ChangeRecorder} is not available
      */
-    protected boolean updateDependencyVersion(
-            MutableXMLStreamReader pom, Dependency dep, String newVersion, DependencyChangeRecord.ChangeKind changeKind)
-            throws XMLStreamException, MojoExecutionException {
-        boolean updated = false;
+    protected Runnable updateDependencyVersion(
+            PomEditPlan plan, Dependency dep, String newVersion, DependencyChangeRecord.ChangeKind changeKind)
+            throws MojoExecutionException {
+        ChangeRecorder changeRecorder = getChangeRecorder();
+        DependencyChangeRecord changeRecord = DefaultDependencyChangeRecord.builder()
+                .withKind(changeKind)
+                .withDependency(dep)
+                .withNewVersion(newVersion)
+                .build();
+        List<Runnable> reports = new ArrayList<>();
         if (getProcessParent()
                 && getProject().getParent() != null
                 && (DependencyComparator.INSTANCE.compare(
@@ -504,42 +511,61 @@ public abstract class AbstractVersionsDependencyUpdaterMojo extends AbstractVers
                                                                 .getBaseVersion())
                                                         .build())
                                         == 0)) {
-            if (PomHelper.setProjectParentVersion(pom, newVersion)) {
-                if (getLog().isDebugEnabled()) {
-                    getLog().debug("Made parent update from " + dep.getVersion() + " to " + newVersion);
+            PomEditPlan.Edit parentEdit = plan.setProjectParentVersion(newVersion);
+            reports.add(() -> {
+                if (parentEdit.isApplied()) {
+                    if (getLog().isDebugEnabled()) {
+                        getLog().debug("Made parent update from " + dep.getVersion() + " to " + newVersion);
+                    }
+                    changeRecorder.recordChange(changeRecord);
+                } else {
+                    getLog().warn("Could not update parent: " + dep.toString() + " to " + newVersion);
                 }
-                getChangeRecorder()
-                        .recordChange(DefaultDependencyChangeRecord.builder()
-                                .withKind(changeKind)
-                                .withDependency(dep)
-                                .withNewVersion(newVersion)
-                                .build());
-                updated = true;
-            } else {
-                getLog().warn("Could not update parent: " + dep.toString() + " to " + newVersion);
-            }
+            });
         }
 
-        if (PomHelper.setDependencyVersion(
-                pom,
+        PomEditPlan.Edit edit = plan.setDependencyVersion(
                 dep.getGroupId(),
                 dep.getArtifactId(),
                 dep.getVersion(),
                 newVersion,
                 getProject().getModel(),
-                getLog())) {
-            if (getLog().isInfoEnabled()) {
-                getLog().info("Updated " + toString(dep) + " to version " + newVersion);
+                getLog());
+        reports.add(() -> {
+            if (edit.isApplied()) {
+                if (getLog().isInfoEnabled()) {
+                    getLog().info("Updated " + toString(dep) + " to version " + newVersion);
+                }
+                changeRecorder.recordChange(changeRecord);
             }
-            getChangeRecorder()
-                    .recordChange(DefaultDependencyChangeRecord.builder()
-                            .withKind(changeKind)
-                            .withDependency(dep)
-                            .withNewVersion(newVersion)
-                            .build());
-            updated = true;
-        }
+        });
+
+        return () -> reports.forEach(Runnable::run);
+    }
 
+    /**
+     * Attempts to update the dependency {@code dep} to the given {@code newVersion}. The dependency can either
+     * be the parent project or any given dependency.
+     *
+     * @param pom {@link MutableXMLStreamReader} instance to update the POM XML document
+     * @param dep dependency to be updated (can also be a dependency made from the parent)
+     * @param newVersion new version to update the dependency to
+     * @param changeKind title for the {@link ChangeRecorder} log
+     * @return {@code true} if an update has been made, {@code false} otherwise
+     * @throws XMLStreamException thrown if updating the XML doesn't succeed
+     * @throws MojoExecutionException thrown if the {@link ChangeRecorder} is not available
+     * @deprecated register the updates of a POM in one {@link PomEditPlan} using
+     * {@link #updateDependencyVersion(PomEditPlan, Dependency, String, DependencyChangeRecord.ChangeKind)} instead,
+     * this method applies a plan with the single update
+     */
+    @Deprecated
+    protected boolean updateDependencyVersion(
+            MutableXMLStreamReader pom, Dependency dep, String newVersion, DependencyChangeRecord.ChangeKind changeKind)
+            throws XMLStreamException, MojoExecutionException {
+        PomEditPlan plan = new PomEditPlan(pom);
+        Runnable report = updateDependencyVersion(plan, dep, newVersion, changeKind);
+        boolean updated = plan.apply();
+        report.run();
         return updated;
     }
 
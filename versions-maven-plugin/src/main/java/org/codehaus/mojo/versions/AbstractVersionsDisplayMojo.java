@@ -26,14 +26,17 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
 import java.util.LinkedHashSet;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.maven.artifact.handler.manager.ArtifactHandlerManager;
+import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.wagon.Wagon;
 import org.codehaus.mojo.versions.api.recording.ChangeRecorder;
+import org.codehaus.mojo.versions.json.UpdatesJsonWriter;
 import org.eclipse.aether.RepositorySystem;
 
 /**
@@ -87,6 +90,26 @@ public abstract class AbstractVersionsDisplayMojo extends AbstractVersionsUpdate
             defaultValue = AbstractVersionsDisplayMojo.DEFAULT_OUTPUT_LINE_WIDTH + "")
     protected int outputLineWidth;
 
+    /**
+     * If specified then the results will also be written to the specified file in a machine-readable format,
+     * see {@link #jsonOutputFormat}.
+     *
+     * @since 2.19.0
+     */
+    @Parameter(property = "versions.jsonOutputFile")
+    protected File jsonOutputFile;
+
+    /**
+     * The format of {@link #jsonOutputFile}: {@code json} writes a JSON array with one document per project
+     * of the build, rewriting the file whenever a project is finished; {@code ndjson} writes one JSON object
+     * per line for each result as soon as it is known, appending the results of all projects of the build
+     * to the file.
+     *
+     * @since 2.19.0
+     */
+    @Parameter(property = "versions.jsonOutputFormat", defaultValue = "json")
+    protected String jsonOutputFormat = "json";
+
     private boolean outputFileError = false;
 
     @Inject
@@ -140,6 +163,43 @@ public abstract class AbstractVersionsDisplayMojo extends AbstractVersionsUpdate
         }
     }
 
+    /**
+     * Opens the {@link #jsonOutputFile} for writing the results of the current project.
+     *
+     * @param goal name of the goal
+     * @return writer of the results, ignoring them if no {@link #jsonOutputFile} is configured
+     * @throws MojoExecutionException thrown if the format is not supported or the file cannot be opened
+     * @since 2.19.0
+     */
+    protected UpdatesJsonWriter jsonInit(String goal) throws MojoExecutionException {
+        if (jsonOutputFile == null) {
+            return UpdatesJsonWriter.disabled();
+        }
+        UpdatesJsonWriter.Format format;
+        try {
+            format = UpdatesJsonWriter.Format.valueOf(jsonOutputFormat.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new MojoExecutionException(
+                    "Unsupported jsonOutputFormat: " + jsonOutputFormat + ", supported formats are json and ndjson");
+        }
+        try {
+            if (jsonOutputFile.getParentFile() != null) {
+                Files.createDirectories(jsonOutputFile.getParentFile().toPath());
+            }
+            // the results of all projects of the build are collected in the same file
+            return new UpdatesJsonWriter(
+                    UpdatesJsonWriter.Output.forSession(
+                            session != null ? session.getRepositorySession() : null, jsonOutputFile.toPath()),
+                    format,
+                    goal,
+                    getProject().getGroupId() + ":" + getProject().getArtifactId() + ":"
+                            + getProject().getVersion(),
+                    getAllowSnapshots());
+        } catch (IOException e) {
+            throw new MojoExecutionException("Cannot send output to " + jsonOutputFile, e);
+        }
+    }
+
     protected void logLine(boolean error, String line) {
         if (logOutput) {
             if (error) {
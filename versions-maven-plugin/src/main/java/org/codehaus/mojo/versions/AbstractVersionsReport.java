@@ -19,6 +19,8 @@ package org.codehaus.mojo.versions;
  * under the License.
  */
 
+import java.io.File;
+import java.time.Duration;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
@@ -38,6 +40,8 @@ import org.codehaus.mojo.versions.reporting.ReportRendererFactory;
 import org.codehaus.plexus.i18n.I18N;
 import org.eclipse.aether.RepositorySystem;
 
+import static java.util.Optional.ofNullable;
+
 /**
  * Base class for all versions reports.
  *
@@ -158,6 +162,44 @@ public abstract class AbstractVersionsReport<T> extends AbstractMavenReport {
      */
     protected Map<String, Wagon> wagonMap;
 
+    /**
+     * Time-to-live, in minutes, of the persistent cache of resolved artifact version lists. The cache is
+     * shared by all goals, reports and the {@code maxDependencyUpdates} enforcer rule using the same
+     * cache directory. In offline mode, expired entries are still used. {@code 0} disables the cache.
+     *
+     * @since 2.19.0
+     */
+    @Parameter(property = "versions.metadataCacheTtl", defaultValue = "0")
+    protected long metadataCacheTtl;
+
+    /**
+     * Directory of the persistent version metadata cache. If not set, {@code .cache/versions-maven-plugin}
+     * in the local repository is used.
+     *
+     * @since 2.19.0
+     */
+    @Parameter(property = "versions.metadataCacheDirectory")
+    protected File metadataCacheDirectory;
+
+    /**
+     * Maximum number of concurrent artifact metadata lookups. The lookup executor is shared by all goals,
+     * reports and enforcer rules of the Maven session; the first one to run determines its configuration.
+     * If not positive, a default based on the number of available processors is used.
+     *
+     * @since 2.19.0
+     */
+    @Parameter(property = "versions.lookupThreads", defaultValue = "0")
+    protected int lookupThreads;
+
+    /**
+     * Whether artifact metadata lookups should be executed in virtual threads. Only effective
+     * on Java 21 or newer.
+     *
+     * @since 2.19.0
+     */
+    @Parameter(property = "versions.lookupVirtualThreads", defaultValue = "false")
+    protected boolean lookupVirtualThreads;
+
     // --------------------- GETTER / SETTER METHODS ---------------------
 
     protected AbstractVersionsReport(
@@ -187,6 +229,12 @@ public abstract class AbstractVersionsReport<T> extends AbstractMavenReport {
                         .withLog(getLog())
                         .withMavenSession(session)
                         .withMojoExecution(mojoExecution)
+                        .withMetadataCacheTtl(Duration.ofMinutes(metadataCacheTtl))
+                        .withMetadataCacheDirectory(ofNullable(metadataCacheDirectory)
+                                .map(File::toPath)
+                                .orElse(null))
+                        .withLookupThreads(lookupThreads)
+                        .withLookupVirtualThreads(lookupVirtualThreads)
                         .build();
             } catch (MojoExecutionException e) {
                 throw new MavenReportException(e.getMessage(), e);
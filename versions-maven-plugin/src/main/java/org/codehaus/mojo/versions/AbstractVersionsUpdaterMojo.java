@@ -20,6 +20,7 @@ package org.codehaus.mojo.versions;
  */
 
 import javax.inject.Inject;
+import javax.inject.Provider;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.transform.TransformerException;
 
@@ -27,11 +28,24 @@ import java.io.File;
 import java.io.IOException;
 import java.io.Writer;
 import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.handler.manager.ArtifactHandlerManager;
@@ -40,16 +54,22 @@ import org.apache.maven.artifact.versioning.ArtifactVersion;
 import org.apache.maven.artifact.versioning.InvalidVersionSpecificationException;
 import org.apache.maven.artifact.versioning.VersionRange;
 import org.apache.maven.execution.MavenSession;
+import org.apache.maven.lifecycle.LifecycleExecutor;
 import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MavenPluginManager;
+import org.apache.maven.plugin.Mojo;
 import org.apache.maven.plugin.MojoExecution;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.PluginConfigurationException;
+import org.apache.maven.plugin.PluginContainerException;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.wagon.Wagon;
 import org.codehaus.mojo.versions.api.ArtifactVersions;
 import org.codehaus.mojo.versions.api.DefaultVersionsHelper;
-import org.codehaus.mojo.versions.api.PomHelper;
+import org.codehaus.mojo.versions.api.LookupExecutor;
+import org.codehaus.mojo.versions.api.PomEditPlan;
 import org.codehaus.mojo.versions.api.Property;
 import org.codehaus.mojo.versions.api.PropertyVersions;
 import org.codehaus.mojo.versions.api.Segment;
@@ -60,7 +80,9 @@ import org.codehaus.mojo.versions.model.RuleSet;
 import org.codehaus.mojo.versions.ordering.InvalidSegmentException;
 import org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader;
 import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.RepositorySystemSession;
 
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static java.util.Optional.ofNullable;
 
@@ -71,6 +93,18 @@ import static java.util.Optional.ofNullable;
  */
 public abstract class AbstractVersionsUpdaterMojo extends AbstractMojo {
 
+    /**
+     * Verify proposed updates by resolving their POM only
+     */
+    static final String UPDATE_VERIFICATION_METADATA = "metadata";
+
+    /**
+     * Verify proposed updates by resolving the artifact itself
+     */
+    static final String UPDATE_VERIFICATION_FULL = "full";
+
+    private static final String REACTOR_CLAIMS_KEY = AbstractVersionsUpdaterMojo.class.getName() + ".reactorClaims";
+
     // ------------------------------ FIELDS ------------------------------
 
     /**
@@ -154,6 +188,18 @@ public abstract class AbstractVersionsUpdaterMojo extends AbstractMojo {
     @Parameter(property = "changeRecorderOutputFile", defaultValue = "${project.build.directory}/versions-changes.xml")
     private File changeRecorderOutputFile;
 
+    /**
+     * <p>Controls how the existence of a proposed update is verified before it is applied:</p>
+     * <ul>
+     *     <li>{@code metadata} &ndash; only the POM of the proposed version is resolved,</li>
+     *     <li>{@code full} &ndash; the artifact itself is resolved, which may require downloading it.</li>
+     * </ul>
+     *
+     * @since 2.19.0
+     */
+    @Parameter(property = "versions.updateVerification", defaultValue = UPDATE_VERIFICATION_METADATA)
+    protected String updateVerification = UPDATE_VERIFICATION_METADATA;
+
     /**
      * The change recorders implementation.
      */
@@ -193,6 +239,74 @@ public abstract class AbstractVersionsUpdaterMojo extends AbstractMojo {
      */
     protected final Map<String, Wagon> wagonMap;
 
+    /**
+     * Time-to-live, in minutes, of the persistent cache of resolved artifact version lists. The cache is
+     * shared by all goals, reports and the {@code maxDependencyUpdates} enforcer rule using the same
+     * cache directory. In offline mode, expired entries are still used. {@code 0} disables the cache.
+     *
+     * @since 2.19.0
+     */
+    @Parameter(property = "versions.metadataCacheTtl", defaultValue = "0")
+    protected long metadataCacheTtl;
+
+    /**
+     * Directory of the persistent version metadata cache. If not set, {@code .cache/versions-maven-plugin}
+     * in the local repository is used.
+     *
+     * @since 2.19.0
+     */
+    @Parameter(property = "versions.metadataCacheDirectory")
+    protected File metadataCacheDirectory;
+
+    /**
+     * Maximum number of concurrent artifact metadata lookups. The lookup executor is shared by all goals,
+     * reports and enforcer rules of the Maven session; the first one to run determines its configuration.
+     * If not positive, a default based on the number of available processors is used.
+     *
+     * @since 2.19.0
+     */
+    @Parameter(property = "versions.lookupThreads", defaultValue = "0")
+    protected int lookupThreads;
+
+    /**
+     * Whether artifact metadata lookups should be executed in virtual threads. Only effective
+     * on Java 21 or newer.
+     *
+     * @since 2.19.0
+     */
+    @Parameter(property = "versions.lookupVirtualThreads", defaultValue = "false")
+    protected boolean lookupVirtualThreads;
+
+    /**
+     * <p>If {@code true}, goals supporting it process all projects of the reactor in the execution for
+     * the first reactor project: the POMs of all projects are read up front, updated concurrently using
+     * the shared lookup executor, and the modified POMs are written in parallel. The executions for
+     * the remaining reactor projects are skipped.</p>
+     *
+     * <p>Each project is processed with the configuration the goal has in that project, and with the
+     * remote repositories of that project, so that the resulting POMs are identical to those of the default,
+     * per-project processing. Projects in which this parameter is not set are processed by their own execution.
+     * Supported by the {@code use-latest-*}, {@code use-next-*}, {@code use-releases},
+     * {@code update-properties}, {@code update-property}, {@code lock-snapshots} and
+     * {@code unlock-snapshots} goals.</p>
+     *
+     * @since 2.19.0
+     */
+    @Parameter(property = "versions.parallelReactor", defaultValue = "false")
+    protected boolean parallelReactor;
+
+    /**
+     * (injected) provider of the {@link LifecycleExecutor}, used to configure the goal for the other reactor
+     * projects, see {@link #parallelReactor}
+     */
+    private Provider<LifecycleExecutor> lifecycleExecutor;
+
+    /**
+     * (injected) provider of the {@link MavenPluginManager}, used to configure the goal for the other reactor
+     * projects, see {@link #parallelReactor}
+     */
+    private Provider<MavenPluginManager> mavenPluginManager;
+
     // --------------------- GETTER / SETTER METHODS ---------------------
 
     @Inject
@@ -207,9 +321,23 @@ public abstract class AbstractVersionsUpdaterMojo extends AbstractMojo {
         this.changeRecorders = changeRecorders;
     }
 
+    /**
+     * Injects the components needed to process the reactor with {@link #parallelReactor}.
+     *
+     * @param lifecycleExecutor  provider of the {@link LifecycleExecutor}
+     * @param mavenPluginManager provider of the {@link MavenPluginManager}
+     * @since 2.19.0
+     */
+    @Inject
+    public void setReactorComponents(
+            Provider<LifecycleExecutor> lifecycleExecutor, Provider<MavenPluginManager> mavenPluginManager) {
+        this.lifecycleExecutor = lifecycleExecutor;
+        this.mavenPluginManager = mavenPluginManager;
+    }
+
     protected abstract boolean getAllowSnapshots();
 
-    public VersionsHelper getHelper() throws MojoExecutionException {
+    public synchronized VersionsHelper getHelper() throws MojoExecutionException {
         if (helper == null) {
             helper = new DefaultVersionsHelper.Builder()
                     .withArtifactHandlerManager(artifactHandlerManager)
@@ -222,6 +350,11 @@ public abstract class AbstractVersionsUpdaterMojo extends AbstractMojo {
                     .withLog(getLog())
                     .withMavenSession(session)
                     .withMojoExecution(mojoExecution)
+                    .withMetadataCacheTtl(Duration.ofMinutes(metadataCacheTtl))
+                    .withMetadataCacheDirectory(
+                            ofNullable(metadataCacheDirectory).map(File::toPath).orElse(null))
+                    .withLookupThreads(lookupThreads)
+                    .withLookupVirtualThreads(lookupVirtualThreads)
                     .build();
         }
         return helper;
@@ -262,6 +395,16 @@ public abstract class AbstractVersionsUpdaterMojo extends AbstractMojo {
      */
     public void execute() throws MojoExecutionException, MojoFailureException {
         validateInput();
+        if (parallelReactor && isParallelReactorSupported() && reactorProjects != null && reactorProjects.size() > 1) {
+            if (project.equals(reactorProjects.get(0))) {
+                processReactor();
+                return;
+            }
+            if (!claim(project)) {
+                getLog().info("Skipping " + project.getId() + ": already processed with the first reactor project");
+                return;
+            }
+        }
         File outFile = project.getFile();
         process(outFile);
     }
@@ -273,7 +416,14 @@ public abstract class AbstractVersionsUpdaterMojo extends AbstractMojo {
      *
      * @throws MojoExecutionException thrown if any of input parameters is invalid
      */
-    protected void validateInput() throws MojoExecutionException {}
+    protected void validateInput() throws MojoExecutionException {
+        if (updateVerification != null
+                && !UPDATE_VERIFICATION_METADATA.equals(updateVerification)
+                && !UPDATE_VERIFICATION_FULL.equals(updateVerification)) {
+            throw new MojoExecutionException("updateVerification must be one of: " + UPDATE_VERIFICATION_METADATA + ", "
+                    + UPDATE_VERIFICATION_FULL);
+        }
+    }
     /**
      * Finds the latest version of the specified artifact that matches the version range.
      *
@@ -310,24 +460,7 @@ public abstract class AbstractVersionsUpdaterMojo extends AbstractMojo {
 
             update(newPom);
 
-            if (newPom.isModified()) {
-                if (generateBackupPoms) {
-                    File backupFile = new File(outFile.getParentFile(), outFile.getName() + ".versionsBackup");
-                    if (!backupFile.exists()) {
-                        getLog().debug("Backing up " + outFile + " to " + backupFile);
-                        Files.copy(outFile.toPath(), backupFile.toPath(), REPLACE_EXISTING);
-                    } else {
-                        getLog().debug("Leaving existing backup " + backupFile + " unmodified");
-                    }
-                } else {
-                    getLog().debug("Skipping generation of backup file");
-                }
-                try (Writer writer = Files.newBufferedWriter(
-                        outFile.toPath(),
-                        ofNullable(newPom.getEncoding()).map(Charset::forName).orElse(Charset.defaultCharset()))) {
-                    writer.write(newPom.getSource());
-                }
-            }
+            write(outFile, newPom);
             saveChangeRecorderResults();
         } catch (IOException e) {
             getLog().error(e);
@@ -336,6 +469,277 @@ public abstract class AbstractVersionsUpdaterMojo extends AbstractMojo {
         }
     }
 
+    /**
+     * Writes the given POM to the given file if it has been modified, creating a backup if requested.
+     * The file is replaced atomically, if supported by the file system, unless it is a symbolic link,
+     * which is written in place.
+     *
+     * @param outFile file to write
+     * @param pom POM to write
+     * @throws IOException thrown if the file cannot be written
+     * @since 2.19.0
+     */
+    protected void write(File outFile, MutableXMLStreamReader pom) throws IOException {
+        if (!pom.isModified()) {
+            return;
+        }
+        if (generateBackupPoms) {
+            File backupFile = new File(outFile.getParentFile(), outFile.getName() + ".versionsBackup");
+            if (!backupFile.exists()) {
+                getLog().debug("Backing up " + outFile + " to " + backupFile);
+                Files.copy(outFile.toPath(), backupFile.toPath(), REPLACE_EXISTING);
+            } else {
+                getLog().debug("Leaving existing backup " + backupFile + " unmodified");
+            }
+        } else {
+            getLog().debug("Skipping generation of backup file");
+        }
+        Path target = outFile.toPath();
+        Charset charset = ofNullable(pom.getEncoding()).map(Charset::forName).orElse(Charset.defaultCharset());
+        if (Files.isSymbolicLink(target)) {
+            // replacing the link would detach the POM from its actual location
+            try (Writer writer = Files.newBufferedWriter(target, charset)) {
+                writer.write(pom.getSource());
+            }
+            return;
+        }
+        Path temporary = target.resolveSibling("." + outFile.getName() + ".versionsTmp");
+        try {
+            try (Writer writer = Files.newBufferedWriter(temporary, charset)) {
+                writer.write(pom.getSource());
+            }
+            try {
+                Files.setPosixFilePermissions(temporary, Files.getPosixFilePermissions(target));
+            } catch (UnsupportedOperationException e) {
+                // not a POSIX file system
+            }
+            try {
+                Files.move(temporary, target, REPLACE_EXISTING, ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, target, REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Returns {@code true} if the goal may process several reactor projects concurrently, using
+     * {@linkplain #forProject(MavenProject) instances} of the mojo configured for each of them. Subclasses
+     * returning {@code true} must not modify state shared between instances in
+     * {@link #update(MutableXMLStreamReader)}. The projects are then processed by calling
+     * {@link #update(MutableXMLStreamReader)} and {@link #write(File, MutableXMLStreamReader)} on these instances,
+     * so that {@link #process(File)} is not called for them.
+     *
+     * @return {@code true} if {@link #parallelReactor} is supported
+     * @since 2.19.0
+     */
+    protected boolean isParallelReactorSupported() {
+        return false;
+    }
+
+    /**
+     * Creates an instance of this mojo processing the given reactor project, configured by Maven with the
+     * configuration the goal has in that project. The instance has its own {@linkplain #getHelper() versions
+     * helper} and change recorder, built for that project.
+     *
+     * <p>The instance is configured using the execution plan and the mojo configuration of Maven itself.
+     * If that fails, e.g. with a Maven version behaving differently, the project is left to its own execution,
+     * so that the result does not depend on it.</p>
+     *
+     * @param reactorProject project to be processed by the instance
+     * @return configured instance, or {@code null} if the goal is not configured to process the project as part
+     * of the reactor or cannot be configured for it, in which case it is processed by its own execution
+     * @throws MojoExecutionException thrown if the configuration of the instance is invalid
+     * @since 2.19.0
+     */
+    protected AbstractVersionsUpdaterMojo forProject(MavenProject reactorProject) throws MojoExecutionException {
+        if (lifecycleExecutor == null || mavenPluginManager == null || mojoExecution == null) {
+            getLog().debug("Unable to configure the goal for " + reactorProject.getId());
+            return null;
+        }
+        MavenSession projectSession = session.clone();
+        projectSession.setCurrentProject(reactorProject);
+        // cloned once more, as from Maven 3.9 on, the current project is thread-local and a clone makes the current
+        // project of the cloning thread the current project of all threads
+        projectSession = projectSession.clone();
+        MojoExecution projectExecution;
+        try {
+            projectExecution = lifecycleExecutor
+                    .get()
+                    .calculateExecutionPlan(
+                            projectSession,
+                            mojoExecution.getGroupId() + ":" + mojoExecution.getArtifactId() + ":"
+                                    + mojoExecution.getVersion() + ":" + mojoExecution.getGoal() + "@"
+                                    + mojoExecution.getExecutionId())
+                    .getMojoExecutions()
+                    .stream()
+                    .filter(execution -> mojoExecution.getGoal().equals(execution.getGoal()))
+                    .findFirst()
+                    .orElse(null);
+        } catch (Exception | LinkageError e) {
+            getLog().warn("Unable to configure the goal for " + reactorProject.getId() + ", leaving it to its own "
+                    + "execution: " + e.getMessage());
+            getLog().debug(e);
+            return null;
+        }
+        if (projectExecution == null) {
+            getLog().warn("No execution of " + mojoExecution.getGoal() + " planned for " + reactorProject.getId()
+                    + ", leaving it to its own execution");
+            return null;
+        }
+        AbstractVersionsUpdaterMojo mojo;
+        try {
+            mojo = (AbstractVersionsUpdaterMojo)
+                    mavenPluginManager.get().getConfiguredMojo(Mojo.class, projectSession, projectExecution);
+        } catch (PluginConfigurationException | PluginContainerException | RuntimeException | LinkageError e) {
+            getLog().warn("Unable to configure the goal for " + reactorProject.getId() + ", leaving it to its own "
+                    + "execution: " + e.getMessage());
+            getLog().debug(e);
+            return null;
+        }
+        if (!mojo.parallelReactor) {
+            mavenPluginManager.get().releaseMojo(mojo, projectExecution);
+            return null;
+        }
+        try {
+            mojo.validateInput();
+        } catch (MojoExecutionException e) {
+            mavenPluginManager.get().releaseMojo(mojo, projectExecution);
+            throw e;
+        }
+        return mojo;
+    }
+
+    /**
+     * Processes all reactor projects: reads their POMs, updates them concurrently using the shared
+     * lookup executor, and writes the modified POMs in parallel. Each project is processed by an
+     * {@linkplain #forProject(MavenProject) instance of the mojo configured for it}; projects for which the goal
+     * is configured differently, or which have already been processed by their own execution, are left to their
+     * own execution.
+     *
+     * @throws MojoExecutionException If things go wrong.
+     * @throws MojoFailureException   If things go wrong.
+     * @since 2.19.0
+     */
+    protected void processReactor() throws MojoExecutionException, MojoFailureException {
+        long start = System.nanoTime();
+        LookupExecutor executor = getLookupExecutor();
+        List<AbstractVersionsUpdaterMojo> copies = new ArrayList<>(reactorProjects.size());
+        try {
+            for (MavenProject reactorProject : reactorProjects) {
+                AbstractVersionsUpdaterMojo copy = project.equals(reactorProject) ? this : forProject(reactorProject);
+                if (copy == null) {
+                    continue;
+                }
+                if (copy == this || claim(reactorProject)) {
+                    copies.add(copy);
+                } else {
+                    mavenPluginManager.get().releaseMojo(copy, copy.mojoExecution);
+                }
+            }
+            processProjects(executor, copies, start);
+        } finally {
+            for (AbstractVersionsUpdaterMojo copy : copies) {
+                if (copy != this) {
+                    mavenPluginManager.get().releaseMojo(copy, copy.mojoExecution);
+                }
+            }
+        }
+    }
+
+    private void processProjects(LookupExecutor executor, List<AbstractVersionsUpdaterMojo> copies, long start)
+            throws MojoExecutionException, MojoFailureException {
+        List<MutableXMLStreamReader> poms = invokeAll(
+                executor,
+                copies.stream()
+                        .map(copy -> (Callable<MutableXMLStreamReader>) () -> {
+                            MutableXMLStreamReader pom = new MutableXMLStreamReader(
+                                    copy.getProject().getFile().toPath());
+                            copy.update(pom);
+                            return pom;
+                        })
+                        .collect(Collectors.toList()));
+        invokeAll(
+                executor,
+                IntStream.range(0, copies.size())
+                        .mapToObj(i -> (Callable<Void>) () -> {
+                            AbstractVersionsUpdaterMojo copy = copies.get(i);
+                            copy.write(copy.getProject().getFile(), poms.get(i));
+                            copy.saveChangeRecorderResults();
+                            return null;
+                        })
+                        .collect(Collectors.toList()));
+        getLog().info("Processed " + copies.size() + " reactor project(s) in "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+    }
+
+    /**
+     * Claims the processing of the given reactor project for the current goal execution, so that each project is
+     * processed exactly once, either with the first reactor project or by its own execution.
+     *
+     * @param reactorProject project to claim
+     * @return {@code true} if the project has not been claimed before
+     */
+    @SuppressWarnings("unchecked")
+    private boolean claim(MavenProject reactorProject) {
+        RepositorySystemSession repositorySession = session != null ? session.getRepositorySession() : null;
+        if (repositorySession == null || repositorySession.getData() == null) {
+            return project.equals(reactorProjects.get(0));
+        }
+        String key = REACTOR_CLAIMS_KEY + ":" + getClass().getName()
+                + (mojoExecution != null ? "@" + mojoExecution.getExecutionId() : "");
+        Object existing = repositorySession.getData().get(key);
+        while (!(existing instanceof ConcurrentMap)) {
+            repositorySession.getData().set(key, existing, new ConcurrentHashMap<>());
+            existing = repositorySession.getData().get(key);
+        }
+        return ((ConcurrentMap<String, Boolean>) existing).putIfAbsent(reactorProject.getId(), Boolean.TRUE) == null;
+    }
+
+    /**
+     * @return the lookup executor shared by the goals of the Maven session
+     * @since 2.19.0
+     */
+    protected LookupExecutor getLookupExecutor() {
+        return LookupExecutor.forSession(
+                session != null ? session.getRepositorySession() : null, lookupThreads, lookupVirtualThreads, getLog());
+    }
+
+    /**
+     * Executes the given tasks using the given executor and waits for their results.
+     *
+     * @param <T>      result type
+     * @param executor executor to run the tasks
+     * @param tasks    tasks to execute
+     * @return results of the tasks, in the order of the tasks
+     * @throws MojoExecutionException thrown if a task fails with a {@link MojoExecutionException} or a checked
+     *                                exception, or if the calling thread is interrupted
+     * @throws MojoFailureException   thrown if a task fails with a {@link MojoFailureException}
+     * @since 2.19.0
+     */
+    protected <T> List<T> invokeAll(LookupExecutor executor, List<Callable<T>> tasks)
+            throws MojoExecutionException, MojoFailureException {
+        try {
+            return executor.invokeAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException("Interrupted while waiting for the concurrent tasks", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof MojoExecutionException) {
+                throw (MojoExecutionException) cause;
+            }
+            if (cause instanceof MojoFailureException) {
+                throw (MojoFailureException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new MojoExecutionException(cause.getMessage(), cause);
+        }
+    }
+
     /**
      * Updates the pom.
      *
@@ -392,7 +796,23 @@ public abstract class AbstractVersionsUpdaterMojo extends AbstractMojo {
 
         artifact.setVersion(updateVersion.toString());
         try {
-            getHelper().resolveArtifact(artifact, false);
+            if (UPDATE_VERIFICATION_FULL.equals(updateVerification)) {
+                getHelper().resolveArtifact(artifact, false);
+            } else {
+                // the POM is enough to prove the version exists, without downloading the artifact payload
+                getHelper()
+                        .resolveArtifact(
+                                getHelper()
+                                        .createDependencyArtifact(
+                                                artifact.getGroupId(),
+                                                artifact.getArtifactId(),
+                                                updateVersion.toString(),
+                                                "pom",
+                                                null,
+                                                null,
+                                                false),
+                                false);
+            }
         } catch (ArtifactResolutionException | MojoExecutionException e) {
             getLog().warn("Not updating version: could not resolve " + artifact, e);
             return false;
@@ -406,28 +826,29 @@ public abstract class AbstractVersionsUpdaterMojo extends AbstractMojo {
     }
 
     /**
-     * Attempts to update the property to a newer version, if that exists
-     * @param pom               pom to update
+     * Registers the update of the property to a newer version, if that exists, in the given plan
+     * @param plan              plan of the edits of the pom to update
      * @param property          property to update
      * @param version           {@link PropertyVersions} object
      * @param currentVersion    current version
      * @param allowDowngrade    if downgrades should be allowed if snapshots are not allowed
      * @param unchangedSegment  most major segment not to be changed
-     * @return new version of the artifact, if the property was updated; {@code null} if there was no update
-     * @throws XMLStreamException thrown from {@link MutableXMLStreamReader} if the update doesn't succeed
+     * @param updated           receives the new version of the artifact once the plan has been applied,
+     *                          if the property has been updated
+     * @return reports the outcome of the update once the plan has been applied
      * @throws InvalidVersionSpecificationException thrown if {@code unchangedSegment} doesn't match the version
      * @throws InvalidSegmentException thrown if {@code unchangedSegment} is invalid
      * @throws MojoExecutionException thrown if any other error occurs
      */
-    protected ArtifactVersion updatePropertyToNewestVersion(
-            MutableXMLStreamReader pom,
+    protected Runnable updatePropertyToNewestVersion(
+            PomEditPlan plan,
             Property property,
             PropertyVersions version,
             String currentVersion,
             boolean allowDowngrade,
-            Optional<Segment> unchangedSegment)
-            throws XMLStreamException, InvalidVersionSpecificationException, InvalidSegmentException,
-                    MojoExecutionException {
+            Optional<Segment> unchangedSegment,
+            Consumer<ArtifactVersion> updated)
+            throws InvalidVersionSpecificationException, InvalidSegmentException, MojoExecutionException {
         ArtifactVersion winner = version.getNewestVersion(
                 currentVersion,
                 property,
@@ -439,12 +860,51 @@ public abstract class AbstractVersionsUpdaterMojo extends AbstractMojo {
 
         if (winner == null || currentVersion.equals(winner.toString())) {
             getLog().info("Property ${" + property.getName() + "}: Leaving unchanged as " + currentVersion);
-        } else if (PomHelper.setPropertyVersion(pom, version.getProfileId(), property.getName(), winner.toString())) {
-            getLog().info("Updated ${" + property.getName() + "} from " + currentVersion + " to " + winner);
-            return winner;
+            return () -> {};
         }
+        PomEditPlan.Edit edit = plan.setPropertyVersion(version.getProfileId(), property.getName(), winner.toString());
+        return () -> {
+            if (edit.isApplied()) {
+                getLog().info("Updated ${" + property.getName() + "} from " + currentVersion + " to " + winner);
+                updated.accept(winner);
+            }
+        };
+    }
 
-        return null;
+    /**
+     * Attempts to update the property to a newer version, if that exists
+     * @param pom               pom to update
+     * @param property          property to update
+     * @param version           {@link PropertyVersions} object
+     * @param currentVersion    current version
+     * @param allowDowngrade    if downgrades should be allowed if snapshots are not allowed
+     * @param unchangedSegment  most major segment not to be changed
+     * @return new version of the artifact, if the property was updated; {@code null} if there was no update
+     * @throws XMLStreamException thrown from {@link MutableXMLStreamReader} if the update doesn't succeed
+     * @throws InvalidVersionSpecificationException thrown if {@code unchangedSegment} doesn't match the version
+     * @throws InvalidSegmentException thrown if {@code unchangedSegment} is invalid
+     * @throws MojoExecutionException thrown if any other error occurs
+     * @deprecated register the updates of a POM in one {@link PomEditPlan} using
+     * {@link #updatePropertyToNewestVersion(PomEditPlan, Property, PropertyVersions, String, boolean, Optional,
+     * Consumer)} instead, this method applies a plan with the single update
+     */
+    @Deprecated
+    protected ArtifactVersion updatePropertyToNewestVersion(
+            MutableXMLStreamReader pom,
+            Property property,
+            PropertyVersions version,
+            String currentVersion,
+            boolean allowDowngrade,
+            Optional<Segment> unchangedSegment)
+            throws XMLStreamException, InvalidVersionSpecificationException, InvalidSegmentException,
+                    MojoExecutionException {
+        PomEditPlan plan = new PomEditPlan(pom);
+        AtomicReference<ArtifactVersion> updated = new AtomicReference<>();
+        Runnable report = updatePropertyToNewestVersion(
+                plan, property, version, currentVersion, allowDowngrade, unchangedSegment, updated::set);
+        plan.apply();
+        report.run();
+        return updated.get();
     }
 
     /**
@@ -42,6 +42,7 @@ import org.apache.maven.project.ProjectBuildingException;
 import org.apache.maven.project.ProjectBuildingResult;
 import org.apache.maven.wagon.Wagon;
 import org.codehaus.mojo.versions.api.ArtifactAssociation;
+import org.codehaus.mojo.versions.api.PomEditPlan;
 import org.codehaus.mojo.versions.api.PomHelper;
 import org.codehaus.mojo.versions.api.Property;
 import org.codehaus.mojo.versions.api.PropertyVersions;
@@ -224,25 +225,32 @@ public class CompareDependenciesMojo extends AbstractVersionsDependencyUpdaterMo
             remoteMavenProject.getDependencies().forEach(dep -> remoteDepsMap.putIfAbsent(dep.getManagementKey(), dep));
         }
 
+        PomEditPlan plan = new PomEditPlan(pom);
+        List<Runnable> reports = new ArrayList<>();
         List<String> totalDiffs = new ArrayList<>();
         List<String> propertyDiffs = new ArrayList<>();
         if (getProject().getDependencyManagement() != null && getProcessDependencyManagement()) {
             totalDiffs.addAll(compareVersions(
-                    pom,
+                    plan,
+                    reports,
                     getProject().getDependencyManagement().getDependencies(),
                     remoteDepsMap,
                     DependencyChangeRecord.ChangeKind.DEPENDENCY_MANAGEMENT));
         }
         if (getProject().getDependencies() != null && getProcessDependencies()) {
             totalDiffs.addAll(compareVersions(
-                    pom, getProject().getDependencies(), remoteDepsMap, DependencyChangeRecord.ChangeKind.DEPENDENCY));
+                    plan,
+                    reports,
+                    getProject().getDependencies(),
+                    remoteDepsMap,
+                    DependencyChangeRecord.ChangeKind.DEPENDENCY));
         }
         if (updatePropertyVersions) {
             Map<Property, PropertyVersions> versionProperties = this.getHelper()
                     .getVersionPropertiesMap(VersionsHelper.VersionPropertiesMapRequest.builder()
                             .withMavenProject(getProject())
                             .build());
-            propertyDiffs.addAll(updatePropertyVersions(pom, versionProperties, remoteDepsMap));
+            propertyDiffs.addAll(updatePropertyVersions(plan, reports, versionProperties, remoteDepsMap));
         }
         if (getProject().getParent() != null && remoteMavenProject.getParent() != null && getProcessParent()) {
             Dependency parent = DependencyBuilder.newBuilder()
@@ -258,11 +266,14 @@ public class CompareDependenciesMojo extends AbstractVersionsDependencyUpdaterMo
             }
             remoteDepsMap.putIfAbsent(parent.getManagementKey(), parent);
             totalDiffs.addAll(compareVersions(
-                    pom,
+                    plan,
+                    reports,
                     singletonList(getParentDependency()),
                     remoteDepsMap,
                     DependencyChangeRecord.ChangeKind.PARENT));
         }
+        plan.apply();
+        reports.forEach(Runnable::run);
 
         if (reportMode) {
             getLog().info("The following differences were found:");
@@ -324,15 +335,15 @@ public class CompareDependenciesMojo extends AbstractVersionsDependencyUpdaterMo
     /**
      * Compare the dependency versions of the current project with the dependency versions of a remote project
      *
-     * @throws XMLStreamException
      * @throws MojoExecutionException
      */
     private List<String> compareVersions(
-            MutableXMLStreamReader pom,
+            PomEditPlan plan,
+            List<Runnable> reports,
             List<Dependency> dependencies,
             Map<String, Dependency> remoteDependencies,
             DependencyChangeRecord.ChangeKind changeKind)
-            throws MojoExecutionException, XMLStreamException {
+            throws MojoExecutionException {
         List<String> updates = new ArrayList<>();
         for (Dependency dep : dependencies) {
             Artifact artifact = this.toArtifact(dep);
@@ -347,7 +358,7 @@ public class CompareDependenciesMojo extends AbstractVersionsDependencyUpdaterMo
                     StringBuilder buf = writeDependencyDiffMessage(dep, remoteVersion);
                     updates.add(buf.toString());
                     if (!reportMode) {
-                        updateDependencyVersion(pom, dep, remoteVersion, changeKind);
+                        reports.add(updateDependencyVersion(plan, dep, remoteVersion, changeKind));
                     }
                 }
             }
@@ -360,10 +371,10 @@ public class CompareDependenciesMojo extends AbstractVersionsDependencyUpdaterMo
      * Updates the properties holding a version if necessary.
      */
     private List<String> updatePropertyVersions(
-            MutableXMLStreamReader pom,
+            PomEditPlan plan,
+            List<Runnable> reports,
             Map<Property, PropertyVersions> versionProperties,
-            Map<String, Dependency> remoteDependencies)
-            throws XMLStreamException {
+            Map<String, Dependency> remoteDependencies) {
         List<String> result = new ArrayList<>();
         for (Map.Entry<Property, PropertyVersions> entry : versionProperties.entrySet()) {
             Property property = entry.getKey();
@@ -377,9 +388,14 @@ public class CompareDependenciesMojo extends AbstractVersionsDependencyUpdaterMo
                 {
                     result.add(writeDiffMessage(property.getName(), originalVersion, candidateVersion)
                             .toString());
-                    if (!reportMode && PomHelper.setPropertyVersion(pom, null, property.getName(), candidateVersion)) {
-                        getLog().info("Updated ${" + property.getName() + "} from " + originalVersion + " to "
-                                + candidateVersion);
+                    if (!reportMode) {
+                        PomEditPlan.Edit edit = plan.setPropertyVersion(null, property.getName(), candidateVersion);
+                        reports.add(() -> {
+                            if (edit.isApplied()) {
+                                getLog().info("Updated ${" + property.getName() + "} from " + originalVersion + " to "
+                                        + candidateVersion);
+                            }
+                        });
                     }
                 }
             }
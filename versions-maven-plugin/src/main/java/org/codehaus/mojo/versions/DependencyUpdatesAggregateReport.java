@@ -77,6 +77,15 @@ public class DependencyUpdatesAggregateReport extends AbstractDependencyUpdatesR
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isReactorPrefetch() {
+        // the aggregate report looks up the dependencies of all its modules at once
+        return false;
+    }
+
     /**
      * {@inheritDoc}
      */
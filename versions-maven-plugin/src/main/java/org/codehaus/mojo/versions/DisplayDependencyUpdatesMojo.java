@@ -21,6 +21,8 @@ package org.codehaus.mojo.versions;
 
 import javax.inject.Inject;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -30,6 +32,7 @@ import java.util.TreeSet;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.maven.artifact.handler.manager.ArtifactHandlerManager;
+import org.apache.maven.artifact.versioning.ArtifactVersion;
 import org.apache.maven.model.Dependency;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
@@ -43,6 +46,7 @@ import org.codehaus.mojo.versions.api.recording.ChangeRecorder;
 import org.codehaus.mojo.versions.filtering.WildcardMatcher;
 import org.codehaus.mojo.versions.internal.DependencyUpdatesLoggingHelper;
 import org.codehaus.mojo.versions.internal.DependencyUpdatesLoggingHelper.DependencyUpdatesResult;
+import org.codehaus.mojo.versions.json.UpdatesJsonWriter;
 import org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader;
 import org.codehaus.mojo.versions.utils.DependencyComparator;
 import org.codehaus.mojo.versions.utils.MavenProjectUtils;
@@ -375,7 +379,7 @@ public class DisplayDependencyUpdatesMojo extends AbstractVersionsDisplayMojo {
         validateInput();
 
         Set<Dependency> dependencyManagement;
-        try {
+        try (UpdatesJsonWriter json = jsonInit("display-dependency-updates")) {
             if (processDependencyManagement) {
                 dependencyManagement = filterDependencies(
                         extractDependenciesFromDependencyManagement(
@@ -391,7 +395,9 @@ public class DisplayDependencyUpdatesMojo extends AbstractVersionsDisplayMojo {
                                         dependencyManagement.stream().filter(d -> d.getVersion() != null),
                                         false,
                                         allowSnapshots),
-                        "Dependency Management");
+                        "Dependency Management",
+                        json,
+                        "dependencyManagement");
             } else {
                 dependencyManagement = emptySet();
             }
@@ -420,7 +426,9 @@ public class DisplayDependencyUpdatesMojo extends AbstractVersionsDisplayMojo {
                                                 .filter(d -> d.getVersion() != null),
                                         false,
                                         allowSnapshots),
-                        "Dependencies");
+                        "Dependencies",
+                        json,
+                        "dependencies");
             }
             if (processPluginDependenciesInPluginManagement) {
                 logUpdates(
@@ -437,7 +445,9 @@ public class DisplayDependencyUpdatesMojo extends AbstractVersionsDisplayMojo {
                                                 .filter(d -> d.getVersion() != null),
                                         false,
                                         allowSnapshots),
-                        "pluginManagement of plugins");
+                        "pluginManagement of plugins",
+                        json,
+                        "pluginManagementDependencies");
             }
             if (processPluginDependencies) {
                 logUpdates(
@@ -453,10 +463,14 @@ public class DisplayDependencyUpdatesMojo extends AbstractVersionsDisplayMojo {
                                                 .filter(d -> d.getVersion() != null),
                                         false,
                                         allowSnapshots),
-                        "Plugin Dependencies");
+                        "Plugin Dependencies",
+                        json,
+                        "pluginDependencies");
             }
         } catch (VersionRetrievalException e) {
             throw new MojoExecutionException(e.getMessage(), e);
+        } catch (IOException | UncheckedIOException e) {
+            throw new MojoExecutionException("Cannot send output to " + jsonOutputFile, e);
         }
     }
 
@@ -487,9 +501,18 @@ public class DisplayDependencyUpdatesMojo extends AbstractVersionsDisplayMojo {
         }
     }
 
-    private void logUpdates(Map<Dependency, ArtifactVersions> versionMap, String section) {
+    private void logUpdates(
+            Map<Dependency, ArtifactVersions> versionMap, String section, UpdatesJsonWriter json, String jsonSection) {
         Optional<Segment> unchangedSegment = SegmentUtils.determineUnchangedSegment(
                 allowMajorUpdates, allowMinorUpdates, allowIncrementalUpdates, getLog());
+        versionMap.forEach((dependency, versions) -> json.writeArtifact(
+                jsonSection,
+                dependency,
+                dependency.getVersion(),
+                DependencyUpdatesLoggingHelper.getLatestVersion(versions, unchangedSegment, allowSnapshots)
+                        .map(ArtifactVersion::toString)
+                        .orElse(null),
+                versions));
         DependencyUpdatesResult updates = DependencyUpdatesLoggingHelper.getDependencyUpdates(
                 getProject(),
                 versionMap,
@@ -20,6 +20,7 @@ import javax.xml.stream.XMLStreamException;
 import javax.xml.transform.TransformerException;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -28,6 +29,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.maven.artifact.handler.manager.ArtifactHandlerManager;
+import org.apache.maven.artifact.versioning.ArtifactVersion;
 import org.apache.maven.model.Dependency;
 import org.apache.maven.model.Extension;
 import org.apache.maven.plugin.MojoExecutionException;
@@ -42,6 +44,7 @@ import org.codehaus.mojo.versions.api.recording.ChangeRecorder;
 import org.codehaus.mojo.versions.filtering.DependencyFilter;
 import org.codehaus.mojo.versions.filtering.WildcardMatcher;
 import org.codehaus.mojo.versions.internal.DependencyUpdatesLoggingHelper;
+import org.codehaus.mojo.versions.json.UpdatesJsonWriter;
 import org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader;
 import org.codehaus.mojo.versions.utils.DependencyBuilder;
 import org.codehaus.mojo.versions.utils.ExtensionUtils;
@@ -202,7 +205,12 @@ public class DisplayExtensionUpdatesMojo extends AbstractVersionsDisplayMojo {
                 return;
             }
 
-            logUpdates(getHelper().lookupDependenciesUpdates(dependencies.stream(), true, true, allowSnapshots));
+            try (UpdatesJsonWriter json = jsonInit("display-extension-updates")) {
+                logUpdates(
+                        getHelper().lookupDependenciesUpdates(dependencies.stream(), true, true, allowSnapshots), json);
+            } catch (IOException | UncheckedIOException e) {
+                throw new MojoExecutionException("Cannot send output to " + jsonOutputFile, e);
+            }
         } catch (IOException | XMLStreamException | TransformerException e) {
             throw new MojoExecutionException(e.getMessage());
         } catch (VersionRetrievalException e) {
@@ -210,9 +218,17 @@ public class DisplayExtensionUpdatesMojo extends AbstractVersionsDisplayMojo {
         }
     }
 
-    private void logUpdates(Map<Dependency, ArtifactVersions> versionMap) {
+    private void logUpdates(Map<Dependency, ArtifactVersions> versionMap, UpdatesJsonWriter json) {
         Optional<Segment> unchangedSegment = SegmentUtils.determineUnchangedSegment(
                 allowMajorUpdates, allowMinorUpdates, allowIncrementalUpdates, getLog());
+        versionMap.forEach((dependency, versions) -> json.writeArtifact(
+                "extensions",
+                dependency,
+                dependency.getVersion(),
+                DependencyUpdatesLoggingHelper.getLatestVersion(versions, unchangedSegment, allowSnapshots)
+                        .map(ArtifactVersion::toString)
+                        .orElse(null),
+                versions));
         DependencyUpdatesLoggingHelper.DependencyUpdatesResult updates =
                 DependencyUpdatesLoggingHelper.getDependencyUpdates(
                         getProject(),
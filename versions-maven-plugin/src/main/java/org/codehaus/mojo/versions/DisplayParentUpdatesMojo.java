@@ -21,6 +21,8 @@ package org.codehaus.mojo.versions;
 
 import javax.inject.Inject;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
@@ -41,6 +43,7 @@ import org.codehaus.mojo.versions.api.ArtifactVersions;
 import org.codehaus.mojo.versions.api.Segment;
 import org.codehaus.mojo.versions.api.VersionRetrievalException;
 import org.codehaus.mojo.versions.api.recording.ChangeRecorder;
+import org.codehaus.mojo.versions.json.UpdatesJsonWriter;
 import org.codehaus.mojo.versions.ordering.InvalidSegmentException;
 import org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader;
 import org.codehaus.mojo.versions.utils.DefaultArtifactVersionCache;
@@ -182,7 +185,23 @@ public class DisplayParentUpdatesMojo extends AbstractVersionsDisplayMojo {
             throw new MojoExecutionException(e.getMessage(), e);
         }
 
-        if (artifactVersion == null || initialVersion.equals(artifactVersion.toString())) {
+        boolean upToDate = artifactVersion == null || initialVersion.equals(artifactVersion.toString());
+        try (UpdatesJsonWriter json = jsonInit("display-parent-updates")) {
+            json.writeArtifact(
+                    "parent",
+                    DependencyBuilder.newBuilder()
+                            .withGroupId(getProject().getParent().getGroupId())
+                            .withArtifactId(getProject().getParent().getArtifactId())
+                            .withType("pom")
+                            .build(),
+                    initialVersion,
+                    upToDate ? null : artifactVersion.toString(),
+                    null);
+        } catch (IOException | UncheckedIOException e) {
+            throw new MojoExecutionException("Cannot send output to " + jsonOutputFile, e);
+        }
+
+        if (upToDate) {
             logLine(false, "The parent project is the latest version:");
             StringBuilder buf = new StringBuilder(MESSAGE_LENGTH);
             buf.append("  ");
@@ -30,10 +30,15 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -41,10 +46,17 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Properties;
 import java.util.Set;
 import java.util.Stack;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -57,6 +69,7 @@ import org.apache.maven.artifact.ArtifactUtils;
 import org.apache.maven.artifact.handler.manager.ArtifactHandlerManager;
 import org.apache.maven.artifact.resolver.ArtifactResolutionException;
 import org.apache.maven.artifact.versioning.ArtifactVersion;
+import org.apache.maven.execution.MavenSession;
 import org.apache.maven.lifecycle.LifecycleExecutor;
 import org.apache.maven.model.BuildBase;
 import org.apache.maven.model.Extension;
@@ -83,9 +96,13 @@ import org.apache.maven.project.ProjectBuildingException;
 import org.apache.maven.project.ProjectBuildingResult;
 import org.apache.maven.rtinfo.RuntimeInformation;
 import org.apache.maven.wagon.Wagon;
+import org.codehaus.mojo.versions.api.DefaultVersionsHelper;
 import org.codehaus.mojo.versions.api.PomHelper;
+import org.codehaus.mojo.versions.api.PomPath;
 import org.codehaus.mojo.versions.api.VersionRetrievalException;
 import org.codehaus.mojo.versions.api.recording.ChangeRecorder;
+import org.codehaus.mojo.versions.cache.PluginPrerequisitesCache;
+import org.codehaus.mojo.versions.json.UpdatesJsonWriter;
 import org.codehaus.mojo.versions.ordering.MavenVersionComparator;
 import org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader;
 import org.codehaus.mojo.versions.utils.DefaultArtifactVersionCache;
@@ -93,6 +110,8 @@ import org.codehaus.mojo.versions.utils.DependencyBuilder;
 import org.codehaus.mojo.versions.utils.ExtensionUtils;
 import org.codehaus.mojo.versions.utils.PluginComparator;
 import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.repository.LocalRepository;
 
 import static java.util.Collections.emptyMap;
 import static java.util.Optional.ofNullable;
@@ -136,6 +155,10 @@ public class DisplayPluginUpdatesMojo extends AbstractVersionsDisplayMojo {
 
     public static final String SUPERPOM_PATH = "org/apache/maven/model/pom-4.0.0.xml";
 
+    private static final String SESSION_MEMO_KEY = DisplayPluginUpdatesMojo.class.getName();
+
+    private static final Pattern EXPRESSION = Pattern.compile("\\$\\{([^}]+)}");
+
     /**
      * @since 1.0-alpha-1
      */
@@ -179,6 +202,32 @@ public class DisplayPluginUpdatesMojo extends AbstractVersionsDisplayMojo {
     @Parameter(property = "allowSnapshots", defaultValue = "false")
     protected boolean allowSnapshots;
 
+    /**
+     * Whether the Maven version prerequisites of released plugin versions should be kept in a persistent cache,
+     * shared by all builds using the same {@code metadataCacheDirectory}. The prerequisites of a release never
+     * change, so the cached entries never expire and a version is only built once to read them.
+     *
+     * @since 2.19.0
+     */
+    @Parameter(property = "versions.prerequisitesCache", defaultValue = "true")
+    protected boolean prerequisitesCache = true;
+
+    private PluginPrerequisitesCache pluginPrerequisitesCache;
+
+    private PluginPrerequisitesReader pluginPrerequisitesReader;
+
+    private ConcurrentMap<String, Object> sessionMemo;
+
+    private final AtomicInteger prerequisitesReadFromPom = new AtomicInteger();
+
+    private final AtomicInteger pluginProjectBuilds = new AtomicInteger();
+
+    /**
+     * Serializes the fallback plugin project builds: {@link ProjectBuilder} does not document its thread-safety,
+     * and those builds are rare since the prerequisites are usually read from the cache or the plugin POM.
+     */
+    private final Object pluginProjectBuildLock = new Object();
+
     // --------------------- GETTER / SETTER METHODS ---------------------
 
     @Inject
@@ -205,11 +254,23 @@ public class DisplayPluginUpdatesMojo extends AbstractVersionsDisplayMojo {
     }
 
     /**
-     * Returns the pluginManagement section of the super-pom.
+     * Returns the pluginManagement section of the super-pom, memoized in the session for the packaging of the
+     * project.
      *
      * @return Returns the pluginManagement section of the super-pom.
      */
+    @SuppressWarnings("unchecked")
     private Map<String, String> getSuperPomPluginManagement() {
+        String key = "super-pom:" + getProject().getPackaging();
+        Map<String, String> result = (Map<String, String>) getSessionMemo().get(key);
+        if (result == null) {
+            result = Collections.unmodifiableMap(readSuperPomPluginManagement());
+            getSessionMemo().putIfAbsent(key, result);
+        }
+        return new LinkedHashMap<>(result);
+    }
+
+    private Map<String, String> readSuperPomPluginManagement() {
         // we need to provide a copy with the version blanked out so that inferring from super-pom
         // works as for 2.x as 3.x fills in the version on us!
         Map<String, String> result =
@@ -223,7 +284,8 @@ public class DisplayPluginUpdatesMojo extends AbstractVersionsDisplayMojo {
             MutableXMLStreamReader pomReader = new MutableXMLStreamReader(superPomIs, Paths.get(SUPERPOM_PATH));
 
             Stack<StackState> pathStack = new Stack<>();
-            StackState curState = new StackState("");
+            StackState curState = new StackState(false);
+            PomPath.Cursor cursor = PomPath.cursor();
 
             for (int event = pomReader.getEventType();
                     event != END_DOCUMENT && pomReader.hasNext();
@@ -231,7 +293,7 @@ public class DisplayPluginUpdatesMojo extends AbstractVersionsDisplayMojo {
                 if (pomReader.isStartElement()) {
                     if (curState != null) {
                         String elementName = pomReader.getLocalName();
-                        if (PATTERN_PROJECT_PLUGIN.matcher(curState.path).matches()) {
+                        if (curState.plugin) {
                             switch (elementName) {
                                 case "groupId":
                                     curState.groupId =
@@ -250,12 +312,11 @@ public class DisplayPluginUpdatesMojo extends AbstractVersionsDisplayMojo {
                             }
                         }
                         pathStack.push(curState);
-                        curState = new StackState(curState.path + "/" + elementName);
+                        cursor.enter(elementName);
+                        curState = new StackState(cursor.at(PomPath.PROJECT_PLUGIN));
                     }
                 } else if (pomReader.isEndElement()) {
-                    if (curState != null
-                            && curState.artifactId != null
-                            && PATTERN_PROJECT_PLUGIN.matcher(curState.path).matches()) {
+                    if (curState != null && curState.artifactId != null && curState.plugin) {
                         result.putIfAbsent(
                                 Plugin.constructKey(
                                         curState.groupId == null
@@ -265,6 +326,7 @@ public class DisplayPluginUpdatesMojo extends AbstractVersionsDisplayMojo {
                                 curState.version);
                     }
                     curState = pathStack.pop();
+                    cursor.exit();
                 }
             }
         } catch (IOException | XMLStreamException | TransformerException e) {
@@ -371,6 +433,9 @@ public class DisplayPluginUpdatesMojo extends AbstractVersionsDisplayMojo {
         // if Maven prerequisite upgraded to a version, Map<plugin compact key, latest compatible plugin vesion>
         Map<ArtifactVersion, Map<String, String>> mavenUpgrades = new TreeMap<>(new MavenVersionComparator());
 
+        // the plugins are checked concurrently, and their results are then processed in order
+        List<Plugin> checkedPlugins = new ArrayList<>();
+        List<Callable<PluginVersionCheck>> checks = new ArrayList<>();
         for (Plugin plugin : plugins) {
             String coords = ArtifactUtils.versionlessKey(plugin.getGroupId(), plugin.getArtifactId());
             String version = ofNullable(plugin.getVersion()).orElse(parentPlugins.get(coords));
@@ -383,27 +448,30 @@ public class DisplayPluginUpdatesMojo extends AbstractVersionsDisplayMojo {
             }
 
             getLog().debug("Checking " + coords + " for updates newer than " + version);
-            String effectiveVersion;
-            ArtifactVersion artifactVersion;
-            try {
-                // now we want to find the newest versions and check their Maven version prerequisite
-                Pair<ArtifactVersion, String> effectiveVersionPair =
-                        getEffectivePluginVersion(plugin, version, specMavenVersion, curMavenVersion, mavenUpgrades);
-                effectiveVersion = effectiveVersionPair.getRight();
-                artifactVersion = effectiveVersionPair.getLeft();
-                if (effectiveVersion != null) {
-                    try {
-                        ArtifactVersion requires = getPrerequisitesMavenVersion(
-                                getPluginProject(plugin.getGroupId(), plugin.getArtifactId(), effectiveVersion));
-                        if (minMavenVersion == null || compare(minMavenVersion, requires) < 0) {
-                            minMavenVersion = requires;
-                        }
-                    } catch (ArtifactResolutionException | ProjectBuildingException e) {
-                        // ignore bad version
-                    }
-                }
-            } catch (VersionRetrievalException e) {
-                throw new MojoExecutionException(e.getMessage(), e);
+            checkedPlugins.add(plugin);
+            checks.add(() -> checkPluginVersion(plugin, version, specMavenVersion, curMavenVersion));
+        }
+        List<PluginVersionCheck> results = invokeAll(getLookupExecutor(), checks);
+
+        // all plugins have been checked, so that their records are written to the JSON output after the loop
+        List<Consumer<UpdatesJsonWriter>> jsonRecords = new ArrayList<>();
+        for (int i = 0; i < checkedPlugins.size(); i++) {
+            Plugin plugin = checkedPlugins.get(i);
+            PluginVersionCheck result = results.get(i);
+            String coords = ArtifactUtils.versionlessKey(plugin.getGroupId(), plugin.getArtifactId());
+            String version = ofNullable(plugin.getVersion()).orElse(parentPlugins.get(coords));
+            boolean versionSpecifiedInCurrentPom = pluginsWithVersionsSpecified.contains(coords);
+
+            String effectiveVersion = result.effectiveVersion;
+            ArtifactVersion artifactVersion = result.artifactVersion;
+            if (result.requiresResolved && (minMavenVersion == null || compare(minMavenVersion, result.requires) < 0)) {
+                minMavenVersion = result.requires;
+            }
+            String upgradePluginKey = compactKey(plugin.getGroupId(), plugin.getArtifactId());
+            for (Pair<ArtifactVersion, String> upgrade : result.mavenUpgrades) {
+                mavenUpgrades
+                        .computeIfAbsent(upgrade.getLeft(), k -> new LinkedHashMap<>())
+                        .putIfAbsent(upgradePluginKey, upgrade.getRight());
             }
 
             String newVersion;
@@ -448,13 +516,26 @@ public class DisplayPluginUpdatesMojo extends AbstractVersionsDisplayMojo {
             } else {
                 newVersion = null;
             }
-            if (version != null
+            boolean update = version != null
                     && artifactVersion != null
                     && newVersion != null
                     && effectiveVersion != null
                     && DefaultArtifactVersionCache.of(effectiveVersion)
                                     .compareTo(DefaultArtifactVersionCache.of(newVersion))
-                            < 0) {
+                            < 0;
+            if (effectiveVersion != null) {
+                jsonRecords.add(json -> json.writeArtifact(
+                        "plugins",
+                        DependencyBuilder.newBuilder()
+                                .withGroupId(plugin.getGroupId())
+                                .withArtifactId(plugin.getArtifactId())
+                                .withType("maven-plugin")
+                                .build(),
+                        effectiveVersion,
+                        update ? newVersion : null,
+                        null));
+            }
+            if (update) {
                 pluginUpdates.add(pad(
                         compactKey(plugin.getGroupId(), plugin.getArtifactId()),
                         INFO_PAD_SIZE + getOutputLineWidthOffset(),
@@ -463,6 +544,11 @@ public class DisplayPluginUpdatesMojo extends AbstractVersionsDisplayMojo {
                         newVersion));
             }
         }
+        try (UpdatesJsonWriter json = jsonInit("display-plugin-updates")) {
+            jsonRecords.forEach(record -> record.accept(json));
+        } catch (IOException | UncheckedIOException e) {
+            throw new MojoExecutionException("Cannot send output to " + jsonOutputFile, e);
+        }
 
         // info on each plugin gathered: now it's time to display the result!
         //
@@ -541,6 +627,15 @@ public class DisplayPluginUpdatesMojo extends AbstractVersionsDisplayMojo {
             }
         }
 
+        if (prerequisitesReadFromPom.get() + pluginProjectBuilds.get() > 0) {
+            // once per execution, so that the project builds spared by reading the plugin POMs are visible
+            getLog().info("Plugin prerequisites read from the plugin POM: " + prerequisitesReadFromPom
+                    + " (project builds avoided), plugin projects built: " + pluginProjectBuilds
+                    + ofNullable(pluginPrerequisitesCache)
+                            .map(c -> ", prerequisites cache: " + c.getStatistics())
+                            .orElse(""));
+        }
+
         // updates if minimum Maven version is changed
         for (Map.Entry<ArtifactVersion, Map<String, String>> mavenUpgrade : mavenUpgrades.entrySet()) {
             ArtifactVersion mavenUpgradeVersion = mavenUpgrade.getKey();
@@ -557,23 +652,86 @@ public class DisplayPluginUpdatesMojo extends AbstractVersionsDisplayMojo {
         logLine(false, "");
     }
 
-    private Pair<ArtifactVersion, String> getEffectivePluginVersion(
-            Plugin plugin,
-            String effectiveVersion,
-            ArtifactVersion specMavenVersion,
-            ArtifactVersion curMavenVersion,
-            Map<ArtifactVersion, Map<String, String>> mavenUpgrades)
+    /**
+     * Checks the versions of a plugin, together with the Maven version prerequisite of its effective version.
+     *
+     * @param plugin           the plugin
+     * @param version          the version of the plugin, or {@code null} if it is not specified
+     * @param specMavenVersion the minimal Maven version required by the project
+     * @param curMavenVersion  the current Maven version
+     * @return the result of the check
+     * @throws MojoExecutionException thrown if the versions of the plugin could not be retrieved
+     */
+    private PluginVersionCheck checkPluginVersion(
+            Plugin plugin, String version, ArtifactVersion specMavenVersion, ArtifactVersion curMavenVersion)
+            throws MojoExecutionException {
+        try {
+            // now we want to find the newest versions and check their Maven version prerequisite
+            PluginVersionCheck result = getEffectivePluginVersion(plugin, version, specMavenVersion, curMavenVersion);
+            if (result.effectiveVersion != null) {
+                try {
+                    result.requires = getPrerequisitesMavenVersion(
+                            plugin.getGroupId(), plugin.getArtifactId(), result.effectiveVersion);
+                    result.requiresResolved = true;
+                } catch (ArtifactResolutionException | ProjectBuildingException e) {
+                    // ignore bad version
+                }
+            }
+            return result;
+        } catch (VersionRetrievalException e) {
+            throw new MojoExecutionException(e.getMessage(), e);
+        } finally {
+            PluginPrerequisitesCache cache = getPluginPrerequisitesCache();
+            if (cache != null) {
+                cache.flush(plugin.getGroupId(), plugin.getArtifactId());
+            }
+        }
+    }
+
+    private PluginVersionCheck getEffectivePluginVersion(
+            Plugin plugin, String effectiveVersion, ArtifactVersion specMavenVersion, ArtifactVersion curMavenVersion)
             throws MojoExecutionException, VersionRetrievalException {
         Artifact artifactRange =
                 getHelper().createPluginArtifact(plugin.getGroupId(), plugin.getArtifactId(), effectiveVersion);
         ArtifactVersion[] newerVersions =
                 getHelper().lookupArtifactVersions(artifactRange, true).getVersions(this.allowSnapshots);
+        // the prerequisites of the versions are assumed not to decrease, so only some of them need to be probed
+        PrerequisitesSearch search = new PrerequisitesSearch(
+                j -> getPrerequisitesMavenVersion(
+                        plugin.getGroupId(), plugin.getArtifactId(), newerVersions[j].toString()),
+                newerVersions.length);
+        try {
+            return getEffectivePluginVersion(
+                    plugin, effectiveVersion, newerVersions, specMavenVersion, curMavenVersion, search::get);
+        } catch (PrerequisitesSearch.InconclusiveException e) {
+            getLog().debug("Checking every version of " + plugin.getKey() + ": " + e.getMessage());
+            try {
+                return getEffectivePluginVersion(
+                        plugin, effectiveVersion, newerVersions, specMavenVersion, curMavenVersion, search::probe);
+            } catch (PrerequisitesSearch.InconclusiveException ex) {
+                // not thrown by the probes
+                throw new IllegalStateException(ex);
+            }
+        } finally {
+            getLog().debug("Probed the prerequisites of " + search.getProbes() + " of " + newerVersions.length
+                    + " versions of " + plugin.getKey());
+        }
+    }
+
+    private PluginVersionCheck getEffectivePluginVersion(
+            Plugin plugin,
+            String effectiveVersion,
+            ArtifactVersion[] newerVersions,
+            ArtifactVersion specMavenVersion,
+            ArtifactVersion curMavenVersion,
+            PrerequisitesLookup prerequisites)
+            throws MojoExecutionException, PrerequisitesSearch.InconclusiveException {
+        PluginVersionCheck result = new PluginVersionCheck();
         ArtifactVersion minRequires = null;
         ArtifactVersion artifactVersion = null;
         for (int j = newerVersions.length - 1; j >= 0; j--) {
             try {
-                ArtifactVersion pluginRequires = getPrerequisitesMavenVersion(
-                        getPluginProject(plugin.getGroupId(), plugin.getArtifactId(), newerVersions[j].toString()));
+                ArtifactVersion pluginRequires = prerequisites.get(j);
                 if (artifactVersion == null && compare(specMavenVersion, pluginRequires) >= 0) {
                     // ok, newer version compatible with current specMavenVersion
                     artifactVersion = newerVersions[j];
@@ -589,28 +747,23 @@ public class DisplayPluginUpdatesMojo extends AbstractVersionsDisplayMojo {
                 // newer version not compatible with current specMavenVersion: track opportunity if Maven spec
                 // upgrade
                 if (minRequires == null || compare(minRequires, pluginRequires) > 0) {
-                    Map<String, String> upgradePlugins =
-                            mavenUpgrades.computeIfAbsent(pluginRequires, k -> new LinkedHashMap<>());
-
                     String upgradePluginKey = compactKey(plugin.getGroupId(), plugin.getArtifactId());
-                    if (!upgradePlugins.containsKey(upgradePluginKey)) {
-                        String newer = newerVersions[j].toString();
-                        if (newer.equals(effectiveVersion)) {
-                            // plugin version configured that require a Maven version higher than spec
-                            upgradePlugins.put(
-                                    upgradePluginKey,
-                                    pad(upgradePluginKey, INFO_PAD_SIZE + getOutputLineWidthOffset(), newer));
-                        } else {
-                            // plugin that can be upgraded
-                            upgradePlugins.put(
-                                    upgradePluginKey,
-                                    pad(
-                                            upgradePluginKey,
-                                            INFO_PAD_SIZE + getOutputLineWidthOffset(),
-                                            effectiveVersion,
-                                            " -> ",
-                                            newer));
-                        }
+                    String newer = newerVersions[j].toString();
+                    if (newer.equals(effectiveVersion)) {
+                        // plugin version configured that require a Maven version higher than spec
+                        result.mavenUpgrades.add(new ImmutablePair<>(
+                                pluginRequires,
+                                pad(upgradePluginKey, INFO_PAD_SIZE + getOutputLineWidthOffset(), newer)));
+                    } else {
+                        // plugin that can be upgraded
+                        result.mavenUpgrades.add(new ImmutablePair<>(
+                                pluginRequires,
+                                pad(
+                                        upgradePluginKey,
+                                        INFO_PAD_SIZE + getOutputLineWidthOffset(),
+                                        effectiveVersion,
+                                        " -> ",
+                                        newer)));
                     }
                     minRequires = pluginRequires;
                 }
@@ -618,7 +771,9 @@ public class DisplayPluginUpdatesMojo extends AbstractVersionsDisplayMojo {
                 // ignore bad version
             }
         }
-        return new ImmutablePair<>(artifactVersion, effectiveVersion);
+        result.artifactVersion = artifactVersion;
+        result.effectiveVersion = effectiveVersion;
+        return result;
     }
 
     /**
@@ -634,6 +789,40 @@ public class DisplayPluginUpdatesMojo extends AbstractVersionsDisplayMojo {
      */
     private MavenProject getPluginProject(String groupId, String artifactId, String version)
             throws MojoExecutionException, ProjectBuildingException, ArtifactResolutionException {
+        Artifact probe = resolvePluginPom(groupId, artifactId, version);
+        ProjectBuildingResult result;
+        synchronized (pluginProjectBuildLock) {
+            result = projectBuilder.build(
+                    probe,
+                    true,
+                    PomHelper.createProjectBuilderRequest(
+                            session,
+                            r -> r.setProcessPlugins(false),
+                            r -> r.setRemoteRepositories(
+                                    session.getCurrentProject().getRemoteArtifactRepositories()),
+                            r -> r.setPluginArtifactRepositories(
+                                    session.getCurrentProject().getPluginArtifactRepositories())));
+        }
+        if (!result.getProblems().isEmpty()) {
+            getLog().warn("Problems encountered during construction of the plugin POM for " + probe.toString());
+            result.getProblems().forEach(p -> getLog().warn("\t" + p.getMessage()));
+        }
+        return result.getProject();
+    }
+
+    /**
+     * Resolves the POM artifact of the plugin (or parent POM) with a given {@code groupId},
+     * {@code artifactId}, and {@code version}.
+     *
+     * @param groupId    {@code groupId} of the POM
+     * @param artifactId {@code artifactId} of the POM
+     * @param version    {@code version} of the POM
+     * @return the resolved POM artifact
+     * @throws MojoExecutionException      thrown if the artifact could not be constructed
+     * @throws ArtifactResolutionException thrown if the artifact could not be resolved
+     */
+    private Artifact resolvePluginPom(String groupId, String artifactId, String version)
+            throws MojoExecutionException, ArtifactResolutionException {
         Artifact probe = getHelper()
                 .createDependencyArtifact(DependencyBuilder.newBuilder()
                         .withGroupId(groupId)
@@ -643,20 +832,7 @@ public class DisplayPluginUpdatesMojo extends AbstractVersionsDisplayMojo {
                         .withScope(Artifact.SCOPE_RUNTIME)
                         .build());
         getHelper().resolveArtifact(probe, true);
-        ProjectBuildingResult result = projectBuilder.build(
-                probe,
-                true,
-                PomHelper.createProjectBuilderRequest(
-                        session,
-                        r -> r.setProcessPlugins(false),
-                        r -> r.setRemoteRepositories(session.getCurrentProject().getRemoteArtifactRepositories()),
-                        r -> r.setPluginArtifactRepositories(
-                                session.getCurrentProject().getPluginArtifactRepositories())));
-        if (!result.getProblems().isEmpty()) {
-            getLog().warn("Problems encountered during construction of the plugin POM for " + probe.toString());
-            result.getProblems().forEach(p -> getLog().warn("\t" + p.getMessage()));
-        }
-        return result.getProject();
+        return probe;
     }
 
     private static String pad(String start, int len, String... ends) {
@@ -679,10 +855,6 @@ public class DisplayPluginUpdatesMojo extends AbstractVersionsDisplayMojo {
             getLog().debug("Processing parent: " + parentProject.getGroupId() + ":" + parentProject.getArtifactId()
                     + ":" + parentProject.getVersion() + " -> " + parentProject.getFile());
 
-            StringWriter writer = new StringWriter();
-            boolean havePom = false;
-            Model interpolatedModel;
-
             Model originalModel = parentProject.getOriginalModel();
             if (originalModel == null) {
                 getLog().warn("project.getOriginalModel()==null for  " + parentProject.getGroupId() + ":"
@@ -690,51 +862,153 @@ public class DisplayPluginUpdatesMojo extends AbstractVersionsDisplayMojo {
                         + " is null, substituting project.getModel()");
                 originalModel = parentProject.getModel();
             }
-            try {
-                new MavenXpp3Writer().write(writer, originalModel);
-                writer.close();
-                havePom = true;
-            } catch (IOException e) {
-                // ignore
+            parentPlugins.putAll(getParentPlugins(parentProject, originalModel));
+        }
+        return parentPlugins;
+    }
+
+    /**
+     * Returns the plugin versions a parent project defines for its children. The result is memoized in the session,
+     * keyed by the parent POM and the values of the properties of the current project the parent POM refers to, so
+     * that the modules of a reactor sharing the parent process it once.
+     *
+     * @param parentProject the parent project
+     * @param originalModel the original model of the parent project
+     * @return map of plugin versions keyed by coordinates
+     * @throws MojoExecutionException thrown if the parent POM could not be read
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, String> getParentPlugins(MavenProject parentProject, Model originalModel)
+            throws MojoExecutionException {
+        String parentKey = ArtifactUtils.key(
+                        parentProject.getGroupId(), parentProject.getArtifactId(), parentProject.getVersion())
+                + ":"
+                + ofNullable(parentProject.getFile()).map(File::lastModified).orElse(0L);
+        ConcurrentMap<String, Object> memo = getSessionMemo();
+
+        String pom = null;
+        Set<String> expressions = (Set<String>) memo.get("expressions:" + parentKey);
+        if (expressions == null) {
+            pom = writeModel(originalModel);
+            expressions = Collections.unmodifiableSet(getExpressions(pom == null ? "" : pom, new TreeSet<>()));
+            memo.putIfAbsent("expressions:" + parentKey, expressions);
+        }
+        StringBuilder key = new StringBuilder("parent-plugins:").append(parentKey);
+        Set<String> properties = new TreeSet<>();
+        for (Deque<String> pending = new ArrayDeque<>(expressions); !pending.isEmpty(); ) {
+            String property = pending.pop();
+            String value = getProject().getProperties().getProperty(property);
+            if (properties.add(property) && value != null) {
+                getExpressions(value, pending);
             }
-            ModelBuildingRequest modelBuildingRequest = new DefaultModelBuildingRequest();
-            modelBuildingRequest.setUserProperties(getProject().getProperties());
-            interpolatedModel = modelInterpolator.interpolateModel(
-                    originalModel, null, modelBuildingRequest, new IgnoringModelProblemCollector());
-            if (havePom) {
-                try (ByteArrayInputStream bais =
-                        new ByteArrayInputStream(writer.toString().getBytes())) {
-                    try (MutableXMLStreamReader pomReader = new MutableXMLStreamReader(
-                            bais,
-                            ofNullable(parentProject.getFile())
-                                    .map(File::toPath)
-                                    .orElse(null))) {
-                        Set<String> withVersionSpecified = findPluginsWithVersionsSpecified(pomReader);
-
-                        Map<String, String> map = getPluginManagement(interpolatedModel);
-                        map.keySet().retainAll(withVersionSpecified);
-                        parentPlugins.putAll(map);
-
-                        map = getBuildPlugins(interpolatedModel, true);
-                        map.keySet().retainAll(withVersionSpecified);
-                        parentPlugins.putAll(map);
-
-                        map = getReportPlugins(interpolatedModel, true);
-                        map.keySet().retainAll(withVersionSpecified);
-                        parentPlugins.putAll(map);
-                    }
-                } catch (XMLStreamException | TransformerException | IOException e) {
-                    throw new MojoExecutionException(e.getMessage(), e);
+        }
+        for (String property : properties) {
+            String value = getProject().getProperties().getProperty(property);
+            key.append('\n').append(property).append(value == null ? "" : "=" + value);
+        }
+
+        Map<String, String> parentPlugins = (Map<String, String>) memo.get(key.toString());
+        if (parentPlugins != null) {
+            getLog().debug("Reusing the plugins of parent " + parentProject.getId());
+            return parentPlugins;
+        }
+        if (pom == null) {
+            pom = writeModel(originalModel);
+        }
+        parentPlugins = Collections.unmodifiableMap(readParentPlugins(parentProject, originalModel, pom));
+        memo.putIfAbsent(key.toString(), parentPlugins);
+        return parentPlugins;
+    }
+
+    /**
+     * @return the given model as XML, or {@code null} if it could not be written
+     */
+    private static String writeModel(Model model) {
+        StringWriter writer = new StringWriter();
+        try {
+            new MavenXpp3Writer().write(writer, model);
+            writer.close();
+            return writer.toString();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Adds the names of the properties referenced by the expressions in the given text to the given collection.
+     *
+     * @return the given collection
+     */
+    private static <C extends Collection<String>> C getExpressions(String text, C expressions) {
+        Matcher matcher = EXPRESSION.matcher(text);
+        while (matcher.find()) {
+            expressions.add(matcher.group(1));
+        }
+        return expressions;
+    }
+
+    private Map<String, String> readParentPlugins(MavenProject parentProject, Model originalModel, String pom)
+            throws MojoExecutionException {
+        Map<String, String> parentPlugins = new HashMap<>();
+        ModelBuildingRequest modelBuildingRequest = new DefaultModelBuildingRequest();
+        modelBuildingRequest.setUserProperties(getProject().getProperties());
+        Model interpolatedModel = modelInterpolator.interpolateModel(
+                originalModel, null, modelBuildingRequest, new IgnoringModelProblemCollector());
+        if (pom != null) {
+            try (ByteArrayInputStream bais = new ByteArrayInputStream(pom.getBytes())) {
+                try (MutableXMLStreamReader pomReader = new MutableXMLStreamReader(
+                        bais,
+                        ofNullable(parentProject.getFile()).map(File::toPath).orElse(null))) {
+                    Set<String> withVersionSpecified = findPluginsWithVersionsSpecified(pomReader);
+
+                    Map<String, String> map = getPluginManagement(interpolatedModel);
+                    map.keySet().retainAll(withVersionSpecified);
+                    parentPlugins.putAll(map);
+
+                    map = getBuildPlugins(interpolatedModel, true);
+                    map.keySet().retainAll(withVersionSpecified);
+                    parentPlugins.putAll(map);
+
+                    map = getReportPlugins(interpolatedModel, true);
+                    map.keySet().retainAll(withVersionSpecified);
+                    parentPlugins.putAll(map);
                 }
-            } else {
-                parentPlugins.putAll(getPluginManagement(interpolatedModel));
-                parentPlugins.putAll(getBuildPlugins(interpolatedModel, true));
-                parentPlugins.putAll(getReportPlugins(interpolatedModel, true));
+            } catch (XMLStreamException | TransformerException | IOException e) {
+                throw new MojoExecutionException(e.getMessage(), e);
             }
+        } else {
+            parentPlugins.putAll(getPluginManagement(interpolatedModel));
+            parentPlugins.putAll(getBuildPlugins(interpolatedModel, true));
+            parentPlugins.putAll(getReportPlugins(interpolatedModel, true));
         }
         return parentPlugins;
     }
 
+    /**
+     * Returns the memo of the goal in the given session, holding only JDK types, as the goal may be executed by
+     * several versions of the plugin in the same session.
+     *
+     * @return the memo of the session, or a memo private to this execution if there is no session
+     */
+    @SuppressWarnings("unchecked")
+    private ConcurrentMap<String, Object> getSessionMemo() {
+        RepositorySystemSession repositorySession = session != null ? session.getRepositorySession() : null;
+        if (repositorySession != null && repositorySession.getData() != null) {
+            Object existing = repositorySession.getData().get(SESSION_MEMO_KEY);
+            if (!(existing instanceof ConcurrentMap)) {
+                repositorySession.getData().set(SESSION_MEMO_KEY, existing, new ConcurrentHashMap<>());
+                existing = repositorySession.getData().get(SESSION_MEMO_KEY);
+            }
+            if (existing instanceof ConcurrentMap) {
+                return (ConcurrentMap<String, Object>) existing;
+            }
+        }
+        if (sessionMemo == null) {
+            sessionMemo = new ConcurrentHashMap<>();
+        }
+        return sessionMemo;
+    }
+
     private boolean isMavenPluginProject() {
         return "maven-plugin".equals(getProject().getPackaging());
     }
@@ -747,7 +1021,7 @@ public class DisplayPluginUpdatesMojo extends AbstractVersionsDisplayMojo {
     }
 
     private static final class StackState {
-        private final String path;
+        private final boolean plugin;
 
         private String groupId;
 
@@ -755,12 +1029,13 @@ public class DisplayPluginUpdatesMojo extends AbstractVersionsDisplayMojo {
 
         private String version;
 
-        StackState(String path) {
-            this.path = path;
+        StackState(boolean plugin) {
+            this.plugin = plugin;
         }
 
         public String toString() {
-            return path + "[groupId=" + groupId + ", artifactId=" + artifactId + ", version=" + version + "]";
+            return (plugin ? "plugin" : "element") + "[groupId=" + groupId + ", artifactId=" + artifactId + ", version="
+                    + version + "]";
         }
     }
 
@@ -775,13 +1050,13 @@ public class DisplayPluginUpdatesMojo extends AbstractVersionsDisplayMojo {
             throws XMLStreamException, IOException, TransformerException {
         Set<String> result = new HashSet<>();
         Stack<StackState> pathStack = new Stack<>();
-        StackState curState = new StackState("");
+        StackState curState = new StackState(false);
+        PomPath.Cursor cursor = PomPath.cursor();
 
         while (pom.hasNext()) {
             pom.next();
             if (pom.isStartElement()) {
-                if (curState != null
-                        && PATTERN_PROJECT_PLUGIN.matcher(curState.path).matches()) {
+                if (curState != null && curState.plugin) {
                     if ("groupId".equals(pom.getLocalName())) {
                         curState.groupId = pom.getElementText().trim();
                         continue;
@@ -797,12 +1072,12 @@ public class DisplayPluginUpdatesMojo extends AbstractVersionsDisplayMojo {
 
                 assert curState != null;
                 pathStack.push(curState);
-                curState = new StackState(curState.path + "/" + pom.getLocalName());
+                cursor.enter(pom.getLocalName());
+                curState = new StackState(cursor.at(PomPath.PROJECT_PLUGIN));
             }
             // for empty elements, pom can be both start- and end element
             if (pom.isEndElement()) {
-                if (curState != null
-                        && PATTERN_PROJECT_PLUGIN.matcher(curState.path).matches()) {
+                if (curState != null && curState.plugin) {
                     if (curState.artifactId != null && curState.version != null) {
                         if (curState.groupId == null) {
                             curState.groupId = PomHelper.APACHE_MAVEN_PLUGINS_GROUPID;
@@ -811,6 +1086,7 @@ public class DisplayPluginUpdatesMojo extends AbstractVersionsDisplayMojo {
                     }
                 }
                 curState = pathStack.pop();
+                cursor.exit();
             }
         }
 
@@ -823,16 +1099,100 @@ public class DisplayPluginUpdatesMojo extends AbstractVersionsDisplayMojo {
      * Get the minimum required Maven version of the given plugin
      * Same logic as in
      *
-     * @param pluginProject the plugin for which to retrieve the minimum Maven version which is required
-     * @return The minimally required Maven version (never {@code null})
+     * @param groupId    {@code groupId} of the plugin
+     * @param artifactId {@code artifactId} of the plugin
+     * @param version    {@code version} of the plugin
+     * @return The minimally required Maven version, or {@code null} if the plugin has no prerequisite
+     * @throws MojoExecutionException      thrown if the artifact for the plugin could not be constructed
+     * @throws ProjectBuildingException    thrown if the plugin project could not be built
+     * @throws ArtifactResolutionException thrown if the plugin POM could not be resolved
      * @see <a
      *         href="https://github.com/apache/maven-plugin-tools/blob/c8ddcdcb10d342a5a5e2f38245bb569af5730c7c/maven-plugin-plugin/src/main/java/org/apache/maven/plugin/plugin/PluginReport.java#L711">PluginReport</a>
      */
-    private ArtifactVersion getPrerequisitesMavenVersion(MavenProject pluginProject) {
-        return ofNullable(pluginProject.getPrerequisites())
-                .map(Prerequisites::getMaven)
-                .map(DefaultArtifactVersionCache::of)
-                .orElse(null);
+    private ArtifactVersion getPrerequisitesMavenVersion(String groupId, String artifactId, String version)
+            throws MojoExecutionException, ProjectBuildingException, ArtifactResolutionException {
+        PluginPrerequisitesCache cache = getPluginPrerequisitesCache();
+        Optional<String> cached = cache != null ? cache.get(groupId, artifactId, version) : Optional.empty();
+        String mavenVersion;
+        if (cached.isPresent()) {
+            mavenVersion = cached.get().isEmpty() ? null : cached.get();
+        } else {
+            Optional<PluginPrerequisitesReader.Prerequisite> prerequisite =
+                    getPluginPrerequisitesReader().read(groupId, artifactId, version);
+            // values interpolated from the user or system properties of this session are not cached
+            boolean cacheable;
+            if (prerequisite.isPresent()) {
+                prerequisitesReadFromPom.incrementAndGet();
+                mavenVersion = prerequisite.get().getMavenVersion().isEmpty()
+                        ? null
+                        : prerequisite.get().getMavenVersion();
+                cacheable = !prerequisite.get().isSessionDependent();
+            } else {
+                pluginProjectBuilds.incrementAndGet();
+                MavenProject pluginProject = getPluginProject(groupId, artifactId, version);
+                mavenVersion = ofNullable(pluginProject.getPrerequisites())
+                        .map(Prerequisites::getMaven)
+                        .orElse(null);
+                // the project build may have used any of the session properties to interpolate an expression
+                cacheable = ofNullable(pluginProject.getOriginalModel())
+                        .map(Model::getPrerequisites)
+                        .map(Prerequisites::getMaven)
+                        .map(maven -> !maven.contains("${"))
+                        .orElse(true);
+            }
+            if (cache != null && cacheable) {
+                cache.put(groupId, artifactId, version, mavenVersion);
+            }
+        }
+        return ofNullable(mavenVersion).map(DefaultArtifactVersionCache::of).orElse(null);
+    }
+
+    /**
+     * Thread-safe, since the plugins are checked concurrently.
+     *
+     * @return the reader of the prerequisites from the plugin POMs, sparing the plugin project builds
+     */
+    private synchronized PluginPrerequisitesReader getPluginPrerequisitesReader() {
+        if (pluginPrerequisitesReader == null) {
+            pluginPrerequisitesReader = new PluginPrerequisitesReader(
+                    (groupId, artifactId, version) ->
+                            resolvePluginPom(groupId, artifactId, version).getFile(),
+                    asMap(session != null ? session.getUserProperties() : null),
+                    asMap(session != null ? session.getSystemProperties() : null),
+                    getLog());
+        }
+        return pluginPrerequisitesReader;
+    }
+
+    private static Map<String, String> asMap(Properties properties) {
+        return properties != null
+                ? properties.stringPropertyNames().stream().collect(toMap(k -> k, properties::getProperty))
+                : emptyMap();
+    }
+
+    /**
+     * Thread-safe, since the plugins are checked concurrently.
+     *
+     * @return the persistent cache of plugin prerequisites, or {@code null} if it is disabled or there is no
+     * local repository to hold it
+     */
+    private synchronized PluginPrerequisitesCache getPluginPrerequisitesCache() {
+        if (pluginPrerequisitesCache == null && prerequisitesCache) {
+            Path directory = ofNullable(metadataCacheDirectory)
+                    .map(File::toPath)
+                    .orElseGet(() -> ofNullable(session)
+                            .map(MavenSession::getRepositorySession)
+                            .map(RepositorySystemSession::getLocalRepository)
+                            .map(LocalRepository::getBasedir)
+                            .map(basedir ->
+                                    basedir.toPath().resolve(DefaultVersionsHelper.DEFAULT_METADATA_CACHE_DIRECTORY))
+                            .orElse(null));
+            if (directory != null) {
+                getLog().debug("Using plugin prerequisites cache in " + directory);
+                pluginPrerequisitesCache = new PluginPrerequisitesCache(directory, getLog());
+            }
+        }
+        return pluginPrerequisitesCache;
     }
 
     /**
@@ -1202,6 +1562,43 @@ public class DisplayPluginUpdatesMojo extends AbstractVersionsDisplayMojo {
         return a == null ? b == null ? 0 : -1 : b == null ? 1 : a.compareTo(b);
     }
 
+    /**
+     * Retrieves the Maven version prerequisite of a plugin version.
+     */
+    @FunctionalInterface
+    private interface PrerequisitesLookup {
+        ArtifactVersion get(int index)
+                throws MojoExecutionException, ProjectBuildingException, ArtifactResolutionException,
+                        PrerequisitesSearch.InconclusiveException;
+    }
+
+    /**
+     * The result of checking the versions of a plugin.
+     */
+    private static final class PluginVersionCheck {
+        /**
+         * The newest version compatible with the minimal Maven version required by the project
+         */
+        private ArtifactVersion artifactVersion;
+
+        /**
+         * The version in use
+         */
+        private String effectiveVersion;
+
+        /**
+         * The Maven version prerequisite of the effective version, if it could be resolved
+         */
+        private ArtifactVersion requires;
+
+        private boolean requiresResolved;
+
+        /**
+         * The Maven versions which would allow upgrading the plugin, with the line describing the upgrade
+         */
+        private final List<Pair<ArtifactVersion, String>> mavenUpgrades = new ArrayList<>();
+    }
+
     private static class IgnoringModelProblemCollector implements ModelProblemCollector {
 
         @Override
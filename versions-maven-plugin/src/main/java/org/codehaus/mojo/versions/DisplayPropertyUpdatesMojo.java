@@ -21,6 +21,8 @@ package org.codehaus.mojo.versions;
 
 import javax.inject.Inject;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -41,6 +43,7 @@ import org.codehaus.mojo.versions.api.PropertyVersions;
 import org.codehaus.mojo.versions.api.Segment;
 import org.codehaus.mojo.versions.api.VersionsHelper;
 import org.codehaus.mojo.versions.api.recording.ChangeRecorder;
+import org.codehaus.mojo.versions.json.UpdatesJsonWriter;
 import org.codehaus.mojo.versions.ordering.InvalidSegmentException;
 import org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader;
 import org.eclipse.aether.RepositorySystem;
@@ -179,6 +182,40 @@ public class DisplayPropertyUpdatesMojo extends AbstractVersionsDisplayMojo {
                         .withIncludeParent(includeParent)
                         .withAutoLinkItems(autoLinkItems)
                         .build());
+        try (UpdatesJsonWriter json = jsonInit("display-property-updates")) {
+            processProperties(propertyVersions, current, updates, json);
+        } catch (IOException | UncheckedIOException e) {
+            throw new MojoExecutionException("Cannot send output to " + jsonOutputFile, e);
+        }
+
+        logLine(false, "");
+        if (!current.isEmpty()) {
+            logLine(false, "The following version properties are referencing the newest available version:");
+            for (String s : new TreeSet<>(current)) {
+                logLine(false, "  " + s);
+            }
+        }
+        if (updates.isEmpty() && current.isEmpty()) {
+            logLine(false, "This project does not have any properties associated with versions.");
+        } else if (updates.isEmpty()) {
+            logLine(false, "All version properties are referencing the newest version available.");
+        }
+
+        if (!updates.isEmpty()) {
+            logLine(false, "The following version property updates are available:");
+            for (String update : new TreeSet<>(updates)) {
+                logLine(false, "  " + update);
+            }
+        }
+        logLine(false, "");
+    }
+
+    private void processProperties(
+            Map<Property, PropertyVersions> propertyVersions,
+            List<String> current,
+            List<String> updates,
+            UpdatesJsonWriter json)
+            throws MojoExecutionException {
         for (Map.Entry<Property, PropertyVersions> entry : propertyVersions.entrySet()) {
             Property property = entry.getKey();
             PropertyVersions version = entry.getValue();
@@ -218,7 +255,9 @@ public class DisplayPropertyUpdatesMojo extends AbstractVersionsDisplayMojo {
                         this.getHelper(),
                         false,
                         unchangedSegment);
-                if (winner != null && !currentVersion.equals(winner.toString())) {
+                boolean update = winner != null && !currentVersion.equals(winner.toString());
+                json.writeProperty(property, currentVersion, update ? winner.toString() : null, version);
+                if (update) {
                     StringBuilder buf = new StringBuilder();
                     buf.append("${");
                     buf.append(property.getName());
@@ -256,27 +295,6 @@ public class DisplayPropertyUpdatesMojo extends AbstractVersionsDisplayMojo {
                         property.getName(), property.getVersion(), e.getMessage()));
             }
         }
-
-        logLine(false, "");
-        if (!current.isEmpty()) {
-            logLine(false, "The following version properties are referencing the newest available version:");
-            for (String s : new TreeSet<>(current)) {
-                logLine(false, "  " + s);
-            }
-        }
-        if (updates.isEmpty() && current.isEmpty()) {
-            logLine(false, "This project does not have any properties associated with versions.");
-        } else if (updates.isEmpty()) {
-            logLine(false, "All version properties are referencing the newest version available.");
-        }
-
-        if (!updates.isEmpty()) {
-            logLine(false, "The following version property updates are available:");
-            for (String update : new TreeSet<>(updates)) {
-                logLine(false, "  " + update);
-            }
-        }
-        logLine(false, "");
     }
 
     @Override
@@ -19,7 +19,9 @@ import javax.inject.Inject;
 import javax.xml.stream.XMLStreamException;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
 
@@ -35,6 +37,7 @@ import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.wagon.Wagon;
 import org.codehaus.mojo.versions.api.ArtifactVersions;
+import org.codehaus.mojo.versions.api.PomEditPlan;
 import org.codehaus.mojo.versions.api.PomHelper;
 import org.codehaus.mojo.versions.api.VersionRetrievalException;
 import org.codehaus.mojo.versions.api.recording.ChangeRecorder;
@@ -125,32 +128,37 @@ public class ForceReleasesMojo extends AbstractVersionsDependencyUpdaterMojo {
     protected void update(MutableXMLStreamReader pom)
             throws MojoExecutionException, MojoFailureException, XMLStreamException, VersionRetrievalException {
         try {
+            PomEditPlan plan = new PomEditPlan(pom);
+            List<Runnable> reports = new ArrayList<>();
             if (getProcessDependencyManagement()) {
                 DependencyManagement dependencyManagement =
                         PomHelper.getRawModel(getProject()).getDependencyManagement();
                 if (dependencyManagement != null) {
-                    useReleases(
-                            pom,
+                    reports.addAll(useReleases(
+                            plan,
                             dependencyManagement.getDependencies(),
-                            DependencyChangeRecord.ChangeKind.DEPENDENCY_MANAGEMENT);
+                            DependencyChangeRecord.ChangeKind.DEPENDENCY_MANAGEMENT));
                 }
             }
             if (getProject().getDependencies() != null && getProcessDependencies()) {
-                useReleases(pom, getProject().getDependencies(), DependencyChangeRecord.ChangeKind.DEPENDENCY);
+                reports.addAll(useReleases(
+                        plan, getProject().getDependencies(), DependencyChangeRecord.ChangeKind.DEPENDENCY));
             }
             if (getProject().getParent() != null && getProcessParent()) {
-                useReleases(pom, singletonList(getParentDependency()), DependencyChangeRecord.ChangeKind.PARENT);
+                reports.addAll(useReleases(
+                        plan, singletonList(getParentDependency()), DependencyChangeRecord.ChangeKind.PARENT));
             }
+            plan.apply();
+            reports.forEach(Runnable::run);
         } catch (IOException e) {
             throw new MojoExecutionException(e.getMessage(), e);
         }
     }
 
-    private void useReleases(
-            MutableXMLStreamReader pom,
-            Collection<Dependency> dependencies,
-            DependencyChangeRecord.ChangeKind changeKind)
-            throws XMLStreamException, MojoExecutionException, VersionRetrievalException {
+    private List<Runnable> useReleases(
+            PomEditPlan plan, Collection<Dependency> dependencies, DependencyChangeRecord.ChangeKind changeKind)
+            throws MojoExecutionException, VersionRetrievalException {
+        List<Runnable> reports = new ArrayList<>();
         for (Dependency dep : dependencies) {
             if (getExcludeReactor() && isProducedByReactor(dep)) {
                 getLog().info("Ignoring reactor dependency: " + toString(dep));
@@ -173,7 +181,7 @@ public class ForceReleasesMojo extends AbstractVersionsDependencyUpdaterMojo {
                 getLog().debug("Looking for a release of " + toString(dep));
                 ArtifactVersions versions = getHelper().lookupArtifactVersions(artifact, false);
                 if (versions.containsVersion(releaseVersion)) {
-                    updateDependencyVersion(pom, dep, releaseVersion, changeKind);
+                    reports.add(updateDependencyVersion(plan, dep, releaseVersion, changeKind));
                 } else {
                     ArtifactVersion newestRelease = versions.getNewestVersion((VersionRange) null, null, false, true);
                     if (newestRelease == null) {
@@ -183,10 +191,11 @@ public class ForceReleasesMojo extends AbstractVersionsDependencyUpdaterMojo {
                                     "No matching release of " + toString(dep) + " found for update.");
                         }
                     } else {
-                        updateDependencyVersion(pom, dep, newestRelease.toString(), changeKind);
+                        reports.add(updateDependencyVersion(plan, dep, newestRelease.toString(), changeKind));
                     }
                 }
             }
         }
+        return reports;
     }
 }
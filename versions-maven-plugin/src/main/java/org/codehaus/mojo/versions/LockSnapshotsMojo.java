@@ -23,11 +23,21 @@ import javax.inject.Inject;
 import javax.xml.stream.XMLStreamException;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.apache.maven.RepositoryUtils;
 import org.apache.maven.artifact.Artifact;
@@ -40,14 +50,15 @@ import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.wagon.Wagon;
+import org.codehaus.mojo.versions.api.PomEditPlan;
 import org.codehaus.mojo.versions.api.PomHelper;
 import org.codehaus.mojo.versions.api.VersionsHelper;
 import org.codehaus.mojo.versions.api.recording.ChangeRecorder;
 import org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader;
 import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.resolution.VersionRequest;
 import org.eclipse.aether.resolution.VersionResolutionException;
-import org.eclipse.aether.resolution.VersionResult;
 
 /**
  * Attempts to resolve unlocked snapshot dependency versions to the locked timestamp versions used in the build. For
@@ -68,6 +79,15 @@ public class LockSnapshotsMojo extends AbstractVersionsDependencyUpdaterMojo {
      */
     private static final Pattern TIMESTAMPED_SNAPSHOT_REGEX = Pattern.compile("-" + Artifact.SNAPSHOT_VERSION);
 
+    private static final String SESSION_KEY = LockSnapshotsMojo.class.getName();
+
+    private static final String REACTOR_PREFETCH_KEY = LockSnapshotsMojo.class.getName() + ".reactorPrefetch";
+
+    /**
+     * Snapshot versions resolved by this execution, used if there is no session to share them with.
+     */
+    private final ConcurrentMap<String, CompletableFuture<String>> resolvedVersions = new ConcurrentHashMap<>();
+
     /**
      * Whether to process the dependencies section of the project.
      *
@@ -124,6 +144,23 @@ public class LockSnapshotsMojo extends AbstractVersionsDependencyUpdaterMojo {
         return processParent;
     }
 
+    @Override
+    protected boolean isParallelReactorSupported() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Before the first project is processed, the snapshot versions of all reactor projects are resolved
+     * concurrently in a single batch.</p>
+     */
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        prefetchReactorSnapshots();
+        super.execute();
+    }
+
     /**
      * @param pom the pom to update.
      * @throws MojoExecutionException when things go wrong
@@ -134,26 +171,42 @@ public class LockSnapshotsMojo extends AbstractVersionsDependencyUpdaterMojo {
     protected void update(MutableXMLStreamReader pom)
             throws MojoExecutionException, MojoFailureException, XMLStreamException {
         try {
+            resolveSnapshotVersions(getProject(), getSnapshotArtifacts(getProject()));
+
+            PomEditPlan plan = new PomEditPlan(pom);
+            List<Runnable> reports = new ArrayList<>();
             if (getProcessDependencyManagement()) {
                 DependencyManagement dependencyManagement =
                         PomHelper.getRawModel(getProject()).getDependencyManagement();
                 if (dependencyManagement != null) {
-                    lockSnapshots(pom, dependencyManagement.getDependencies());
+                    reports.addAll(lockSnapshots(plan, dependencyManagement.getDependencies()));
                 }
             }
             if (getProject().getDependencies() != null && getProcessDependencies()) {
-                lockSnapshots(pom, getProject().getDependencies());
+                reports.addAll(lockSnapshots(plan, getProject().getDependencies()));
             }
             if (getProject().getParent() != null && getProcessParent()) {
-                lockParentSnapshot(pom, getProject().getParent());
+                reports.addAll(lockParentSnapshot(plan, getProject().getParent()));
             }
+            plan.apply();
+            reports.forEach(Runnable::run);
         } catch (IOException | VersionResolutionException e) {
             throw new MojoExecutionException(e.getMessage(), e);
         }
     }
 
-    protected void lockSnapshots(MutableXMLStreamReader pom, Collection<Dependency> dependencies)
-            throws XMLStreamException, MojoExecutionException, VersionResolutionException {
+    /**
+     * Registers the edits locking the given snapshot dependencies in the given plan.
+     *
+     * @param plan plan of the edits of the pom
+     * @param dependencies dependencies to lock
+     * @return reports the outcome of the edits once the plan has been applied
+     * @throws MojoExecutionException thrown if the artifact of a dependency cannot be created
+     * @throws VersionResolutionException thrown if version resolution fails
+     */
+    protected List<Runnable> lockSnapshots(PomEditPlan plan, Collection<Dependency> dependencies)
+            throws MojoExecutionException, VersionResolutionException {
+        List<Runnable> reports = new ArrayList<>();
         for (Dependency dep : dependencies) {
             if (getExcludeReactor() && isProducedByReactor(dep)) {
                 getLog().info("Ignoring reactor dependency: " + toString(dep));
@@ -169,75 +222,260 @@ public class LockSnapshotsMojo extends AbstractVersionsDependencyUpdaterMojo {
                 continue;
             }
 
-            String version = dep.getVersion();
-            Matcher versionMatcher = TIMESTAMPED_SNAPSHOT_REGEX.matcher(version);
-            if (versionMatcher.find() && versionMatcher.end() == version.length()) {
+            if (isSnapshot(dep.getVersion())) {
                 Optional<String> lockedVersion = resolveSnapshotVersion(dep);
                 if (lockedVersion.isPresent()) {
-                    if (PomHelper.setDependencyVersion(
-                            pom,
+                    PomEditPlan.Edit edit = plan.setDependencyVersion(
                             dep.getGroupId(),
                             dep.getArtifactId(),
-                            version,
+                            dep.getVersion(),
                             lockedVersion.get(),
                             getProject().getModel(),
-                            getLog())) {
-                        getLog().info("Locked " + toString(dep) + " to version " + lockedVersion.get());
-                    }
+                            getLog());
+                    reports.add(() -> {
+                        if (edit.isApplied()) {
+                            getLog().info("Locked " + toString(dep) + " to version " + lockedVersion.get());
+                        }
+                    });
                 } else {
-                    getLog().info("No timestamped version for " + toString(dep) + " found.");
+                    reports.add(() -> getLog().info("No timestamped version for " + toString(dep) + " found."));
                 }
             }
         }
+        return reports;
     }
 
-    protected void lockParentSnapshot(MutableXMLStreamReader pom, MavenProject parent)
-            throws XMLStreamException, VersionResolutionException {
+    /**
+     * Registers the edit locking the given snapshot parent in the given plan.
+     *
+     * @param plan plan of the edits of the pom
+     * @param parent parent project to lock
+     * @return reports the outcome of the edit once the plan has been applied
+     * @throws VersionResolutionException thrown if version resolution fails
+     */
+    protected List<Runnable> lockParentSnapshot(PomEditPlan plan, MavenProject parent)
+            throws VersionResolutionException {
         if (parent == null) {
             getLog().info("Project does not have a parent");
-            return;
+            return Collections.emptyList();
         }
 
         if (reactorProjects.contains(parent)) {
             getLog().info("Project's parent is part of the reactor");
-            return;
+            return Collections.emptyList();
         }
 
         Artifact parentArtifact = parent.getArtifact();
-        String parentVersion = parentArtifact.getVersion();
-
-        Matcher versionMatcher = TIMESTAMPED_SNAPSHOT_REGEX.matcher(parentVersion);
-        if (versionMatcher.find() && versionMatcher.end() == parentVersion.length()) {
-            Optional<String> lockedParentVersion = resolveSnapshotVersion(parentArtifact);
-            if (lockedParentVersion.isPresent()) {
-                if (PomHelper.setProjectParentVersion(pom, lockedParentVersion.get())) {
-                    getLog().info("Locked parent " + parentArtifact + " to version " + lockedParentVersion.get());
+        if (!isSnapshot(parentArtifact.getVersion())) {
+            return Collections.emptyList();
+        }
+        Optional<String> lockedParentVersion = resolveSnapshotVersion(parentArtifact, getProject());
+        if (!lockedParentVersion.isPresent()) {
+            return Collections.singletonList(
+                    () -> getLog().info("No timestamped version for " + parentArtifact + " found."));
+        }
+        PomEditPlan.Edit edit = plan.setProjectParentVersion(lockedParentVersion.get());
+        return Collections.singletonList(() -> {
+            if (edit.isApplied()) {
+                getLog().info("Locked parent " + parentArtifact + " to version " + lockedParentVersion.get());
+            }
+        });
+    }
+
+    private static boolean isSnapshot(String version) {
+        Matcher versionMatcher = TIMESTAMPED_SNAPSHOT_REGEX.matcher(version);
+        return versionMatcher.find() && versionMatcher.end() == version.length();
+    }
+
+    /**
+     * Resolves the snapshot versions of all reactor projects in a single batch, once per session, so that the
+     * executions for the individual projects find them memoized. The candidates are selected with the
+     * configuration of this execution; each project is still locked with its own configuration, and merely
+     * resolves whatever has not been prefetched.
+     */
+    private void prefetchReactorSnapshots() {
+        if (reactorProjects == null
+                || reactorProjects.size() < 2
+                || session == null
+                || session.getRepositorySession() == null
+                || session.getRepositorySession().getData() == null
+                || !session.getRepositorySession().getData().set(REACTOR_PREFETCH_KEY, null, Boolean.TRUE)) {
+            return;
+        }
+        try {
+            Map<String, Callable<Optional<String>>> tasks = new LinkedHashMap<>();
+            for (MavenProject reactorProject : reactorProjects) {
+                for (Artifact artifact : getSnapshotArtifacts(reactorProject)) {
+                    tasks.putIfAbsent(
+                            getKey(artifact, reactorProject), () -> resolveSnapshotVersion(artifact, reactorProject));
                 }
-            } else {
-                getLog().info("No timestamped version for " + parentArtifact + " found.");
             }
+            invokeAll(getLookupExecutor(), new ArrayList<>(tasks.values()));
+            getLog().debug("Resolved " + tasks.size() + " snapshot version(s) of " + reactorProjects.size()
+                    + " reactor project(s)");
+        } catch (IOException | MojoExecutionException | MojoFailureException | RuntimeException e) {
+            getLog().debug("Could not resolve the snapshot versions of the reactor: " + e.getMessage(), e);
         }
     }
 
     /**
-     * Determine the timestamp version of the snapshot artifact used in the build.
+     * Returns the artifacts of the given project which would be locked, i.e. the snapshot dependencies and, if
+     * the parent is processed, the snapshot parent.
+     *
+     * @param project project to get the artifacts of
+     * @return artifacts to lock
+     * @throws MojoExecutionException thrown if the artifact of a dependency cannot be created
+     * @throws IOException thrown if the raw model of the project cannot be read
+     */
+    private List<Artifact> getSnapshotArtifacts(MavenProject project) throws MojoExecutionException, IOException {
+        List<Dependency> dependencies = new ArrayList<>();
+        if (getProcessDependencyManagement()) {
+            DependencyManagement dependencyManagement =
+                    PomHelper.getRawModel(project).getDependencyManagement();
+            if (dependencyManagement != null) {
+                dependencies.addAll(dependencyManagement.getDependencies());
+            }
+        }
+        if (project.getDependencies() != null && getProcessDependencies()) {
+            dependencies.addAll(project.getDependencies());
+        }
+        List<Artifact> artifacts = new ArrayList<>();
+        for (Dependency dep : dependencies) {
+            if (!(getExcludeReactor() && isProducedByReactor(dep))
+                    && !isHandledByProperty(dep)
+                    && dep.getVersion() != null
+                    && isSnapshot(dep.getVersion())) {
+                Artifact artifact = getHelper().createDependencyArtifact(dep);
+                if (isIncluded(artifact)) {
+                    artifacts.add(artifact);
+                }
+            }
+        }
+        MavenProject parent = project.getParent();
+        if (parent != null
+                && getProcessParent()
+                && !reactorProjects.contains(parent)
+                && parent.getArtifact() != null
+                && isSnapshot(parent.getArtifact().getVersion())) {
+            artifacts.add(parent.getArtifact());
+        }
+        return artifacts;
+    }
+
+    /**
+     * Resolves the snapshot versions of the given artifacts concurrently, skipping those already resolved in
+     * this session.
+     *
+     * @param project project whose repositories are used to resolve the versions
+     * @param artifacts artifacts to resolve
+     * @throws MojoExecutionException thrown if version resolution fails
+     * @throws MojoFailureException thrown if version resolution fails
+     */
+    private void resolveSnapshotVersions(MavenProject project, Collection<Artifact> artifacts)
+            throws MojoExecutionException, MojoFailureException {
+        Map<String, Callable<Optional<String>>> tasks = new LinkedHashMap<>();
+        for (Artifact artifact : artifacts) {
+            String key = getKey(artifact, project);
+            if (!getResolvedVersions().containsKey(key)) {
+                tasks.putIfAbsent(key, () -> resolveSnapshotVersion(artifact, project));
+            }
+        }
+        if (tasks.size() > 1) {
+            invokeAll(getLookupExecutor(), new ArrayList<>(tasks.values()));
+        }
+    }
+
+    /**
+     * Determine the timestamp version of the snapshot artifact used in the build. Versions are resolved once per
+     * session and repositories; concurrent requests for the same version share a single resolution.
      *
      * @param artifact artifact for which to retrieve the locked version
+     * @param project project whose repositories are used to resolve the version
      * @return The timestamp version if exists, otherwise {@link Optional#empty()}
      * @throws VersionResolutionException thrown if version resolution fails
      */
-    private Optional<String> resolveSnapshotVersion(Artifact artifact) throws VersionResolutionException {
-        getLog().debug("Resolving snapshot version for artifact: " + artifact);
-        VersionResult versionResult = repositorySystem.resolveVersion(
-                session.getRepositorySession(),
-                new VersionRequest(
-                        RepositoryUtils.toArtifact(artifact),
-                        getProject().getRemoteProjectRepositories(),
-                        getClass().getSimpleName()));
-        return Optional.ofNullable(versionResult.getVersion())
+    private Optional<String> resolveSnapshotVersion(Artifact artifact, MavenProject project)
+            throws VersionResolutionException {
+        String key = getKey(artifact, project);
+        ConcurrentMap<String, CompletableFuture<String>> resolvedVersions = getResolvedVersions();
+        CompletableFuture<String> future = new CompletableFuture<>();
+        CompletableFuture<String> existing = resolvedVersions.putIfAbsent(key, future);
+        String version;
+        if (existing == null) {
+            getLog().debug("Resolving snapshot version for artifact: " + artifact);
+            try {
+                version = repositorySystem
+                        .resolveVersion(
+                                session.getRepositorySession(),
+                                new VersionRequest(
+                                        RepositoryUtils.toArtifact(artifact),
+                                        project.getRemoteProjectRepositories(),
+                                        getClass().getSimpleName()))
+                        .getVersion();
+                future.complete(version);
+            } catch (VersionResolutionException | RuntimeException | Error e) {
+                resolvedVersions.remove(key, future);
+                future.completeExceptionally(e);
+                throw e;
+            }
+        } else {
+            version = await(existing, artifact);
+        }
+        return Optional.ofNullable(version)
                 .filter(v -> !String.valueOf(artifact.getVersion()).equals(v));
     }
 
+    private static String await(CompletableFuture<String> future, Artifact artifact) throws VersionResolutionException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the snapshot version of " + artifact, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof VersionResolutionException) {
+                throw (VersionResolutionException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static String getKey(Artifact artifact, MavenProject project) {
+        return RepositoryUtils.toArtifact(artifact)
+                + Optional.ofNullable(project.getRemoteProjectRepositories())
+                        .map(repositories -> repositories.stream()
+                                .map(repository -> repository.getId() + "=" + repository.getUrl())
+                                .collect(Collectors.joining(",", " from ", "")))
+                        .orElse("");
+    }
+
+    /**
+     * Returns the snapshot versions resolved in the session, holding only JDK types, as the goal may be executed by
+     * several versions of the plugin in the same session.
+     *
+     * @return the resolved versions of the session, or those private to this execution if there is no session
+     */
+    @SuppressWarnings("unchecked")
+    private ConcurrentMap<String, CompletableFuture<String>> getResolvedVersions() {
+        RepositorySystemSession repositorySession = session != null ? session.getRepositorySession() : null;
+        if (repositorySession != null && repositorySession.getData() != null) {
+            Object existing = repositorySession.getData().get(SESSION_KEY);
+            if (!(existing instanceof ConcurrentMap)) {
+                repositorySession.getData().set(SESSION_KEY, existing, new ConcurrentHashMap<>());
+                existing = repositorySession.getData().get(SESSION_KEY);
+            }
+            if (existing instanceof ConcurrentMap) {
+                return (ConcurrentMap<String, CompletableFuture<String>>) existing;
+            }
+        }
+        return resolvedVersions;
+    }
+
     /**
      * Determine the timestamp version of the snapshot dependency used in the build.
      *
@@ -248,6 +486,6 @@ public class LockSnapshotsMojo extends AbstractVersionsDependencyUpdaterMojo {
      */
     private Optional<String> resolveSnapshotVersion(Dependency dep)
             throws MojoExecutionException, VersionResolutionException {
-        return resolveSnapshotVersion(getHelper().createDependencyArtifact(dep));
+        return resolveSnapshotVersion(getHelper().createDependencyArtifact(dep), getProject());
     }
 }
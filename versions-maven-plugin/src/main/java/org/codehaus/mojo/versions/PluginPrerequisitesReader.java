@@ -0,0 +1,321 @@
+package org.codehaus.mojo.versions;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.transform.TransformerException;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.maven.artifact.ArtifactUtils;
+import org.apache.maven.artifact.resolver.ArtifactResolutionException;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.logging.Log;
+import org.codehaus.mojo.versions.api.PomHelper;
+import org.codehaus.mojo.versions.api.PomPath;
+import org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader;
+
+/**
+ * <p>Reads the Maven version prerequisite ({@code <prerequisites><maven>}) of a plugin directly from its POM file,
+ * without building the plugin project.</p>
+ *
+ * <p>The prerequisites are not inherited, so a POM without prerequisites or with a literal Maven version is read
+ * on its own. Only if the Maven version contains expressions, the parent POMs are read, one at a time, until the
+ * properties collected so far are sufficient to interpolate it. Anything a full project build could evaluate
+ * differently, e.g. an expression referring to a property which a profile may define, or a POM which cannot be
+ * parsed, is left to the caller. The caller is also told whether the Maven version was interpolated from user or
+ * system properties of the session, as another session may then read a different one.</p>
+ *
+ * @since 2.19.0
+ */
+class PluginPrerequisitesReader {
+
+    /**
+     * Resolves the POM file of an artifact.
+     */
+    @FunctionalInterface
+    interface PomResolver {
+        /**
+         * @param groupId    {@code groupId} of the artifact
+         * @param artifactId {@code artifactId} of the artifact
+         * @param version    {@code version} of the artifact
+         * @return the POM file of the artifact, or {@code null} if it is not available
+         * @throws MojoExecutionException      thrown if the artifact could not be constructed
+         * @throws ArtifactResolutionException thrown if the POM could not be resolved
+         */
+        File resolve(String groupId, String artifactId, String version)
+                throws MojoExecutionException, ArtifactResolutionException;
+    }
+
+    /**
+     * The Maven version prerequisite of a plugin.
+     */
+    static final class Prerequisite {
+        private final String mavenVersion;
+
+        private final boolean sessionDependent;
+
+        private Prerequisite(String mavenVersion, boolean sessionDependent) {
+            this.mavenVersion = mavenVersion;
+            this.sessionDependent = sessionDependent;
+        }
+
+        /**
+         * @return the required Maven version, or an empty string if the plugin has no Maven prerequisite
+         */
+        String getMavenVersion() {
+            return mavenVersion;
+        }
+
+        /**
+         * @return {@code true} if the Maven version was interpolated from user or system properties of the session
+         */
+        boolean isSessionDependent() {
+            return sessionDependent;
+        }
+    }
+
+    private static final String[] COORDINATES = {"groupId", "artifactId", "version"};
+
+    private final PomResolver pomResolver;
+
+    private final Map<String, String> userProperties;
+
+    private final Map<String, String> systemProperties;
+
+    private final Log log;
+
+    private final Map<String, Optional<Pom>> poms = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance
+     *
+     * @param pomResolver      resolver of the plugin and parent POMs
+     * @param userProperties   user properties, taking precedence over the properties of the POMs
+     * @param systemProperties system properties, used if the POMs do not define a property
+     * @param log              log to report problems to
+     */
+    PluginPrerequisitesReader(
+            PomResolver pomResolver,
+            Map<String, String> userProperties,
+            Map<String, String> systemProperties,
+            Log log) {
+        this.pomResolver = pomResolver;
+        this.userProperties = userProperties;
+        this.systemProperties = systemProperties;
+        this.log = log;
+    }
+
+    /**
+     * Reads the Maven version prerequisite of the given plugin.
+     *
+     * @param groupId    {@code groupId} of the plugin
+     * @param artifactId {@code artifactId} of the plugin
+     * @param version    {@code version} of the plugin
+     * @return the prerequisite of the plugin, or {@link Optional#empty()} if it can only be determined by building
+     * the plugin project
+     * @throws MojoExecutionException      thrown if the artifact of a POM could not be constructed
+     * @throws ArtifactResolutionException thrown if a POM could not be resolved
+     */
+    Optional<Prerequisite> read(String groupId, String artifactId, String version)
+            throws MojoExecutionException, ArtifactResolutionException {
+        Optional<Pom> plugin = getPom(groupId, artifactId, version);
+        if (!plugin.isPresent()) {
+            return Optional.empty();
+        }
+        String mavenVersion = plugin.get().prerequisite;
+        if (mavenVersion == null || !mavenVersion.contains("${")) {
+            return Optional.of(new Prerequisite(mavenVersion == null ? "" : mavenVersion, false));
+        }
+
+        List<Pom> lineage = new ArrayList<>();
+        Set<String> visited = new HashSet<>();
+        for (Optional<Pom> pom = plugin; pom.isPresent(); ) {
+            Pom current = pom.get();
+            if (!visited.add(current.key)) {
+                return Optional.empty();
+            }
+            lineage.add(current);
+            InterpolationProperties properties = getProperties(lineage);
+            String value = PomHelper.evaluate(mavenVersion, properties, log);
+            if (!value.contains("${")) {
+                return Optional.of(new Prerequisite(value, properties.isSessionDependent()));
+            }
+            if (current.parentGroupId == null
+                    || current.parentArtifactId == null
+                    || current.parentVersion == null
+                    || (current.parentGroupId + current.parentArtifactId + current.parentVersion).contains("${")) {
+                break;
+            }
+            pom = getPom(current.parentGroupId, current.parentArtifactId, current.parentVersion);
+        }
+        log.debug("Unable to interpolate the prerequisites of " + groupId + ":" + artifactId + ":" + version
+                + " from the plugin POM: " + mavenVersion);
+        return Optional.empty();
+    }
+
+    /**
+     * @param lineage a POM followed by its parents, as far as they have been read
+     * @return the properties available to interpolate the POM, where those which a profile may redefine are omitted
+     */
+    private InterpolationProperties getProperties(List<Pom> lineage) {
+        InterpolationProperties properties = new InterpolationProperties();
+        properties.putAll(systemProperties);
+        properties.sessionProperties.addAll(systemProperties.keySet());
+        for (int i = lineage.size() - 1; i >= 0; i--) {
+            properties.putAll(lineage.get(i).properties);
+            properties.sessionProperties.removeAll(lineage.get(i).properties.keySet());
+        }
+        for (Pom pom : lineage) {
+            properties.keySet().removeAll(pom.profileProperties);
+        }
+        properties.putAll(userProperties);
+        properties.sessionProperties.addAll(userProperties.keySet());
+
+        Pom pom = lineage.get(0);
+        for (String coordinate : COORDINATES) {
+            String parentValue = pom.coordinates.get("project.parent." + coordinate);
+            String value = pom.coordinates.get("project." + coordinate);
+            if (value == null && !"artifactId".equals(coordinate)) {
+                // groupId and version are inherited
+                value = parentValue;
+            }
+            if (value != null) {
+                properties.putPomValue("project." + coordinate, value);
+                properties.putPomValue("pom." + coordinate, value);
+            }
+            if (parentValue != null) {
+                properties.putPomValue("project.parent." + coordinate, parentValue);
+                properties.putPomValue("pom.parent." + coordinate, parentValue);
+            }
+        }
+        return properties;
+    }
+
+    private Optional<Pom> getPom(String groupId, String artifactId, String version)
+            throws MojoExecutionException, ArtifactResolutionException {
+        String key = ArtifactUtils.key(groupId, artifactId, version);
+        Optional<Pom> pom = poms.get(key);
+        if (pom == null) {
+            File file = pomResolver.resolve(groupId, artifactId, version);
+            pom = file != null && file.isFile() ? parse(key, file) : Optional.empty();
+            poms.put(key, pom);
+        }
+        return pom;
+    }
+
+    private Optional<Pom> parse(String key, File file) {
+        Pom pom = new Pom(key);
+        PomPath.Cursor cursor = PomPath.cursor();
+        try (MutableXMLStreamReader reader = new MutableXMLStreamReader(file.toPath())) {
+            while (reader.hasNext()) {
+                reader.next();
+                if (reader.isStartElement()) {
+                    cursor.enter(reader.getLocalName());
+                    if (cursor.at(PomPath.PROJECT_PREREQUISITES_MAVEN)) {
+                        pom.prerequisite = reader.getElementText().trim();
+                    } else if (cursor.at(PomPath.PROJECT_IMPLICIT_PROPERTY)) {
+                        pom.coordinates.put(
+                                (cursor.parentAt(PomPath.PROJECT_PARENT) ? "project.parent." : "project.")
+                                        + reader.getLocalName(),
+                                reader.getElementText().trim());
+                    } else if (cursor.parentAt(PomPath.PROJECT_PROPERTIES)) {
+                        pom.properties.put(
+                                reader.getLocalName(), reader.getElementText().trim());
+                    } else if (cursor.parentAt(PomPath.PROJECT_PROFILE_PROPERTIES)) {
+                        pom.profileProperties.add(reader.getLocalName());
+                    }
+                }
+                // for empty elements, the reader can be both at a start- and at an end element
+                if (reader.isEndElement()) {
+                    cursor.exit();
+                }
+            }
+        } catch (IOException | XMLStreamException | TransformerException e) {
+            log.debug("Unable to read the POM " + file + ": " + e.getMessage());
+            return Optional.empty();
+        }
+        pom.parentGroupId = pom.coordinates.get("project.parent.groupId");
+        pom.parentArtifactId = pom.coordinates.get("project.parent.artifactId");
+        pom.parentVersion = pom.coordinates.get("project.parent.version");
+        return Optional.of(pom);
+    }
+
+    /**
+     * The properties to interpolate a POM with, recording whether any of the user or system properties of the session
+     * have been looked up.
+     */
+    private static final class InterpolationProperties extends HashMap<String, String> {
+        private static final long serialVersionUID = 1L;
+
+        private final Set<String> sessionProperties = new HashSet<>();
+
+        private boolean sessionDependent;
+
+        private void putPomValue(String key, String value) {
+            put(key, value);
+            sessionProperties.remove(key);
+        }
+
+        @Override
+        public String get(Object key) {
+            sessionDependent |= sessionProperties.contains(key);
+            return super.get(key);
+        }
+
+        private boolean isSessionDependent() {
+            return sessionDependent;
+        }
+    }
+
+    /**
+     * The parts of a POM needed to interpolate its prerequisites.
+     */
+    private static final class Pom {
+        private final String key;
+
+        private final Map<String, String> coordinates = new HashMap<>();
+
+        private final Map<String, String> properties = new HashMap<>();
+
+        private final Set<String> profileProperties = new HashSet<>();
+
+        private String prerequisite;
+
+        private String parentGroupId;
+
+        private String parentArtifactId;
+
+        private String parentVersion;
+
+        private Pom(String key) {
+            this.key = key;
+        }
+    }
+}
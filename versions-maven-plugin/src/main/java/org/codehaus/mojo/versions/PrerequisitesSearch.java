@@ -0,0 +1,202 @@
+package org.codehaus.mojo.versions;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.maven.artifact.resolver.ArtifactResolutionException;
+import org.apache.maven.artifact.versioning.ArtifactVersion;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.project.ProjectBuildingException;
+
+/**
+ * <p>Provides the Maven version prerequisites of the versions of a plugin, sorted from the oldest to the newest,
+ * assuming that a prerequisite never decreases from one plugin version to the next.</p>
+ *
+ * <p>The prerequisites are requested from the newest version to the oldest. Rather than probing every version, the
+ * extent of each run of versions sharing the same prerequisite is found by galloping towards the older versions and
+ * a binary search between the last probe within the run and the first one outside of it, so that only
+ * {@code O(log n)} versions are probed per distinct prerequisite. The first (newest) version of each run is always
+ * probed. If a probe contradicts the assumption, or fails, the search gives up with an
+ * {@link InconclusiveException}, so that the caller may fall back to probing every version.</p>
+ *
+ * @since 2.19.0
+ */
+class PrerequisitesSearch {
+
+    /**
+     * Retrieves the prerequisite of a plugin version.
+     */
+    @FunctionalInterface
+    interface Probe {
+        /**
+         * @param index index of the plugin version
+         * @return the minimally required Maven version, or {@code null} if the plugin version has no prerequisite
+         * @throws MojoExecutionException      thrown if the artifact for the plugin could not be constructed
+         * @throws ProjectBuildingException    thrown if the plugin project could not be built
+         * @throws ArtifactResolutionException thrown if the plugin POM could not be resolved
+         */
+        ArtifactVersion get(int index)
+                throws MojoExecutionException, ProjectBuildingException, ArtifactResolutionException;
+    }
+
+    /**
+     * Thrown if the prerequisites can't be inferred from the probed versions.
+     */
+    static class InconclusiveException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        InconclusiveException(String message) {
+            super(message);
+        }
+
+        InconclusiveException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
+    private final Probe probe;
+
+    private final Map<Integer, ArtifactVersion> probed = new HashMap<>();
+
+    private final ArtifactVersion[] prerequisites;
+
+    /**
+     * Index of the oldest version whose prerequisite is known.
+     */
+    private int known;
+
+    /**
+     * Creates a new instance
+     *
+     * @param probe probe retrieving the prerequisite of a plugin version
+     * @param size  number of plugin versions
+     */
+    PrerequisitesSearch(Probe probe, int size) {
+        this.probe = probe;
+        this.prerequisites = new ArtifactVersion[size];
+        this.known = size;
+    }
+
+    /**
+     * Returns the prerequisite of the given plugin version, which is either probed or inferred from the probed
+     * versions.
+     *
+     * @param index index of the plugin version, not greater than the index of the previous call
+     * @return the minimally required Maven version, or {@code null} if the plugin version has no prerequisite
+     * @throws MojoExecutionException thrown if the artifact for the plugin could not be constructed
+     * @throws InconclusiveException  thrown if the prerequisite can't be inferred
+     */
+    ArtifactVersion get(int index) throws MojoExecutionException, InconclusiveException {
+        while (index < known) {
+            extend();
+        }
+        return prerequisites[index];
+    }
+
+    /**
+     * Returns the prerequisite of the given plugin version, probing it unless it has already been probed.
+     *
+     * @param index index of the plugin version
+     * @return the minimally required Maven version, or {@code null} if the plugin version has no prerequisite
+     * @throws MojoExecutionException      thrown if the artifact for the plugin could not be constructed
+     * @throws ProjectBuildingException    thrown if the plugin project could not be built
+     * @throws ArtifactResolutionException thrown if the plugin POM could not be resolved
+     */
+    ArtifactVersion probe(int index)
+            throws MojoExecutionException, ProjectBuildingException, ArtifactResolutionException {
+        if (!probed.containsKey(index)) {
+            probed.put(index, probe.get(index));
+        }
+        return probed.get(index);
+    }
+
+    /**
+     * @return the number of probed versions
+     */
+    int getProbes() {
+        return probed.size();
+    }
+
+    /**
+     * Finds the oldest version of the run the oldest known version belongs to, and the prerequisite of the version
+     * preceding it.
+     */
+    private void extend() throws MojoExecutionException, InconclusiveException {
+        if (known == prerequisites.length) {
+            known--;
+            prerequisites[known] = tryProbe(known);
+            return;
+        }
+        ArtifactVersion run = prerequisites[known];
+        int equal = known;
+        int different = -1;
+        ArtifactVersion differentPrerequisite = null;
+        for (int step = 1; equal > 0 && different < 0; step *= 2) {
+            int index = Math.max(known - step, 0);
+            ArtifactVersion prerequisite = tryProbe(index);
+            if (Objects.equals(Objects.toString(prerequisite, null), Objects.toString(run, null))) {
+                equal = index;
+            } else {
+                verify(prerequisite, run);
+                different = index;
+                differentPrerequisite = prerequisite;
+            }
+        }
+        while (equal - different > 1 && different >= 0) {
+            int index = (different + equal) >>> 1;
+            ArtifactVersion prerequisite = tryProbe(index);
+            if (Objects.equals(Objects.toString(prerequisite, null), Objects.toString(run, null))) {
+                equal = index;
+            } else {
+                verify(differentPrerequisite, prerequisite);
+                verify(prerequisite, run);
+                different = index;
+                differentPrerequisite = prerequisite;
+            }
+        }
+        Arrays.fill(prerequisites, equal, known, run);
+        known = equal;
+        if (different >= 0) {
+            known = different;
+            prerequisites[known] = differentPrerequisite;
+        }
+    }
+
+    private ArtifactVersion tryProbe(int index) throws MojoExecutionException, InconclusiveException {
+        try {
+            return probe(index);
+        } catch (ArtifactResolutionException | ProjectBuildingException e) {
+            throw new InconclusiveException("Unable to retrieve the prerequisites of version " + index, e);
+        }
+    }
+
+    /**
+     * @throws InconclusiveException if the prerequisite of an older version is greater than that of a newer one
+     */
+    private static void verify(ArtifactVersion older, ArtifactVersion newer) throws InconclusiveException {
+        if (older != null && (newer == null || older.compareTo(newer) > 0)) {
+            throw new InconclusiveException("Prerequisites decrease from " + older + " to " + newer);
+        }
+    }
+}
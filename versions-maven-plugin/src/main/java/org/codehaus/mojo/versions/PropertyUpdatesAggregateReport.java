@@ -19,6 +19,8 @@ package org.codehaus.mojo.versions;
 
 import javax.inject.Inject;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import org.apache.maven.artifact.handler.manager.ArtifactHandlerManager;
@@ -65,10 +67,12 @@ public class PropertyUpdatesAggregateReport extends AbstractPropertyUpdatesRepor
     @Override
     protected void populateUpdateSet(Map<Property, PropertyVersions> propertyCollector)
             throws MojoExecutionException, MavenReportException {
-        VersionsHelper helper = getHelper();
+        // the artifacts associated with the properties of all modules are looked up at once
+        List<VersionsHelper.VersionPropertiesMapRequest> requests = new ArrayList<>();
         for (MavenProject project : AggregateReportUtils.getProjectsToProcess(getProject())) {
-            propertyCollector.putAll(helper.getVersionPropertiesMap(getRequest(project)));
+            requests.add(getRequest(project));
         }
+        getHelper().getVersionPropertiesMaps(requests).forEach(propertyCollector::putAll);
     }
 
     /**
@@ -22,7 +22,9 @@ package org.codehaus.mojo.versions;
 import javax.inject.Inject;
 import javax.xml.stream.XMLStreamException;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
@@ -41,7 +43,7 @@ import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.wagon.Wagon;
-import org.codehaus.mojo.versions.api.PomHelper;
+import org.codehaus.mojo.versions.api.PomEditPlan;
 import org.codehaus.mojo.versions.api.Property;
 import org.codehaus.mojo.versions.api.PropertyVersions;
 import org.codehaus.mojo.versions.api.Segment;
@@ -202,22 +204,27 @@ public class ResolveRangesMojo extends AbstractVersionsDependencyUpdaterMojo {
             throws MojoExecutionException, MojoFailureException, XMLStreamException, VersionRetrievalException {
         // Note we have to getModel the dependencies from the model because the dependencies in the
         // project may have already had their range resolved [MNG-4138]
+        PomEditPlan plan = new PomEditPlan(pom);
+        List<Runnable> reports = new ArrayList<>();
         if (hasDependencyManagement() && hasDependenciesInDependencyManagement() && getProcessDependencyManagement()) {
             getLog().debug("processing dependencyManagement of " + getProject().getId());
-            resolveRanges(pom, getProject().getModel().getDependencyManagement().getDependencies());
+            reports.addAll(resolveRanges(
+                    plan, getProject().getModel().getDependencyManagement().getDependencies()));
         }
         if (getProject().getDependencies() != null && getProcessDependencies()) {
             getLog().debug("processing dependencies of " + getProject().getId());
-            resolveRanges(pom, getProject().getModel().getDependencies());
+            reports.addAll(resolveRanges(plan, getProject().getModel().getDependencies()));
         }
         if (hasParent() && getProcessParent()) {
             getLog().debug("processing parent " + getProject().getId());
-            resolveRangesInParent(pom);
+            reports.addAll(resolveRangesInParent(plan));
         }
         if (processProperties) {
             getLog().debug("processing properties of " + getProject().getId());
-            resolvePropertyRanges(pom);
+            reports.addAll(resolvePropertyRanges(plan));
         }
+        plan.apply();
+        reports.forEach(Runnable::run);
     }
 
     private boolean hasParent() {
@@ -232,8 +239,9 @@ public class ResolveRangesMojo extends AbstractVersionsDependencyUpdaterMojo {
         return getProject().getModel().getDependencyManagement() != null;
     }
 
-    private void resolveRangesInParent(MutableXMLStreamReader pom)
-            throws MojoExecutionException, VersionRetrievalException, XMLStreamException {
+    private List<Runnable> resolveRangesInParent(PomEditPlan plan)
+            throws MojoExecutionException, VersionRetrievalException {
+        List<Runnable> reports = new ArrayList<>();
         Matcher versionMatcher =
                 matchRangeRegex.matcher(getProject().getModel().getParent().getVersion());
 
@@ -256,20 +264,25 @@ public class ResolveRangesMojo extends AbstractVersionsDependencyUpdaterMojo {
                 }
 
                 if (artifactVersion != null) {
-                    if (PomHelper.setProjectParentVersion(pom, artifactVersion)) {
-                        getLog().debug("Version set to " + artifactVersion + " for parent: " + artifact);
-                    } else {
-                        getLog().warn("Could not find the version tag for parent " + artifact + " in project "
-                                + getProject().getId() + " so unable to set version to " + artifactVersion);
-                    }
+                    String parentVersion = artifactVersion;
+                    PomEditPlan.Edit edit = plan.setProjectParentVersion(parentVersion);
+                    reports.add(() -> {
+                        if (edit.isApplied()) {
+                            getLog().debug("Version set to " + parentVersion + " for parent: " + artifact);
+                        } else {
+                            getLog().warn("Could not find the version tag for parent " + artifact + " in project "
+                                    + getProject().getId() + " so unable to set version to " + parentVersion);
+                        }
+                    });
                 }
             }
         }
+        return reports;
     }
 
-    private void resolveRanges(MutableXMLStreamReader pom, Collection<Dependency> dependencies)
-            throws XMLStreamException, MojoExecutionException, VersionRetrievalException {
-
+    private List<Runnable> resolveRanges(PomEditPlan plan, Collection<Dependency> dependencies)
+            throws MojoExecutionException, VersionRetrievalException {
+        List<Runnable> reports = new ArrayList<>();
         for (Dependency dep : dependencies) {
             if (getExcludeReactor() && isProducedByReactor(dep)) {
                 continue;
@@ -306,27 +319,32 @@ public class ResolveRangesMojo extends AbstractVersionsDependencyUpdaterMojo {
                     }
 
                     if (artifactVersion != null) {
-                        if (PomHelper.setDependencyVersion(
-                                pom,
+                        String dependencyVersion = artifactVersion;
+                        PomEditPlan.Edit edit = plan.setDependencyVersion(
                                 artifact.getGroupId(),
                                 artifact.getArtifactId(),
                                 dep.getVersion(),
-                                artifactVersion,
+                                dependencyVersion,
                                 getProject().getModel(),
-                                getLog())) {
-                            getLog().debug("Version set to " + artifactVersion + " for dependency: " + artifact);
-                        } else {
-                            getLog().debug("Could not find the version tag for dependency " + artifact + " in project "
-                                    + getProject().getId() + " so unable to set version to "
-                                    + artifactVersion);
-                        }
+                                getLog());
+                        reports.add(() -> {
+                            if (edit.isApplied()) {
+                                getLog().debug("Version set to " + dependencyVersion + " for dependency: " + artifact);
+                            } else {
+                                getLog().debug("Could not find the version tag for dependency " + artifact
+                                        + " in project " + getProject().getId() + " so unable to set version to "
+                                        + dependencyVersion);
+                            }
+                        });
                     }
                 }
             }
         }
+        return reports;
     }
 
-    private void resolvePropertyRanges(MutableXMLStreamReader pom) throws XMLStreamException, MojoExecutionException {
+    private List<Runnable> resolvePropertyRanges(PomEditPlan plan) throws MojoExecutionException {
+        List<Runnable> reports = new ArrayList<>();
 
         if (includeProperties == null) {
             Properties originalProperties = getProject().getOriginalModel().getProperties();
@@ -372,12 +390,14 @@ public class ResolveRangesMojo extends AbstractVersionsDependencyUpdaterMojo {
             }
             // TODO: Check if we could add allowDowngrade ?
             try {
-                updatePropertyToNewestVersion(pom, property, version, currentVersion, false, unchangedSegment1);
+                reports.add(updatePropertyToNewestVersion(
+                        plan, property, version, currentVersion, false, unchangedSegment1, newVersion -> {}));
             } catch (InvalidSegmentException | InvalidVersionSpecificationException e) {
                 getLog().warn(String.format(
                         "Skipping the processing of %s:%s due to: %s",
                         property.getName(), property.getVersion(), e.getMessage()));
             }
         }
+        return reports;
     }
 }
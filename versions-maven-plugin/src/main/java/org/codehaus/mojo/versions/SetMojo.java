@@ -57,6 +57,7 @@ import org.codehaus.mojo.versions.ordering.ReactorDepthComparator;
 import org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader;
 import org.codehaus.mojo.versions.utils.ContextualLog;
 import org.codehaus.mojo.versions.utils.DelegatingContextualLog;
+import org.codehaus.mojo.versions.utils.ReactorIndex;
 import org.codehaus.mojo.versions.utils.RegexUtils;
 import org.codehaus.plexus.components.interactivity.Prompter;
 import org.codehaus.plexus.components.interactivity.PrompterException;
@@ -348,6 +349,7 @@ public class SetMojo extends AbstractVersionsUpdaterMojo {
             Map<File, Model> reactorModels = PomHelper.getChildModels(project, getLog());
             final SortedMap<File, Model> reactor = new TreeMap<>(new ReactorDepthComparator(reactorModels));
             reactor.putAll(reactorModels);
+            final ReactorIndex reactorIndex = new ReactorIndex(reactor);
 
             // set of files to update
             final Set<File> files = new LinkedHashSet<>();
@@ -394,6 +396,7 @@ public class SetMojo extends AbstractVersionsUpdaterMojo {
                         && !newVersion.equals(mVersion)) {
                     applyChange(
                             reactor,
+                            reactorIndex,
                             files,
                             mGroupId,
                             m.getArtifactId(),
@@ -403,7 +406,7 @@ public class SetMojo extends AbstractVersionsUpdaterMojo {
 
             if ("always".equals(updateBuildOutputTimestampPolicy)) {
                 reactor.values().stream()
-                        .map(m -> PomHelper.getModelEntry(reactor, PomHelper.getGroupId(m), PomHelper.getArtifactId(m)))
+                        .map(m -> reactorIndex.getModelEntry(PomHelper.getGroupId(m), PomHelper.getArtifactId(m)))
                         .filter(Objects::nonNull)
                         .map(Map.Entry::getValue)
                         .map(Model::getPomFile)
@@ -450,14 +453,19 @@ public class SetMojo extends AbstractVersionsUpdaterMojo {
     }
 
     private void applyChange(
-            SortedMap<File, Model> reactor, Set<File> files, String groupId, String artifactId, String oldVersion) {
+            SortedMap<File, Model> reactor,
+            ReactorIndex reactorIndex,
+            Set<File> files,
+            String groupId,
+            String artifactId,
+            String oldVersion) {
 
         getLog().debug("Applying change " + groupId + ":" + artifactId + ":" + oldVersion + " -> " + newVersion);
         // this is a triggering change
         addChange(groupId, artifactId, oldVersion, newVersion);
         // now fake out the triggering change
 
-        Map.Entry<File, Model> current = PomHelper.getModelEntry(reactor, groupId, artifactId);
+        Map.Entry<File, Model> current = reactorIndex.getModelEntry(groupId, artifactId);
         if (current != null) {
             current.getValue().setVersion(newVersion);
             files.add(current.getValue().getPomFile());
@@ -497,7 +505,8 @@ public class SetMojo extends AbstractVersionsUpdaterMojo {
 
             for (Map.Entry<File, Model> stringModelEntry : processAllModules
                     ? reactor.entrySet()
-                    : PomHelper.getChildModels(reactor, sourceGroupId, sourceArtifactId)
+                    : reactorIndex
+                            .getChildModels(sourceGroupId, sourceArtifactId)
                             .entrySet()) {
                 final Model targetModel = stringModelEntry.getValue();
 
@@ -571,9 +580,7 @@ public class SetMojo extends AbstractVersionsUpdaterMojo {
             VersionChanger changer = versionChangerFactory.newVersionChanger(
                     processParent, processProject, processDependencies, processPlugins);
 
-            for (DefaultDependencyVersionChange versionChange : sourceChanges) {
-                changer.apply(versionChange);
-            }
+            changer.apply(sourceChanges);
 
             if (updateBuildOutputTimestamp && !"never".equals(updateBuildOutputTimestampPolicy)) {
                 if ("always".equals(updateBuildOutputTimestampPolicy) || !sourceChanges.isEmpty()) {
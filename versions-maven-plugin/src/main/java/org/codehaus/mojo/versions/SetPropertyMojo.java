@@ -32,7 +32,7 @@ import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.wagon.Wagon;
-import org.codehaus.mojo.versions.api.PomHelper;
+import org.codehaus.mojo.versions.api.PomEditPlan;
 import org.codehaus.mojo.versions.api.Property;
 import org.codehaus.mojo.versions.api.PropertyVersions;
 import org.codehaus.mojo.versions.api.VersionsHelper;
@@ -166,6 +166,7 @@ public class SetPropertyMojo extends AbstractVersionsUpdaterMojo {
                         .withIncludeProperties(properties)
                         .withAutoLinkItems(autoLinkItems)
                         .build());
+        PomEditPlan plan = new PomEditPlan(pom);
         for (Map.Entry<Property, PropertyVersions> entry : propertyVersions.entrySet()) {
             Property currentProperty = entry.getKey();
             PropertyVersions version = entry.getValue();
@@ -175,9 +176,9 @@ public class SetPropertyMojo extends AbstractVersionsUpdaterMojo {
             if (currentVersion == null) {
                 continue;
             }
-            PomHelper.setPropertyVersion(
-                    pom, profileToApply, currentProperty.getName(), defaultString(newVersionGiven));
+            plan.setPropertyVersion(profileToApply, currentProperty.getName(), defaultString(newVersionGiven));
         }
+        plan.apply();
     }
 
     private void logWrongConfigWarning() {
@@ -19,6 +19,8 @@ import javax.inject.Inject;
 import javax.xml.stream.XMLStreamException;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
@@ -34,6 +36,7 @@ import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.wagon.Wagon;
+import org.codehaus.mojo.versions.api.PomEditPlan;
 import org.codehaus.mojo.versions.api.PomHelper;
 import org.codehaus.mojo.versions.api.recording.ChangeRecorder;
 import org.codehaus.mojo.versions.api.recording.DependencyChangeRecord;
@@ -116,6 +119,11 @@ public class UnlockSnapshotsMojo extends AbstractVersionsDependencyUpdaterMojo {
         return processParent;
     }
 
+    @Override
+    protected boolean isParallelReactorSupported() {
+        return true;
+    }
+
     /**
      * @param pom the pom to update.
      * @throws MojoExecutionException when things go wrong
@@ -126,30 +134,45 @@ public class UnlockSnapshotsMojo extends AbstractVersionsDependencyUpdaterMojo {
     protected void update(MutableXMLStreamReader pom)
             throws MojoExecutionException, MojoFailureException, XMLStreamException {
         try {
+            ChangeRecorder changeRecorder = getChangeRecorder();
+            PomEditPlan plan = new PomEditPlan(pom);
+            List<Runnable> reports = new ArrayList<>();
             if (getProcessDependencyManagement()) {
                 DependencyManagement dependencyManagement =
                         PomHelper.getRawModel(getProject()).getDependencyManagement();
                 if (dependencyManagement != null) {
-                    unlockSnapshots(
-                            pom,
+                    reports.addAll(unlockSnapshots(
+                            plan,
+                            changeRecorder,
                             dependencyManagement.getDependencies(),
-                            DependencyChangeRecord.ChangeKind.DEPENDENCY_MANAGEMENT);
+                            DependencyChangeRecord.ChangeKind.DEPENDENCY_MANAGEMENT));
                 }
             }
             if (getProject().getDependencies() != null && getProcessDependencies()) {
-                unlockSnapshots(pom, getProject().getDependencies(), DependencyChangeRecord.ChangeKind.DEPENDENCY);
+                reports.addAll(unlockSnapshots(
+                        plan,
+                        changeRecorder,
+                        getProject().getDependencies(),
+                        DependencyChangeRecord.ChangeKind.DEPENDENCY));
             }
             if (getProject().getParent() != null && getProcessParent()) {
-                unlockParentSnapshot(pom, getProject().getParent());
+                reports.addAll(
+                        unlockParentSnapshot(plan, changeRecorder, getProject().getParent()));
             }
+            plan.apply();
+            reports.forEach(Runnable::run);
         } catch (IOException e) {
             throw new MojoExecutionException(e.getMessage(), e);
         }
     }
 
-    private void unlockSnapshots(
-            MutableXMLStreamReader pom, List<Dependency> dependencies, DependencyChangeRecord.ChangeKind changeKind)
-            throws XMLStreamException, MojoExecutionException {
+    private List<Runnable> unlockSnapshots(
+            PomEditPlan plan,
+            ChangeRecorder changeRecorder,
+            List<Dependency> dependencies,
+            DependencyChangeRecord.ChangeKind changeKind)
+            throws MojoExecutionException {
+        List<Runnable> reports = new ArrayList<>();
         for (Dependency dep : dependencies) {
             if (getExcludeReactor() && isProducedByReactor(dep)) {
                 getLog().info("Ignoring reactor dependency: " + toString(dep));
@@ -169,37 +192,37 @@ public class UnlockSnapshotsMojo extends AbstractVersionsDependencyUpdaterMojo {
             Matcher versionMatcher = TIMESTAMPED_SNAPSHOT_REGEX.matcher(version);
             if (versionMatcher.find() && versionMatcher.end() == version.length()) {
                 String unlockedVersion = versionMatcher.replaceFirst("-SNAPSHOT");
-                if (PomHelper.setDependencyVersion(
-                        pom,
+                PomEditPlan.Edit edit = plan.setDependencyVersion(
                         dep.getGroupId(),
                         dep.getArtifactId(),
                         dep.getVersion(),
                         unlockedVersion,
                         getProject().getModel(),
-                        getLog())) {
-
-                    getChangeRecorder()
-                            .recordChange(DefaultDependencyChangeRecord.builder()
-                                    .withKind(changeKind)
-                                    .withDependency(dep)
-                                    .withNewVersion(unlockedVersion)
-                                    .build());
-                    getLog().info("Unlocked " + toString(dep) + " to version " + unlockedVersion);
-                }
+                        getLog());
+                reports.add(() -> {
+                    if (edit.isApplied()) {
+                        changeRecorder.recordChange(DefaultDependencyChangeRecord.builder()
+                                .withKind(changeKind)
+                                .withDependency(dep)
+                                .withNewVersion(unlockedVersion)
+                                .build());
+                        getLog().info("Unlocked " + toString(dep) + " to version " + unlockedVersion);
+                    }
+                });
             }
         }
+        return reports;
     }
 
-    private void unlockParentSnapshot(MutableXMLStreamReader pom, MavenProject parent)
-            throws XMLStreamException, MojoExecutionException {
+    private List<Runnable> unlockParentSnapshot(PomEditPlan plan, ChangeRecorder changeRecorder, MavenProject parent) {
         if (parent == null) {
             getLog().info("Project does not have a parent");
-            return;
+            return Collections.emptyList();
         }
 
         if (reactorProjects.contains(parent)) {
             getLog().info("Project's parent is part of the reactor");
-            return;
+            return Collections.emptyList();
         }
 
         Artifact parentArtifact = parent.getArtifact();
@@ -208,15 +231,18 @@ public class UnlockSnapshotsMojo extends AbstractVersionsDependencyUpdaterMojo {
         Matcher versionMatcher = TIMESTAMPED_SNAPSHOT_REGEX.matcher(parentVersion);
         if (versionMatcher.find() && versionMatcher.end() == parentVersion.length()) {
             String unlockedParentVersion = versionMatcher.replaceFirst("-SNAPSHOT");
-            if (PomHelper.setProjectParentVersion(pom, unlockedParentVersion)) {
-                getLog().info("Unlocked parent " + parentArtifact + " to version " + unlockedParentVersion);
-                getChangeRecorder()
-                        .recordChange(DefaultDependencyChangeRecord.builder()
-                                .withKind(DependencyChangeRecord.ChangeKind.PARENT)
-                                .withArtifact(parentArtifact)
-                                .withNewVersion(unlockedParentVersion)
-                                .build());
-            }
+            PomEditPlan.Edit edit = plan.setProjectParentVersion(unlockedParentVersion);
+            return Collections.singletonList(() -> {
+                if (edit.isApplied()) {
+                    getLog().info("Unlocked parent " + parentArtifact + " to version " + unlockedParentVersion);
+                    changeRecorder.recordChange(DefaultDependencyChangeRecord.builder()
+                            .withKind(DependencyChangeRecord.ChangeKind.PARENT)
+                            .withArtifact(parentArtifact)
+                            .withNewVersion(unlockedParentVersion)
+                            .build());
+                }
+            });
         }
+        return Collections.emptyList();
     }
 }
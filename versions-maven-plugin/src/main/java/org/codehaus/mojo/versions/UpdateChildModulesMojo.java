@@ -40,6 +40,7 @@ import org.apache.maven.wagon.Wagon;
 import org.codehaus.mojo.versions.api.PomHelper;
 import org.codehaus.mojo.versions.api.recording.ChangeRecorder;
 import org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader;
+import org.codehaus.mojo.versions.utils.ReactorIndex;
 import org.eclipse.aether.RepositorySystem;
 
 /**
@@ -100,12 +101,13 @@ public class UpdateChildModulesMojo extends AbstractVersionsUpdaterMojo {
 
         try {
             final Map<File, Model> reactor = PomHelper.getChildModels(getProject(), getLog());
+            final ReactorIndex reactorIndex = new ReactorIndex(reactor);
             List<File> order = new ArrayList<>(reactor.keySet());
             order.sort((o1, o2) -> {
                 Model m1 = reactor.get(o1);
                 Model m2 = reactor.get(o2);
-                int d1 = PomHelper.getReactorParentCount(reactor, m1);
-                int d2 = PomHelper.getReactorParentCount(reactor, m2);
+                int d1 = reactorIndex.getReactorParentCount(m1);
+                int d2 = reactorIndex.getReactorParentCount(m2);
                 if (d1 < d2) {
                     return -1;
                 } else if (d1 > d2) {
@@ -143,8 +145,8 @@ public class UpdateChildModulesMojo extends AbstractVersionsUpdaterMojo {
                             + ArtifactUtils.versionlessKey(sourceGroupId, sourceArtifactId)
                             + " as their parent to update it to " + sourceVersion);
 
-                    for (Map.Entry<File, Model> target : PomHelper.getChildModels(
-                                    reactor, sourceGroupId, sourceArtifactId)
+                    for (Map.Entry<File, Model> target : reactorIndex
+                            .getChildModels(sourceGroupId, sourceArtifactId)
                             .entrySet()) {
                         File moduleProjectFile = target.getKey();
                         String moduleName = moduleProjectFile.getParent();
@@ -17,17 +17,19 @@ package org.codehaus.mojo.versions;
 
 import javax.xml.stream.XMLStreamException;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import org.apache.maven.artifact.handler.manager.ArtifactHandlerManager;
-import org.apache.maven.artifact.versioning.ArtifactVersion;
 import org.apache.maven.artifact.versioning.InvalidVersionSpecificationException;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.wagon.Wagon;
 import org.codehaus.mojo.versions.api.ArtifactAssociation;
+import org.codehaus.mojo.versions.api.PomEditPlan;
 import org.codehaus.mojo.versions.api.Property;
 import org.codehaus.mojo.versions.api.PropertyVersions;
 import org.codehaus.mojo.versions.api.Segment;
@@ -152,8 +154,16 @@ public abstract class UpdatePropertiesMojoBase extends AbstractVersionsDependenc
         return allowSnapshots;
     }
 
+    @Override
+    protected boolean isParallelReactorSupported() {
+        return true;
+    }
+
     protected void update(MutableXMLStreamReader pom, Map<Property, PropertyVersions> propertyVersions)
-            throws XMLStreamException {
+            throws XMLStreamException, MojoExecutionException {
+        ChangeRecorder changeRecorder = getChangeRecorder();
+        PomEditPlan plan = new PomEditPlan(pom);
+        List<Runnable> reports = new ArrayList<>();
         for (Map.Entry<Property, PropertyVersions> entry : propertyVersions.entrySet()) {
             Property property = entry.getKey();
             PropertyVersions version = entry.getValue();
@@ -197,29 +207,31 @@ public abstract class UpdatePropertiesMojoBase extends AbstractVersionsDependenc
                                     .orElse("ALL") + " version changes allowed");
                 }
                 try {
-                    ArtifactVersion targetVersion = updatePropertyToNewestVersion(
-                            pom, property, version, currentVersion, allowDowngrade, unchangedSegment);
-
-                    if (targetVersion != null) {
-                        getChangeRecorder()
-                                .recordChange(DefaultPropertyChangeRecord.builder()
+                    reports.add(updatePropertyToNewestVersion(
+                            plan,
+                            property,
+                            version,
+                            currentVersion,
+                            allowDowngrade,
+                            unchangedSegment,
+                            targetVersion -> {
+                                changeRecorder.recordChange(DefaultPropertyChangeRecord.builder()
                                         .withProperty(property.getName())
                                         .withOldValue(currentVersion)
                                         .withNewValue(targetVersion.toString())
                                         .build());
 
-                        for (final ArtifactAssociation association : version.getAssociations()) {
-                            if ((isIncluded(association.getArtifact()))) {
-                                getChangeRecorder()
-                                        .recordChange(DefaultDependencyChangeRecord.builder()
+                                for (final ArtifactAssociation association : version.getAssociations()) {
+                                    if ((isIncluded(association.getArtifact()))) {
+                                        changeRecorder.recordChange(DefaultDependencyChangeRecord.builder()
                                                 .withKind(DependencyChangeRecord.ChangeKind.PROPERTY)
                                                 .withArtifact(association.getArtifact())
                                                 .withOldVersion(currentVersion)
                                                 .withNewVersion(targetVersion.toString())
                                                 .build());
-                            }
-                        }
-                    }
+                                    }
+                                }
+                            }));
                 } catch (InvalidSegmentException | InvalidVersionSpecificationException | MojoExecutionException e) {
                     getLog().warn(String.format(
                             "Skipping the processing of %s:%s due to: %s",
@@ -227,5 +239,7 @@ public abstract class UpdatePropertiesMojoBase extends AbstractVersionsDependenc
                 }
             }
         }
+        plan.apply();
+        reports.forEach(Runnable::run);
     }
 }
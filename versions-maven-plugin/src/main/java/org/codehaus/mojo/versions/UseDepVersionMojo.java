@@ -51,6 +51,7 @@ import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.wagon.Wagon;
+import org.codehaus.mojo.versions.api.PomEditPlan;
 import org.codehaus.mojo.versions.api.PomHelper;
 import org.codehaus.mojo.versions.api.VersionRetrievalException;
 import org.codehaus.mojo.versions.api.recording.ChangeRecorder;
@@ -246,13 +247,18 @@ public class UseDepVersionMojo extends AbstractVersionsDependencyUpdaterMojo {
             Map<String, Set<Dependency>> propertyConflicts,
             Charset charset)
             throws MojoFailureException, MojoExecutionException {
+        PomEditPlan plan = new PomEditPlan(node.getMutableXMLStreamReader());
+        List<Runnable> reports = new ArrayList<>();
+
         // 1) process the properties carried over from children
-        propertyBacklog.removeIf(p -> updatePropertyValue(node, p));
+        propertyBacklog.removeIf(p -> updatePropertyValue(plan, reports, node, p));
 
         // 2) process dependencies and properties from this node
         try {
             if (getProcessDependencyManagement() && node.getModel().getDependencyManagement() != null) {
                 useDepVersion(
+                        plan,
+                        reports,
                         node,
                         node.getModel().getDependencyManagement().getDependencies(),
                         ChangeKind.DEPENDENCY_MANAGEMENT,
@@ -262,6 +268,8 @@ public class UseDepVersionMojo extends AbstractVersionsDependencyUpdaterMojo {
 
             if (getProcessDependencies()) {
                 useDepVersion(
+                        plan,
+                        reports,
                         node,
                         getDependencies(node.getModel()),
                         ChangeKind.DEPENDENCY,
@@ -271,12 +279,17 @@ public class UseDepVersionMojo extends AbstractVersionsDependencyUpdaterMojo {
 
             if (getProject().getParent() != null && getProcessParent()) {
                 useDepVersion(
+                        plan,
+                        reports,
                         node,
                         singletonList(getParentDependency()),
                         ChangeKind.PARENT,
                         propertyBacklog,
                         propertyConflicts);
             }
+
+            plan.apply();
+            reports.forEach(Runnable::run);
         } catch (XMLStreamException e) {
             throw new MojoFailureException(
                     "Unable to parse the pom " + node.getModel().getPomFile(), e);
@@ -360,6 +373,8 @@ public class UseDepVersionMojo extends AbstractVersionsDependencyUpdaterMojo {
      * used for conflict detection if a dependency to be changed used one of these properties. Such a change
      * is not allowed and must be reported instead.</p>
      *
+     * @param plan plan of the edits of the POM of the node
+     * @param reports receives the reports of the outcome of the edits, to be run once the plan has been applied
      * @param node model tree node to process
      * @param dependencies collection of dependencies to process (can be taken from dependency management,
      *                     parent, or dependencies)
@@ -372,16 +387,17 @@ public class UseDepVersionMojo extends AbstractVersionsDependencyUpdaterMojo {
      *                          be changed. This is then used for conflict detection if a dependency to be changed
      *                          used one of these properties. Such a change is not allowed and must be reported instead.
      * @throws MojoExecutionException thrown if a version may not be changed
-     * @throws XMLStreamException thrown if a {@link MutableXMLStreamReader} can't be updated
      * @throws VersionRetrievalException thrown if dependency versions cannot be retrieved
      */
     private void useDepVersion(
+            PomEditPlan plan,
+            List<Runnable> reports,
             ModelNode node,
             Collection<Dependency> dependencies,
             ChangeKind changeKind,
             Set<String> propertyBacklog,
             Map<String, Set<Dependency>> propertyConflicts)
-            throws MojoExecutionException, XMLStreamException, VersionRetrievalException {
+            throws MojoExecutionException, VersionRetrievalException {
         // an additional pass is necessary to collect conflicts if processProperties is enabled
         if (processProperties) {
             dependencies.stream()
@@ -438,7 +454,7 @@ public class UseDepVersionMojo extends AbstractVersionsDependencyUpdaterMojo {
                         }
                     }
                     if (!propertyName.isPresent()) {
-                        updateDependencyVersion(node.getMutableXMLStreamReader(), dep, depVersion, changeKind);
+                        reports.add(updateDependencyVersion(plan, dep, depVersion, changeKind));
                     } else {
                         // propertyName is present
                         ofNullable(propertyConflicts.get(propertyName.get()))
@@ -451,7 +467,7 @@ public class UseDepVersionMojo extends AbstractVersionsDependencyUpdaterMojo {
                                     return false;
                                 })
                                 .orElseGet(() -> {
-                                    if (!updatePropertyValue(node, propertyName.get())) {
+                                    if (!updatePropertyValue(plan, reports, node, propertyName.get())) {
                                         propertyBacklog.add(propertyName.get());
                                     } else {
                                         if (getLog().isDebugEnabled()) {
@@ -478,7 +494,16 @@ public class UseDepVersionMojo extends AbstractVersionsDependencyUpdaterMojo {
                 .orElse(false));
     }
 
-    private boolean updatePropertyValue(ModelNode node, String property) {
+    /**
+     * Registers the update of the given property in the POM of the given node, if the property is defined there
+     *
+     * @param plan plan of the edits of the POM of the node
+     * @param reports receives the reports of the outcome of the edits, to be run once the plan has been applied
+     * @param node model tree node to process
+     * @param property name of the property
+     * @return {@code true} if the property is defined in the POM of the node
+     */
+    private boolean updatePropertyValue(PomEditPlan plan, List<Runnable> reports, ModelNode node, String property) {
         // concatenating properties from the main build section
         // with properties from profiles
         return Stream.concat(
@@ -493,13 +518,10 @@ public class UseDepVersionMojo extends AbstractVersionsDependencyUpdaterMojo {
                 // and processing them
                 .filter(Objects::nonNull)
                 .map(pair -> {
-                    try {
-                        boolean result = PomHelper.setPropertyVersion(
-                                node.getMutableXMLStreamReader(),
-                                ofNullable(pair.getLeft()).map(Profile::getId).orElse(null),
-                                property,
-                                depVersion);
-                        if (result) {
+                    PomEditPlan.Edit edit = plan.setPropertyVersion(
+                            ofNullable(pair.getLeft()).map(Profile::getId).orElse(null), property, depVersion);
+                    reports.add(() -> {
+                        if (edit.isApplied()) {
                             try {
                                 getChangeRecorder()
                                         .recordChange(DefaultPropertyChangeRecord.builder()
@@ -511,10 +533,8 @@ public class UseDepVersionMojo extends AbstractVersionsDependencyUpdaterMojo {
                                 throw new RuntimeException(e);
                             }
                         }
-                        return result;
-                    } catch (XMLStreamException e) {
-                        throw new RuntimeException(e);
-                    }
+                    });
+                    return true;
                 })
                 .reduce(Boolean::logicalOr)
                 .orElse(false);
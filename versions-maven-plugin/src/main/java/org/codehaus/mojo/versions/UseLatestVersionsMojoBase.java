@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -39,6 +40,7 @@ import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.wagon.Wagon;
 import org.codehaus.mojo.versions.api.ArtifactVersions;
+import org.codehaus.mojo.versions.api.PomEditPlan;
 import org.codehaus.mojo.versions.api.PomHelper;
 import org.codehaus.mojo.versions.api.Segment;
 import org.codehaus.mojo.versions.api.VersionRetrievalException;
@@ -147,6 +149,11 @@ public abstract class UseLatestVersionsMojoBase extends AbstractVersionsDependen
         }
     }
 
+    @Override
+    protected boolean isParallelReactorSupported() {
+        return true;
+    }
+
     /**
      * @param pom the pom to update.
      * @throws org.apache.maven.plugin.MojoExecutionException when things go wrong
@@ -193,9 +200,14 @@ public abstract class UseLatestVersionsMojoBase extends AbstractVersionsDependen
 
             CompletableFuture.allOf(versionChangeFutures.toArray(new CompletableFuture[0]))
                     .join();
+            PomEditPlan plan = new PomEditPlan(pom);
+            List<Runnable> reports = new ArrayList<>();
             for (DependencyVersionChange change : versionChanges) {
-                updateDependencyVersion(pom, change.getDependency(), change.getNewVersion(), change.getChangeKind());
+                reports.add(updateDependencyVersion(
+                        plan, change.getDependency(), change.getNewVersion(), change.getChangeKind()));
             }
+            plan.apply();
+            reports.forEach(Runnable::run);
         } catch (IOException e) {
             throw new MojoExecutionException(e.getMessage(), e);
         } catch (IllegalStateException e) {
@@ -23,7 +23,10 @@ import javax.inject.Inject;
 import javax.xml.stream.XMLStreamException;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
@@ -31,16 +34,19 @@ import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.handler.manager.ArtifactHandlerManager;
 import org.apache.maven.model.Dependency;
 import org.apache.maven.model.DependencyManagement;
+import org.apache.maven.model.Model;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.wagon.Wagon;
+import org.codehaus.mojo.versions.api.PomEditPlan;
 import org.codehaus.mojo.versions.api.PomHelper;
 import org.codehaus.mojo.versions.api.VersionRetrievalException;
 import org.codehaus.mojo.versions.api.recording.ChangeRecorder;
 import org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader;
+import org.codehaus.mojo.versions.utils.ReactorIndex;
 import org.eclipse.aether.RepositorySystem;
 
 /**
@@ -84,6 +90,8 @@ public class UseReactorMojo extends AbstractVersionsDependencyUpdaterMojo {
     @Parameter(property = "processParent", defaultValue = "false")
     private boolean processParent = false;
 
+    private ReactorIndex reactorIndex;
+
     @Override
     protected boolean getProcessDependencies() {
         return processDependencies;
@@ -124,64 +132,75 @@ public class UseReactorMojo extends AbstractVersionsDependencyUpdaterMojo {
      */
     protected void update(MutableXMLStreamReader pom)
             throws MojoExecutionException, MojoFailureException, XMLStreamException, VersionRetrievalException {
+        if (reactorIndex == null) {
+            reactorIndex = ReactorIndex.of(reactorProjects);
+        }
         try {
+            PomEditPlan plan = new PomEditPlan(pom);
+            List<Runnable> reports = new ArrayList<>();
             if (getProcessParent() && getProject().hasParent()) {
-                useReactor(pom, getProject().getParent());
+                reports.addAll(useReactor(plan, getProject().getParent()));
             }
             if (getProcessDependencyManagement()) {
                 DependencyManagement dependencyManagement =
                         PomHelper.getRawModel(getProject()).getDependencyManagement();
                 if (dependencyManagement != null) {
-                    useReactor(pom, dependencyManagement.getDependencies());
+                    reports.addAll(useReactor(plan, dependencyManagement.getDependencies()));
                 }
             }
             if (getProject().getDependencies() != null && getProcessDependencies()) {
-                useReactor(pom, getProject().getDependencies());
+                reports.addAll(useReactor(plan, getProject().getDependencies()));
             }
+            plan.apply();
+            reports.forEach(Runnable::run);
         } catch (IOException e) {
             throw new MojoExecutionException(e.getMessage(), e);
         }
     }
 
-    private void useReactor(MutableXMLStreamReader pom, Collection<Dependency> dependencies)
-            throws XMLStreamException, MojoExecutionException, VersionRetrievalException {
-
+    private List<Runnable> useReactor(PomEditPlan plan, Collection<Dependency> dependencies)
+            throws MojoExecutionException, VersionRetrievalException {
+        List<Runnable> reports = new ArrayList<>();
         for (Dependency dep : dependencies) {
             Artifact artifact = this.toArtifact(dep);
             if (!isIncluded(artifact)) {
                 continue;
             }
 
-            for (MavenProject reactorProject : reactorProjects) {
-                if (StringUtils.equals(reactorProject.getGroupId(), dep.getGroupId())
-                        && StringUtils.equals(reactorProject.getArtifactId(), dep.getArtifactId())
-                        && !StringUtils.equals(reactorProject.getVersion(), dep.getVersion())) {
-                    if (PomHelper.setDependencyVersion(
-                            pom,
-                            dep.getGroupId(),
-                            dep.getArtifactId(),
-                            dep.getVersion(),
-                            reactorProject.getVersion(),
-                            getProject().getModel(),
-                            getLog())) {
-                        getLog().info("Updated " + toString(dep) + " to version " + reactorProject.getVersion());
+            Model reactorModel = dep.getGroupId() == null || dep.getArtifactId() == null
+                    ? null
+                    : reactorIndex.getModel(dep.getGroupId(), dep.getArtifactId());
+            if (reactorModel != null && !StringUtils.equals(PomHelper.getVersion(reactorModel), dep.getVersion())) {
+                PomEditPlan.Edit edit = plan.setDependencyVersion(
+                        dep.getGroupId(),
+                        dep.getArtifactId(),
+                        dep.getVersion(),
+                        PomHelper.getVersion(reactorModel),
+                        getProject().getModel(),
+                        getLog());
+                reports.add(() -> {
+                    if (edit.isApplied()) {
+                        getLog().info("Updated " + toString(dep) + " to version " + PomHelper.getVersion(reactorModel));
                     }
-                    break;
-                }
+                });
             }
         }
+        return reports;
     }
 
-    private void useReactor(MutableXMLStreamReader pom, MavenProject parent)
-            throws XMLStreamException, VersionRetrievalException {
-        for (MavenProject project : reactorProjects) {
-            if (StringUtils.equals(project.getGroupId(), parent.getGroupId())
-                    && StringUtils.equals(project.getArtifactId(), parent.getArtifactId())
-                    && !StringUtils.equals(project.getVersion(), parent.getVersion())) {
-                if (PomHelper.setProjectParentVersion(pom, project.getVersion())) {
-                    getLog().info("Updated parent " + toString(parent) + " to version " + project.getVersion());
+    private List<Runnable> useReactor(PomEditPlan plan, MavenProject parent) throws VersionRetrievalException {
+        Model reactorModel = parent.getGroupId() == null || parent.getArtifactId() == null
+                ? null
+                : reactorIndex.getModel(parent.getGroupId(), parent.getArtifactId());
+        if (reactorModel != null && !StringUtils.equals(PomHelper.getVersion(reactorModel), parent.getVersion())) {
+            PomEditPlan.Edit edit = plan.setProjectParentVersion(PomHelper.getVersion(reactorModel));
+            return Collections.singletonList(() -> {
+                if (edit.isApplied()) {
+                    getLog().info("Updated parent " + toString(parent) + " to version "
+                            + PomHelper.getVersion(reactorModel));
                 }
-            }
+            });
         }
+        return Collections.emptyList();
     }
 }
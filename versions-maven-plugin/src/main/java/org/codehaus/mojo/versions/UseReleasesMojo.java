@@ -19,8 +19,10 @@ import javax.inject.Inject;
 import javax.xml.stream.XMLStreamException;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Matcher;
@@ -36,6 +38,7 @@ import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.wagon.Wagon;
 import org.codehaus.mojo.versions.api.ArtifactVersions;
+import org.codehaus.mojo.versions.api.PomEditPlan;
 import org.codehaus.mojo.versions.api.PomHelper;
 import org.codehaus.mojo.versions.api.VersionRetrievalException;
 import org.codehaus.mojo.versions.api.recording.ChangeRecorder;
@@ -129,6 +132,11 @@ public class UseReleasesMojo extends AbstractVersionsDependencyUpdaterMojo {
         super(artifactHandlerManager, repositorySystem, wagonMap, changeRecorders);
     }
 
+    @Override
+    protected boolean isParallelReactorSupported() {
+        return true;
+    }
+
     /**
      * @param pom the pom to update.
      * @throws org.apache.maven.plugin.MojoExecutionException when things go wrong
@@ -139,32 +147,37 @@ public class UseReleasesMojo extends AbstractVersionsDependencyUpdaterMojo {
     protected void update(MutableXMLStreamReader pom)
             throws MojoExecutionException, MojoFailureException, XMLStreamException, VersionRetrievalException {
         try {
+            PomEditPlan plan = new PomEditPlan(pom);
+            List<Runnable> reports = new ArrayList<>();
             if (getProcessDependencyManagement()) {
                 DependencyManagement dependencyManagement =
                         PomHelper.getRawModel(getProject()).getDependencyManagement();
                 if (dependencyManagement != null) {
-                    useReleases(
-                            pom,
+                    reports.addAll(useReleases(
+                            plan,
                             dependencyManagement.getDependencies(),
-                            DependencyChangeRecord.ChangeKind.DEPENDENCY_MANAGEMENT);
+                            DependencyChangeRecord.ChangeKind.DEPENDENCY_MANAGEMENT));
                 }
             }
             if (getProject().getDependencies() != null && getProcessDependencies()) {
-                useReleases(pom, getProject().getDependencies(), DependencyChangeRecord.ChangeKind.DEPENDENCY);
+                reports.addAll(useReleases(
+                        plan, getProject().getDependencies(), DependencyChangeRecord.ChangeKind.DEPENDENCY));
             }
             if (getProject().getParent() != null && getProcessParent()) {
-                useReleases(pom, singletonList(getParentDependency()), DependencyChangeRecord.ChangeKind.PARENT);
+                reports.addAll(useReleases(
+                        plan, singletonList(getParentDependency()), DependencyChangeRecord.ChangeKind.PARENT));
             }
+            plan.apply();
+            reports.forEach(Runnable::run);
         } catch (IOException e) {
             throw new MojoExecutionException(e.getMessage(), e);
         }
     }
 
-    private void useReleases(
-            MutableXMLStreamReader pom,
-            Collection<Dependency> dependencies,
-            DependencyChangeRecord.ChangeKind changeKind)
-            throws XMLStreamException, MojoExecutionException, VersionRetrievalException {
+    private List<Runnable> useReleases(
+            PomEditPlan plan, Collection<Dependency> dependencies, DependencyChangeRecord.ChangeKind changeKind)
+            throws MojoExecutionException, VersionRetrievalException {
+        List<Runnable> reports = new ArrayList<>();
         for (Dependency dep : dependencies) {
             if (getExcludeReactor() && isProducedByReactor(dep)) {
                 getLog().info("Ignoring reactor dependency: " + toString(dep));
@@ -194,9 +207,9 @@ public class UseReleasesMojo extends AbstractVersionsDependencyUpdaterMojo {
                 // retrieve release version if provided snapshot version.
                 artifact.setVersion(releaseVersion);
                 Optional<String> targetVersion = findReleaseVersion(
-                        pom, dep, version, releaseVersion, getHelper().lookupArtifactVersions(artifact, false));
+                        dep, version, releaseVersion, getHelper().lookupArtifactVersions(artifact, false));
                 if (targetVersion.isPresent()) {
-                    updateDependencyVersion(pom, dep, targetVersion.get(), changeKind);
+                    reports.add(updateDependencyVersion(plan, dep, targetVersion.get(), changeKind));
                 } else {
                     getLog().info("No matching release of " + toString(dep) + " to update.");
                     if (failIfNotReplaced) {
@@ -206,14 +219,11 @@ public class UseReleasesMojo extends AbstractVersionsDependencyUpdaterMojo {
                 }
             }
         }
+        return reports;
     }
 
     private Optional<String> findReleaseVersion(
-            MutableXMLStreamReader pom,
-            Dependency dep,
-            String version,
-            String releaseVersion,
-            ArtifactVersions versions) {
+            Dependency dep, String version, String releaseVersion, ArtifactVersions versions) {
         return !allowRangeMatching
                 ? versions.containsVersion(releaseVersion) ? Optional.of(releaseVersion) : Optional.empty()
                 : Arrays.stream(versions.getVersions(false))
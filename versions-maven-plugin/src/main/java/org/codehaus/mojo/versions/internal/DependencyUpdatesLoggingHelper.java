@@ -64,7 +64,6 @@ public class DependencyUpdatesLoggingHelper {
             ArtifactVersions versions = entry.getValue();
             String left = "  " + ArtifactUtils.versionlessKey(versions.getArtifact()) + " ";
             String currentVersion;
-            Optional<ArtifactVersion> latestVersion;
             if (versions.getCurrentVersion() != null) {
                 currentVersion = versions.getCurrentVersion()
                         + (!displayManagedBy || dependencyVersionLocalToProject(project, dep)
@@ -73,30 +72,11 @@ public class DependencyUpdatesLoggingHelper {
                                         + dep.getLocation(VERSION.toString())
                                                 .getSource()
                                                 .getModelId() + ")");
-                try {
-                    latestVersion = versions.getNewestVersion(currentVersion, unchangedSegment, allowSnapshots, false);
-                } catch (InvalidSegmentException e) {
-                    latestVersion = empty();
-                }
             } else {
                 currentVersion = versions.getArtifact().getVersionRange().toString();
-                ArtifactVersion actualVersion =
-                        versions.getNewestVersion(versions.getArtifact().getVersionRange(), allowSnapshots);
-                Restriction newVersionRestriction;
-                try {
-                    Restriction segmentRestriction =
-                            versions.restrictionForUnchangedSegment(actualVersion, unchangedSegment, false);
-                    newVersionRestriction = new Restriction(
-                            actualVersion,
-                            false,
-                            segmentRestriction.getUpperBound(),
-                            segmentRestriction.isUpperBoundInclusive());
-                } catch (InvalidSegmentException e) {
-                    throw new RuntimeException(e);
-                }
-                latestVersion = Optional.of(newVersionRestriction)
-                        .map(restriction -> versions.getNewestVersion(restriction, allowSnapshots));
             }
+            Optional<ArtifactVersion> latestVersion =
+                    getLatestVersion(versions, currentVersion, unchangedSegment, allowSnapshots);
             String right =
                     " " + latestVersion.map(v -> currentVersion + " -> " + v).orElse(currentVersion);
             List<String> t = latestVersion.isPresent() ? withUpdates : usingCurrent;
@@ -122,6 +102,57 @@ public class DependencyUpdatesLoggingHelper {
         };
     }
 
+    /**
+     * Returns the newest version the given artifact can be updated to.
+     *
+     * @param versions         available versions of the artifact
+     * @param unchangedSegment the most major segment not allowed to be updated or {@code Optional.empty()} if
+     *                         all segments are allowed to be updated
+     * @param allowSnapshots   whether snapshots should be allowed as updates
+     * @return the newest version or {@code Optional.empty()} if the artifact is using the newest version
+     * @since 2.19.0
+     */
+    public static Optional<ArtifactVersion> getLatestVersion(
+            ArtifactVersions versions, Optional<Segment> unchangedSegment, boolean allowSnapshots) {
+        return getLatestVersion(
+                versions,
+                versions.getCurrentVersion() != null
+                        ? versions.getCurrentVersion().toString()
+                        : null,
+                unchangedSegment,
+                allowSnapshots);
+    }
+
+    private static Optional<ArtifactVersion> getLatestVersion(
+            ArtifactVersions versions,
+            String currentVersion,
+            Optional<Segment> unchangedSegment,
+            boolean allowSnapshots) {
+        if (versions.getCurrentVersion() != null) {
+            try {
+                return versions.getNewestVersion(currentVersion, unchangedSegment, allowSnapshots, false);
+            } catch (InvalidSegmentException e) {
+                return empty();
+            }
+        }
+        ArtifactVersion actualVersion =
+                versions.getNewestVersion(versions.getArtifact().getVersionRange(), allowSnapshots);
+        Restriction newVersionRestriction;
+        try {
+            Restriction segmentRestriction =
+                    versions.restrictionForUnchangedSegment(actualVersion, unchangedSegment, false);
+            newVersionRestriction = new Restriction(
+                    actualVersion,
+                    false,
+                    segmentRestriction.getUpperBound(),
+                    segmentRestriction.isUpperBoundInclusive());
+        } catch (InvalidSegmentException e) {
+            throw new RuntimeException(e);
+        }
+        return Optional.of(newVersionRestriction)
+                .map(restriction -> versions.getNewestVersion(restriction, allowSnapshots));
+    }
+
     /**
      * Defines the list of dependencies using current versions and the list of dependencies having updates
      */
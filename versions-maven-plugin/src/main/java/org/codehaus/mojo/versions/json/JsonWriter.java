@@ -0,0 +1,157 @@
+package org.codehaus.mojo.versions.json;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Minimal streaming JSON writer, writing compact JSON without any whitespace.
+ *
+ * @since 2.19.0
+ */
+final class JsonWriter {
+    private final Writer out;
+
+    /**
+     * For each open object or array, {@code true} if it already has a member or element.
+     */
+    private final Deque<Boolean> scopes = new ArrayDeque<>();
+
+    private boolean afterName;
+
+    JsonWriter(Writer out) {
+        this.out = out;
+    }
+
+    JsonWriter beginObject() throws IOException {
+        beforeValue();
+        out.write('{');
+        scopes.push(false);
+        return this;
+    }
+
+    JsonWriter endObject() throws IOException {
+        scopes.pop();
+        out.write('}');
+        return this;
+    }
+
+    JsonWriter beginArray() throws IOException {
+        beforeValue();
+        out.write('[');
+        scopes.push(false);
+        return this;
+    }
+
+    JsonWriter endArray() throws IOException {
+        scopes.pop();
+        out.write(']');
+        return this;
+    }
+
+    /**
+     * Writes the name of the next member of the current object.
+     *
+     * @param name name of the member
+     * @return this writer
+     * @throws IOException thrown if the name cannot be written
+     */
+    JsonWriter name(String name) throws IOException {
+        beforeValue();
+        string(name);
+        out.write(':');
+        afterName = true;
+        return this;
+    }
+
+    /**
+     * Writes a string value or {@code null}.
+     *
+     * @param value value to write, may be {@code null}
+     * @return this writer
+     * @throws IOException thrown if the value cannot be written
+     */
+    JsonWriter value(String value) throws IOException {
+        beforeValue();
+        if (value == null) {
+            out.write("null");
+        } else {
+            string(value);
+        }
+        return this;
+    }
+
+    /**
+     * Writes a member with a string value, unless the value is {@code null}.
+     *
+     * @param name  name of the member
+     * @param value value of the member, may be {@code null}
+     * @return this writer
+     * @throws IOException thrown if the member cannot be written
+     */
+    JsonWriter member(String name, String value) throws IOException {
+        return value == null ? this : name(name).value(value);
+    }
+
+    private void beforeValue() throws IOException {
+        if (afterName) {
+            afterName = false;
+        } else if (!scopes.isEmpty()) {
+            if (scopes.pop()) {
+                out.write(',');
+            }
+            scopes.push(true);
+        }
+    }
+
+    private void string(String value) throws IOException {
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    out.write("\\\"");
+                    break;
+                case '\\':
+                    out.write("\\\\");
+                    break;
+                case '\n':
+                    out.write("\\n");
+                    break;
+                case '\r':
+                    out.write("\\r");
+                    break;
+                case '\t':
+                    out.write("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        out.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.write(c);
+                    }
+            }
+        }
+        out.write('"');
+    }
+}
@@ -0,0 +1,374 @@
+package org.codehaus.mojo.versions.json;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.maven.artifact.versioning.ArtifactVersion;
+import org.apache.maven.model.Dependency;
+import org.codehaus.mojo.versions.api.AbstractVersionDetails;
+import org.codehaus.mojo.versions.api.ArtifactAssociation;
+import org.codehaus.mojo.versions.api.Property;
+import org.codehaus.mojo.versions.api.PropertyVersions;
+import org.codehaus.mojo.versions.api.Segment;
+import org.codehaus.mojo.versions.utils.DefaultArtifactVersionCache;
+import org.codehaus.mojo.versions.xml.CommonXmlReportRendererUtils;
+import org.eclipse.aether.RepositorySystemSession;
+
+import static java.util.Optional.of;
+import static org.codehaus.mojo.versions.api.Segment.INCREMENTAL;
+import static org.codehaus.mojo.versions.api.Segment.MAJOR;
+import static org.codehaus.mojo.versions.api.Segment.MINOR;
+
+/**
+ * <p>Writes the results of the display goals in a machine-readable form, one record per dependency, plugin,
+ * extension, parent or property, as soon as the record is passed.</p>
+ *
+ * <p>In the {@link Format#JSON} format, the output is an array with one document per project of the build.
+ * The document of a project is appended to the array once the project is finished, so that the file holds
+ * a complete array after every project:</p>
+ * <pre>[{"goal":"display-dependency-updates","project":"group:artifact:1.0","updates":[{...},{...}]},
+ * {"goal":"display-dependency-updates","project":"group:module:1.0","updates":[...]}]</pre>
+ * <p>In the {@link Format#NDJSON} format, every record is written on a separate line as soon as it is known
+ * and contains the {@code goal} and {@code project} members itself, so that the output of several projects can be
+ * appended to the same file.</p>
+ *
+ * <p>A record contains the {@code section} of the project it was found in, the coordinates of the artifact
+ * or the name of the property, its {@code currentVersion}, the {@code latestVersion} it can be updated to
+ * (or {@code null}), the {@code status} as in the XML reports (e.g. {@code minor available} or
+ * {@code no new available}) and, if known, the available {@code incrementals}, {@code minors}
+ * and {@code majors} updates.</p>
+ *
+ * @since 2.19.0
+ */
+public class UpdatesJsonWriter implements Closeable {
+    /**
+     * Output formats
+     */
+    public enum Format {
+        /**
+         * A JSON array with one document per project
+         */
+        JSON,
+        /**
+         * Newline-delimited JSON, one record per line
+         */
+        NDJSON
+    }
+
+    private static final UpdatesJsonWriter DISABLED = new UpdatesJsonWriter();
+
+    private final StringWriter writer;
+
+    private final JsonWriter json;
+
+    private final Format format;
+
+    private final Output output;
+
+    private final String goal;
+
+    private final String project;
+
+    private final boolean allowSnapshots;
+
+    private UpdatesJsonWriter() {
+        writer = null;
+        json = null;
+        format = null;
+        output = null;
+        goal = null;
+        project = null;
+        allowSnapshots = false;
+    }
+
+    /**
+     * Creates a writer of the results of a goal.
+     *
+     * @param output         output file the results are written to, shared by all writers of the file
+     * @param format         output format
+     * @param goal           name of the goal producing the results
+     * @param project        coordinates of the project the results are for
+     * @param allowSnapshots whether snapshots should be included in the lists of available updates
+     * @throws IOException thrown if the file cannot be written
+     */
+    public UpdatesJsonWriter(Output output, Format format, String goal, String project, boolean allowSnapshots)
+            throws IOException {
+        // the records are written to the file once they are complete, so that writers of several projects
+        // of a parallel build do not interleave them
+        this.writer = new StringWriter();
+        this.json = new JsonWriter(writer);
+        this.output = output;
+        this.format = format;
+        this.goal = goal;
+        this.project = project;
+        this.allowSnapshots = allowSnapshots;
+        if (format == Format.NDJSON) {
+            output.open();
+        } else {
+            json.beginObject()
+                    .member("goal", goal)
+                    .member("project", project)
+                    .name("updates")
+                    .beginArray();
+        }
+    }
+
+    /**
+     * @return a writer ignoring all results, to be used if no machine-readable output is requested
+     */
+    public static UpdatesJsonWriter disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Writes the result for an artifact, e.g. a dependency, plugin, extension or parent.
+     *
+     * @param section        section of the project the artifact is found in, e.g. {@code dependencies}
+     * @param artifact       coordinates of the artifact
+     * @param currentVersion current version of the artifact
+     * @param latestVersion  version the artifact can be updated to, or {@code null} if it is up-to-date
+     * @param versions       available versions of the artifact, or {@code null} if not known, in which case
+     *                       the status follows from the segment {@code latestVersion} differs in
+     * @throws UncheckedIOException thrown if the record cannot be written
+     */
+    public void writeArtifact(
+            String section,
+            Dependency artifact,
+            String currentVersion,
+            String latestVersion,
+            AbstractVersionDetails versions) {
+        if (writer == null) {
+            return;
+        }
+        try {
+            beginRecord(section);
+            json.member("groupId", artifact.getGroupId())
+                    .member("artifactId", artifact.getArtifactId())
+                    .member("type", artifact.getType())
+                    .member("classifier", artifact.getClassifier())
+                    .member("scope", artifact.getScope());
+            writeVersions(currentVersion, latestVersion, versions);
+            endRecord();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the result for a version property.
+     *
+     * @param property       the property
+     * @param currentVersion current value of the property
+     * @param latestVersion  version the property can be updated to, or {@code null} if it is up-to-date
+     * @param versions       available versions of the property
+     * @throws UncheckedIOException thrown if the record cannot be written
+     */
+    public void writeProperty(
+            Property property, String currentVersion, String latestVersion, PropertyVersions versions) {
+        if (writer == null) {
+            return;
+        }
+        try {
+            beginRecord("properties");
+            json.member("property", property.getName());
+            if (versions.getAssociations() != null && versions.getAssociations().length > 0) {
+                json.name("associations").beginArray();
+                for (ArtifactAssociation association : versions.getAssociations()) {
+                    json.beginObject()
+                            .member("groupId", association.getArtifact().getGroupId())
+                            .member("artifactId", association.getArtifact().getArtifactId())
+                            .endObject();
+                }
+                json.endArray();
+            }
+            writeVersions(currentVersion, latestVersion, versions);
+            endRecord();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void beginRecord(String section) throws IOException {
+        json.beginObject();
+        if (format == Format.NDJSON) {
+            json.member("goal", goal).member("project", project);
+        }
+        json.member("section", section);
+    }
+
+    private void endRecord() throws IOException {
+        json.endObject();
+        if (format == Format.NDJSON) {
+            // consumers may process the records while the goal is still running
+            writer.write('\n');
+            output.appendRecord(writer.toString());
+            writer.getBuffer().setLength(0);
+        }
+    }
+
+    private void writeVersions(String currentVersion, String latestVersion, AbstractVersionDetails versions)
+            throws IOException {
+        json.member("currentVersion", currentVersion).name("latestVersion").value(latestVersion);
+        ArtifactVersion latest = latestVersion != null ? DefaultArtifactVersionCache.of(latestVersion) : null;
+        boolean incrementals;
+        boolean minors;
+        if (versions != null) {
+            incrementals = writeSegment(versions, INCREMENTAL, "incrementals");
+            minors = writeSegment(versions, MINOR, "minors");
+            writeSegment(versions, MAJOR, "majors");
+        } else if (latest != null) {
+            // without the available versions, the segment of the update is that of the latest version
+            ArtifactVersion current = DefaultArtifactVersionCache.of(currentVersion);
+            minors = current.getMajorVersion() == latest.getMajorVersion();
+            incrementals = minors && current.getMinorVersion() == latest.getMinorVersion();
+        } else {
+            incrementals = false;
+            minors = false;
+        }
+        json.member("status", CommonXmlReportRendererUtils.statusFor(latest, incrementals, minors));
+    }
+
+    private boolean writeSegment(AbstractVersionDetails versions, Segment segment, String name) throws IOException {
+        ArtifactVersion[] updates = versions.getAllUpdates(of(segment), allowSnapshots);
+        if (updates == null || updates.length == 0) {
+            return false;
+        }
+        json.name(name).beginArray();
+        for (ArtifactVersion update : updates) {
+            json.value(update.toString());
+        }
+        json.endArray();
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (writer == null) {
+            return;
+        }
+        if (format == Format.JSON) {
+            json.endArray().endObject();
+            output.appendDocument(writer.toString());
+        }
+    }
+
+    /**
+     * An output file, shared by the writers of all projects of the build. The file is truncated by the first
+     * writer, the following ones append to it.
+     */
+    public static final class Output {
+        private static final String SESSION_KEY = Output.class.getName();
+
+        private final Path file;
+
+        private boolean started;
+
+        /**
+         * Position of the closing bracket of the array in the {@link Format#JSON} format
+         */
+        private long end;
+
+        private Output(Path file) {
+            this.file = file;
+        }
+
+        /**
+         * Returns the output of the given file for the session, creating it if it doesn't exist yet.
+         *
+         * @param session repository session to store the output in; if {@code null}, an output private to the
+         *                caller is created, which truncates the file
+         * @param file    output file
+         * @return output instance
+         */
+        @SuppressWarnings("unchecked")
+        public static Output forSession(RepositorySystemSession session, Path file) {
+            Path key = file.toAbsolutePath().normalize();
+            if (session == null || session.getData() == null) {
+                return new Output(key);
+            }
+            Object existing = session.getData().get(SESSION_KEY);
+            while (!(existing instanceof ConcurrentMap)) {
+                session.getData().set(SESSION_KEY, existing, new ConcurrentHashMap<>());
+                existing = session.getData().get(SESSION_KEY);
+            }
+            return ((ConcurrentMap<Path, Output>) existing).computeIfAbsent(key, Output::new);
+        }
+
+        /**
+         * Truncates the file of the {@link Format#NDJSON} format, unless a preceding project has written it.
+         *
+         * @throws IOException thrown if the file cannot be written
+         */
+        synchronized void open() throws IOException {
+            if (!started) {
+                Files.write(file, new byte[0]);
+                started = true;
+            }
+        }
+
+        /**
+         * Appends a line of the {@link Format#NDJSON} format.
+         *
+         * @param line the line, including the line terminator
+         * @throws IOException thrown if the file cannot be written
+         */
+        synchronized void appendRecord(String line) throws IOException {
+            Files.write(file, line.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        }
+
+        /**
+         * Appends a document to the array of the {@link Format#JSON} format, overwriting its closing bracket.
+         *
+         * @param document the document
+         * @throws IOException thrown if the file cannot be written
+         */
+        synchronized void appendDocument(String document) throws IOException {
+            byte[] element = ((started ? ",\n" : "[") + document).getBytes(StandardCharsets.UTF_8);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                if (!started) {
+                    channel.truncate(0);
+                }
+                ByteBuffer buffer = ByteBuffer.allocate(element.length + 2)
+                        .put(element)
+                        .put((byte) ']')
+                        .put((byte) '\n');
+                buffer.flip();
+                long position = end;
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer, position);
+                }
+            }
+            end += element.length;
+            started = true;
+        }
+    }
+}
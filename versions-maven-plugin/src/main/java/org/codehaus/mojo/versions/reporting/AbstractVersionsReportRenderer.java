@@ -39,7 +39,6 @@ import org.codehaus.mojo.versions.reporting.util.ReportRenderer;
 import org.codehaus.plexus.i18n.I18N;
 
 import static java.util.Optional.empty;
-import static java.util.Optional.of;
 import static org.codehaus.mojo.versions.api.Segment.INCREMENTAL;
 import static org.codehaus.mojo.versions.api.Segment.MAJOR;
 import static org.codehaus.mojo.versions.api.Segment.MINOR;
@@ -61,9 +60,6 @@ public abstract class AbstractVersionsReportRenderer<T> extends VersionsReportRe
      */
     protected T model;
 
-    protected final ArtifactVersionsCache newestUpdateCache =
-            new ArtifactVersionsCache(AbstractVersionDetails::getReportNewestUpdate);
-
     protected final ArtifactVersionsCache allUpdatesCache =
             new ArtifactVersionsCache(AbstractVersionDetails::getReportUpdates);
 
@@ -229,10 +225,10 @@ public abstract class AbstractVersionsReportRenderer<T> extends VersionsReportRe
      * @param details the artifact for which to render the newest versions.
      */
     protected void renderNewestVersions(AbstractVersionDetails details) {
-        renderBoldCell(newestUpdateCache.get(details, of(SUBINCREMENTAL), isAllowSnapshots()));
-        renderBoldCell(newestUpdateCache.get(details, of(INCREMENTAL), isAllowSnapshots()));
-        renderBoldCell(newestUpdateCache.get(details, of(MINOR), isAllowSnapshots()));
-        renderBoldCell(newestUpdateCache.get(details, of(MAJOR), isAllowSnapshots()));
+        renderBoldCell(details.getUpdateSummary(isAllowSnapshots()).getNewestUpdate(SUBINCREMENTAL));
+        renderBoldCell(details.getUpdateSummary(isAllowSnapshots()).getNewestUpdate(INCREMENTAL));
+        renderBoldCell(details.getUpdateSummary(isAllowSnapshots()).getNewestUpdate(MINOR));
+        renderBoldCell(details.getUpdateSummary(isAllowSnapshots()).getNewestUpdate(MAJOR));
     }
 
     protected void renderDependencyDetailTable(Dependency artifact, ArtifactVersions details, boolean includeScope) {
@@ -294,19 +290,19 @@ public abstract class AbstractVersionsReportRenderer<T> extends VersionsReportRe
      * @param details the artifact for which to render the status.
      */
     protected void renderStatus(AbstractVersionDetails details) {
-        if (newestUpdateCache.get(details, of(SUBINCREMENTAL), isAllowSnapshots()) != null) {
+        if (details.getUpdateSummary(isAllowSnapshots()).getNewestUpdate(SUBINCREMENTAL) != null) {
             renderWarningIcon();
             sink.nonBreakingSpace();
             sink.text(getText("report.otherUpdatesAvailable"));
-        } else if (newestUpdateCache.get(details, of(INCREMENTAL), isAllowSnapshots()) != null) {
+        } else if (details.getUpdateSummary(isAllowSnapshots()).getNewestUpdate(INCREMENTAL) != null) {
             renderWarningIcon();
             sink.nonBreakingSpace();
             sink.text(getText("report.incrementalUpdatesAvailable"));
-        } else if (newestUpdateCache.get(details, of(MINOR), isAllowSnapshots()) != null) {
+        } else if (details.getUpdateSummary(isAllowSnapshots()).getNewestUpdate(MINOR) != null) {
             renderWarningIcon();
             sink.nonBreakingSpace();
             sink.text(getText("report.minorUpdatesAvailable"));
-        } else if (newestUpdateCache.get(details, of(MAJOR), isAllowSnapshots()) != null) {
+        } else if (details.getUpdateSummary(isAllowSnapshots()).getNewestUpdate(MAJOR) != null) {
             renderWarningIcon();
             sink.nonBreakingSpace();
             sink.text(getText("report.majorUpdatesAvailable"));
@@ -387,19 +383,19 @@ public abstract class AbstractVersionsReportRenderer<T> extends VersionsReportRe
      */
     protected String getLabel(ArtifactVersion version, AbstractVersionDetails details) {
 
-        if (equals(version, newestUpdateCache.get(details, of(SUBINCREMENTAL), isAllowSnapshots()))) {
+        if (equals(version, details.getUpdateSummary(isAllowSnapshots()).getNewestUpdate(SUBINCREMENTAL))) {
             return getText("report.latestSubIncremental");
         }
 
-        if (equals(version, newestUpdateCache.get(details, of(INCREMENTAL), isAllowSnapshots()))) {
+        if (equals(version, details.getUpdateSummary(isAllowSnapshots()).getNewestUpdate(INCREMENTAL))) {
             return getText("report.latestIncremental");
         }
 
-        if (equals(version, newestUpdateCache.get(details, of(MINOR), isAllowSnapshots()))) {
+        if (equals(version, details.getUpdateSummary(isAllowSnapshots()).getNewestUpdate(MINOR))) {
             return getText("report.latestMinor");
         }
 
-        if (equals(version, newestUpdateCache.get(details, of(MAJOR), isAllowSnapshots()))) {
+        if (equals(version, details.getUpdateSummary(isAllowSnapshots()).getNewestUpdate(MAJOR))) {
             return getText("report.latestMajor");
         }
 
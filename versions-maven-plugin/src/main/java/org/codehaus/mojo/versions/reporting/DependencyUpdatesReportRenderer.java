@@ -74,7 +74,7 @@ public class DependencyUpdatesReportRenderer<K extends DependencyUpdatesModel>
 
     @Override
     protected OverviewStats computeOverviewStats() {
-        return OverviewStats.fromUpdates(model.getAllUpdates().values(), newestUpdateCache, isAllowSnapshots());
+        return OverviewStats.fromUpdates(model.getAllUpdates().values(), isAllowSnapshots());
     }
 
     protected void renderDependencyDetail(Dependency artifact, ArtifactVersions details) {
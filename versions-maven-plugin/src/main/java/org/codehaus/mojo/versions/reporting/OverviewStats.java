@@ -20,15 +20,11 @@ package org.codehaus.mojo.versions.reporting;
  */
 
 import java.util.Collection;
-import java.util.Optional;
 
-import org.apache.maven.artifact.versioning.ArtifactVersion;
 import org.codehaus.mojo.versions.api.AbstractVersionDetails;
 import org.codehaus.mojo.versions.api.ArtifactVersions;
-import org.codehaus.mojo.versions.api.ArtifactVersionsCache;
-import org.codehaus.mojo.versions.api.Segment;
+import org.codehaus.mojo.versions.api.UpdateSummary;
 
-import static java.util.Optional.of;
 import static org.codehaus.mojo.versions.api.Segment.INCREMENTAL;
 import static org.codehaus.mojo.versions.api.Segment.MAJOR;
 import static org.codehaus.mojo.versions.api.Segment.MINOR;
@@ -56,36 +52,35 @@ public class OverviewStats {
      *
      * @param updates collection of all version updates, typically from
      * {@linkplain org.codehaus.mojo.versions.reporting.model.DependencyUpdatesModel#getAllUpdates()}
-     * @param cache if not null, cache to retrieve the version information, initialised with
-     * the {@link ArtifactVersions#getNewestUpdateWithinSegment(Optional, boolean)} update information
      * @param <T> subclass of {@linkplain OverviewStats}
      * @param <V> subclass of {@linkplain ArtifactVersions}
      * @param allowSnapshots whether snapshots should be included
      * @return instance of the {@linkplain OverviewStats}
      */
     public static <T extends OverviewStats, V extends AbstractVersionDetails> T fromUpdates(
-            Collection<V> updates, ArtifactVersionsCache cache, boolean allowSnapshots) {
+            Collection<V> updates, boolean allowSnapshots) {
         OverviewStats stats = new OverviewStats();
-        updates.forEach(details -> {
-            if (getNewestUpdate(cache, details, of(SUBINCREMENTAL), allowSnapshots) != null) {
-                stats.incrementAny();
-            } else if (getNewestUpdate(cache, details, of(INCREMENTAL), allowSnapshots) != null) {
-                stats.incrementIncremental();
-            } else if (getNewestUpdate(cache, details, of(MINOR), allowSnapshots) != null) {
-                stats.incrementMinor();
-            } else if (getNewestUpdate(cache, details, of(MAJOR), allowSnapshots) != null) {
-                stats.incrementMajor();
-            } else {
-                stats.incrementUpToDate();
-            }
-        });
+        updates.forEach(details -> stats.count(details.getUpdateSummary(allowSnapshots)));
         return (T) stats;
     }
 
-    protected static <V extends AbstractVersionDetails> ArtifactVersion getNewestUpdate(
-            ArtifactVersionsCache cache, V details, Optional<Segment> segment, boolean allowSnapshots) {
-        assert cache != null;
-        return cache.get(details, segment, allowSnapshots);
+    /**
+     * Counts the given update summary in the update scope of its newest update
+     *
+     * @param summary summary of the newest updates of a dependency
+     */
+    protected void count(UpdateSummary summary) {
+        if (summary.getNewestUpdate(SUBINCREMENTAL) != null) {
+            incrementAny();
+        } else if (summary.getNewestUpdate(INCREMENTAL) != null) {
+            incrementIncremental();
+        } else if (summary.getNewestUpdate(MINOR) != null) {
+            incrementMinor();
+        } else if (summary.getNewestUpdate(MAJOR) != null) {
+            incrementMajor();
+        } else {
+            incrementUpToDate();
+        }
     }
 
     public int getMajor() {
@@ -20,20 +20,11 @@ package org.codehaus.mojo.versions.reporting;
  */
 
 import java.util.Collection;
-import java.util.Optional;
 
 import org.codehaus.mojo.versions.api.AbstractVersionDetails;
-import org.codehaus.mojo.versions.api.ArtifactVersions;
-import org.codehaus.mojo.versions.api.ArtifactVersionsCache;
 import org.codehaus.mojo.versions.api.PluginUpdatesDetails;
 import org.codehaus.mojo.versions.reporting.model.PluginUpdatesModel;
 
-import static java.util.Optional.of;
-import static org.codehaus.mojo.versions.api.Segment.INCREMENTAL;
-import static org.codehaus.mojo.versions.api.Segment.MAJOR;
-import static org.codehaus.mojo.versions.api.Segment.MINOR;
-import static org.codehaus.mojo.versions.api.Segment.SUBINCREMENTAL;
-
 public class PluginOverviewStats extends OverviewStats {
     /**
      * Extension of the {@linkplain OverviewStats} adding dependency stats
@@ -53,28 +44,16 @@ public class PluginOverviewStats extends OverviewStats {
      * the argument
      *
      * @param updates collection of all version updates, typically from {@linkplain PluginUpdatesModel#getAllUpdates()}
-     * @param cache if not null, cache to retrieve the version information, initialised with
-     * the {@link ArtifactVersions#getNewestUpdateWithinSegment(Optional, boolean)} update information
      * @param <T> always equal to {@linkplain PluginOverviewStats}
      * @param <V> always equal to {@linkplain PluginUpdatesDetails}
      * @param allowSnapshots whether snapshots should be included
      * @return instance of the {@linkplain PluginOverviewStats}, initialised with the update information
      */
     public static <T extends OverviewStats, V extends AbstractVersionDetails> T fromUpdates(
-            Collection<V> updates, ArtifactVersionsCache cache, boolean allowSnapshots) {
+            Collection<V> updates, boolean allowSnapshots) {
         PluginOverviewStats stats = new PluginOverviewStats();
         updates.forEach(details -> {
-            if (getNewestUpdate(cache, details, of(SUBINCREMENTAL), allowSnapshots) != null) {
-                stats.incrementAny();
-            } else if (getNewestUpdate(cache, details, of(INCREMENTAL), allowSnapshots) != null) {
-                stats.incrementIncremental();
-            } else if (getNewestUpdate(cache, details, of(MINOR), allowSnapshots) != null) {
-                stats.incrementMinor();
-            } else if (getNewestUpdate(cache, details, of(MAJOR), allowSnapshots) != null) {
-                stats.incrementMajor();
-            } else {
-                stats.incrementUpToDate();
-            }
+            stats.count(details.getUpdateSummary(allowSnapshots));
             if (((PluginUpdatesDetails) details).isDependencyUpdateAvailable()) {
                 stats.incrementDependencies();
             }
@@ -104,7 +104,7 @@ public class PluginUpdatesReportRenderer extends AbstractVersionsReportRenderer<
      */
     @Override
     protected PluginOverviewStats computeOverviewStats() {
-        return PluginOverviewStats.fromUpdates(model.getAllUpdates().values(), newestUpdateCache, isAllowSnapshots());
+        return PluginOverviewStats.fromUpdates(model.getAllUpdates().values(), isAllowSnapshots());
     }
 
     @Override
@@ -161,7 +161,7 @@ public class PropertyUpdatesReportRenderer extends AbstractVersionsReportRendere
 
     @Override
     protected OverviewStats computeOverviewStats() {
-        return OverviewStats.fromUpdates(model.getAllUpdates().values(), newestUpdateCache, isAllowSnapshots());
+        return OverviewStats.fromUpdates(model.getAllUpdates().values(), isAllowSnapshots());
     }
 
     private void renderPropertyDetail(Property property, PropertyVersions details) {
@@ -0,0 +1,87 @@
+package org.codehaus.mojo.versions.reporting.util;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.model.Dependency;
+
+/**
+ * <p>Hash index of dependencies keyed by groupId, artifactId, scope and classifier, answering whether
+ * a dependency is matched by any of the indexed dependencies without scanning all of them.</p>
+ *
+ * <p>An indexed dependency matches a dependency if:</p>
+ * <ul>
+ *     <li>their groupId and artifactId are equal,</li>
+ *     <li>the indexed scope is {@code null} or equal to the scope of the dependency,</li>
+ *     <li>the indexed classifier is {@code null} or equal to the classifier of the dependency,</li>
+ *     <li>either version is {@code null} or both versions are equal.</li>
+ * </ul>
+ *
+ * @since 2.19.0
+ */
+public class DependencyIndex {
+    private final Map<List<String>, List<Dependency>> dependencies = new HashMap<>();
+
+    /**
+     * Creates a new index of the given dependencies.
+     *
+     * @param dependencies dependencies to index
+     */
+    public DependencyIndex(Collection<Dependency> dependencies) {
+        dependencies.forEach(dependency -> this.dependencies
+                .computeIfAbsent(
+                        key(dependency, dependency.getScope(), dependency.getClassifier()), k -> new ArrayList<>())
+                .add(dependency));
+    }
+
+    private static List<String> key(Dependency dependency, String scope, String classifier) {
+        return Arrays.asList(dependency.getGroupId(), dependency.getArtifactId(), scope, classifier);
+    }
+
+    /**
+     * Tells whether any of the indexed dependencies matches the given dependency.
+     *
+     * @param dependency dependency to look up
+     * @return {@code true} if the dependency is matched by an indexed dependency
+     */
+    public boolean matches(Dependency dependency) {
+        // an indexed dependency with no scope or classifier matches any scope or classifier
+        return matches(dependency, dependency.getScope(), dependency.getClassifier())
+                || dependency.getScope() != null && matches(dependency, null, dependency.getClassifier())
+                || dependency.getClassifier() != null && matches(dependency, dependency.getScope(), null)
+                || dependency.getScope() != null
+                        && dependency.getClassifier() != null
+                        && matches(dependency, null, null);
+    }
+
+    private boolean matches(Dependency dependency, String scope, String classifier) {
+        return dependencies.getOrDefault(key(dependency, scope, classifier), Collections.emptyList()).stream()
+                .anyMatch(indexed -> dependency.getVersion() == null
+                        || indexed.getVersion() == null
+                        || indexed.getVersion().equals(dependency.getVersion()));
+    }
+}
@@ -19,38 +19,101 @@ package org.codehaus.mojo.versions.xml;
  * under the License.
  */
 
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.List;
-import java.util.function.Consumer;
-import java.util.stream.Collectors;
+import javax.xml.stream.XMLStreamException;
 
 import org.apache.maven.artifact.versioning.ArtifactVersion;
+import org.apache.maven.model.Dependency;
 import org.codehaus.mojo.versions.api.AbstractVersionDetails;
 import org.codehaus.mojo.versions.api.Segment;
 
+import static java.util.Optional.empty;
 import static java.util.Optional.of;
-import static java.util.Optional.ofNullable;
+import static org.codehaus.mojo.versions.api.Segment.INCREMENTAL;
+import static org.codehaus.mojo.versions.api.Segment.MAJOR;
+import static org.codehaus.mojo.versions.api.Segment.MINOR;
 
 /**
  * Common utils for Xml report renderers
  */
-class CommonXmlReportRendererUtils {
-    static void setSection(
+public class CommonXmlReportRendererUtils {
+
+    /**
+     * Writes the coordinates and the available updates of an artifact.
+     *
+     * @param writer         report writer
+     * @param tagName        name of the element
+     * @param artifact       coordinates and current version of the artifact
+     * @param versions       available versions of the artifact
+     * @param allowSnapshots whether snapshots should be included
+     * @throws XMLStreamException thrown if the element cannot be written
+     */
+    static void writeArtifactInfo(
+            XmlReportWriter writer,
+            String tagName,
+            Dependency artifact,
+            AbstractVersionDetails versions,
+            boolean allowSnapshots)
+            throws XMLStreamException {
+        writer.startElement(tagName);
+        writer.writeElement("groupId", artifact.getGroupId());
+        writer.writeElement("artifactId", artifact.getArtifactId());
+        writer.writeElement("scope", artifact.getScope());
+        writer.writeElement("classifier", artifact.getClassifier());
+        writer.writeElement("type", artifact.getType());
+        writer.writeElement("currentVersion", artifact.getVersion());
+        writeUpdates(writer, versions, allowSnapshots);
+        writer.endElement();
+    }
+
+    /**
+     * Writes the latest version, the updates per segment and the resulting status of the given versions.
+     *
+     * @param writer         report writer
+     * @param versions       available versions
+     * @param allowSnapshots whether snapshots should be included
+     * @throws XMLStreamException thrown if the elements cannot be written
+     */
+    static void writeUpdates(XmlReportWriter writer, AbstractVersionDetails versions, boolean allowSnapshots)
+            throws XMLStreamException {
+        ArtifactVersion lastVersion = versions.getNewestUpdateWithinSegment(empty(), allowSnapshots);
+        writer.writeElement("lastVersion", lastVersion != null ? lastVersion.toString() : null);
+        boolean incrementals = writeSection(writer, versions, INCREMENTAL, "incrementals", allowSnapshots);
+        boolean minors = writeSection(writer, versions, MINOR, "minors", allowSnapshots);
+        writeSection(writer, versions, MAJOR, "majors", allowSnapshots);
+        writer.writeElement("status", statusFor(lastVersion, incrementals, minors));
+    }
+
+    private static boolean writeSection(
+            XmlReportWriter writer,
             AbstractVersionDetails versions,
             Segment segment,
-            Consumer<List<String>> setterFunction,
-            boolean allowSnapshots) {
-        ofNullable(versions.getAllUpdates(of(segment), allowSnapshots))
-                .map(v -> Arrays.stream(v).map(ArtifactVersion::toString).collect(Collectors.toList()))
-                .ifPresent(setterFunction);
+            String tagName,
+            boolean allowSnapshots)
+            throws XMLStreamException {
+        ArtifactVersion[] updates = versions.getAllUpdates(of(segment), allowSnapshots);
+        if (updates == null || updates.length == 0) {
+            return false;
+        }
+        writer.startElement(tagName);
+        String itemTagName = tagName.substring(0, tagName.length() - 1);
+        for (ArtifactVersion update : updates) {
+            writer.writeElement(itemTagName, update.toString());
+        }
+        writer.endElement();
+        return true;
     }
 
-    static String statusFor(String lastVersion, Collection<?> incrementals, Collection<?> minors) {
+    /**
+     * Returns the status of an artifact or property, as written to the reports.
+     *
+     * @param lastVersion  newest available update, or {@code null} if there is none
+     * @param incrementals whether there are incremental updates
+     * @param minors       whether there are minor updates
+     * @return the status, e.g. {@code incremental available} or {@code no new available}
+     */
+    public static String statusFor(ArtifactVersion lastVersion, boolean incrementals, boolean minors) {
         return lastVersion == null
                 ? "no new available"
-                : incrementals != null && !incrementals.isEmpty()
-                        ? "incremental available"
-                        : minors != null && !minors.isEmpty() ? "minor available" : "major available";
+                : incrementals ? "incremental available" : minors ? "minor available" : "major available";
     }
 }
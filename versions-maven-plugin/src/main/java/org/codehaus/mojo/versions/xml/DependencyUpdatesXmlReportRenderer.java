@@ -21,39 +21,22 @@ package org.codehaus.mojo.versions.xml;
 
 import javax.xml.stream.XMLStreamException;
 
-import java.io.BufferedWriter;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
-import org.apache.maven.artifact.versioning.ArtifactVersion;
 import org.apache.maven.model.Dependency;
-import org.codehaus.mojo.versions.api.AbstractVersionDetails;
 import org.codehaus.mojo.versions.api.ArtifactVersions;
-import org.codehaus.mojo.versions.api.ArtifactVersionsCache;
 import org.codehaus.mojo.versions.reporting.OverviewStats;
-import org.codehaus.mojo.versions.reporting.model.DependencyInfo;
-import org.codehaus.mojo.versions.reporting.model.DependencyReportSummary;
 import org.codehaus.mojo.versions.reporting.model.DependencyUpdatesModel;
-import org.codehaus.mojo.versions.reporting.model.DependencyUpdatesReport;
-import org.codehaus.mojo.versions.reporting.model.io.stax.DependencyUpdatesReportStaxWriter;
 import org.codehaus.mojo.versions.reporting.util.ReportRenderer;
 
-import static java.util.Optional.empty;
-import static java.util.Optional.ofNullable;
-import static org.codehaus.mojo.versions.api.Segment.INCREMENTAL;
-import static org.codehaus.mojo.versions.api.Segment.MAJOR;
-import static org.codehaus.mojo.versions.api.Segment.MINOR;
-import static org.codehaus.mojo.versions.xml.CommonXmlReportRendererUtils.setSection;
-import static org.codehaus.mojo.versions.xml.CommonXmlReportRendererUtils.statusFor;
+import static org.codehaus.mojo.versions.xml.CommonXmlReportRendererUtils.writeArtifactInfo;
 
 /**
  * XML renderer for DependencyUpdatesReport creates an xml file in target directory and writes report about available
  * dependency/dependency management updates.
+ * The report is streamed: each dependency is written as soon as its updates are processed.
  *
  * @author Illia Dubinin
  * @since 2.4
@@ -61,8 +44,6 @@ import static org.codehaus.mojo.versions.xml.CommonXmlReportRendererUtils.status
 public class DependencyUpdatesXmlReportRenderer implements ReportRenderer {
     private final DependencyUpdatesModel model;
     private final Path outputFile;
-    private final ArtifactVersionsCache newestUpdateCache =
-            new ArtifactVersionsCache(AbstractVersionDetails::getNewestUpdateWithinSegment);
 
     private final boolean allowSnapshots;
 
@@ -92,53 +73,40 @@ public class DependencyUpdatesXmlReportRenderer implements ReportRenderer {
      */
     @Override
     public void render() {
-        try (BufferedWriter writer = Files.newBufferedWriter(outputFile, StandardCharsets.UTF_8)) {
-            new DependencyUpdatesReportStaxWriter().write(writer, new DependencyUpdatesReport() {
-                {
-                    setSummary(new DependencyReportSummary() {
-                        {
-                            OverviewStats overviewStats = OverviewStats.fromUpdates(
-                                    model.getAllUpdates().values(), newestUpdateCache, isAllowSnapshots());
-                            setUsingLastVersion(String.valueOf(overviewStats.getUpToDate()));
-                            setNextVersionAvailable(String.valueOf(overviewStats.getAny()));
-                            setNextIncrementalAvailable(String.valueOf(overviewStats.getIncremental()));
-                            setNextMinorAvailable(String.valueOf(overviewStats.getMinor()));
-                            setNextMajorAvailable(String.valueOf(overviewStats.getMajor()));
-                        }
-                    });
-                    setDependencyManagements(
-                            createDependencyInfo(model.getArtifactManagementUpdates(), isAllowSnapshots()));
-                    setDependencies(createDependencyInfo(model.getArtifactUpdates(), isAllowSnapshots()));
-                }
-            });
+        try (XmlReportWriter writer = new XmlReportWriter(outputFile)) {
+            writer.startDocument(
+                    "DependencyUpdatesReport",
+                    "https://www.mojohaus.org/VERSIONS/DEPENDENCY-UPDATES-REPORT/2.0.0",
+                    "https://www.mojohaus.org/versions/versions-model-report/xsd/dependency-updates-report-2.0.0.xsd");
+
+            OverviewStats overviewStats =
+                    OverviewStats.fromUpdates(model.getAllUpdates().values(), isAllowSnapshots());
+            writer.startElement("summary");
+            writer.writeElement("usingLastVersion", String.valueOf(overviewStats.getUpToDate()));
+            writer.writeElement("nextVersionAvailable", String.valueOf(overviewStats.getAny()));
+            writer.writeElement("nextIncrementalAvailable", String.valueOf(overviewStats.getIncremental()));
+            writer.writeElement("nextMinorAvailable", String.valueOf(overviewStats.getMinor()));
+            writer.writeElement("nextMajorAvailable", String.valueOf(overviewStats.getMajor()));
+            writer.endElement();
+
+            writeDependencyInfo(
+                    writer, "dependencyManagements", "dependencyManagement", model.getArtifactManagementUpdates());
+            writeDependencyInfo(writer, "dependencies", "dependency", model.getArtifactUpdates());
+            writer.endDocument();
         } catch (IOException | XMLStreamException e) {
             throw new RuntimeException(e);
         }
     }
 
-    private static List<DependencyInfo> createDependencyInfo(
-            Map<Dependency, ArtifactVersions> versions, boolean allowSnapshots) {
-        return versions.entrySet().stream()
-                .map(e -> new DependencyInfo() {
-                    {
-                        setGroupId(e.getKey().getGroupId());
-                        setArtifactId(e.getKey().getArtifactId());
-                        setCurrentVersion(e.getKey().getVersion());
-                        setScope(e.getKey().getScope());
-                        setType(e.getKey().getType());
-                        setClassifier(e.getKey().getClassifier());
-
-                        ofNullable(e.getValue().getNewestUpdateWithinSegment(empty(), allowSnapshots))
-                                .map(ArtifactVersion::toString)
-                                .ifPresent(this::setLastVersion);
-
-                        setSection(e.getValue(), INCREMENTAL, this::setIncrementals, allowSnapshots);
-                        setSection(e.getValue(), MINOR, this::setMinors, allowSnapshots);
-                        setSection(e.getValue(), MAJOR, this::setMajors, allowSnapshots);
-
-                        setStatus(statusFor(getLastVersion(), getIncrementals(), getMinors()));
-                    }
-                })
-                .collect(Collectors.toList());
+    private void writeDependencyInfo(
+            XmlReportWriter writer, String tagName, String itemTagName, Map<Dependency, ArtifactVersions> versions)
+            throws XMLStreamException {
+        if (!versions.isEmpty()) {
+            writer.startElement(tagName);
+            for (Map.Entry<Dependency, ArtifactVersions> e : versions.entrySet()) {
+                writeArtifactInfo(writer, itemTagName, e.getKey(), e.getValue(), isAllowSnapshots());
+            }
+            writer.endElement();
+        }
     }
 }
@@ -21,39 +21,22 @@ package org.codehaus.mojo.versions.xml;
 
 import javax.xml.stream.XMLStreamException;
 
-import java.io.BufferedWriter;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
-import org.apache.maven.artifact.versioning.ArtifactVersion;
 import org.apache.maven.model.Dependency;
-import org.codehaus.mojo.versions.api.AbstractVersionDetails;
-import org.codehaus.mojo.versions.api.ArtifactVersionsCache;
 import org.codehaus.mojo.versions.api.PluginUpdatesDetails;
 import org.codehaus.mojo.versions.reporting.PluginOverviewStats;
-import org.codehaus.mojo.versions.reporting.model.PluginInfo;
-import org.codehaus.mojo.versions.reporting.model.PluginReportSummary;
 import org.codehaus.mojo.versions.reporting.model.PluginUpdatesModel;
-import org.codehaus.mojo.versions.reporting.model.PluginUpdatesReport;
-import org.codehaus.mojo.versions.reporting.model.io.stax.PluginUpdatesReportStaxWriter;
 import org.codehaus.mojo.versions.reporting.util.ReportRenderer;
 
-import static java.util.Optional.empty;
-import static java.util.Optional.ofNullable;
-import static org.codehaus.mojo.versions.api.Segment.INCREMENTAL;
-import static org.codehaus.mojo.versions.api.Segment.MAJOR;
-import static org.codehaus.mojo.versions.api.Segment.MINOR;
-import static org.codehaus.mojo.versions.xml.CommonXmlReportRendererUtils.setSection;
-import static org.codehaus.mojo.versions.xml.CommonXmlReportRendererUtils.statusFor;
+import static org.codehaus.mojo.versions.xml.CommonXmlReportRendererUtils.writeArtifactInfo;
 
 /**
  * XML renderer for DependencyUpdatesReport creates an xml file in target directory and writes report about available
  * dependency/dependency management updates.
+ * The report is streamed: each plugin is written as soon as its updates are processed.
  *
  * @author Illia Dubinin
  * @since 2.4
@@ -61,8 +44,6 @@ import static org.codehaus.mojo.versions.xml.CommonXmlReportRendererUtils.status
 public class PluginUpdatesXmlReportRenderer implements ReportRenderer {
     private final PluginUpdatesModel model;
     private final Path outputFile;
-    private final ArtifactVersionsCache newestUpdateCache =
-            new ArtifactVersionsCache(AbstractVersionDetails::getNewestUpdateWithinSegment);
 
     private final boolean allowSnapshots;
 
@@ -92,53 +73,40 @@ public class PluginUpdatesXmlReportRenderer implements ReportRenderer {
      */
     @Override
     public void render() {
-        try (BufferedWriter writer = Files.newBufferedWriter(outputFile, StandardCharsets.UTF_8)) {
-            new PluginUpdatesReportStaxWriter().write(writer, new PluginUpdatesReport() {
-                {
-                    setSummary(new PluginReportSummary() {
-                        {
-                            PluginOverviewStats overviewStats = PluginOverviewStats.fromUpdates(
-                                    model.getAllUpdates().values(), newestUpdateCache, isAllowSnapshots());
-                            setUsingLastVersion(String.valueOf(overviewStats.getUpToDate()));
-                            setNextVersionAvailable(String.valueOf(overviewStats.getAny()));
-                            setNextIncrementalAvailable(String.valueOf(overviewStats.getIncremental()));
-                            setNextMinorAvailable(String.valueOf(overviewStats.getMinor()));
-                            setNextMajorAvailable(String.valueOf(overviewStats.getMajor()));
-                            setDependencyUpdates(String.valueOf(overviewStats.getDependencies()));
-                        }
-                    });
-                    setPluginManagements(createPluginInfo(model.getArtifactManagementUpdates(), isAllowSnapshots()));
-                    setPlugins(createPluginInfo(model.getArtifactUpdates(), isAllowSnapshots()));
-                }
-            });
+        try (XmlReportWriter writer = new XmlReportWriter(outputFile)) {
+            writer.startDocument(
+                    "PluginUpdatesReport",
+                    "https://www.mojohaus.org/VERSIONS/PLUGIN-UPDATES-REPORT/2.0.0",
+                    "https://www.mojohaus.org/versions/versions-model-report/xsd/plugin-updates-report-2.0.0.xsd");
+
+            PluginOverviewStats overviewStats =
+                    PluginOverviewStats.fromUpdates(model.getAllUpdates().values(), isAllowSnapshots());
+            writer.startElement("summary");
+            writer.writeElement("usingLastVersion", String.valueOf(overviewStats.getUpToDate()));
+            writer.writeElement("nextVersionAvailable", String.valueOf(overviewStats.getAny()));
+            writer.writeElement("nextIncrementalAvailable", String.valueOf(overviewStats.getIncremental()));
+            writer.writeElement("nextMinorAvailable", String.valueOf(overviewStats.getMinor()));
+            writer.writeElement("nextMajorAvailable", String.valueOf(overviewStats.getMajor()));
+            writer.writeElement("dependencyUpdates", String.valueOf(overviewStats.getDependencies()));
+            writer.endElement();
+
+            writePluginInfo(writer, "pluginManagements", "pluginManagement", model.getArtifactManagementUpdates());
+            writePluginInfo(writer, "plugins", "plugin", model.getArtifactUpdates());
+            writer.endDocument();
         } catch (IOException | XMLStreamException e) {
             throw new RuntimeException(e);
         }
     }
 
-    private static List<PluginInfo> createPluginInfo(
-            Map<Dependency, PluginUpdatesDetails> versions, boolean allowSnapshots) {
-        return versions.entrySet().stream()
-                .map(e -> new PluginInfo() {
-                    {
-                        setGroupId(e.getKey().getGroupId());
-                        setArtifactId(e.getKey().getArtifactId());
-                        setCurrentVersion(e.getKey().getVersion());
-                        setScope(e.getKey().getScope());
-                        setType(e.getKey().getType());
-                        setClassifier(e.getKey().getClassifier());
-
-                        ofNullable(e.getValue().getNewestUpdateWithinSegment(empty(), allowSnapshots))
-                                .map(ArtifactVersion::toString)
-                                .ifPresent(this::setLastVersion);
-
-                        setSection(e.getValue(), INCREMENTAL, this::setIncrementals, allowSnapshots);
-                        setSection(e.getValue(), MINOR, this::setMinors, allowSnapshots);
-                        setSection(e.getValue(), MAJOR, this::setMajors, allowSnapshots);
-
-                        setStatus(statusFor(getLastVersion(), getIncrementals(), getMinors()));
-                    }
-                })
-                .collect(Collectors.toList());
+    private void writePluginInfo(
+            XmlReportWriter writer, String tagName, String itemTagName, Map<Dependency, PluginUpdatesDetails> versions)
+            throws XMLStreamException {
+        if (!versions.isEmpty()) {
+            writer.startElement(tagName);
+            for (Map.Entry<Dependency, PluginUpdatesDetails> e : versions.entrySet()) {
+                writeArtifactInfo(writer, itemTagName, e.getKey(), e.getValue(), isAllowSnapshots());
+            }
+            writer.endElement();
+        }
     }
 }
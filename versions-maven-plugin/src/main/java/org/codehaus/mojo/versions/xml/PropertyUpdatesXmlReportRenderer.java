@@ -21,47 +21,27 @@ package org.codehaus.mojo.versions.xml;
 
 import javax.xml.stream.XMLStreamException;
 
-import java.io.BufferedWriter;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Arrays;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
-import org.apache.maven.artifact.versioning.ArtifactVersion;
-import org.codehaus.mojo.versions.api.AbstractVersionDetails;
-import org.codehaus.mojo.versions.api.ArtifactVersionsCache;
+import org.codehaus.mojo.versions.api.ArtifactAssociation;
 import org.codehaus.mojo.versions.api.Property;
 import org.codehaus.mojo.versions.api.PropertyVersions;
 import org.codehaus.mojo.versions.reporting.OverviewStats;
-import org.codehaus.mojo.versions.reporting.model.PropertyAssociation;
-import org.codehaus.mojo.versions.reporting.model.PropertyInfo;
-import org.codehaus.mojo.versions.reporting.model.PropertyReportSummary;
 import org.codehaus.mojo.versions.reporting.model.PropertyUpdatesModel;
-import org.codehaus.mojo.versions.reporting.model.PropertyUpdatesReport;
-import org.codehaus.mojo.versions.reporting.model.io.stax.PropertyUpdatesReportStaxWriter;
 import org.codehaus.mojo.versions.reporting.util.ReportRenderer;
 
-import static java.util.Optional.empty;
-import static java.util.Optional.ofNullable;
-import static org.codehaus.mojo.versions.api.Segment.INCREMENTAL;
-import static org.codehaus.mojo.versions.api.Segment.MAJOR;
-import static org.codehaus.mojo.versions.api.Segment.MINOR;
-import static org.codehaus.mojo.versions.xml.CommonXmlReportRendererUtils.setSection;
-import static org.codehaus.mojo.versions.xml.CommonXmlReportRendererUtils.statusFor;
+import static org.codehaus.mojo.versions.xml.CommonXmlReportRendererUtils.writeUpdates;
 
 /**
  * XML renderer for PropertyUpdatesReport creates an xml file in target directory and writes report about available
  * dependency/dependency management updates.
+ * The report is streamed: each property is written as soon as its updates are processed.
  */
 public class PropertyUpdatesXmlReportRenderer implements ReportRenderer {
     private final PropertyUpdatesModel model;
     private final Path outputFile;
-    private final ArtifactVersionsCache newestUpdateCache =
-            new ArtifactVersionsCache(AbstractVersionDetails::getNewestUpdateWithinSegment);
     private final boolean allowSnapshots;
 
     /**
@@ -90,57 +70,52 @@ public class PropertyUpdatesXmlReportRenderer implements ReportRenderer {
      */
     @Override
     public void render() {
-        try (BufferedWriter writer = Files.newBufferedWriter(outputFile, StandardCharsets.UTF_8)) {
-            new PropertyUpdatesReportStaxWriter().write(writer, new PropertyUpdatesReport() {
-                {
-                    setSummary(new PropertyReportSummary() {
-                        {
-                            OverviewStats overviewStats = OverviewStats.fromUpdates(
-                                    model.getAllUpdates().values(), newestUpdateCache, isAllowSnapshots());
-                            setUsingLastVersion(String.valueOf(overviewStats.getUpToDate()));
-                            setNextVersionAvailable(String.valueOf(overviewStats.getAny()));
-                            setNextIncrementalAvailable(String.valueOf(overviewStats.getIncremental()));
-                            setNextMinorAvailable(String.valueOf(overviewStats.getMinor()));
-                            setNextMajorAvailable(String.valueOf(overviewStats.getMajor()));
-                        }
-                    });
-                    setProperties(createPropertyInfo(model.getAllUpdates(), allowSnapshots));
+        try (XmlReportWriter writer = new XmlReportWriter(outputFile)) {
+            writer.startDocument(
+                    "PropertyUpdatesReport",
+                    "https://www.mojohaus.org/VERSIONS/PROPERTY-UPDATES-REPORT/2.0.0",
+                    "https://www.mojohaus.org/versions/versions-model-report/xsd/property-updates-report-2.0.0.xsd");
+
+            OverviewStats overviewStats =
+                    OverviewStats.fromUpdates(model.getAllUpdates().values(), isAllowSnapshots());
+            writer.startElement("summary");
+            writer.writeElement("usingLastVersion", String.valueOf(overviewStats.getUpToDate()));
+            writer.writeElement("nextVersionAvailable", String.valueOf(overviewStats.getAny()));
+            writer.writeElement("nextIncrementalAvailable", String.valueOf(overviewStats.getIncremental()));
+            writer.writeElement("nextMinorAvailable", String.valueOf(overviewStats.getMinor()));
+            writer.writeElement("nextMajorAvailable", String.valueOf(overviewStats.getMajor()));
+            writer.endElement();
+
+            if (!model.getAllUpdates().isEmpty()) {
+                writer.startElement("properties");
+                for (Map.Entry<Property, PropertyVersions> e :
+                        model.getAllUpdates().entrySet()) {
+                    writePropertyInfo(writer, e.getKey(), e.getValue());
                 }
-            });
+                writer.endElement();
+            }
+            writer.endDocument();
         } catch (IOException | XMLStreamException e) {
             throw new RuntimeException(e);
         }
     }
 
-    private static List<PropertyInfo> createPropertyInfo(
-            Map<Property, PropertyVersions> versions, boolean allowSnapshots) {
-        return versions.entrySet().stream()
-                .map(e -> new PropertyInfo() {
-                    {
-                        setPropertyName(e.getKey().getName());
-                        if (e.getValue().getAssociations() != null
-                                && e.getValue().getAssociations().length != 0) {
-                            setPropertyAssociations(Arrays.stream(e.getValue().getAssociations())
-                                    .map(a -> {
-                                        PropertyAssociation pa = new PropertyAssociation();
-                                        pa.setGroupId(a.getArtifact().getGroupId());
-                                        pa.setArtifactId(a.getArtifact().getArtifactId());
-                                        return pa;
-                                    })
-                                    .collect(Collectors.toList()));
-                        }
-                        setCurrentVersion(e.getKey().getVersion());
-                        ofNullable(e.getValue().getNewestUpdateWithinSegment(empty(), allowSnapshots))
-                                .map(ArtifactVersion::toString)
-                                .ifPresent(this::setLastVersion);
-
-                        setSection(e.getValue(), INCREMENTAL, this::setIncrementals, allowSnapshots);
-                        setSection(e.getValue(), MINOR, this::setMinors, allowSnapshots);
-                        setSection(e.getValue(), MAJOR, this::setMajors, allowSnapshots);
-
-                        setStatus(statusFor(getLastVersion(), getIncrementals(), getMinors()));
-                    }
-                })
-                .collect(Collectors.toList());
+    private void writePropertyInfo(XmlReportWriter writer, Property property, PropertyVersions versions)
+            throws XMLStreamException {
+        writer.startElement("property");
+        writer.writeElement("propertyName", property.getName());
+        if (versions.getAssociations() != null && versions.getAssociations().length != 0) {
+            writer.startElement("propertyAssociations");
+            for (ArtifactAssociation association : versions.getAssociations()) {
+                writer.startElement("propertyAssociation");
+                writer.writeElement("groupId", association.getArtifact().getGroupId());
+                writer.writeElement("artifactId", association.getArtifact().getArtifactId());
+                writer.endElement();
+            }
+            writer.endElement();
+        }
+        writer.writeElement("currentVersion", property.getVersion());
+        writeUpdates(writer, versions, isAllowSnapshots());
+        writer.endElement();
     }
 }
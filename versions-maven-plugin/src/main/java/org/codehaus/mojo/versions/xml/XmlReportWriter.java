@@ -0,0 +1,165 @@
+package org.codehaus.mojo.versions.xml;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * <p>Streaming writer of the XML reports, writing each element as soon as it is passed instead of serializing
+ * a complete report model.</p>
+ *
+ * <p>The output is formatted like the output of the Modello-generated writers of the report model: elements
+ * are indented by two spaces, elements without content are not written.</p>
+ *
+ * @since 2.19.0
+ */
+final class XmlReportWriter implements AutoCloseable {
+    private static final String INDENT = "  ";
+
+    private static final String ENCODING = "UTF-8";
+
+    private final Writer writer;
+
+    private final XMLStreamWriter out;
+
+    private final String newLine;
+
+    private int depth;
+
+    /**
+     * Opens the given file for writing a report.
+     *
+     * @param outputFile output file of the report
+     * @throws IOException thrown if the file cannot be opened
+     * @throws XMLStreamException thrown if the XML writer cannot be created
+     */
+    XmlReportWriter(Path outputFile) throws IOException, XMLStreamException {
+        XMLOutputFactory factory = XMLOutputFactory.newInstance();
+        boolean supportWindowsLineEndings = false;
+        if (factory.isPropertySupported("com.ctc.wstx.outputEscapeCr")) {
+            factory.setProperty("com.ctc.wstx.outputEscapeCr", Boolean.FALSE);
+            supportWindowsLineEndings = true;
+        }
+        if (factory.isPropertySupported("org.codehaus.stax2.automaticEmptyElements")) {
+            factory.setProperty("org.codehaus.stax2.automaticEmptyElements", Boolean.FALSE);
+        }
+        newLine = supportWindowsLineEndings ? System.lineSeparator() : "\n";
+        writer = Files.newBufferedWriter(outputFile, StandardCharsets.UTF_8);
+        try {
+            out = factory.createXMLStreamWriter(writer);
+        } catch (XMLStreamException | RuntimeException e) {
+            writer.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the XML declaration and the start tag of the root element of the report.
+     *
+     * @param tagName        name of the root element
+     * @param namespace      default namespace of the report
+     * @param schemaLocation location of the schema of the namespace
+     * @throws XMLStreamException thrown if the element cannot be written
+     */
+    void startDocument(String tagName, String namespace, String schemaLocation) throws XMLStreamException {
+        out.writeStartDocument(ENCODING, "1.0");
+        out.setDefaultNamespace(namespace);
+        startElement(tagName);
+        out.writeDefaultNamespace(namespace);
+        out.setPrefix("xsi", XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI);
+        out.writeNamespace("xsi", XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI);
+        out.writeAttribute(
+                XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI, "schemaLocation", namespace + " " + schemaLocation);
+    }
+
+    /**
+     * Writes the start tag of an element containing other elements.
+     *
+     * @param tagName name of the element
+     * @throws XMLStreamException thrown if the element cannot be written
+     */
+    void startElement(String tagName) throws XMLStreamException {
+        newLine(depth++);
+        out.writeStartElement(tagName);
+    }
+
+    /**
+     * Writes the end tag of the element last started with {@link #startElement(String)}.
+     *
+     * @throws XMLStreamException thrown if the element cannot be written
+     */
+    void endElement() throws XMLStreamException {
+        newLine(--depth);
+        out.writeEndElement();
+    }
+
+    /**
+     * Writes an element with text content, unless the text is {@code null}.
+     *
+     * @param tagName name of the element
+     * @param text    content of the element, may be {@code null}
+     * @throws XMLStreamException thrown if the element cannot be written
+     */
+    void writeElement(String tagName, String text) throws XMLStreamException {
+        if (text != null) {
+            newLine(depth);
+            out.writeStartElement(tagName);
+            out.writeCharacters(text);
+            out.writeEndElement();
+        }
+    }
+
+    /**
+     * Writes the end tag of the root element and flushes the report.
+     *
+     * @throws XMLStreamException thrown if the document cannot be written
+     */
+    void endDocument() throws XMLStreamException {
+        endElement();
+        out.writeCharacters(newLine);
+        out.writeEndDocument();
+        out.flush();
+    }
+
+    private void newLine(int depth) throws XMLStreamException {
+        out.writeCharacters(newLine);
+        for (int i = 0; i < depth; i++) {
+            out.writeCharacters(INDENT);
+        }
+    }
+
+    @Override
+    public void close() throws IOException, XMLStreamException {
+        try {
+            out.close();
+        } finally {
+            writer.close();
+        }
+    }
+}
@@ -19,12 +19,56 @@ package org.codehaus.mojo.versions;
  * under the License.
  */
 
+import javax.xml.stream.XMLStreamException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.maven.execution.DefaultMavenExecutionRequest;
+import org.apache.maven.execution.DefaultMavenExecutionResult;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.lifecycle.LifecycleExecutor;
+import org.apache.maven.lifecycle.MavenExecutionPlan;
+import org.apache.maven.model.Model;
+import org.apache.maven.plugin.MavenPluginManager;
+import org.apache.maven.plugin.Mojo;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.mojo.versions.api.PomHelper;
 import org.codehaus.mojo.versions.ordering.NumericVersionComparator;
+import org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader;
 import org.codehaus.mojo.versions.utils.DefaultArtifactVersionCache;
+import org.codehaus.mojo.versions.utils.TestChangeRecorder;
+import org.codehaus.plexus.util.FileUtils;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.RepositorySystem;
+import org.junit.Assume;
 import org.junit.Test;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.codehaus.mojo.versions.utils.MockUtils.mockArtifactHandlerManager;
+import static org.codehaus.plexus.util.ReflectionUtils.setVariableValueInObject;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * Basic tests for {@linkplain org.codehaus.mojo.versions.AbstractVersionsUpdaterMojo}.
@@ -54,4 +98,214 @@ public class AbstractVersionsUpdaterMojoTest {
         assertTrue(instanceCompare("5.1.0.0.24", "5.1.0.0.9") > 0);
         assertTrue(instanceCompare("5.1.0.0.2a4", "5.1.0.0.9") < 0);
     }
+
+    private static MavenProject createProject(Path directory, String artifactId) throws IOException {
+        Path pom = Files.createDirectories(directory.resolve(artifactId)).resolve("pom.xml");
+        Files.write(
+                pom,
+                ("<project><modelVersion>4.0.0</modelVersion><groupId>group</groupId>" + "<artifactId>" + artifactId
+                                + "</artifactId><version>1.0</version></project>")
+                        .getBytes(UTF_8));
+        Model model = new Model();
+        model.setGroupId("group");
+        model.setArtifactId(artifactId);
+        model.setVersion("1.0");
+        MavenProject project = new MavenProject(model);
+        project.setFile(pom.toFile());
+        return project;
+    }
+
+    /**
+     * Mojo setting the project version to a configured value
+     */
+    private static class SetVersionMojo extends AbstractVersionsUpdaterMojo {
+        private final Set<String> updatedProjects;
+
+        private final String newVersion;
+
+        SetVersionMojo(MavenSession session, Set<String> updatedProjects, String newVersion, boolean parallelReactor) {
+            super(
+                    mockArtifactHandlerManager(),
+                    mock(RepositorySystem.class),
+                    null,
+                    new TestChangeRecorder().asTestMap());
+            this.updatedProjects = updatedProjects;
+            this.newVersion = newVersion;
+            this.session = session;
+            this.project = session.getCurrentProject();
+            this.reactorProjects = session.getProjects();
+            this.parallelReactor = parallelReactor;
+        }
+
+        @Override
+        protected boolean getAllowSnapshots() {
+            return false;
+        }
+
+        @Override
+        protected boolean isParallelReactorSupported() {
+            return true;
+        }
+
+        @Override
+        protected void update(MutableXMLStreamReader pom) throws XMLStreamException {
+            updatedProjects.add(getProject().getArtifactId());
+            PomHelper.setProjectVersion(pom, newVersion);
+        }
+    }
+
+    private static MavenSession createSession(List<MavenProject> projects) {
+        MavenSession session = new MavenSession(
+                null,
+                new DefaultRepositorySystemSession(),
+                new DefaultMavenExecutionRequest(),
+                new DefaultMavenExecutionResult());
+        session.setProjects(projects);
+        return session;
+    }
+
+    private static MavenSession createSession(MavenSession session, MavenProject project) {
+        MavenSession projectSession = session.clone();
+        projectSession.setCurrentProject(project);
+        return projectSession;
+    }
+
+    private static String readPom(MavenProject project) throws IOException {
+        return new String(Files.readAllBytes(project.getFile().toPath()), UTF_8);
+    }
+
+    @Test
+    public void testParallelReactor() throws Exception {
+        Path directory = Files.createTempDirectory("parallel-reactor-");
+        try {
+            List<MavenProject> projects = Arrays.asList(
+                    createProject(directory, "module-a"),
+                    createProject(directory, "module-b"),
+                    createProject(directory, "module-c"));
+            MavenSession session = createSession(projects);
+            Set<String> updatedProjects = ConcurrentHashMap.newKeySet();
+
+            // module-b is configured with another version, module-c without parallelReactor
+            PluginDescriptor pluginDescriptor = new PluginDescriptor();
+            pluginDescriptor.setGroupId("org.codehaus.mojo");
+            pluginDescriptor.setArtifactId("versions-maven-plugin");
+            pluginDescriptor.setVersion("2.19.0");
+            MojoDescriptor mojoDescriptor = new MojoDescriptor();
+            mojoDescriptor.setGoal("set-version");
+            mojoDescriptor.setPluginDescriptor(pluginDescriptor);
+            MojoExecution mojoExecution = new MojoExecution(mojoDescriptor, "default-cli");
+            MavenExecutionPlan executionPlan = mock(MavenExecutionPlan.class);
+            when(executionPlan.getMojoExecutions()).thenReturn(Collections.singletonList(mojoExecution));
+            LifecycleExecutor lifecycleExecutor = mock(LifecycleExecutor.class);
+            when(lifecycleExecutor.calculateExecutionPlan(any(MavenSession.class), any(String[].class)))
+                    .thenReturn(executionPlan);
+            MavenPluginManager mavenPluginManager = mock(MavenPluginManager.class);
+            when(mavenPluginManager.getConfiguredMojo(eq(Mojo.class), any(MavenSession.class), eq(mojoExecution)))
+                    .then(i -> {
+                        MavenSession projectSession = i.getArgument(1);
+                        String artifactId = projectSession.getCurrentProject().getArtifactId();
+                        SetVersionMojo projectMojo = new SetVersionMojo(
+                                projectSession,
+                                updatedProjects,
+                                "module-b".equals(artifactId) ? "3.0" : "2.0",
+                                !"module-c".equals(artifactId));
+                        setVariableValueInObject(projectMojo, "mojoExecution", i.getArgument(2));
+                        return projectMojo;
+                    });
+
+            SetVersionMojo mojo =
+                    new SetVersionMojo(createSession(session, projects.get(0)), updatedProjects, "2.0", true);
+            setVariableValueInObject(mojo, "mojoExecution", mojoExecution);
+            mojo.setReactorComponents(() -> lifecycleExecutor, () -> mavenPluginManager);
+            mojo.execute();
+            assertThat(updatedProjects, containsInAnyOrder("module-a", "module-b"));
+            assertThat(readPom(projects.get(0)), containsString("<version>2.0</version>"));
+            assertThat(readPom(projects.get(1)), containsString("<version>3.0</version>"));
+            assertThat(readPom(projects.get(2)), containsString("<version>1.0</version>"));
+            verify(mavenPluginManager, times(2)).releaseMojo(any(), eq(mojoExecution));
+            for (MavenProject project : projects) {
+                assertThat(new File(project.getFile().getParentFile(), ".pom.xml.versionsTmp").exists(), is(false));
+            }
+
+            // module-b has been processed with module-a, module-c is processed by its own execution
+            updatedProjects.clear();
+            for (MavenProject project : projects.subList(1, 3)) {
+                SetVersionMojo projectMojo = new SetVersionMojo(
+                        createSession(session, project),
+                        updatedProjects,
+                        "2.0",
+                        !"module-c".equals(project.getArtifactId()));
+                setVariableValueInObject(projectMojo, "mojoExecution", mojoExecution);
+                projectMojo.execute();
+            }
+            assertThat(updatedProjects, containsInAnyOrder("module-c"));
+            assertThat(readPom(projects.get(1)), containsString("<version>3.0</version>"));
+            assertThat(readPom(projects.get(2)), containsString("<version>2.0</version>"));
+        } finally {
+            FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    @Test
+    public void testParallelReactorLeavesProjectsToOwnExecutionIfTheGoalCannotBeConfigured() throws Exception {
+        Path directory = Files.createTempDirectory("parallel-reactor-");
+        try {
+            List<MavenProject> projects =
+                    Arrays.asList(createProject(directory, "module-a"), createProject(directory, "module-b"));
+            MavenSession session = createSession(projects);
+            Set<String> updatedProjects = ConcurrentHashMap.newKeySet();
+            PluginDescriptor pluginDescriptor = new PluginDescriptor();
+            pluginDescriptor.setGroupId("org.codehaus.mojo");
+            pluginDescriptor.setArtifactId("versions-maven-plugin");
+            pluginDescriptor.setVersion("2.19.0");
+            MojoDescriptor mojoDescriptor = new MojoDescriptor();
+            mojoDescriptor.setGoal("set-version");
+            mojoDescriptor.setPluginDescriptor(pluginDescriptor);
+            MojoExecution mojoExecution = new MojoExecution(mojoDescriptor, "default-cli");
+            LifecycleExecutor lifecycleExecutor = mock(LifecycleExecutor.class);
+            when(lifecycleExecutor.calculateExecutionPlan(any(MavenSession.class), any(String[].class)))
+                    .thenThrow(new IllegalStateException("unsupported"));
+            MavenPluginManager mavenPluginManager = mock(MavenPluginManager.class);
+
+            SetVersionMojo mojo =
+                    new SetVersionMojo(createSession(session, projects.get(0)), updatedProjects, "2.0", true);
+            setVariableValueInObject(mojo, "mojoExecution", mojoExecution);
+            mojo.setReactorComponents(() -> lifecycleExecutor, () -> mavenPluginManager);
+            mojo.execute();
+            assertThat(updatedProjects, containsInAnyOrder("module-a"));
+            assertThat(readPom(projects.get(1)), containsString("<version>1.0</version>"));
+
+            SetVersionMojo projectMojo =
+                    new SetVersionMojo(createSession(session, projects.get(1)), updatedProjects, "2.0", true);
+            setVariableValueInObject(projectMojo, "mojoExecution", mojoExecution);
+            projectMojo.execute();
+            assertThat(updatedProjects, containsInAnyOrder("module-a", "module-b"));
+            assertThat(readPom(projects.get(1)), containsString("<version>2.0</version>"));
+        } finally {
+            FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    @Test
+    public void testSymbolicLinkIsWrittenInPlace() throws Exception {
+        Path directory = Files.createTempDirectory("symbolic-link-");
+        try {
+            MavenProject project = createProject(directory, "module");
+            Path target = directory.resolve("target.xml");
+            Files.move(project.getFile().toPath(), target);
+            try {
+                Files.createSymbolicLink(project.getFile().toPath(), target);
+            } catch (UnsupportedOperationException | IOException e) {
+                Assume.assumeNoException(e);
+            }
+            Set<String> updatedProjects = ConcurrentHashMap.newKeySet();
+            MavenSession session = createSession(Collections.singletonList(project));
+            new SetVersionMojo(createSession(session, project), updatedProjects, "2.0", false).execute();
+
+            assertThat(Files.isSymbolicLink(project.getFile().toPath()), is(true));
+            assertThat(new String(Files.readAllBytes(target), UTF_8), containsString("<version>2.0</version>"));
+        } finally {
+            FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
 }
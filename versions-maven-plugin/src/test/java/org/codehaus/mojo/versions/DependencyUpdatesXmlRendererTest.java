@@ -19,17 +19,27 @@ package org.codehaus.mojo.versions;
  * under the License.
  */
 
+import javax.xml.stream.XMLStreamException;
+
 import java.io.IOException;
+import java.io.Reader;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
 
 import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.model.Dependency;
 import org.codehaus.mojo.versions.api.ArtifactVersions;
 import org.codehaus.mojo.versions.ordering.MavenVersionComparator;
+import org.codehaus.mojo.versions.reporting.model.DependencyInfo;
 import org.codehaus.mojo.versions.reporting.model.DependencyUpdatesModel;
+import org.codehaus.mojo.versions.reporting.model.DependencyUpdatesReport;
+import org.codehaus.mojo.versions.reporting.model.io.stax.DependencyUpdatesReportStaxReader;
 import org.codehaus.mojo.versions.utils.DefaultArtifactVersionCache;
 import org.codehaus.mojo.versions.utils.DependencyBuilder;
+import org.codehaus.mojo.versions.utils.DependencyComparator;
 import org.codehaus.mojo.versions.xml.DependencyUpdatesXmlReportRenderer;
 import org.junit.After;
 import org.junit.Before;
@@ -39,7 +49,11 @@ import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
 import static org.apache.maven.artifact.Artifact.SCOPE_COMPILE;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
 
 /**
  * Basic tests for {@linkplain DependencyUpdatesXmlReportRenderer}.
@@ -105,4 +119,44 @@ public class DependencyUpdatesXmlRendererTest {
         assertThat(output, containsString("<major>2.0.0</major>"));
         assertThat(output, containsString("<status>incremental available</status>"));
     }
+
+    @Test
+    public void testReportCanBeReadWithReportModel() throws IOException, XMLStreamException {
+        Map<Dependency, ArtifactVersions> dependencies = new TreeMap<>(DependencyComparator.INSTANCE);
+        for (int i = 0; i < 100; i++) {
+            Dependency dependency = DependencyBuilder.newBuilder()
+                    .withGroupId("default-group")
+                    .withArtifactId("artifact" + i)
+                    .withVersion("1.0.0")
+                    .withClassifier(i % 2 == 0 ? "tests" : null)
+                    .build();
+            dependencies.put(
+                    dependency,
+                    new ArtifactVersions(
+                            new DefaultArtifact(
+                                    "default-group", "artifact" + i, "1.0.0", SCOPE_COMPILE, "jar", "default", null),
+                            Arrays.asList(
+                                    DefaultArtifactVersionCache.of("1.0.0"),
+                                    DefaultArtifactVersionCache.of("1.1.0"),
+                                    DefaultArtifactVersionCache.of("1.2.0")),
+                            new MavenVersionComparator()));
+        }
+        new DependencyUpdatesXmlReportRenderer(new DependencyUpdatesModel(dependencies, dependencies), tempFile, false)
+                .render();
+
+        DependencyUpdatesReport report;
+        try (Reader reader = Files.newBufferedReader(tempFile)) {
+            report = new DependencyUpdatesReportStaxReader().read(reader, true);
+        }
+        assertThat(report.getSummary().getNextMinorAvailable(), is("100"));
+        assertThat(report.getDependencyManagements(), hasSize(100));
+        assertThat(report.getDependencies(), hasSize(100));
+        DependencyInfo info = report.getDependencies().get(0);
+        assertThat(info.getArtifactId(), is("artifact0"));
+        assertThat(info.getClassifier(), is("tests"));
+        assertThat(info.getLastVersion(), is("1.2.0"));
+        assertThat(info.getMinors(), contains("1.1.0", "1.2.0"));
+        assertThat(info.getIncrementals(), empty());
+        assertThat(info.getStatus(), is("minor available"));
+    }
 }
@@ -22,6 +22,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 
+import org.apache.maven.execution.MavenSession;
 import org.apache.maven.model.InputLocation;
 import org.apache.maven.model.InputSource;
 import org.apache.maven.model.Model;
@@ -33,6 +34,7 @@ import org.codehaus.mojo.versions.filtering.WildcardMatcher;
 import org.codehaus.mojo.versions.model.TestIgnoreVersions;
 import org.codehaus.mojo.versions.utils.CloseableTempFile;
 import org.codehaus.mojo.versions.utils.DependencyBuilder;
+import org.eclipse.aether.DefaultSessionData;
 import org.hamcrest.Matchers;
 import org.junit.Rule;
 import org.junit.Test;
@@ -49,10 +51,14 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.anyOf;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.Mockito.when;
 
 /**
  * Basic tests for {@linkplain DisplayDependencyUpdatesMojo}.
@@ -561,4 +567,137 @@ public class DisplayDependencyUpdatesMojoTest extends AbstractMojoTestCase {
             assertThat(output, containsString("1.0.0 -> 2.0.0"));
         }
     }
+
+    private DisplayDependencyUpdatesMojo createJsonMojo(File output, String outputFormat) throws Exception {
+        return createJsonMojo(output, outputFormat, mockMavenSession(), "default-artifact");
+    }
+
+    /**
+     * Creates the mojo for one project of a build, with its own plugin context as Maven does
+     */
+    private DisplayDependencyUpdatesMojo createJsonMojo(
+            File output, String outputFormat, MavenSession mavenSession, String artifactId) throws Exception {
+        return new DisplayDependencyUpdatesMojo(
+                mockArtifactHandlerManager(),
+                mockAetherRepositorySystem(new HashMap<String, String[]>() {
+                    {
+                        put("default-dependency", new String[] {"1.0.0", "1.0.1", "1.1.0", "2.0.0"});
+                    }
+                }),
+                null,
+                null) {
+            {
+                setProject(createProject());
+                getProject().setArtifactId(artifactId);
+                processDependencies = true;
+                processDependencyManagement = false;
+                dependencyIncludes = singletonList(WildcardMatcher.WILDCARD);
+                dependencyExcludes = emptyList();
+                logOutput = false;
+                jsonOutputFile = output;
+                jsonOutputFormat = outputFormat;
+                setPluginContext(new HashMap<>());
+
+                session = mavenSession;
+            }
+        };
+    }
+
+    @Test
+    public void testJsonOutput() throws Exception {
+        try (CloseableTempFile tempFile = new CloseableTempFile("display-dependency-updates")) {
+            createJsonMojo(tempFile.getPath().toFile(), "json").execute();
+
+            List<String> output = Files.readAllLines(tempFile.getPath(), UTF_8);
+            assertThat(output, hasSize(1));
+            assertThat(
+                    output.get(0),
+                    is("[{\"goal\":\"display-dependency-updates\","
+                            + "\"project\":\"default-group:default-artifact:1.0.0-SNAPSHOT\","
+                            + "\"updates\":[{\"section\":\"dependencies\",\"groupId\":\"default-group\","
+                            + "\"artifactId\":\"default-dependency\",\"type\":\"jar\","
+                            + "\"currentVersion\":\"1.0.0\",\"latestVersion\":\"2.0.0\","
+                            + "\"incrementals\":[\"1.0.1\"],\"minors\":[\"1.1.0\"],\"majors\":[\"2.0.0\"],"
+                            + "\"status\":\"incremental available\"}]}]"));
+        }
+    }
+
+    @Test
+    public void testJsonOutputCollectsAllProjects() throws Exception {
+        try (CloseableTempFile tempFile = new CloseableTempFile("display-dependency-updates")) {
+            Files.write(tempFile.getPath(), singletonList("stale"), UTF_8);
+            MavenSession mavenSession = mockSharedMavenSession();
+            createJsonMojo(tempFile.getPath().toFile(), "json", mavenSession, "module-a")
+                    .execute();
+            createJsonMojo(tempFile.getPath().toFile(), "json", mavenSession, "module-b")
+                    .execute();
+            createJsonMojo(tempFile.getPath().toFile(), "json", mavenSession, "module-c")
+                    .execute();
+
+            List<String> output = Files.readAllLines(tempFile.getPath(), UTF_8);
+            assertThat(output, hasSize(3));
+            assertThat(
+                    output.get(0),
+                    startsWith("[{\"goal\":\"display-dependency-updates\","
+                            + "\"project\":\"default-group:module-a:1.0.0-SNAPSHOT\","));
+            assertThat(output.get(0), endsWith("}]},"));
+            assertThat(output.get(1), is(output.get(0).substring(1).replace("module-a", "module-b")));
+            assertThat(
+                    output.get(2),
+                    is(output.get(0).substring(1, output.get(0).length() - 1).replace("module-a", "module-c") + "]"));
+        }
+    }
+
+    @Test
+    public void testNdjsonOutputIsAppendedForAllProjects() throws Exception {
+        try (CloseableTempFile tempFile = new CloseableTempFile("display-dependency-updates")) {
+            Files.write(tempFile.getPath(), singletonList("stale"), UTF_8);
+            MavenSession mavenSession = mockSharedMavenSession();
+            createJsonMojo(tempFile.getPath().toFile(), "ndjson", mavenSession, "module-a")
+                    .execute();
+            createJsonMojo(tempFile.getPath().toFile(), "ndjson", mavenSession, "module-b")
+                    .execute();
+
+            List<String> output = Files.readAllLines(tempFile.getPath(), UTF_8);
+            assertThat(output, hasSize(2));
+            assertThat(
+                    output.get(0),
+                    startsWith("{\"goal\":\"display-dependency-updates\","
+                            + "\"project\":\"default-group:module-a:1.0.0-SNAPSHOT\","
+                            + "\"section\":\"dependencies\",\"groupId\":\"default-group\","));
+            assertThat(output.get(1), is(output.get(0).replace("module-a", "module-b")));
+        }
+    }
+
+    @Test
+    public void testJsonOutputOfSeparateSessionsIsNotShared() throws Exception {
+        try (CloseableTempFile tempFile = new CloseableTempFile("display-dependency-updates")) {
+            createJsonMojo(tempFile.getPath().toFile(), "json", mockSharedMavenSession(), "module-a")
+                    .execute();
+            createJsonMojo(tempFile.getPath().toFile(), "json", mockSharedMavenSession(), "module-b")
+                    .execute();
+
+            List<String> output = Files.readAllLines(tempFile.getPath(), UTF_8);
+            assertThat(output, hasSize(1));
+            assertThat(output.get(0), containsString("\"project\":\"default-group:module-b:1.0.0-SNAPSHOT\""));
+        }
+    }
+
+    /**
+     * @return a session with the data shared by the goal executions of all projects of a build
+     */
+    private static MavenSession mockSharedMavenSession() {
+        MavenSession mavenSession = mockMavenSession();
+        when(mavenSession.getRepositorySession().getData()).thenReturn(new DefaultSessionData());
+        return mavenSession;
+    }
+
+    @Test
+    public void testUnsupportedJsonOutputFormat() throws Exception {
+        try (CloseableTempFile tempFile = new CloseableTempFile("display-dependency-updates")) {
+            createJsonMojo(tempFile.getPath().toFile(), "yaml").execute();
+            fail("Method should have thrown a MojoExecutionException");
+        } catch (MojoExecutionException ignored) {
+        }
+    }
 }
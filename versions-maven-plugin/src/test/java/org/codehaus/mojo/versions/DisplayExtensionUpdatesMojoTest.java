@@ -43,6 +43,7 @@ import static org.codehaus.mojo.versions.utils.MockUtils.mockAetherRepositorySys
 import static org.codehaus.mojo.versions.utils.MockUtils.mockArtifactHandlerManager;
 import static org.codehaus.mojo.versions.utils.MockUtils.mockMavenSession;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.empty;
 import static org.mockito.ArgumentMatchers.any;
@@ -258,4 +259,47 @@ public class DisplayExtensionUpdatesMojoTest {
 
         assertThat(String.join("", Files.readAllLines(tempPath)), containsString("1.0.0 -> 1.0.1"));
     }
+
+    @Test
+    public void testJsonOutput()
+            throws MojoExecutionException, MojoFailureException, IOException, IllegalAccessException {
+        setVariableValueToObject(mojo, "extensionExcludes", emptyList());
+        setVariableValueToObject(mojo, "extensionIncludes", singletonList("*"));
+        mojo.getProject().setBuild(new Build());
+        mojo.getProject()
+                .getBuild()
+                .setExtensions(Collections.singletonList(ExtensionBuilder.newBuilder()
+                        .withGroupId("default-group")
+                        .withArtifactId("artifactD")
+                        .withVersion("1.0.0")
+                        .build()));
+        mojo.repositorySystem = mockAetherRepositorySystem(new HashMap<String, String[]>() {
+            {
+                put("artifactD", new String[] {"1.0.0", "1.0.1", "1.1.0"});
+            }
+        });
+        Path jsonPath = Files.createTempFile("display-extension-updates-", ".ndjson");
+        try {
+            mojo.jsonOutputFile = jsonPath.toFile();
+            mojo.jsonOutputFormat = "ndjson";
+            try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class)) {
+                pomHelper
+                        .when(() -> PomHelper.getChildModels(ArgumentMatchers.any(MavenProject.class), any()))
+                        .then(i -> Collections.singletonMap(null, ((MavenProject) i.getArgument(0)).getModel()));
+                mojo.execute();
+            }
+
+            assertThat(
+                    Files.readAllLines(jsonPath),
+                    contains("{\"goal\":\"display-extension-updates\","
+                            + "\"project\":\"default-group:default-artifact:1.0.0\","
+                            + "\"section\":\"extensions\",\"groupId\":\"default-group\","
+                            + "\"artifactId\":\"artifactD\",\"type\":\"jar\","
+                            + "\"currentVersion\":\"1.0.0\",\"latestVersion\":\"1.1.0\","
+                            + "\"incrementals\":[\"1.0.1\"],\"minors\":[\"1.1.0\"],"
+                            + "\"status\":\"incremental available\"}"));
+        } finally {
+            Files.deleteIfExists(jsonPath);
+        }
+    }
 }
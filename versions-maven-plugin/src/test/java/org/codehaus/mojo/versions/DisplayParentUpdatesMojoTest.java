@@ -50,6 +50,7 @@ import static org.codehaus.mojo.versions.utils.MockUtils.mockAetherRepositorySys
 import static org.codehaus.mojo.versions.utils.MockUtils.mockArtifactHandlerManager;
 import static org.codehaus.mojo.versions.utils.MockUtils.mockMavenSession;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
@@ -295,6 +296,30 @@ public class DisplayParentUpdatesMojoTest {
                         "1.0.1-SNAPSHOT"));
     }
 
+    @Test
+    public void testJsonOutput() throws MojoExecutionException, MojoFailureException, IOException {
+        mojo.getProject().setParent(new MavenProject() {
+            {
+                setGroupId("default-group");
+                setArtifactId("test-incremental");
+                setVersion("1.1.0");
+            }
+        });
+        mojo.allowMajorUpdates = false;
+        mojo.allowMinorUpdates = false;
+        mojo.jsonOutputFile = tempDir.resolve("updates.json").toFile();
+        mojo.execute();
+
+        assertThat(
+                Files.readAllLines(mojo.jsonOutputFile.toPath()),
+                contains("[{\"goal\":\"display-parent-updates\","
+                        + "\"project\":\"default-group:project-artifact:1.0.1-SNAPSHOT\","
+                        + "\"updates\":[{\"section\":\"parent\",\"groupId\":\"default-group\","
+                        + "\"artifactId\":\"test-incremental\",\"type\":\"pom\","
+                        + "\"currentVersion\":\"1.1.0\",\"latestVersion\":\"1.1.1\","
+                        + "\"status\":\"incremental available\"}]}]"));
+    }
+
     @Test
     public void testAllowMinorUpdates()
             throws MojoExecutionException, VersionRetrievalException, InvalidVersionSpecificationException,
@@ -22,6 +22,7 @@ import java.util.HashMap;
 import java.util.List;
 
 import org.apache.maven.artifact.Artifact;
+import org.apache.maven.lifecycle.LifecycleExecutor;
 import org.apache.maven.model.Prerequisites;
 import org.apache.maven.plugin.testing.AbstractMojoTestCase;
 import org.apache.maven.plugin.testing.MojoRule;
@@ -41,9 +42,14 @@ import static org.codehaus.mojo.versions.utils.MockUtils.mockAetherRepositorySys
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -106,6 +112,7 @@ public class DisplayPluginUpdatesMojoTest extends AbstractMojoTestCase {
             }
         });
         setVariableValueToObject(mojo, "projectBuilder", mockupProjectBuilder());
+        mojo.metadataCacheDirectory = tempDir.resolve("cache").toFile();
         return mojo;
     }
 
@@ -122,6 +129,24 @@ public class DisplayPluginUpdatesMojoTest extends AbstractMojoTestCase {
         assertThat(output, hasItem(containsString("Using the minimum version of Maven: 3.3.9")));
     }
 
+    @Test
+    public void testJsonOutput() throws Exception {
+        Files.copy(
+                Paths.get("src/test/resources/org/codehaus/mojo/display-plugin-updates/issue-990/no-enforcer.xml"),
+                tempDir.resolve("pom.xml"));
+
+        DisplayPluginUpdatesMojo mojo = createMojo();
+        mojo.jsonOutputFile = tempDir.resolve("updates.json").toFile();
+        mojo.execute();
+
+        assertThat(
+                String.join("", Files.readAllLines(mojo.jsonOutputFile.toPath())),
+                containsString("{\"section\":\"plugins\",\"groupId\":\"default-group\","
+                        + "\"artifactId\":\"default-plugin\",\"type\":\"maven-plugin\","
+                        + "\"currentVersion\":\"1.0.0\",\"latestVersion\":null,"
+                        + "\"status\":\"no new available\"}"));
+    }
+
     @Test
     public void testNoPrerequisites() throws Exception {
         Files.copy(
@@ -162,4 +187,47 @@ public class DisplayPluginUpdatesMojoTest extends AbstractMojoTestCase {
         List<String> output = Files.readAllLines(outputPath);
         assertThat(output, hasItem(containsString("Using the minimum version of Maven: 3.3.9")));
     }
+
+    @Test
+    public void testPrerequisitesAreReadFromTheCache() throws Exception {
+        Files.copy(
+                Paths.get("src/test/resources/org/codehaus/mojo/display-plugin-updates/issue-990/no-prerequisites.xml"),
+                tempDir.resolve("pom.xml"));
+        DisplayPluginUpdatesMojo firstMojo = createMojo();
+        firstMojo.execute();
+        verify(firstMojo.projectBuilder, atLeastOnce())
+                .build(any(Artifact.class), anyBoolean(), any(ProjectBuildingRequest.class));
+
+        DisplayPluginUpdatesMojo mojo = createMojo();
+        mojo.execute();
+
+        verify(mojo.projectBuilder, never())
+                .build(any(Artifact.class), anyBoolean(), any(ProjectBuildingRequest.class));
+        List<String> output = Files.readAllLines(outputPath);
+        assertThat(output, hasItem(containsString("Using the minimum version of Maven: 3.3.9")));
+    }
+
+    @Test
+    public void testSuperPomPluginManagementIsMemoizedInTheSession() throws Exception {
+        Files.copy(
+                Paths.get("src/test/resources/org/codehaus/mojo/display-plugin-updates/issue-990/no-prerequisites.xml"),
+                tempDir.resolve("pom.xml"));
+        LifecycleExecutor firstLifecycleExecutor = mock(LifecycleExecutor.class);
+        DisplayPluginUpdatesMojo firstMojo = createMojo();
+        setVariableValueToObject(firstMojo, "lifecycleExecutor", firstLifecycleExecutor);
+        firstMojo.execute();
+
+        LifecycleExecutor lifecycleExecutor = mock(LifecycleExecutor.class);
+        DisplayPluginUpdatesMojo mojo = createMojo();
+        setVariableValueToObject(mojo, "lifecycleExecutor", lifecycleExecutor);
+        mojo.session = firstMojo.session;
+        mojo.execute();
+
+        // the lifecycle is only queried for the bound plugins, not for the super-pom plugin management
+        assertThat(
+                mockingDetails(lifecycleExecutor).getInvocations().size(),
+                is(mockingDetails(firstLifecycleExecutor).getInvocations().size() - 1));
+        List<String> output = Files.readAllLines(outputPath);
+        assertThat(output, hasItem(containsString("Using the minimum version of Maven: 3.3.9")));
+    }
 }
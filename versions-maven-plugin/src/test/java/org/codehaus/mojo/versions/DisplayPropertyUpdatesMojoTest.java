@@ -79,6 +79,28 @@ public class DisplayPropertyUpdatesMojoTest extends AbstractMojoTestCase {
                 matchesPattern(".*\\$\\{ver} \\.* 1\\.0\\.0 -> 2\\.0\\.0.*"));
     }
 
+    @Test
+    public void testJsonOutput() throws Exception {
+        TestUtils.copyDir(
+                Paths.get("src/test/resources/org/codehaus/mojo/display-property-updates/issue-367"), tempDir);
+        DisplayPropertyUpdatesMojo mojo = (DisplayPropertyUpdatesMojo)
+                mojoRule.lookupConfiguredMojo(tempDir.resolve("child").toFile(), "display-property-updates");
+        mojo.outputEncoding = UTF_8;
+        mojo.outputFile = tempFile.toFile();
+        mojo.jsonOutputFile = tempDir.resolve("updates.json").toFile();
+        mojo.setPluginContext(new HashMap<>());
+        mojo.repositorySystem = mockAetherRepositorySystem();
+        mojo.includeParent = true;
+        mojo.execute();
+
+        assertThat(
+                String.join("", Files.readAllLines(mojo.jsonOutputFile.toPath())),
+                containsString("{\"section\":\"properties\",\"property\":\"ver\","));
+        assertThat(
+                String.join("", Files.readAllLines(mojo.jsonOutputFile.toPath())),
+                containsString("\"currentVersion\":\"1.0.0\",\"latestVersion\":\"2.0.0\","));
+    }
+
     @Test
     public void testDisablePropertiesFromParent() throws Exception {
         TestUtils.copyDir(
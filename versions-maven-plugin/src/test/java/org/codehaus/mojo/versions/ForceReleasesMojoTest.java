@@ -28,7 +28,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mockStatic;
 
 /*
@@ -89,14 +89,11 @@ public class ForceReleasesMojoTest extends AbstractMojoTestCase {
                 .setParentArtifact(new DefaultArtifact(
                         "default-group", "artifactA", "1.0.0-SNAPSHOT", SCOPE_COMPILE, "pom", "default", null));
 
-        try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class)) {
-            pomHelper
-                    .when(() -> PomHelper.setProjectParentVersion(any(), anyString()))
-                    .thenReturn(true);
+        try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class, CALLS_REAL_METHODS)) {
             pomHelper
                     .when(() -> PomHelper.getRawModel(any(MavenProject.class)))
                     .thenReturn(mojo.getProject().getModel());
-            mojo.update(null);
+            mojo.update(TestPoms.of(mojo.getProject()));
         }
         assertThat(
                 changeRecorder.getChanges(),
@@ -115,15 +112,11 @@ public class ForceReleasesMojoTest extends AbstractMojoTestCase {
                         .withVersion("1.0.0-SNAPSHOT")
                         .build()));
 
-        try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class)) {
-            pomHelper
-                    .when(() -> PomHelper.setDependencyVersion(
-                            any(), anyString(), anyString(), anyString(), anyString(), any(Model.class), any()))
-                    .thenReturn(true);
+        try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class, CALLS_REAL_METHODS)) {
             pomHelper
                     .when(() -> PomHelper.getRawModel(any(MavenProject.class)))
                     .thenReturn(mojo.getProject().getModel());
-            mojo.update(null);
+            mojo.update(TestPoms.of(mojo.getProject()));
         }
         assertThat(
                 changeRecorder.getChanges(),
@@ -142,15 +135,11 @@ public class ForceReleasesMojoTest extends AbstractMojoTestCase {
                         .withVersion("1.1.0-SNAPSHOT")
                         .build()));
 
-        try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class)) {
-            pomHelper
-                    .when(() -> PomHelper.setDependencyVersion(
-                            any(), anyString(), anyString(), anyString(), anyString(), any(Model.class), any()))
-                    .thenReturn(true);
+        try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class, CALLS_REAL_METHODS)) {
             pomHelper
                     .when(() -> PomHelper.getRawModel(any(MavenProject.class)))
                     .thenReturn(mojo.getProject().getModel());
-            mojo.update(null);
+            mojo.update(TestPoms.of(mojo.getProject()));
         }
         assertThat(
                 changeRecorder.getChanges(),
@@ -169,15 +158,11 @@ public class ForceReleasesMojoTest extends AbstractMojoTestCase {
                         .withVersion("2.1.0-SNAPSHOT")
                         .build()));
 
-        try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class)) {
-            pomHelper
-                    .when(() -> PomHelper.setDependencyVersion(
-                            any(), anyString(), anyString(), anyString(), anyString(), any(Model.class), any()))
-                    .thenReturn(true);
+        try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class, CALLS_REAL_METHODS)) {
             pomHelper
                     .when(() -> PomHelper.getRawModel(any(MavenProject.class)))
                     .thenReturn(mojo.getProject().getModel());
-            mojo.update(null);
+            mojo.update(TestPoms.of(mojo.getProject()));
         }
         assertThat(
                 changeRecorder.getChanges(),
@@ -198,15 +183,11 @@ public class ForceReleasesMojoTest extends AbstractMojoTestCase {
                         .build()));
         mojo.failIfNotReplaced = true;
 
-        try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class)) {
-            pomHelper
-                    .when(() -> PomHelper.setDependencyVersion(
-                            any(), anyString(), anyString(), anyString(), anyString(), any(Model.class), any()))
-                    .thenReturn(true);
+        try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class, CALLS_REAL_METHODS)) {
             pomHelper
                     .when(() -> PomHelper.getRawModel(any(MavenProject.class)))
                     .thenReturn(mojo.getProject().getModel());
-            mojo.update(null);
+            mojo.update(TestPoms.of(mojo.getProject()));
             fail("MojoExecutionException is expected");
         } catch (MojoExecutionException e) {
             assertThat(e.getMessage(), startsWith("No matching"));
@@ -15,33 +15,34 @@ package org.codehaus.mojo.versions;
  * limitations under the License.
  */
 
-import javax.xml.stream.XMLStreamException;
-
 import java.util.List;
 import java.util.function.UnaryOperator;
 
 import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.execution.MavenSession;
 import org.apache.maven.model.Dependency;
 import org.apache.maven.model.Model;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.testing.stubs.DefaultArtifactHandlerStub;
 import org.apache.maven.project.MavenProject;
-import org.codehaus.mojo.versions.api.PomHelper;
-import org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader;
+import org.codehaus.mojo.versions.api.PomEditPlan;
 import org.codehaus.mojo.versions.utils.DependencyBuilder;
 import org.codehaus.mojo.versions.utils.MockUtils;
+import org.eclipse.aether.DefaultSessionData;
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.resolution.VersionRequest;
 import org.eclipse.aether.resolution.VersionResolutionException;
 import org.eclipse.aether.resolution.VersionResult;
 import org.junit.Test;
-import org.mockito.MockedStatic;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -50,7 +51,11 @@ import static org.mockito.Mockito.when;
 public class LockSnapshotsMojoTest {
 
     private LockSnapshotsMojo createMojo(RepositorySystem repositorySystem) {
-        return new LockSnapshotsMojo(null, repositorySystem, null, null) {
+        return createMojo(repositorySystem, MockUtils.mockMavenSession());
+    }
+
+    private LockSnapshotsMojo createMojo(RepositorySystem repositorySystem, MavenSession mavenSession) {
+        return new LockSnapshotsMojo(MockUtils.mockArtifactHandlerManager(), repositorySystem, null, null) {
             {
                 reactorProjects = emptyList();
                 project = new MavenProject(new Model() {
@@ -69,7 +74,7 @@ public class LockSnapshotsMojoTest {
                                 .build()));
                     }
                 });
-                session = MockUtils.mockMavenSession();
+                session = mavenSession;
             }
         };
     }
@@ -86,96 +91,109 @@ public class LockSnapshotsMojoTest {
     }
 
     @Test
-    public void testNoTimestampedDependencyFoundNull()
-            throws XMLStreamException, MojoExecutionException, VersionResolutionException {
+    public void testNoTimestampedDependencyFoundNull() throws MojoExecutionException, VersionResolutionException {
         RepositorySystem repositorySystem = mockRepositorySystem(v -> null);
 
         LockSnapshotsMojo mojo = createMojo(repositorySystem);
-        try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class)) {
-            pomHelper
-                    .when(() -> PomHelper.setDependencyVersion(any(), any(), any(), any(), any(), any(), any()))
-                    .thenThrow(new RuntimeException("Not supposed to modify the dependency"));
-            mojo.lockSnapshots(null, mojo.project.getDependencies());
-        }
+        PomEditPlan plan = mock(PomEditPlan.class);
+        mojo.lockSnapshots(plan, mojo.project.getDependencies());
+        verifyNoInteractions(plan);
     }
 
     @Test
     public void testNoTimestampedDependencyFoundSameVersion()
-            throws XMLStreamException, MojoExecutionException, VersionResolutionException {
+            throws MojoExecutionException, VersionResolutionException {
         RepositorySystem repositorySystem = mockRepositorySystem(UnaryOperator.identity());
 
         LockSnapshotsMojo mojo = createMojo(repositorySystem);
-        try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class)) {
-            pomHelper
-                    .when(() -> PomHelper.setDependencyVersion(any(), any(), any(), any(), any(), any(), any()))
-                    .thenThrow(new RuntimeException("Not supposed to modify the dependency"));
-            mojo.lockSnapshots(null, mojo.project.getDependencies());
-        }
+        PomEditPlan plan = mock(PomEditPlan.class);
+        mojo.lockSnapshots(plan, mojo.project.getDependencies());
+        verifyNoInteractions(plan);
     }
 
     @Test
-    public void testNoTimestampedParentFoundNull()
-            throws XMLStreamException, MojoExecutionException, VersionResolutionException {
+    public void testNoTimestampedParentFoundNull() throws MojoExecutionException, VersionResolutionException {
         RepositorySystem repositorySystem = mockRepositorySystem(v -> null);
 
         LockSnapshotsMojo mojo = createMojo(repositorySystem);
-        try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class)) {
-            pomHelper
-                    .when(() -> PomHelper.setProjectParentVersion(any(MutableXMLStreamReader.class), any()))
-                    .thenThrow(new RuntimeException("Not supposed to modify the parent"));
-            mojo.lockParentSnapshot(
-                    null,
-                    new MavenProject(new Model() {
-                        {
-                            setGroupId("default-group");
-                            setArtifactId("default-parent");
-                            setVersion("1.0-SNAPSHOT");
-                        }
-                    }) {
-                        {
-                            setArtifact(new DefaultArtifact(
-                                    "default-group",
-                                    "default-parent",
-                                    "1.0-SNAPSHOT",
-                                    "compile",
-                                    "pom",
-                                    null,
-                                    new DefaultArtifactHandlerStub("jar")));
-                        }
-                    });
-        }
+        PomEditPlan plan = mock(PomEditPlan.class);
+        mojo.lockParentSnapshot(
+                plan,
+                new MavenProject(new Model() {
+                    {
+                        setGroupId("default-group");
+                        setArtifactId("default-parent");
+                        setVersion("1.0-SNAPSHOT");
+                    }
+                }) {
+                    {
+                        setArtifact(new DefaultArtifact(
+                                "default-group",
+                                "default-parent",
+                                "1.0-SNAPSHOT",
+                                "compile",
+                                "pom",
+                                null,
+                                new DefaultArtifactHandlerStub("jar")));
+                    }
+                });
+        verifyNoInteractions(plan);
     }
 
     @Test
-    public void testNoTimestampedParentFoundSameVersion()
-            throws XMLStreamException, MojoExecutionException, VersionResolutionException {
+    public void testNoTimestampedParentFoundSameVersion() throws MojoExecutionException, VersionResolutionException {
         RepositorySystem repositorySystem = mockRepositorySystem(UnaryOperator.identity());
 
         LockSnapshotsMojo mojo = createMojo(repositorySystem);
-        try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class)) {
-            pomHelper
-                    .when(() -> PomHelper.setProjectParentVersion(any(MutableXMLStreamReader.class), any()))
-                    .thenThrow(new RuntimeException("Not supposed to modify the parent"));
-            mojo.lockParentSnapshot(
-                    null,
-                    new MavenProject(new Model() {
-                        {
-                            setGroupId("default-group");
-                            setArtifactId("default-parent");
-                            setVersion("1.0-SNAPSHOT");
-                        }
-                    }) {
-                        {
-                            setArtifact(new DefaultArtifact(
-                                    "default-group",
-                                    "default-parent",
-                                    "1.0-SNAPSHOT",
-                                    "compile",
-                                    "pom",
-                                    null,
-                                    new DefaultArtifactHandlerStub("jar")));
-                        }
-                    });
+        PomEditPlan plan = mock(PomEditPlan.class);
+        mojo.lockParentSnapshot(
+                plan,
+                new MavenProject(new Model() {
+                    {
+                        setGroupId("default-group");
+                        setArtifactId("default-parent");
+                        setVersion("1.0-SNAPSHOT");
+                    }
+                }) {
+                    {
+                        setArtifact(new DefaultArtifact(
+                                "default-group",
+                                "default-parent",
+                                "1.0-SNAPSHOT",
+                                "compile",
+                                "pom",
+                                null,
+                                new DefaultArtifactHandlerStub("jar")));
+                    }
+                });
+        verifyNoInteractions(plan);
+    }
+
+    @Test
+    public void testSnapshotVersionIsResolvedOncePerSession() throws Exception {
+        RepositorySystem repositorySystem = mockRepositorySystem(v -> v.replace("SNAPSHOT", "20090128.202731-1"));
+        MavenSession mavenSession = MockUtils.mockMavenSession();
+        when(mavenSession.getRepositorySession().getData()).thenReturn(new DefaultSessionData());
+
+        for (int i = 0; i < 2; i++) {
+            LockSnapshotsMojo mojo = createMojo(repositorySystem, mavenSession);
+            PomEditPlan plan = mock(PomEditPlan.class);
+            mojo.lockSnapshots(
+                    plan,
+                    singletonList(DependencyBuilder.newBuilder()
+                            .withGroupId("default-group")
+                            .withArtifactId("default-artifact")
+                            .withVersion("1.0-SNAPSHOT")
+                            .build()));
+            verify(plan)
+                    .setDependencyVersion(
+                            eq("default-group"),
+                            eq("default-artifact"),
+                            eq("1.0-SNAPSHOT"),
+                            eq("1.0-20090128.202731-1"),
+                            any(),
+                            any());
         }
+        verify(repositorySystem, times(1)).resolveVersion(any(), any());
     }
 }
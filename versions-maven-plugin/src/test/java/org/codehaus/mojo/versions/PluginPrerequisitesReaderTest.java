@@ -0,0 +1,200 @@
+package org.codehaus.mojo.versions;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.codehaus.mojo.versions.utils.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Unit tests for {@link PluginPrerequisitesReader}
+ */
+public class PluginPrerequisitesReaderTest {
+    private Path tempDir;
+
+    private final List<String> resolved = new ArrayList<>();
+
+    @Before
+    public void setUp() throws IOException {
+        tempDir = TestUtils.createTempDir("plugin-prerequisites");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        TestUtils.tearDownTempDir(tempDir);
+    }
+
+    private void pom(String artifactId, String version, String content) throws IOException {
+        Files.write(
+                tempDir.resolve(artifactId + "-" + version + ".pom"),
+                ("<project><modelVersion>4.0.0</modelVersion>" + content + "</project>")
+                        .getBytes(StandardCharsets.UTF_8));
+    }
+
+    private PluginPrerequisitesReader createReader(Map<String, String> userProperties) {
+        return new PluginPrerequisitesReader(
+                (groupId, artifactId, version) -> {
+                    resolved.add(artifactId + ":" + version);
+                    return new File(tempDir.toFile(), artifactId + "-" + version + ".pom");
+                },
+                userProperties,
+                singletonMap("java.version", "1.8"),
+                new SystemStreamLog());
+    }
+
+    private Optional<String> read(String artifactId, String version) throws Exception {
+        return createReader(emptyMap())
+                .read("default-group", artifactId, version)
+                .map(PluginPrerequisitesReader.Prerequisite::getMavenVersion);
+    }
+
+    @Test
+    public void testLiteralPrerequisiteIsReadWithoutParent() throws Exception {
+        pom(
+                "plugin",
+                "1.0",
+                "<parent><groupId>default-group</groupId><artifactId>missing-parent</artifactId>"
+                        + "<version>1</version></parent><artifactId>plugin</artifactId><version>1.0</version>"
+                        + "<prerequisites><maven> 3.6.3 </maven></prerequisites>");
+        assertThat(read("plugin", "1.0"), is(Optional.of("3.6.3")));
+        assertThat(resolved, contains("plugin:1.0"));
+    }
+
+    @Test
+    public void testNoPrerequisites() throws Exception {
+        pom("plugin", "1.0", "<groupId>default-group</groupId><artifactId>plugin</artifactId><version>1.0</version>");
+        assertThat(read("plugin", "1.0"), is(Optional.of("")));
+    }
+
+    @Test
+    public void testPrerequisiteInterpolatedFromParents() throws Exception {
+        pom(
+                "grandparent",
+                "1",
+                "<groupId>default-group</groupId><artifactId>grandparent</artifactId><version>1</version>"
+                        + "<properties><maven.major>3</maven.major><mavenVersion>0.0</mavenVersion></properties>");
+        pom(
+                "parent",
+                "2",
+                "<parent><groupId>default-group</groupId><artifactId>grandparent</artifactId>"
+                        + "<version>1</version></parent><artifactId>parent</artifactId><version>2</version>"
+                        + "<properties><mavenVersion>${maven.major}.${project.version}</mavenVersion></properties>");
+        pom(
+                "plugin",
+                "2",
+                "<parent><groupId>default-group</groupId><artifactId>parent</artifactId>"
+                        + "<version>2</version></parent><artifactId>plugin</artifactId>"
+                        + "<prerequisites><maven>${mavenVersion}.1</maven></prerequisites>");
+        Optional<PluginPrerequisitesReader.Prerequisite> prerequisite =
+                createReader(emptyMap()).read("default-group", "plugin", "2");
+        assertThat(prerequisite.map(PluginPrerequisitesReader.Prerequisite::getMavenVersion), is(Optional.of("3.2.1")));
+        assertThat(prerequisite.get().isSessionDependent(), is(false));
+        assertThat(resolved, contains("plugin:2", "parent:2", "grandparent:1"));
+    }
+
+    @Test
+    public void testUserPropertiesTakePrecedence() throws Exception {
+        pom(
+                "plugin",
+                "1.0",
+                "<artifactId>plugin</artifactId><version>1.0</version>"
+                        + "<properties><mavenVersion>3.6.3</mavenVersion></properties>"
+                        + "<prerequisites><maven>${mavenVersion}</maven></prerequisites>");
+        Optional<PluginPrerequisitesReader.Prerequisite> prerequisite =
+                createReader(singletonMap("mavenVersion", "3.9.0")).read("default-group", "plugin", "1.0");
+        assertThat(prerequisite.map(PluginPrerequisitesReader.Prerequisite::getMavenVersion), is(Optional.of("3.9.0")));
+        assertThat(prerequisite.get().isSessionDependent(), is(true));
+    }
+
+    @Test
+    public void testPrerequisiteInterpolatedFromSystemPropertiesIsSessionDependent() throws Exception {
+        pom(
+                "plugin",
+                "1.0",
+                "<artifactId>plugin</artifactId><version>1.0</version>"
+                        + "<prerequisites><maven>3.${java.version}</maven></prerequisites>");
+        Optional<PluginPrerequisitesReader.Prerequisite> prerequisite =
+                createReader(emptyMap()).read("default-group", "plugin", "1.0");
+        assertThat(prerequisite.map(PluginPrerequisitesReader.Prerequisite::getMavenVersion), is(Optional.of("3.1.8")));
+        assertThat(prerequisite.get().isSessionDependent(), is(true));
+    }
+
+    @Test
+    public void testUnusedUserPropertiesDoNotMakeThePrerequisiteSessionDependent() throws Exception {
+        pom(
+                "plugin",
+                "1.0",
+                "<artifactId>plugin</artifactId><version>1.0</version>"
+                        + "<properties><mavenVersion>3.6.3</mavenVersion><java.version>11</java.version></properties>"
+                        + "<prerequisites><maven>${mavenVersion}</maven></prerequisites>");
+        Optional<PluginPrerequisitesReader.Prerequisite> prerequisite =
+                createReader(singletonMap("other", "1")).read("default-group", "plugin", "1.0");
+        assertThat(prerequisite.map(PluginPrerequisitesReader.Prerequisite::getMavenVersion), is(Optional.of("3.6.3")));
+        assertThat(prerequisite.get().isSessionDependent(), is(false));
+    }
+
+    @Test
+    public void testPropertyDefinedInProfileIsLeftToProjectBuild() throws Exception {
+        pom(
+                "plugin",
+                "1.0",
+                "<artifactId>plugin</artifactId><version>1.0</version>"
+                        + "<properties><mavenVersion>3.6.3</mavenVersion></properties>"
+                        + "<prerequisites><maven>${mavenVersion}</maven></prerequisites>"
+                        + "<profiles><profile><id>p</id><properties><mavenVersion>3.9.0</mavenVersion></properties>"
+                        + "</profile></profiles>");
+        assertThat(read("plugin", "1.0"), is(Optional.empty()));
+    }
+
+    @Test
+    public void testUnresolvableExpressionIsLeftToProjectBuild() throws Exception {
+        pom(
+                "plugin",
+                "1.0",
+                "<artifactId>plugin</artifactId><version>1.0</version>"
+                        + "<prerequisites><maven>${project.basedir}</maven></prerequisites>");
+        assertThat(read("plugin", "1.0"), is(Optional.empty()));
+    }
+
+    @Test
+    public void testMissingOrInvalidPomIsLeftToProjectBuild() throws Exception {
+        assertThat(read("missing", "1.0"), is(Optional.empty()));
+        pom("invalid", "1.0", "<prerequisites><maven>3.6.3</prerequisites>");
+        assertThat(read("invalid", "1.0"), is(Optional.empty()));
+    }
+}
@@ -0,0 +1,118 @@
+package org.codehaus.mojo.versions;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Random;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.resolver.ArtifactResolutionException;
+import org.apache.maven.artifact.versioning.ArtifactVersion;
+import org.codehaus.mojo.versions.utils.DefaultArtifactVersionCache;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for {@link PrerequisitesSearch}
+ */
+public class PrerequisitesSearchTest {
+
+    private static ArtifactVersion[] monotonicPrerequisites(Random random, int size, int levels) {
+        ArtifactVersion[] prerequisites = new ArtifactVersion[size];
+        int level = random.nextInt(2) - 1;
+        for (int i = 0; i < size; i++) {
+            if (random.nextInt(size) < levels) {
+                level++;
+            }
+            prerequisites[i] = level < 0 ? null : DefaultArtifactVersionCache.of("3." + level);
+        }
+        return prerequisites;
+    }
+
+    @Test
+    public void testSameResultAsProbingEveryVersion() throws Exception {
+        Random random = new Random(23);
+        for (int round = 0; round < 200; round++) {
+            ArtifactVersion[] prerequisites = monotonicPrerequisites(random, 1 + random.nextInt(100), 4);
+            PrerequisitesSearch search = new PrerequisitesSearch(j -> prerequisites[j], prerequisites.length);
+            for (int j = prerequisites.length - 1; j >= 0; j--) {
+                assertThat(String.valueOf(search.get(j)), is(String.valueOf(prerequisites[j])));
+            }
+            assertThat(search.getProbes(), lessThanOrEqualTo(prerequisites.length));
+        }
+    }
+
+    @Test
+    public void testLogarithmicNumberOfProbes() throws Exception {
+        ArtifactVersion[] prerequisites = new ArtifactVersion[1000];
+        for (int i = 0; i < prerequisites.length; i++) {
+            prerequisites[i] = DefaultArtifactVersionCache.of(i < 400 ? "3.0" : "3.6.3");
+        }
+        PrerequisitesSearch search = new PrerequisitesSearch(j -> prerequisites[j], prerequisites.length);
+        // the newest version is found without probing older ones
+        assertThat(search.get(999).toString(), is("3.6.3"));
+        assertThat(search.getProbes(), is(1));
+        // the boundary between the runs is found by galloping and binary search
+        assertThat(search.get(998).toString(), is("3.6.3"));
+        assertThat(search.get(400).toString(), is("3.6.3"));
+        assertThat(search.get(399).toString(), is("3.0"));
+        assertThat(search.getProbes(), lessThanOrEqualTo(25));
+    }
+
+    @Test
+    public void testDecreasingPrerequisitesAreInconclusive() throws Exception {
+        ArtifactVersion[] prerequisites = new ArtifactVersion[] {
+            DefaultArtifactVersionCache.of("3.0"), DefaultArtifactVersionCache.of("3.6.3"), null
+        };
+        PrerequisitesSearch search = new PrerequisitesSearch(j -> prerequisites[j], prerequisites.length);
+        assertThat(search.get(2), nullValue());
+        try {
+            search.get(1);
+            fail("InconclusiveException expected");
+        } catch (PrerequisitesSearch.InconclusiveException e) {
+            // expected
+        }
+        assertThat(search.probe(1).toString(), is("3.6.3"));
+    }
+
+    @Test
+    public void testFailingProbeIsInconclusive() throws Exception {
+        PrerequisitesSearch search = new PrerequisitesSearch(
+                j -> {
+                    if (j == 0) {
+                        throw new ArtifactResolutionException("missing", mock(Artifact.class));
+                    }
+                    return null;
+                },
+                3);
+        assertThat(search.get(2), nullValue());
+        try {
+            search.get(0);
+            fail("InconclusiveException expected");
+        } catch (PrerequisitesSearch.InconclusiveException e) {
+            // expected
+        }
+    }
+}
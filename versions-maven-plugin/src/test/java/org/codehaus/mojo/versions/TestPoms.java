@@ -0,0 +1,65 @@
+package org.codehaus.mojo.versions;
+
+/*
+ * Copyright MojoHaus and Contributors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.transform.TransformerException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Paths;
+
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Parent;
+import org.apache.maven.model.io.xpp3.MavenXpp3Writer;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Creates the POM documents of projects which only exist as a model in the tests
+ */
+final class TestPoms {
+    private TestPoms() {}
+
+    /**
+     * Writes the model of the given project, together with its parent, as a POM document
+     *
+     * @param project project to write
+     * @return the POM document of the project
+     * @throws XMLStreamException thrown if the document cannot be parsed
+     */
+    static MutableXMLStreamReader of(MavenProject project) throws XMLStreamException {
+        Model model = project.getModel().clone();
+        if (model.getParent() == null && project.getParent() != null) {
+            Parent parent = new Parent();
+            parent.setGroupId(project.getParent().getGroupId());
+            parent.setArtifactId(project.getParent().getArtifactId());
+            parent.setVersion(project.getParent().getVersion());
+            model.setParent(parent);
+        }
+        try {
+            StringWriter writer = new StringWriter();
+            new MavenXpp3Writer().write(writer, model);
+            return new MutableXMLStreamReader(
+                    new ByteArrayInputStream(writer.toString().getBytes(UTF_8)), Paths.get("pom.xml"));
+        } catch (IOException | TransformerException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
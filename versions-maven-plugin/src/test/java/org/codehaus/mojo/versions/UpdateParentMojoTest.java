@@ -23,6 +23,7 @@ import java.util.HashMap;
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.DefaultArtifact;
 import org.apache.maven.artifact.handler.manager.ArtifactHandlerManager;
+import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
 import org.apache.maven.artifact.versioning.InvalidVersionSpecificationException;
 import org.apache.maven.artifact.versioning.VersionRange;
 import org.apache.maven.model.Model;
@@ -35,9 +36,11 @@ import org.codehaus.mojo.versions.change.DefaultDependencyVersionChange;
 import org.codehaus.mojo.versions.ordering.InvalidSegmentException;
 import org.codehaus.mojo.versions.utils.TestChangeRecorder;
 import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.resolution.ArtifactRequest;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 import static java.util.Collections.singleton;
 import static org.apache.maven.artifact.Artifact.SCOPE_COMPILE;
@@ -50,6 +53,8 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 
 public class UpdateParentMojoTest extends UseLatestVersionsMojoTestBase {
     private TestChangeRecorder changeRecorder;
@@ -104,15 +109,19 @@ public class UpdateParentMojoTest extends UseLatestVersionsMojoTestBase {
                         setVersion("1.0.1-SNAPSHOT");
                     }
                 });
+            }
 
-                setParentArtifact(new DefaultArtifact(
+            // the tests replace the parent, so that the parent artifact needs to follow it
+            @Override
+            public Artifact getParentArtifact() {
+                return new DefaultArtifact(
                         getParent().getGroupId(),
                         getParent().getArtifactId(),
                         getParent().getVersion(),
                         SCOPE_COMPILE,
                         "pom",
                         "default",
-                        null));
+                        null);
             }
         };
     }
@@ -488,4 +497,47 @@ public class UpdateParentMojoTest extends UseLatestVersionsMojoTestBase {
         tryUpdate();
         assertThat(changeRecorder.getChanges(), empty());
     }
+
+    private boolean shouldApplyUpdateWithVerification(RepositorySystem repositorySystem, String updateVerification)
+            throws IllegalAccessException {
+        UpdateParentMojo mojo =
+                new UpdateParentMojo(artifactHandlerManager, repositorySystem, null, changeRecorder.asTestMap()) {
+                    {
+                        setProject(createProject());
+                        reactorProjects = Collections.emptyList();
+                        session = mockMavenSession();
+                    }
+                };
+        setVariableValueToObject(mojo, "updateVerification", updateVerification);
+        Artifact artifact = new DefaultArtifact(
+                "default-group",
+                "dependency-artifact",
+                "1.0.0",
+                SCOPE_COMPILE,
+                "jar",
+                null,
+                new DefaultArtifactHandlerStub("jar"));
+        return mojo.shouldApplyUpdate(artifact, "1.0.0", new DefaultArtifactVersion("2.0.0"), false);
+    }
+
+    @Test
+    public void testMetadataUpdateVerificationResolvesPomOnly() throws Exception {
+        RepositorySystem repositorySystem = mockAetherRepositorySystem();
+        assertThat(shouldApplyUpdateWithVerification(repositorySystem, "metadata"), is(true));
+
+        ArgumentCaptor<ArtifactRequest> request = ArgumentCaptor.forClass(ArtifactRequest.class);
+        verify(repositorySystem).resolveArtifact(any(), request.capture());
+        assertThat(request.getValue().getArtifact().getExtension(), is("pom"));
+        assertThat(request.getValue().getArtifact().getVersion(), is("2.0.0"));
+    }
+
+    @Test
+    public void testFullUpdateVerificationResolvesArtifact() throws Exception {
+        RepositorySystem repositorySystem = mockAetherRepositorySystem();
+        assertThat(shouldApplyUpdateWithVerification(repositorySystem, "full"), is(true));
+
+        ArgumentCaptor<ArtifactRequest> request = ArgumentCaptor.forClass(ArtifactRequest.class);
+        verify(repositorySystem).resolveArtifact(any(), request.capture());
+        assertThat(request.getValue().getArtifact().getExtension(), is("jar"));
+    }
 }
@@ -27,7 +27,9 @@ import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.project.MavenProject;
 import org.codehaus.mojo.versions.api.VersionRetrievalException;
+import org.codehaus.mojo.versions.api.recording.DependencyChangeRecord;
 import org.codehaus.mojo.versions.change.DefaultDependencyVersionChange;
+import org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader;
 import org.codehaus.mojo.versions.utils.DependencyBuilder;
 import org.junit.Before;
 import org.junit.Test;
@@ -38,7 +40,9 @@ import static org.apache.maven.plugin.testing.ArtifactStubFactory.setVariableVal
 import static org.codehaus.mojo.versions.utils.MockUtils.mockArtifactHandlerManager;
 import static org.codehaus.mojo.versions.utils.MockUtils.mockMavenSession;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
 
 public class UseLatestVersionsMojoTest extends UseLatestVersionsMojoTestBase {
 
@@ -243,4 +247,22 @@ public class UseLatestVersionsMojoTest extends UseLatestVersionsMojoTestBase {
                 hasItem(new DefaultDependencyVersionChange(
                         "default-group", "dependency-artifact", "1.1.1-SNAPSHOT", "1.1.0")));
     }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testDeprecatedUpdateDependencyVersionAppliesTheUpdate() throws Exception {
+        MutableXMLStreamReader pom = TestPoms.of(mojo.getProject());
+        assertThat(
+                mojo.updateDependencyVersion(
+                        pom,
+                        mojo.getProject().getDependencies().get(0),
+                        "1.1.0",
+                        DependencyChangeRecord.ChangeKind.DEPENDENCY),
+                is(true));
+        assertThat(pom.getSource(), containsString("<version>1.1.0</version>"));
+        assertThat(
+                changeRecorder.getChanges(),
+                hasItem(new DefaultDependencyVersionChange(
+                        "default-group", "dependency-artifact", "1.1.1-SNAPSHOT", "1.1.0")));
+    }
 }
@@ -12,6 +12,7 @@ import org.apache.maven.project.MavenProject;
 import org.codehaus.mojo.versions.api.PomHelper;
 import org.codehaus.mojo.versions.api.VersionRetrievalException;
 import org.codehaus.mojo.versions.change.DefaultDependencyVersionChange;
+import org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader;
 import org.codehaus.mojo.versions.utils.DependencyBuilder;
 import org.codehaus.mojo.versions.utils.TestChangeRecorder;
 import org.eclipse.aether.RepositorySystem;
@@ -23,12 +24,13 @@ import static org.apache.maven.artifact.Artifact.SCOPE_COMPILE;
 import static org.apache.maven.plugin.testing.ArtifactStubFactory.setVariableValueToObject;
 import static org.codehaus.mojo.versions.utils.MockUtils.mockAetherRepositorySystem;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mockStatic;
 
 public abstract class UseLatestVersionsMojoTestBase {
@@ -54,19 +56,15 @@ public abstract class UseLatestVersionsMojoTestBase {
         return new TestChangeRecorder();
     }
 
-    protected void tryUpdate()
+    protected MutableXMLStreamReader tryUpdate()
             throws MojoExecutionException, XMLStreamException, MojoFailureException, VersionRetrievalException {
-        try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class)) {
-            pomHelper
-                    .when(() -> PomHelper.setDependencyVersion(any(), any(), any(), any(), any(), any(), any()))
-                    .thenReturn(true);
+        try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class, CALLS_REAL_METHODS)) {
             pomHelper
                     .when(() -> PomHelper.getRawModel(any(MavenProject.class)))
                     .thenReturn(mojo.getProject().getModel());
-            pomHelper
-                    .when(() -> PomHelper.setProjectParentVersion(any(), anyString()))
-                    .thenReturn(true);
-            mojo.update(null);
+            MutableXMLStreamReader pom = TestPoms.of(mojo.getProject());
+            mojo.update(pom);
+            return pom;
         }
     }
 
@@ -115,12 +113,14 @@ public abstract class UseLatestVersionsMojoTestBase {
         setVariableValueToObject(mojo, "processDependencies", true);
         setVariableValueToObject(mojo, "includes", new String[] {"default-group:other-artifact"});
 
-        tryUpdate();
+        MutableXMLStreamReader pom = tryUpdate();
         assertThat(changeRecorder.getChanges(), hasSize(1));
         assertThat(
                 changeRecorder.getChanges(),
                 hasItem(new DefaultDependencyVersionChange(
                         "default-group", "other-artifact", "1.0", expectedNewVersion)));
+        assertThat(pom.getSource(), containsString("<version>" + expectedNewVersion + "</version>"));
+        assertThat(pom.getSource(), containsString("<version>0.9.0</version>"));
     }
 
     @Test
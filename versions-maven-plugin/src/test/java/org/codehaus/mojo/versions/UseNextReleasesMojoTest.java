@@ -47,7 +47,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasItem;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mockStatic;
 
 /**
@@ -97,14 +97,11 @@ public class UseNextReleasesMojoTest {
 
     @Test
     public void testNoNewerReleases() {
-        try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class)) {
-            pomHelper
-                    .when(() -> PomHelper.setDependencyVersion(any(), any(), any(), any(), any(), any(), any()))
-                    .thenReturn(true);
+        try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class, CALLS_REAL_METHODS)) {
             pomHelper
                     .when(() -> PomHelper.getRawModel(any(MavenProject.class)))
                     .thenReturn(mojo.getProject().getModel());
-            mojo.update(null);
+            mojo.update(TestPoms.of(mojo.getProject()));
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -118,14 +115,11 @@ public class UseNextReleasesMojoTest {
                 put("dependency-artifact", new String[] {"1.0.0", "1.1.0", "1.1.1", "2.0.0"});
             }
         }));
-        try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class)) {
-            pomHelper
-                    .when(() -> PomHelper.setDependencyVersion(any(), any(), any(), any(), any(), any(), any()))
-                    .thenReturn(true);
+        try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class, CALLS_REAL_METHODS)) {
             pomHelper
                     .when(() -> PomHelper.getRawModel(any(MavenProject.class)))
                     .thenReturn(mojo.getProject().getModel());
-            mojo.update(null);
+            mojo.update(TestPoms.of(mojo.getProject()));
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -150,15 +144,11 @@ public class UseNextReleasesMojoTest {
                         .build()));
         mojo.allowDowngrade = true;
 
-        try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class)) {
-            pomHelper
-                    .when(() -> PomHelper.setDependencyVersion(
-                            any(), anyString(), anyString(), anyString(), anyString(), any(Model.class), any()))
-                    .thenReturn(true);
+        try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class, CALLS_REAL_METHODS)) {
             pomHelper
                     .when(() -> PomHelper.getRawModel(any(MavenProject.class)))
                     .thenReturn(mojo.getProject().getModel());
-            mojo.update(null);
+            mojo.update(TestPoms.of(mojo.getProject()));
         }
         assertThat(
                 changeRecorder.getChanges(),
@@ -182,15 +172,11 @@ public class UseNextReleasesMojoTest {
                         .withVersion("1.0.1-SNAPSHOT")
                         .build()));
 
-        try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class)) {
-            pomHelper
-                    .when(() -> PomHelper.setDependencyVersion(
-                            any(), anyString(), anyString(), anyString(), anyString(), any(Model.class), any()))
-                    .thenReturn(true);
+        try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class, CALLS_REAL_METHODS)) {
             pomHelper
                     .when(() -> PomHelper.getRawModel(any(MavenProject.class)))
                     .thenReturn(mojo.getProject().getModel());
-            mojo.update(null);
+            mojo.update(TestPoms.of(mojo.getProject()));
         }
         assertThat(changeRecorder.getChanges(), empty());
     }
@@ -11,6 +11,7 @@ import org.apache.maven.project.MavenProject;
 import org.codehaus.mojo.versions.api.PomHelper;
 import org.codehaus.mojo.versions.api.VersionRetrievalException;
 import org.codehaus.mojo.versions.change.DefaultDependencyVersionChange;
+import org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader;
 import org.codehaus.mojo.versions.utils.DependencyBuilder;
 import org.codehaus.mojo.versions.utils.TestChangeRecorder;
 import org.junit.Before;
@@ -25,10 +26,12 @@ import static org.codehaus.mojo.versions.utils.MockUtils.mockAetherRepositorySys
 import static org.codehaus.mojo.versions.utils.MockUtils.mockArtifactHandlerManager;
 import static org.codehaus.mojo.versions.utils.MockUtils.mockMavenSession;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mockStatic;
 
 /*
@@ -89,14 +92,11 @@ public class UseReleasesMojoTest extends AbstractMojoTestCase {
                 .setParentArtifact(new DefaultArtifact(
                         "default-group", "artifactA", "1.0.0-SNAPSHOT", SCOPE_COMPILE, "pom", "default", null));
 
-        try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class)) {
-            pomHelper
-                    .when(() -> PomHelper.setProjectParentVersion(any(), anyString()))
-                    .thenReturn(true);
+        try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class, CALLS_REAL_METHODS)) {
             pomHelper
                     .when(() -> PomHelper.getRawModel(any(MavenProject.class)))
                     .thenReturn(mojo.getProject().getModel());
-            mojo.update(null);
+            mojo.update(TestPoms.of(mojo.getProject()));
         }
         assertThat(
                 changeRecorder.getChanges(),
@@ -132,14 +132,11 @@ public class UseReleasesMojoTest extends AbstractMojoTestCase {
                             }
                         });
 
-        try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class)) {
-            pomHelper
-                    .when(() -> PomHelper.setProjectParentVersion(any(), anyString()))
-                    .thenReturn(true);
+        try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class, CALLS_REAL_METHODS)) {
             pomHelper
                     .when(() -> PomHelper.getRawModel(any(MavenProject.class)))
                     .thenReturn(mojo.getProject().getModel());
-            mojo.update(null);
+            mojo.update(TestPoms.of(mojo.getProject()));
         }
         assertThat(
                 changeRecorder.getChanges(),
@@ -158,21 +155,20 @@ public class UseReleasesMojoTest extends AbstractMojoTestCase {
                         .withVersion("1.0.0-SNAPSHOT")
                         .build()));
 
-        try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class)) {
-            pomHelper
-                    .when(() -> PomHelper.setDependencyVersion(
-                            any(), anyString(), anyString(), anyString(), anyString(), any(Model.class), any()))
-                    .thenReturn(true);
+        MutableXMLStreamReader pom = TestPoms.of(mojo.getProject());
+        try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class, CALLS_REAL_METHODS)) {
             pomHelper
                     .when(() -> PomHelper.getRawModel(any(MavenProject.class)))
                     .thenReturn(mojo.getProject().getModel());
-            mojo.update(null);
+            mojo.update(pom);
         }
         assertThat(
                 changeRecorder.getChanges(),
                 hasItem(new DefaultDependencyVersionChange(
                         "default-group", "artifactA",
                         "1.0.0-SNAPSHOT", "1.0.0")));
+        assertThat(pom.getSource(), containsString("<version>1.0.0</version>"));
+        assertThat(pom.getSource(), not(containsString("<version>1.0.0-SNAPSHOT</version>")));
     }
 
     @Test
@@ -187,15 +183,11 @@ public class UseReleasesMojoTest extends AbstractMojoTestCase {
                         .build()));
         mojo.failIfNotReplaced = true;
 
-        try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class)) {
-            pomHelper
-                    .when(() -> PomHelper.setDependencyVersion(
-                            any(), anyString(), anyString(), anyString(), anyString(), any(Model.class), any()))
-                    .thenReturn(true);
+        try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class, CALLS_REAL_METHODS)) {
             pomHelper
                     .when(() -> PomHelper.getRawModel(any(MavenProject.class)))
                     .thenReturn(mojo.getProject().getModel());
-            mojo.update(null);
+            mojo.update(TestPoms.of(mojo.getProject()));
             fail("MojoExecutionException is expected");
         } catch (MojoExecutionException e) {
             assertThat(e.getMessage(), startsWith("No matching"));
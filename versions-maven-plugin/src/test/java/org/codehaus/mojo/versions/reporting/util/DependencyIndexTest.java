@@ -0,0 +1,104 @@
+package org.codehaus.mojo.versions.reporting.util;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.maven.model.Dependency;
+import org.codehaus.mojo.versions.utils.DependencyBuilder;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Unit tests for {@link DependencyIndex}
+ */
+public class DependencyIndexTest {
+    private static final String[] ARTIFACT_IDS = {"artifactA", "artifactB"};
+
+    private static final String[] VERSIONS = {null, "1.0.0", "2.0.0"};
+
+    private static final String[] SCOPES = {null, "compile", "test"};
+
+    private static final String[] CLASSIFIERS = {null, "sources", "tests"};
+
+    private static Dependency dependency(String artifactId, String version, String scope, String classifier) {
+        return DependencyBuilder.newBuilder()
+                .withGroupId("default-group")
+                .withArtifactId(artifactId)
+                .withVersion(version)
+                .withScope(scope)
+                .withClassifier(classifier)
+                .build();
+    }
+
+    private static Dependency randomDependency(Random random) {
+        return dependency(
+                ARTIFACT_IDS[random.nextInt(ARTIFACT_IDS.length)],
+                VERSIONS[random.nextInt(VERSIONS.length)],
+                SCOPES[random.nextInt(SCOPES.length)],
+                CLASSIFIERS[random.nextInt(CLASSIFIERS.length)]);
+    }
+
+    private static boolean scan(List<Dependency> indexed, Dependency dep) {
+        return indexed.stream()
+                .anyMatch(dmDep -> dmDep.getGroupId().equals(dep.getGroupId())
+                        && dmDep.getArtifactId().equals(dep.getArtifactId())
+                        && (dmDep.getScope() == null || dmDep.getScope().equals(dep.getScope()))
+                        && (dmDep.getClassifier() == null
+                                || dmDep.getClassifier().equals(dep.getClassifier()))
+                        && (dep.getVersion() == null
+                                || dmDep.getVersion() == null
+                                || dmDep.getVersion().equals(dep.getVersion())));
+    }
+
+    @Test
+    public void testWildcards() {
+        DependencyIndex index = new DependencyIndex(
+                asList(dependency("artifactA", "1.0.0", null, null), dependency("artifactB", null, "test", "tests")));
+
+        assertThat(index.matches(dependency("artifactA", "1.0.0", "test", "sources")), is(true));
+        assertThat(index.matches(dependency("artifactA", null, null, null)), is(true));
+        assertThat(index.matches(dependency("artifactA", "2.0.0", null, null)), is(false));
+        assertThat(index.matches(dependency("artifactB", "2.0.0", "test", "tests")), is(true));
+        assertThat(index.matches(dependency("artifactB", "2.0.0", "test", null)), is(false));
+        assertThat(index.matches(dependency("artifactB", "2.0.0", null, "tests")), is(false));
+    }
+
+    @Test
+    public void testEquivalentToScan() {
+        Random random = new Random(0);
+        for (int round = 0; round < 100; round++) {
+            List<Dependency> indexed = new ArrayList<>();
+            for (int i = random.nextInt(10); i > 0; i--) {
+                indexed.add(randomDependency(random));
+            }
+            DependencyIndex index = new DependencyIndex(indexed);
+            for (int i = 0; i < 20; i++) {
+                Dependency dependency = randomDependency(random);
+                assertThat(dependency.toString(), index.matches(dependency), is(scan(indexed, dependency)));
+            }
+        }
+    }
+}